@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection;
+
+import org.d2ab.collection.doubles.ArrayDoubleList;
+import org.d2ab.collection.doubles.DoubleSortedSet;
+import org.d2ab.collection.ints.ArrayIntList;
+import org.d2ab.collection.ints.BitIntSet;
+import org.d2ab.collection.longs.BitLongSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the primitive collections, with {@link java.util} collections of boxed values as baselines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveCollectionBenchmark {
+	@Param({"1000", "100000"})
+	public int size;
+
+	private int[] ints;
+	private long[] denseLongs;
+	private long[] sparseLongs;
+	private double[] doubles;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(17);
+		ints = random.ints(size).toArray();
+		denseLongs = random.longs(size, 0, size * 2L).toArray();
+		sparseLongs = random.longs(size, 0, Long.MAX_VALUE).toArray();
+		doubles = random.doubles(size).toArray();
+	}
+
+	@Benchmark
+	public ArrayIntList arrayIntListAddInt() {
+		ArrayIntList list = ArrayIntList.create();
+		for (int x : ints)
+			list.addInt(x);
+		return list;
+	}
+
+	@Benchmark
+	public List<Integer> arrayListAdd() {
+		List<Integer> list = new ArrayList<>();
+		for (int x : ints)
+			list.add(x);
+		return list;
+	}
+
+	@Benchmark
+	public ArrayDoubleList arrayDoubleListAddDoubleExactly() {
+		ArrayDoubleList list = ArrayDoubleList.create();
+		for (double x : doubles)
+			list.addDoubleExactly(x);
+		return list;
+	}
+
+	@Benchmark
+	public SparseBitSet sparseBitSetSetDense() {
+		SparseBitSet set = new SparseBitSet();
+		for (long x : denseLongs)
+			set.set(x);
+		return set;
+	}
+
+	@Benchmark
+	public SparseBitSet sparseBitSetSetSparse() {
+		SparseBitSet set = new SparseBitSet();
+		for (long x : sparseLongs)
+			set.set(x);
+		return set;
+	}
+
+	@Benchmark
+	public Set<Long> hashSetAddSparse() {
+		Set<Long> set = new HashSet<>();
+		for (long x : sparseLongs)
+			set.add(x);
+		return set;
+	}
+
+	@Benchmark
+	public BitIntSet bitIntSetAddInt() {
+		BitIntSet set = new BitIntSet();
+		for (int x : ints)
+			set.addInt(x);
+		return set;
+	}
+
+	@Benchmark
+	public Set<Integer> hashSetAddInt() {
+		Set<Integer> set = new HashSet<>();
+		for (int x : ints)
+			set.add(x);
+		return set;
+	}
+
+	@Benchmark
+	public BitLongSet bitLongSetAddSparse() {
+		BitLongSet set = new BitLongSet();
+		for (long x : sparseLongs)
+			set.addLong(x);
+		return set;
+	}
+
+	@Benchmark
+	public DoubleSortedSet doubleSortedSetAddDoubleExactly() {
+		DoubleSortedSet set = DoubleSortedSet.create();
+		for (double x : doubles)
+			set.addDoubleExactly(x);
+		return set;
+	}
+
+	@Benchmark
+	public SortedSet<Double> treeSetAddDouble() {
+		SortedSet<Double> set = new TreeSet<>();
+		for (double x : doubles)
+			set.add(x);
+		return set;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.ints.IntList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks of the bridges between boxed and primitive sequences and collections, with {@link IntStream} baselines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoxingBenchmark {
+	@Param({"1000", "100000"})
+	public int size;
+
+	private int[] array;
+	private List<Integer> boxed;
+	private IntList list;
+
+	@Setup
+	public void setup() {
+		array = new Random(17).ints(size).toArray();
+		boxed = new ArrayList<>(size);
+		for (int x : array)
+			boxed.add(x);
+		list = IntList.create(array);
+	}
+
+	@Benchmark
+	public List<Integer> box() {
+		return IntSequence.of(array).box().toList();
+	}
+
+	@Benchmark
+	public List<Integer> boxStream() {
+		return IntStream.of(array).boxed().collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public long unbox() {
+		return Sequence.from(boxed).toInts(x -> x).sum();
+	}
+
+	@Benchmark
+	public long unboxStream() {
+		return boxed.stream().mapToInt(x -> x).asLongStream().sum();
+	}
+
+	@Benchmark
+	public long intListAsBoxedIterable() {
+		long sum = 0;
+		for (Integer x : list)
+			sum += x;
+		return sum;
+	}
+
+	@Benchmark
+	public long intListContainsBoxed() {
+		long count = 0;
+		for (int i = 0; i < 100; i++)
+			if (list.contains(boxed.get(i * boxed.size() / 100)))
+				count++;
+		return count;
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.ints.IntList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks of primitive {@link IntSequence}, {@link LongSequence} and {@link DoubleSequence} pipelines, with
+ * {@link IntStream} baselines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntSequenceBenchmark {
+	@Param({"1000", "100000"})
+	public int size;
+
+	private int[] array;
+	private IntList list;
+
+	@Setup
+	public void setup() {
+		array = new Random(17).ints(size, 0, size).toArray();
+		list = IntList.create(array);
+	}
+
+	@Benchmark
+	public long sum() {
+		return IntSequence.of(array).sum();
+	}
+
+	@Benchmark
+	public long sumStream() {
+		return IntStream.of(array).asLongStream().sum();
+	}
+
+	@Benchmark
+	public long mapFilterSum() {
+		return IntSequence.of(array).map(x -> x * 3).filter(x -> x % 2 == 0).sum();
+	}
+
+	@Benchmark
+	public long mapFilterSumStream() {
+		return IntStream.of(array).map(x -> x * 3).filter(x -> x % 2 == 0).asLongStream().sum();
+	}
+
+	@Benchmark
+	public OptionalInt min() {
+		return IntSequence.of(array).min();
+	}
+
+	@Benchmark
+	public OptionalInt minStream() {
+		return IntStream.of(array).min();
+	}
+
+	@Benchmark
+	public boolean all() {
+		return IntSequence.of(array).all(x -> x >= 0);
+	}
+
+	@Benchmark
+	public boolean allStream() {
+		return IntStream.of(array).allMatch(x -> x >= 0);
+	}
+
+	@Benchmark
+	public int[] sorted() {
+		return IntSequence.of(array).sorted().toIntArray();
+	}
+
+	@Benchmark
+	public int[] sortedStream() {
+		return IntStream.of(array).sorted().toArray();
+	}
+
+	@Benchmark
+	public void sortedIteratedTwice(Blackhole blackhole) {
+		IntSequence sorted = IntSequence.of(array).sorted();
+		blackhole.consume(sorted.sum());
+		blackhole.consume(sorted.sum());
+	}
+
+	@Benchmark
+	public int[] reverse() {
+		return IntSequence.from(list).reverse().toIntArray();
+	}
+
+	@Benchmark
+	public int[] distinct() {
+		return IntSequence.of(array).distinct().toIntArray();
+	}
+
+	@Benchmark
+	public int[] distinctStream() {
+		return IntStream.of(array).distinct().toArray();
+	}
+
+	@Benchmark
+	public OptionalInt skipAt() {
+		return IntSequence.of(array).skip(size / 2).at(size / 4);
+	}
+
+	@Benchmark
+	public void window(Blackhole blackhole) {
+		for (IntSequence window : IntSequence.of(array).window(16))
+			blackhole.consume(window);
+	}
+
+	@Benchmark
+	public double longSequenceAverage() {
+		return list.sequence().toLongs().average().orElse(0);
+	}
+
+	@Benchmark
+	public double doubleSequenceSum() {
+		return IntSequence.of(array).toDoubles(x -> x / 2.0).sum();
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks of object {@link Sequence} pipelines, with {@link java.util.stream.Stream} baselines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceBenchmark {
+	@Param({"1000", "100000"})
+	public int size;
+
+	private List<Integer> list;
+	private Iterable<Integer> iterable;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(17);
+		list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			list.add(random.nextInt(size));
+		iterable = list::iterator;
+	}
+
+	@Benchmark
+	public List<Integer> mapFilterLimit() {
+		return Sequence.from(iterable).map(x -> x * 3).filter(x -> x % 2 == 0).limit(size / 2).toList();
+	}
+
+	@Benchmark
+	public List<Integer> mapFilterLimitStream() {
+		return list.stream().map(x -> x * 3).filter(x -> x % 2 == 0).limit(size / 2).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<Integer> mapFilterLimitList() {
+		return Sequence.from(list).map(x -> x * 3).filter(x -> x % 2 == 0).limit(size / 2).toList();
+	}
+
+	@Benchmark
+	public Optional<Integer> sixStageReduce() {
+		return Sequence.from(iterable)
+		               .map(x -> x + 1)
+		               .filter(x -> x % 3 != 0)
+		               .peek(x -> {})
+		               .map(x -> x * 2)
+		               .filter(x -> x > 10)
+		               .map(x -> x - 1)
+		               .reduce(Integer::sum);
+	}
+
+	@Benchmark
+	public Optional<Integer> sixStageReduceStream() {
+		return list.stream()
+		           .map(x -> x + 1)
+		           .filter(x -> x % 3 != 0)
+		           .peek(x -> {})
+		           .map(x -> x * 2)
+		           .filter(x -> x > 10)
+		           .map(x -> x - 1)
+		           .reduce(Integer::sum);
+	}
+
+	@Benchmark
+	public List<Integer> sorted() {
+		return Sequence.from(iterable).sorted().toList();
+	}
+
+	@Benchmark
+	public List<Integer> sortedStream() {
+		return list.stream().sorted().collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> groupBy() {
+		return Sequence.from(iterable).groupBy(x -> x % 10);
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> groupByStream() {
+		return list.stream().collect(Collectors.groupingBy(x -> x % 10));
+	}
+
+	@Benchmark
+	public Set<Integer> distinct() {
+		return Sequence.from(iterable).distinct().toSet();
+	}
+
+	@Benchmark
+	public Set<Integer> distinctStream() {
+		return list.stream().distinct().collect(Collectors.toSet());
+	}
+
+	@Benchmark
+	public void window(Blackhole blackhole) {
+		for (Sequence<Integer> window : Sequence.from(iterable).window(16))
+			blackhole.consume(window);
+	}
+}
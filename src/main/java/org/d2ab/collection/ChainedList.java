@@ -18,6 +18,7 @@ package org.d2ab.collection;
 
 import org.d2ab.iterator.ChainedListIterator;
 import org.d2ab.iterator.ChainingIterator;
+import org.d2ab.iterator.DelegatingUnaryIterator;
 
 import java.util.*;
 
@@ -25,10 +26,22 @@ import static org.d2ab.collection.SizedIterable.SizeType.*;
 
 /**
  * A {@link List} of multiple {@link List}s strung together in a chain.
+ * <p>
+ * A {@code ChainedList} created with {@link #indexed} keeps an index of the offsets at which each of its {@link List}s
+ * start, and finds the {@link List} holding a given position with a binary search instead of walking the chain. The
+ * index is built lazily and rebuilt after modifications made through the {@code ChainedList}, when the number of
+ * chained {@link List}s changes, or when the chained {@link List} found for a position no longer has the size recorded
+ * in the index. Other changes in the size of the chained {@link List}s made directly on those {@link List}s are not
+ * detected.
  */
 public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T> {
 	private final List<List<T>> lists;
 	private final SizeType sizeType;
+	private final boolean indexed;
+
+	private static final int INFINITE_END = Integer.MAX_VALUE;
+
+	private int[] ends;
 
 	@SafeVarargs
 	public static <T> List<T> concat(List<T>... lists) {
@@ -36,26 +49,91 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 	}
 
 	public static <T> List<T> concat(List<List<T>> lists) {
-		return new ChainedList<>(lists);
+		return new ChainedList<>(lists, false);
+	}
+
+	/**
+	 * @return a {@code ChainedList} of the given {@link List}s, with positional access in time logarithmic in the
+	 * number of {@link List}s, for {@link List}s that are only modified through the returned {@code ChainedList}.
+	 *
+	 * @since 2.4
+	 */
+	@SafeVarargs
+	public static <T> List<T> indexed(List<T>... lists) {
+		@SuppressWarnings("unchecked")
+		List<T>[] copy = (List<T>[]) new List<?>[lists.length];
+		for (int i = 0; i < lists.length; i++)
+			copy[i] = lists[i];
+		return indexed(Lists.of(copy));
+	}
+
+	/**
+	 * @return a {@code ChainedList} of the given {@link List}s, with positional access in time logarithmic in the
+	 * number of {@link List}s, for {@link List}s that are only modified through the returned {@code ChainedList}.
+	 *
+	 * @since 2.4
+	 */
+	public static <T> List<T> indexed(List<List<T>> lists) {
+		return new ChainedList<>(lists, true);
 	}
 
-	private ChainedList(List<List<T>> lists) {
+	private ChainedList(List<List<T>> lists, boolean indexed) {
 		this.lists = lists;
 		this.sizeType = Iterables.sizeType(lists);
+		this.indexed = indexed && sizeType != INFINITE;
 	}
 
 	@Override
 	public Iterator<T> iterator() {
-		return new ChainingIterator<>(lists);
+		if (!indexed)
+			return new ChainingIterator<>(lists);
+
+		return new DelegatingUnaryIterator<T>(new ChainingIterator<>(lists)) {
+			@Override
+			public T next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void remove() {
+				super.remove();
+				ends = null;
+			}
+		};
 	}
 
 	@Override
 	public ListIterator<T> listIterator(int index) {
-		return new ChainedListIterator<>(lists, index);
+		if (!indexed)
+			return new ChainedListIterator<>(lists, index);
+
+		if (index < 0 || index > end())
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + end());
+
+		int segment = checkedSegment(index - 1);
+		int start = start(segment);
+		return new ChainedListIterator<T>(lists, segment, start, index - start) {
+			@Override
+			public void remove() {
+				super.remove();
+				ends = null;
+			}
+
+			@Override
+			public void add(T t) {
+				super.add(t);
+				ends = null;
+			}
+		};
 	}
 
 	@Override
 	public T get(int index) {
+		if (indexed) {
+			int segment = segmentContaining(index);
+			return lists.get(segment).get(index - start(segment));
+		}
+
 		for (List<T> list : lists) {
 			if (list.size() > index)
 				return list.get(index);
@@ -66,6 +144,11 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 
 	@Override
 	public T set(int index, T element) {
+		if (indexed) {
+			int segment = segmentContaining(index);
+			return lists.get(segment).set(index - start(segment), element);
+		}
+
 		for (List<T> list : lists) {
 			if (list.size() > index)
 				return list.set(index, element);
@@ -79,6 +162,13 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 		if (index == 0 && lists.isEmpty())
 			lists.add(new ArrayList<>());
 
+		if (indexed) {
+			int segment = segmentEndingAtOrAfter(index);
+			lists.get(segment).add(index - start(segment), element);
+			ends = null;
+			return;
+		}
+
 		for (List<T> list : lists) {
 			if (index <= list.size()) {
 				list.add(index, element);
@@ -92,6 +182,13 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 
 	@Override
 	public T remove(int index) {
+		if (indexed) {
+			int segment = segmentContaining(index);
+			T removed = lists.get(segment).remove(index - start(segment));
+			ends = null;
+			return removed;
+		}
+
 		for (List<T> list : lists) {
 			if (list.size() > index)
 				return list.remove(index);
@@ -106,6 +203,13 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 		if (index == 0 && lists.isEmpty())
 			lists.add(new ArrayList<>());
 
+		if (indexed) {
+			int segment = segmentEndingAtOrAfter(index);
+			boolean changed = lists.get(segment).addAll(index - start(segment), c);
+			ends = null;
+			return changed;
+		}
+
 		for (List<T> list : lists) {
 			if (index <= list.size())
 				return list.addAll(index, c);
@@ -120,6 +224,13 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 		if (sizeType == INFINITE)
 			throw new UnsupportedOperationException();
 
+		if (indexed) {
+			int end = end();
+			if (end == INFINITE_END)
+				throw new UnsupportedOperationException();
+			return end;
+		}
+
 		int size = 0;
 		for (List<T> list : lists)
 			size += list.size();
@@ -146,6 +257,7 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 
 		for (List<T> l : lists)
 			l.clear();
+		ends = null;
 	}
 
 	@Override
@@ -167,4 +279,79 @@ public class ChainedList<T> extends AbstractList<T> implements SizedIterable<T>
 
 		return Spliterators.spliterator(this, 0);
 	}
+
+	private int segmentContaining(int index) {
+		int segment = checkedSegment(index);
+		if (index < 0 || segment == lists.size())
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + end());
+		return segment;
+	}
+
+	private int segmentEndingAtOrAfter(int index) {
+		int segment = checkedSegment(index - 1);
+		if (index < 0 || segment == lists.size())
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + end());
+		return segment;
+	}
+
+	/**
+	 * @return the first chained {@link List} that ends after the given index, or the number of chained {@link List}s
+	 * if there is none.
+	 */
+	private int segment(int index) {
+		int[] ends = ends();
+		int low = 0;
+		int high = ends.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (ends[middle] > index)
+				high = middle;
+			else
+				low = middle + 1;
+		}
+		return low;
+	}
+
+	/**
+	 * @return the first chained {@link List} that ends after the given index, like {@link #segment}, rebuilding the
+	 * index first if that {@link List} no longer has the size recorded in the index.
+	 */
+	private int checkedSegment(int index) {
+		int segment = segment(index);
+		if (segment < lists.size() && !hasIndexedSize(segment)) {
+			ends = null;
+			segment = segment(index);
+		}
+		return segment;
+	}
+
+	private boolean hasIndexedSize(int segment) {
+		int end = ends()[segment];
+		return end == INFINITE_END || end - start(segment) == lists.get(segment).size();
+	}
+
+	private int end() {
+		int[] ends = ends();
+		return ends.length == 0 ? 0 : ends[ends.length - 1];
+	}
+
+	private int start(int segment) {
+		return segment == 0 ? 0 : ends()[segment - 1];
+	}
+
+	private int[] ends() {
+		int[] ends = this.ends;
+		if (ends == null || ends.length != lists.size()) {
+			ends = new int[lists.size()];
+			int end = 0;
+			int i = 0;
+			for (List<T> list : lists) {
+				if (end != INFINITE_END)
+					end = Iterables.sizeType(list) == INFINITE ? INFINITE_END : end + list.size();
+				ends[i++] = end;
+			}
+			this.ends = ends;
+		}
+		return ends;
+	}
 }
@@ -41,6 +41,17 @@ public class FilteredList<T> extends AbstractSequentialList<T> implements SizedI
 		return new FilteredList<>(list, predicate);
 	}
 
+	/**
+	 * @return a filtered view of the given {@link List} that caches the positions of the matching elements, for
+	 * {@link List}s that are only modified through the returned view.
+	 *
+	 * @see IndexedFilteredList
+	 * @since 2.4
+	 */
+	public static <T> List<T> indexed(List<T> list, Predicate<? super T> predicate) {
+		return IndexedFilteredList.from(list, predicate);
+	}
+
 	public FilteredList(List<T> list, Predicate<? super T> predicate) {
 		this.list = list;
 		this.predicate = predicate;
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.d2ab.collection;
+
+import org.d2ab.collection.ints.IntList;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * A {@link List} that provides a filtered view of another {@link List}, like {@link FilteredList}, but which lazily
+ * builds and caches an index of the positions of the matching elements in the backing {@link List}, giving constant
+ * time {@link #size()} and {@link #get(int)} once the index is built. Meant for backing {@link List}s that implement
+ * {@link RandomAccess}. Since building the index is a linear operation, the size is reported as
+ * {@link SizeType#UNAVAILABLE} and this {@link List} does not itself implement {@link RandomAccess}.
+ * <p>
+ * The index is kept up to date by modifications made through this view, and is rebuilt whenever the size of the
+ * backing {@link List} has changed since it was last built, or when an indexed position is found to no longer hold a
+ * matching element. Modifying the backing {@link List} directly in a way that keeps its size and leaves every indexed
+ * position matching, such as replacing a non-matching element with a matching one, is not detected. Elements added
+ * at an index are inserted into the backing {@link List} directly after the preceding element of this view.
+ *
+ * @since 2.4
+ */
+public class IndexedFilteredList<T> extends AbstractList<T> implements SizedIterable<T> {
+	private final List<T> list;
+	private final Predicate<? super T> predicate;
+
+	private IntList positions;
+	private int indexedSize = -1;
+
+	public static <T> List<T> from(List<T> list, Predicate<? super T> predicate) {
+		return new IndexedFilteredList<>(list, predicate);
+	}
+
+	public IndexedFilteredList(List<T> list, Predicate<? super T> predicate) {
+		this.list = list;
+		this.predicate = predicate;
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return SizeType.UNAVAILABLE;
+	}
+
+	@Override
+	public int size() {
+		return positions().size();
+	}
+
+	@Override
+	public T get(int index) {
+		IntList positions = positions();
+		checkIndex(index, positions);
+
+		T element = list.get(positions.getInt(index));
+		if (predicate.test(element))
+			return element;
+
+		positions = reindex();
+		checkIndex(index, positions);
+		return list.get(positions.getInt(index));
+	}
+
+	@Override
+	public T set(int index, T element) {
+		int position = position(index);
+		if (!predicate.test(element))
+			throw new IllegalArgumentException(String.valueOf(element));
+
+		return list.set(position, element);
+	}
+
+	@Override
+	public T remove(int index) {
+		int position = position(index);
+		T removed = list.remove(position);
+
+		positions.removeIntAt(index);
+		for (int i = index; i < positions.size(); i++)
+			positions.setInt(i, positions.getInt(i) - 1);
+		indexedSize = list.size();
+		modCount++;
+
+		return removed;
+	}
+
+	@Override
+	public boolean add(T element) {
+		if (!predicate.test(element))
+			throw new IllegalArgumentException(String.valueOf(element));
+
+		IntList positions = positions();
+		int position = list.size();
+		list.add(element);
+
+		positions.addInt(position);
+		indexedSize = list.size();
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public void add(int index, T element) {
+		IntList positions = positions();
+		if (index < 0 || index > positions.size())
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + positions.size());
+		if (!predicate.test(element))
+			throw new IllegalArgumentException(String.valueOf(element));
+
+		int position = index == 0 ? 0 : position(index - 1) + 1;
+		positions = this.positions;
+		list.add(position, element);
+
+		for (int i = index; i < positions.size(); i++)
+			positions.setInt(i, positions.getInt(i) + 1);
+		positions.addIntAt(index, position);
+		indexedSize = list.size();
+		modCount++;
+	}
+
+	private int position(int index) {
+		IntList positions = positions();
+		checkIndex(index, positions);
+
+		int position = positions.getInt(index);
+		if (predicate.test(list.get(position)))
+			return position;
+
+		positions = reindex();
+		checkIndex(index, positions);
+		return positions.getInt(index);
+	}
+
+	private static void checkIndex(int index, IntList positions) {
+		if (index < 0 || index >= positions.size())
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + positions.size());
+	}
+
+	private IntList positions() {
+		if (positions == null || indexedSize != list.size())
+			return reindex();
+
+		return positions;
+	}
+
+	private IntList reindex() {
+		int size = list.size();
+		IntList positions = IntList.create();
+		for (int i = 0; i < size; i++)
+			if (predicate.test(list.get(i)))
+				positions.addInt(i);
+		this.positions = positions;
+		this.indexedSize = size;
+		return positions;
+	}
+}
@@ -344,8 +344,20 @@ public interface IterableCollection<T> extends Collection<T>, SizedIterable<T> {
 		Iterables.clear(this);
 	}
 
+	/**
+	 * @return a {@link Spliterator} over this collection, which reports {@link Spliterator#SIZED} and
+	 * {@link Spliterator#SUBSIZED} if the size of this collection is known without traversal.
+	 */
 	@Override
 	default Spliterator<T> spliterator() {
-		return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		switch (sizeType()) {
+			case AVAILABLE:
+			case FIXED:
+				return Spliterators.spliterator(this, 0);
+			case UNAVAILABLE:
+			case INFINITE:
+			default:
+				return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		}
 	}
 }
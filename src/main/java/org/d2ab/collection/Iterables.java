@@ -268,6 +268,45 @@ public abstract class Iterables {
 		return list;
 	}
 
+	/**
+	 * @return a {@link Predicate} that tests whether items are contained in the given {@link Iterable}. Unless the
+	 * {@link Iterable} is a {@link Set}, it is collected into a {@link Set} the first time the {@link Predicate} is
+	 * tested, after which each test takes constant time.
+	 *
+	 * @since 2.4
+	 */
+	public static Predicate<Object> containedIn(Iterable<?> iterable) {
+		if (iterable instanceof Set)
+			return ((Set<?>) iterable)::contains;
+
+		return new Predicate<Object>() {
+			private volatile Set<?> set;
+
+			@Override
+			public boolean test(Object o) {
+				Set<?> set = this.set;
+				if (set == null)
+					this.set = set = toSet(iterable);
+				return set.contains(o);
+			}
+		};
+	}
+
+	/**
+	 * @return the given {@link Iterable} collected into a {@link Set}.
+	 *
+	 * @since 2.4
+	 */
+	public static <T> Set<T> toSet(Iterable<T> iterable) {
+		if (iterable instanceof Collection)
+			return new HashSet<>((Collection<T>) iterable);
+
+		Set<T> set = new HashSet<>();
+		for (T t : iterable)
+			set.add(t);
+		return set;
+	}
+
 	/**
 	 * Create a {@link List} view of the given {@link Iterable}, where changes in the underlying {@link Iterable} are
 	 * reflected in the returned {@link List}. If a {@link List} is given it is returned unchanged. The list does not
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection;
+
+import java.util.*;
+
+/**
+ * Base class for {@link List}s that present a view of every {@code step}th element within a range of a backing
+ * {@link List}. A view of another view is composed over the same backing {@link List}, with the range and step
+ * folded together, so that removals through the outer view reach exactly the elements it presents.
+ */
+abstract class ListView<T> extends AbstractList<T> implements RandomAccess, SizedIterable<T> {
+	final List<T> original;
+	final int step;
+	private final ListView<T> parent;
+	private final SizeType sizeType;
+
+	@SuppressWarnings("unchecked")
+	ListView(List<T> list, int step) {
+		if (list instanceof ListView) {
+			this.parent = (ListView<T>) list;
+			this.original = parent.original;
+			this.step = (int) Math.min((long) parent.step * step, Integer.MAX_VALUE);
+		} else {
+			this.parent = null;
+			this.original = list;
+			this.step = step;
+		}
+		this.sizeType = Iterables.sizeType(original);
+	}
+
+	/**
+	 * @return the range of indices in the backing {@link List} covered by this view, given the current size of the
+	 * backing {@link List}, packed with {@link #range(int, int)}.
+	 */
+	abstract long range(int size);
+
+	/**
+	 * @return the range of indices in the backing {@link List} covered by the view this view was created from, or the
+	 * whole backing {@link List} if this view was created directly from it.
+	 */
+	long parentRange(int size) {
+		return parent == null ? range(0, size) : parent.range(size);
+	}
+
+	static long range(int start, int end) {
+		return (long) start << 32 | end;
+	}
+
+	static int start(long range) {
+		return (int) (range >>> 32);
+	}
+
+	static int end(long range) {
+		return (int) range;
+	}
+
+	static int count(int start, int end, int step) {
+		return end > start ? (end - start - 1) / step + 1 : 0;
+	}
+
+	@Override
+	public int size() {
+		long range = range(original.size());
+		return count(start(range), end(range), step);
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return sizeType;
+	}
+
+	@Override
+	public T get(int index) {
+		return original.get(originalIndex(index));
+	}
+
+	@Override
+	public T set(int index, T element) {
+		return original.set(originalIndex(index), element);
+	}
+
+	@Override
+	public T remove(int index) {
+		return original.remove(originalIndex(index));
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return listIterator();
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int index) {
+		long range = range(original.size());
+		int start = start(range);
+		int size = count(start, end(range), step);
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+
+		return new ListIterator<T>() {
+			private long cursor = start + (long) index * step;
+			private int end = end(range);
+			private int last = -1;
+
+			@Override
+			public boolean hasNext() {
+				return cursor < end;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				last = (int) cursor;
+				cursor += step;
+				return original.get(last);
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return cursor - step >= start;
+			}
+
+			@Override
+			public T previous() {
+				if (!hasPrevious())
+					throw new NoSuchElementException();
+
+				cursor -= step;
+				last = (int) cursor;
+				return original.get(last);
+			}
+
+			@Override
+			public int nextIndex() {
+				return (int) ((cursor - start + step - 1) / step);
+			}
+
+			@Override
+			public int previousIndex() {
+				return nextIndex() - 1;
+			}
+
+			@Override
+			public void remove() {
+				if (last == -1)
+					throw new IllegalStateException();
+
+				original.remove(last);
+				if (last < cursor)
+					cursor--;
+				end--;
+				last = -1;
+			}
+
+			@Override
+			public void set(T t) {
+				if (last == -1)
+					throw new IllegalStateException();
+
+				original.set(last, t);
+			}
+
+			@Override
+			public void add(T t) {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		if (step != 1) {
+			super.removeRange(fromIndex, toIndex);
+			return;
+		}
+
+		long range = range(original.size());
+		int start = start(range);
+		if (fromIndex < 0 || fromIndex > toIndex || toIndex > end(range) - start)
+			throw new IndexOutOfBoundsException("from: " + fromIndex + ", to: " + toIndex);
+
+		original.subList(start + fromIndex, start + toIndex).clear();
+	}
+
+	private int originalIndex(int index) {
+		long range = range(original.size());
+		int start = start(range);
+		int size = count(start, end(range), step);
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+
+		return start + index * step;
+	}
+}
@@ -0,0 +1,1350 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.d2ab.collection;
+
+import org.d2ab.collection.longs.LongCollection;
+import org.d2ab.collection.longs.LongIterable;
+import org.d2ab.collection.longs.LongSet;
+import org.d2ab.collection.longs.LongSortedSet;
+import org.d2ab.iterator.longs.LongIterator;
+
+import java.util.*;
+
+/**
+ * A compressed bit set in the style of Roaring bitmaps, for storing occurrences of bits that may be sparse in some
+ * ranges and dense in others. The bit set is split into chunks of {@code 2^16} bits, and the set bits of each chunk
+ * are kept in a container suited to their distribution: a sorted array of 16-bit values for sparse chunks, a plain
+ * 65536-bit bitmap for dense chunks and a list of runs for chunks of consecutive bits, see {@link #optimize()}.
+ * Chunks with a single set bit are stored inline, without a container. As in 64-bit Roaring bitmaps, chunks are
+ * grouped into blocks of {@code 2^16} chunks by the high 32 bits of their indices, and the blocks are kept in a
+ * sorted map, so accessing individual bits is {@code log(n)} in the number of blocks and chunks in use, while setting
+ * and clearing bits only shifts memory within a single container, or within a single block when a chunk is first used
+ * or emptied. The number of set bits is kept up to date as bits are set and cleared. {@link #or}, {@link #and},
+ * {@link #andNot} and {@link #intersectionCount} operate on whole containers at a time. The bit set can set any bit
+ * between {@code 0} and {@link Long#MAX_VALUE}, inclusive.
+ *
+ * @since 2.4
+ */
+public class RoaringBitSet extends LongSet.Base implements LongSortedSet {
+	private static final int CHUNK_MASK = 0xFFFF;
+	private static final int BITMAP_WORDS = 1 << 10;
+	private static final int MAX_ARRAY_SIZE = 4096;
+	private static final int MAX_RUNS = 2048;
+
+	private final TreeMap<Integer, Block> blocks = new TreeMap<>();
+	private final int capacity;
+	private long bitCount;
+
+	private int modCount;
+
+	/**
+	 * Construct a {@code RoaringBitSet}.
+	 */
+	public RoaringBitSet() {
+		this(10);
+	}
+
+	/**
+	 * Construct a {@code RoaringBitSet} with the given values.
+	 */
+	public RoaringBitSet(long... values) {
+		this();
+		for (long value : values)
+			set(value);
+	}
+
+	/**
+	 * Construct a {@code RoaringBitSet} with a copy of the bits set in the given {@code RoaringBitSet}.
+	 */
+	public RoaringBitSet(RoaringBitSet bitSet) {
+		this(bitSet.capacity);
+		for (Block block : bitSet.blocks.values())
+			blocks.put(block.high, new Block(block, true));
+		bitCount = bitSet.bitCount;
+	}
+
+	/**
+	 * Construct a {@code RoaringBitSet} with the given initial capacity of chunks in the first block of chunks used.
+	 */
+	public RoaringBitSet(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("capacity < 0: " + capacity);
+
+		this.capacity = capacity;
+	}
+
+	@Override
+	public boolean addLong(long x) {
+		return set(x);
+	}
+
+	@Override
+	public boolean containsLong(long x) {
+		return get(x);
+	}
+
+	@Override
+	public boolean removeLong(long x) {
+		return clear(x);
+	}
+
+	@Override
+	public boolean addAllLongs(LongCollection c) {
+		if (!(c instanceof RoaringBitSet))
+			return super.addAllLongs(c);
+
+		long bitCount = bitCount();
+		or((RoaringBitSet) c);
+		return bitCount() != bitCount;
+	}
+
+	@Override
+	public boolean containsAllLongs(LongIterable c) {
+		if (!(c instanceof RoaringBitSet))
+			return super.containsAllLongs(c);
+
+		RoaringBitSet bitSet = (RoaringBitSet) c;
+		return intersectionCount(bitSet) == bitSet.bitCount();
+	}
+
+	@Override
+	public boolean removeAllLongs(LongIterable c) {
+		if (!(c instanceof RoaringBitSet))
+			return super.removeAllLongs(c);
+
+		long bitCount = bitCount();
+		andNot((RoaringBitSet) c);
+		return bitCount() != bitCount;
+	}
+
+	@Override
+	public boolean retainAllLongs(LongIterable c) {
+		if (!(c instanceof RoaringBitSet))
+			return super.retainAllLongs(c);
+
+		long bitCount = bitCount();
+		and((RoaringBitSet) c);
+		return bitCount() != bitCount;
+	}
+
+	@Override
+	public LongSortedSet union(LongSortedSet other) {
+		if (!(other instanceof RoaringBitSet))
+			return LongSortedSet.super.union(other);
+
+		RoaringBitSet union = new RoaringBitSet(this);
+		union.or((RoaringBitSet) other);
+		return union;
+	}
+
+	@Override
+	public LongSortedSet intersect(LongSortedSet other) {
+		if (!(other instanceof RoaringBitSet))
+			return LongSortedSet.super.intersect(other);
+
+		RoaringBitSet intersection = new RoaringBitSet(capacity);
+		for (Block block : blocks.values()) {
+			Block that = ((RoaringBitSet) other).blocks.get(block.high);
+			Block both = that == null ? null : Block.and(block, that);
+			if (both != null)
+				intersection.blocks.put(block.high, both);
+		}
+		intersection.recount();
+		return intersection;
+	}
+
+	@Override
+	public LongSortedSet difference(LongSortedSet other) {
+		if (!(other instanceof RoaringBitSet))
+			return LongSortedSet.super.difference(other);
+
+		RoaringBitSet difference = new RoaringBitSet(capacity);
+		for (Block block : blocks.values()) {
+			Block that = ((RoaringBitSet) other).blocks.get(block.high);
+			Block remaining = that == null ? new Block(block, true) : Block.andNot(block, that, true);
+			if (remaining != null)
+				difference.blocks.put(block.high, remaining);
+		}
+		difference.recount();
+		return difference;
+	}
+
+	@Override
+	public int intersectionSize(LongSortedSet other) {
+		if (!(other instanceof RoaringBitSet))
+			return LongSortedSet.super.intersectionSize(other);
+
+		return (int) intersectionCount((RoaringBitSet) other);
+	}
+
+	/**
+	 * Set the bit at index {@code i}.
+	 *
+	 * @return {@code true} if this bit set changed as a result of setting the bit, i.e. the bit was clear, {@code
+	 * false} otherwise.
+	 */
+	public boolean set(long i) {
+		if (i < 0)
+			throw new IllegalArgumentException("i < 0: " + i);
+
+		int high = (int) (i >>> 32);
+		Block block = blocks.get(high);
+		if (block == null)
+			blocks.put(high, block = new Block(high, blocks.isEmpty() ? capacity : 1));
+
+		if (!block.set((int) (i >>> 16) & CHUNK_MASK, (int) i & CHUNK_MASK))
+			return false;
+
+		bitCount++;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Clear the bit at index {@code i}.
+	 *
+	 * @return {@code true} if this bit set changed as a result of setting the bit, i.e. the bit was set, {@code false}
+	 * otherwise.
+	 */
+	public boolean clear(long i) {
+		if (i < 0)
+			throw new IllegalArgumentException("i < 0: " + i);
+
+		Block block = blocks.get((int) (i >>> 32));
+		if (block == null || !block.clear((int) (i >>> 16) & CHUNK_MASK, (int) i & CHUNK_MASK))
+			return false;
+
+		if (block.size == 0)
+			blocks.remove(block.high);
+		bitCount--;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Set the bit at index {@code i} to the given {@code value}.
+	 *
+	 * @return {@code true} if this bit set changed as a result of changing the bit, false otherwise.
+	 */
+	public boolean set(long i, boolean value) {
+		return value ? set(i) : clear(i);
+	}
+
+	/**
+	 * Get the bit at index {@code i}.
+	 *
+	 * @return {@code true} if the bit at index {@code i} is set, false otherwise.
+	 */
+	public boolean get(long i) {
+		if (i < 0)
+			throw new IllegalArgumentException("i < 0: " + i);
+
+		Block block = blocks.get((int) (i >>> 32));
+		return block != null && block.get((int) (i >>> 16) & CHUNK_MASK, (int) i & CHUNK_MASK);
+	}
+
+	/**
+	 * @return the number of set bits in this {@code RoaringBitSet}.
+	 */
+	public long bitCount() {
+		return bitCount;
+	}
+
+	/**
+	 * @return the size of this {@code RoaringBitSet}, i.e. the number of set bits.
+	 *
+	 * @see #bitCount()
+	 */
+	@Override
+	public int size() {
+		long bitCount = bitCount();
+
+		if (bitCount > Integer.MAX_VALUE)
+			throw new IllegalStateException("size > Integer.MAX_VALUE: " + bitCount);
+
+		return (int) bitCount;
+	}
+
+	/**
+	 * @return true if this {@code RoaringBitSet} contains no set bits, false otherwise.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return blocks.isEmpty();
+	}
+
+	/**
+	 * Reset this {@code RoaringBitSet} to the empty state, i.e. with no bits set.
+	 */
+	@Override
+	public void clear() {
+		blocks.clear();
+		bitCount = 0;
+		modCount++;
+	}
+
+	@Override
+	public long firstLong() {
+		if (isEmpty())
+			throw new NoSuchElementException();
+
+		Block block = blocks.firstEntry().getValue();
+		return block.key(0) << 16 | block.next(0, 0);
+	}
+
+	@Override
+	public long lastLong() {
+		if (isEmpty())
+			throw new NoSuchElementException();
+
+		Block block = blocks.lastEntry().getValue();
+		return block.key(block.size - 1) << 16 | block.previous(block.size - 1, CHUNK_MASK);
+	}
+
+	/**
+	 * Set all the bits in this {@code RoaringBitSet} that are set in the given {@code RoaringBitSet}, i.e. make this
+	 * bit set the union of both bit sets.
+	 */
+	public void or(RoaringBitSet other) {
+		for (Block block : other.blocks.values()) {
+			Block existing = blocks.get(block.high);
+			blocks.put(block.high, existing == null ? new Block(block, true) : Block.or(existing, block));
+		}
+		recount();
+		modCount++;
+	}
+
+	/**
+	 * Clear all the bits in this {@code RoaringBitSet} that are not set in the given {@code RoaringBitSet}, i.e. make
+	 * this bit set the intersection of both bit sets.
+	 */
+	public void and(RoaringBitSet other) {
+		for (Iterator<Map.Entry<Integer, Block>> iterator = blocks.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<Integer, Block> entry = iterator.next();
+			Block that = other.blocks.get(entry.getKey());
+			Block both = that == null ? null : Block.and(entry.getValue(), that);
+			if (both == null)
+				iterator.remove();
+			else
+				entry.setValue(both);
+		}
+		recount();
+		modCount++;
+	}
+
+	/**
+	 * Clear all the bits in this {@code RoaringBitSet} that are set in the given {@code RoaringBitSet}, i.e. make
+	 * this bit set the difference between both bit sets.
+	 */
+	public void andNot(RoaringBitSet other) {
+		for (Iterator<Map.Entry<Integer, Block>> iterator = blocks.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<Integer, Block> entry = iterator.next();
+			Block that = other.blocks.get(entry.getKey());
+			if (that == null)
+				continue;
+
+			Block remaining = Block.andNot(entry.getValue(), that, false);
+			if (remaining == null)
+				iterator.remove();
+			else
+				entry.setValue(remaining);
+		}
+		recount();
+		modCount++;
+	}
+
+	/**
+	 * @return the number of bits that are set in both this {@code RoaringBitSet} and the given {@code RoaringBitSet},
+	 * i.e. the size of the intersection of both bit sets, without computing the intersection itself.
+	 */
+	public long intersectionCount(RoaringBitSet other) {
+		long count = 0;
+		for (Block block : blocks.values()) {
+			Block that = other.blocks.get(block.high);
+			if (that != null)
+				count += Block.andCardinality(block, that);
+		}
+		return count;
+	}
+
+	/**
+	 * Compress every chunk of this {@code RoaringBitSet} that takes up less memory as a list of runs of consecutive
+	 * bits than in its current form. Useful after bulk loading ranges of consecutive values. Chunks stored as runs are
+	 * converted back to arrays or bitmaps if they become too fragmented by later updates.
+	 */
+	public void optimize() {
+		for (Block block : blocks.values())
+			block.optimize();
+	}
+
+	/**
+	 * @return a {@link LongIterator} over the bits in this {@code RoaringBitSet}, from lowest to highest. {@link
+	 * LongIterator#remove()} is supported.
+	 */
+	@Override
+	public LongIterator iterator() {
+		return new Iter(value(blocks.firstEntry()), 0, 0) {
+			@Override
+			protected int find(Block block, int keyIndex, int from) {
+				return block.next(keyIndex, from);
+			}
+
+			@Override
+			protected void step(int low) {
+				if (low == CHUNK_MASK)
+					nextContainer();
+				else
+					from = low + 1;
+			}
+
+			@Override
+			protected void nextContainer() {
+				from = 0;
+				if (++keyIndex == block.size) {
+					block = value(blocks.higherEntry(block.high));
+					keyIndex = 0;
+				}
+			}
+
+			@Override
+			protected void seek(long key, int low) {
+				int high = (int) (key >>> 16);
+				block = blocks.get(high);
+				if (block == null) {
+					block = value(blocks.higherEntry(high));
+					keyIndex = 0;
+					from = 0;
+					return;
+				}
+
+				keyIndex = block.find((int) key & CHUNK_MASK);
+				if (keyIndex >= 0) {
+					step(low);
+				} else {
+					keyIndex = -(keyIndex + 1) - 1;
+					nextContainer();
+				}
+			}
+		};
+	}
+
+	/**
+	 * @return a descending {@link LongIterator} over the bits in this {@code RoaringBitSet}, from highest to lowest.
+	 * {@link LongIterator#remove()} is supported.
+	 */
+	public LongIterator descendingIterator() {
+		Block last = value(blocks.lastEntry());
+		return new Iter(last, last == null ? -1 : last.size - 1, CHUNK_MASK) {
+			@Override
+			protected int find(Block block, int keyIndex, int from) {
+				return block.previous(keyIndex, from);
+			}
+
+			@Override
+			protected void step(int low) {
+				if (low == 0)
+					nextContainer();
+				else
+					from = low - 1;
+			}
+
+			@Override
+			protected void nextContainer() {
+				from = CHUNK_MASK;
+				if (--keyIndex < 0) {
+					block = value(blocks.lowerEntry(block.high));
+					keyIndex = block == null ? -1 : block.size - 1;
+				}
+			}
+
+			@Override
+			protected void seek(long key, int low) {
+				int high = (int) (key >>> 16);
+				block = blocks.get(high);
+				if (block == null) {
+					block = value(blocks.lowerEntry(high));
+					keyIndex = block == null ? -1 : block.size - 1;
+					from = CHUNK_MASK;
+					return;
+				}
+
+				keyIndex = block.find((int) key & CHUNK_MASK);
+				if (keyIndex >= 0) {
+					step(low);
+				} else {
+					keyIndex = -(keyIndex + 1);
+					nextContainer();
+				}
+			}
+		};
+	}
+
+	/**
+	 * @return a string representation of this {@code BitSet} in the same format as {@link BitSet#toString()}, e.g. the
+	 * indices of all the set bits in ascending order surrounded by curly brackets {@code "{}"}.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder((int) Math.min(bitCount * 10, 1 << 16)); // heuristic
+		builder.append("{");
+
+		for (LongIterator iterator = iterator(); iterator.hasNext(); ) {
+			if (builder.length() > 1)
+				builder.append(", ");
+			builder.append(iterator.nextLong());
+		}
+
+		builder.append("}");
+		return builder.toString();
+	}
+
+	private void recount() {
+		bitCount = 0;
+		for (Block block : blocks.values())
+			bitCount += block.cardinality();
+	}
+
+	private static Block value(Map.Entry<Integer, Block> entry) {
+		return entry == null ? null : entry.getValue();
+	}
+
+	private abstract class Iter implements LongIterator {
+		protected Block block;
+		protected int keyIndex;
+		protected int from;
+
+		private boolean hasNext;
+		private long next;
+		private long last = -1;
+
+		private int expectedModCount = modCount;
+
+		protected Iter(Block block, int keyIndex, int from) {
+			this.block = block;
+			this.keyIndex = keyIndex;
+			this.from = from;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!hasNext && block != null) {
+				int low = find(block, keyIndex, from);
+				if (low >= 0) {
+					next = block.key(keyIndex) << 16 | low;
+					hasNext = true;
+				} else {
+					nextContainer();
+				}
+			}
+			return hasNext;
+		}
+
+		@Override
+		public long nextLong() {
+			checkForCoModification();
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			hasNext = false;
+			last = next;
+			step((int) next & CHUNK_MASK);
+			return next;
+		}
+
+		@Override
+		public void remove() {
+			checkForCoModification();
+			if (last < 0)
+				throw new IllegalStateException("Cannot remove before call to nextLong or after call to remove");
+
+			clear(last);
+			seek(last >>> 16, (int) last & CHUNK_MASK);
+			hasNext = false;
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * @return the next set bit in the given chunk of the given block in iteration order, starting with {@code
+		 * from} inclusive, or {@code -1} if there are no more bits in the chunk.
+		 */
+		protected abstract int find(Block block, int keyIndex, int from);
+
+		/**
+		 * Step past the given bit in the current chunk.
+		 */
+		protected abstract void step(int low);
+
+		/**
+		 * Move on to the first bit of the following chunk in iteration order, in the following block if this was the
+		 * last chunk of the current block.
+		 */
+		protected abstract void nextContainer();
+
+		/**
+		 * Position this iterator after the given, possibly removed, bit.
+		 */
+		protected abstract void seek(long key, int low);
+
+		protected void checkForCoModification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+	/**
+	 * The chunks sharing the same high 32 bits of their indices, sorted by the 16 bits of their keys below that. Chunks
+	 * with a single set bit have a {@code null} container and keep the bit in {@code singles} instead, every other
+	 * chunk has a container with at least two set bits.
+	 */
+	private static class Block {
+		private final int high;
+		private char[] keys;
+		private char[] singles;
+		private Container[] containers;
+		private int size;
+
+		Block(int high, int capacity) {
+			this.high = high;
+			this.keys = new char[capacity];
+			this.singles = new char[capacity];
+			this.containers = new Container[capacity];
+		}
+
+		Block(Block block, boolean copy) {
+			this(block.high, block.size);
+			for (int i = 0; i < block.size; i++)
+				append(block, i, copy);
+		}
+
+		static Block or(Block a, Block b) {
+			Block union = new Block(a.high, a.size + b.size);
+			int i = 0, j = 0;
+			while (i < a.size || j < b.size) {
+				if (j == b.size || i < a.size && a.keys[i] < b.keys[j]) {
+					union.append(a, i++, false);
+				} else if (i == a.size || b.keys[j] < a.keys[i]) {
+					union.append(b, j++, true);
+				} else if (b.containers[j] == null && a.contains(i, b.singles[j])) {
+					union.append(a, i++, false);
+					j++;
+				} else {
+					union.append(a.keys[i], Container.or(a.container(i++), b.container(j++)));
+				}
+			}
+			return union;
+		}
+
+		/**
+		 * @return the intersection of the given blocks, or {@code null} if the intersection is empty.
+		 */
+		static Block and(Block a, Block b) {
+			Block intersection = new Block(a.high, Math.min(a.size, b.size));
+			for (int i = 0, j = 0; i < a.size && j < b.size; ) {
+				if (a.keys[i] < b.keys[j]) {
+					i++;
+				} else if (b.keys[j] < a.keys[i]) {
+					j++;
+				} else {
+					if (a.containers[i] == null) {
+						if (b.contains(j, a.singles[i]))
+							intersection.append(a, i, false);
+					} else if (b.containers[j] == null) {
+						if (a.contains(i, b.singles[j]))
+							intersection.append(b, j, false);
+					} else {
+						Container both = Container.and(a.containers[i], b.containers[j]);
+						if (both != null)
+							intersection.append(a.keys[i], both);
+					}
+					i++;
+					j++;
+				}
+			}
+			return intersection.size == 0 ? null : intersection;
+		}
+
+		/**
+		 * @return the difference between the given blocks, or {@code null} if the difference is empty. The containers
+		 * of {@code a} that are not affected by {@code b} are copied if {@code copy} is {@code true}, and reused
+		 * otherwise.
+		 */
+		static Block andNot(Block a, Block b, boolean copy) {
+			Block difference = new Block(a.high, a.size);
+			for (int i = 0, j = 0; i < a.size; i++) {
+				while (j < b.size && b.keys[j] < a.keys[i])
+					j++;
+
+				if (j == b.size || b.keys[j] != a.keys[i]) {
+					difference.append(a, i, copy);
+				} else if (a.containers[i] == null) {
+					if (!b.contains(j, a.singles[i]))
+						difference.append(a, i, false);
+				} else {
+					Container remaining = Container.andNot(a.containers[i], b.container(j));
+					if (remaining != null)
+						difference.append(a.keys[i], remaining);
+				}
+			}
+			return difference.size == 0 ? null : difference;
+		}
+
+		static long andCardinality(Block a, Block b) {
+			long count = 0;
+			for (int i = 0, j = 0; i < a.size && j < b.size; ) {
+				if (a.keys[i] < b.keys[j])
+					i++;
+				else if (b.keys[j] < a.keys[i])
+					j++;
+				else if (a.containers[i] == null)
+					count += b.contains(j++, a.singles[i++]) ? 1 : 0;
+				else if (b.containers[j] == null)
+					count += a.contains(i++, b.singles[j++]) ? 1 : 0;
+				else
+					count += Container.andCardinality(a.containers[i++], b.containers[j++]);
+			}
+			return count;
+		}
+
+		/**
+		 * @return the chunk key of the chunk at the given index, i.e. the index of its first bit shifted right by 16.
+		 */
+		long key(int index) {
+			return (long) high << 16 | keys[index];
+		}
+
+		int find(int key) {
+			return Arrays.binarySearch(keys, 0, size, (char) key);
+		}
+
+		long cardinality() {
+			long cardinality = 0;
+			for (int i = 0; i < size; i++)
+				cardinality += containers[i] == null ? 1 : containers[i].cardinality();
+			return cardinality;
+		}
+
+		boolean get(int key, int low) {
+			int index = find(key);
+			return index >= 0 && contains(index, low);
+		}
+
+		/**
+		 * @return {@code true} if the bit was clear and has been set, {@code false} otherwise.
+		 */
+		boolean set(int key, int low) {
+			int index = find(key);
+			if (index < 0) {
+				insert(-(index + 1), key, low);
+				return true;
+			}
+
+			if (contains(index, low))
+				return false;
+
+			containers[index] = container(index).add(low);
+			return true;
+		}
+
+		/**
+		 * @return {@code true} if the bit was set and has been cleared, {@code false} otherwise.
+		 */
+		boolean clear(int key, int low) {
+			int index = find(key);
+			if (index < 0 || !contains(index, low))
+				return false;
+
+			if (containers[index] == null)
+				remove(index);
+			else
+				put(index, containers[index].remove(low));
+			return true;
+		}
+
+		boolean contains(int index, int low) {
+			return containers[index] == null ? singles[index] == low : containers[index].contains(low);
+		}
+
+		int next(int index, int from) {
+			if (containers[index] != null)
+				return containers[index].next(from);
+			return singles[index] >= from ? singles[index] : -1;
+		}
+
+		int previous(int index, int from) {
+			if (containers[index] != null)
+				return containers[index].previous(from);
+			return singles[index] <= from ? singles[index] : -1;
+		}
+
+		void optimize() {
+			for (int i = 0; i < size; i++)
+				if (containers[i] != null)
+					containers[i] = containers[i].optimize();
+		}
+
+		/**
+		 * @return the container of the chunk at the given index, created on the fly for chunks with a single bit.
+		 */
+		private Container container(int index) {
+			return containers[index] == null ? new ArrayContainer(singles[index]) : containers[index];
+		}
+
+		/**
+		 * Store the given non-empty container at the given index, inline if it has a single bit.
+		 */
+		private void put(int index, Container container) {
+			if (container.cardinality() == 1) {
+				singles[index] = (char) container.next(0);
+				containers[index] = null;
+			} else {
+				containers[index] = container;
+			}
+		}
+
+		private void insert(int index, int key, int low) {
+			if (size == keys.length)
+				grow();
+			System.arraycopy(keys, index, keys, index + 1, size - index);
+			System.arraycopy(singles, index, singles, index + 1, size - index);
+			System.arraycopy(containers, index, containers, index + 1, size - index);
+			keys[index] = (char) key;
+			singles[index] = (char) low;
+			containers[index] = null;
+			size++;
+		}
+
+		private void remove(int index) {
+			System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+			System.arraycopy(singles, index + 1, singles, index, size - index - 1);
+			System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+			containers[--size] = null;
+		}
+
+		private void append(int key, Container container) {
+			if (size == keys.length)
+				grow();
+			keys[size] = (char) key;
+			put(size++, container);
+		}
+
+		private void append(Block block, int index, boolean copy) {
+			if (size == keys.length)
+				grow();
+			Container container = block.containers[index];
+			keys[size] = block.keys[index];
+			singles[size] = block.singles[index];
+			containers[size++] = copy && container != null ? container.copy() : container;
+		}
+
+		private void grow() {
+			int capacity = Math.max(size + 1, size + (size >> 1));
+			keys = Arrays.copyOf(keys, capacity);
+			singles = Arrays.copyOf(singles, capacity);
+			containers = Arrays.copyOf(containers, capacity);
+		}
+	}
+
+	/**
+	 * The set bits of a single {@code 2^16} bit chunk, given as the low 16 bits of each index in the range {@code 0}
+	 * to {@code 0xFFFF}. Containers are never empty, operations that would empty a container return {@code null}.
+	 */
+	private static abstract class Container {
+		static Container or(Container a, Container b) {
+			if (a instanceof ArrayContainer && b instanceof ArrayContainer)
+				return ((ArrayContainer) a).merge((ArrayContainer) b);
+
+			long[] as = a.words(), bs = b.words();
+			long[] words = new long[BITMAP_WORDS];
+			int cardinality = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				cardinality += Long.bitCount(words[i] = as[i] | bs[i]);
+			return fromWords(words, cardinality);
+		}
+
+		static Container and(Container a, Container b) {
+			if (a instanceof ArrayContainer)
+				return ((ArrayContainer) a).filter(b, true);
+			if (b instanceof ArrayContainer)
+				return ((ArrayContainer) b).filter(a, true);
+
+			long[] as = a.words(), bs = b.words();
+			long[] words = new long[BITMAP_WORDS];
+			int cardinality = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				cardinality += Long.bitCount(words[i] = as[i] & bs[i]);
+			return fromWords(words, cardinality);
+		}
+
+		static Container andNot(Container a, Container b) {
+			if (a instanceof ArrayContainer)
+				return ((ArrayContainer) a).filter(b, false);
+
+			long[] as = a.words(), bs = b.words();
+			long[] words = new long[BITMAP_WORDS];
+			int cardinality = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				cardinality += Long.bitCount(words[i] = as[i] & ~bs[i]);
+			return fromWords(words, cardinality);
+		}
+
+		static int andCardinality(Container a, Container b) {
+			if (a instanceof ArrayContainer)
+				return ((ArrayContainer) a).count(b);
+			if (b instanceof ArrayContainer)
+				return ((ArrayContainer) b).count(a);
+
+			long[] as = a.words(), bs = b.words();
+			int cardinality = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				cardinality += Long.bitCount(as[i] & bs[i]);
+			return cardinality;
+		}
+
+		static Container fromWords(long[] words, int cardinality) {
+			if (cardinality == 0)
+				return null;
+			if (cardinality <= MAX_ARRAY_SIZE)
+				return new ArrayContainer(words, cardinality);
+			return new BitmapContainer(words, cardinality);
+		}
+
+		abstract int cardinality();
+
+		abstract boolean contains(int x);
+
+		/**
+		 * Add the given value, which must not be present in this container.
+		 *
+		 * @return the container holding the result, which may be a new container of a different type.
+		 */
+		abstract Container add(int x);
+
+		/**
+		 * Remove the given value, which must be present in this container.
+		 *
+		 * @return the container holding the result, which may be a new container of a different type, or {@code null}
+		 * if the container became empty.
+		 */
+		abstract Container remove(int x);
+
+		/**
+		 * @return the lowest value in this container that is at least {@code from}, or {@code -1} if there is none.
+		 */
+		abstract int next(int from);
+
+		/**
+		 * @return the highest value in this container that is at most {@code from}, or {@code -1} if there is none.
+		 */
+		abstract int previous(int from);
+
+		/**
+		 * @return the contents of this container as a bitmap of {@link #BITMAP_WORDS} words, which must not be
+		 * modified.
+		 */
+		abstract long[] words();
+
+		abstract Container copy();
+
+		abstract int runCount();
+
+		abstract int sizeInBytes();
+
+		Container optimize() {
+			int runCount = runCount();
+			return runCount * 4 < sizeInBytes() ? new RunContainer(this, runCount) : this;
+		}
+	}
+
+	private static class ArrayContainer extends Container {
+		private char[] values;
+		private int cardinality;
+
+		ArrayContainer(int x) {
+			values = new char[]{(char) x, 0, 0, 0};
+			cardinality = 1;
+		}
+
+		ArrayContainer(char[] values, int cardinality) {
+			this.values = values;
+			this.cardinality = cardinality;
+		}
+
+		ArrayContainer(long[] words, int cardinality) {
+			this.values = new char[cardinality];
+			for (int i = 0, x = -1; i < cardinality; i++)
+				values[i] = (char) (x = nextSetBit(words, x + 1));
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		boolean contains(int x) {
+			return Arrays.binarySearch(values, 0, cardinality, (char) x) >= 0;
+		}
+
+		@Override
+		Container add(int x) {
+			if (cardinality == MAX_ARRAY_SIZE)
+				return new BitmapContainer(words(), cardinality).add(x);
+
+			int index = -(Arrays.binarySearch(values, 0, cardinality, (char) x) + 1);
+			if (cardinality == values.length)
+				values = Arrays.copyOf(values, Math.min(cardinality << 1, MAX_ARRAY_SIZE));
+			System.arraycopy(values, index, values, index + 1, cardinality - index);
+			values[index] = (char) x;
+			cardinality++;
+			return this;
+		}
+
+		@Override
+		Container remove(int x) {
+			int index = Arrays.binarySearch(values, 0, cardinality, (char) x);
+			System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+			return --cardinality == 0 ? null : this;
+		}
+
+		@Override
+		int next(int from) {
+			int index = Arrays.binarySearch(values, 0, cardinality, (char) from);
+			if (index < 0)
+				index = -(index + 1);
+			return index < cardinality ? values[index] : -1;
+		}
+
+		@Override
+		int previous(int from) {
+			int index = Arrays.binarySearch(values, 0, cardinality, (char) from);
+			if (index < 0)
+				index = -(index + 1) - 1;
+			return index >= 0 ? values[index] : -1;
+		}
+
+		@Override
+		long[] words() {
+			long[] words = new long[BITMAP_WORDS];
+			for (int i = 0; i < cardinality; i++)
+				words[values[i] >>> 6] |= 1L << values[i];
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+		}
+
+		@Override
+		int runCount() {
+			int runCount = 0;
+			for (int i = 0; i < cardinality; i++)
+				if (i == 0 || values[i] != values[i - 1] + 1)
+					runCount++;
+			return runCount;
+		}
+
+		@Override
+		int sizeInBytes() {
+			return cardinality * 2;
+		}
+
+		Container merge(ArrayContainer other) {
+			char[] merged = new char[cardinality + other.cardinality];
+			int size = 0;
+			int i = 0, j = 0;
+			while (i < cardinality && j < other.cardinality) {
+				char x = values[i], y = other.values[j];
+				merged[size++] = x <= y ? x : y;
+				if (x <= y)
+					i++;
+				if (y <= x)
+					j++;
+			}
+			System.arraycopy(values, i, merged, size, cardinality - i);
+			size += cardinality - i;
+			System.arraycopy(other.values, j, merged, size, other.cardinality - j);
+			size += other.cardinality - j;
+
+			ArrayContainer union = new ArrayContainer(merged, size);
+			return size <= MAX_ARRAY_SIZE ? union : new BitmapContainer(union.words(), size);
+		}
+
+		Container filter(Container other, boolean contained) {
+			char[] filtered = new char[cardinality];
+			int size = 0;
+			for (int i = 0; i < cardinality; i++)
+				if (other.contains(values[i]) == contained)
+					filtered[size++] = values[i];
+			return size == 0 ? null : new ArrayContainer(filtered, size);
+		}
+
+		int count(Container other) {
+			int count = 0;
+			for (int i = 0; i < cardinality; i++)
+				if (other.contains(values[i]))
+					count++;
+			return count;
+		}
+	}
+
+	private static class BitmapContainer extends Container {
+		private final long[] words;
+		private int cardinality;
+
+		BitmapContainer(long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		boolean contains(int x) {
+			return (words[x >>> 6] & 1L << x) != 0;
+		}
+
+		@Override
+		Container add(int x) {
+			words[x >>> 6] |= 1L << x;
+			cardinality++;
+			return this;
+		}
+
+		@Override
+		Container remove(int x) {
+			words[x >>> 6] &= ~(1L << x);
+			return --cardinality <= MAX_ARRAY_SIZE ? new ArrayContainer(words, cardinality) : this;
+		}
+
+		@Override
+		int next(int from) {
+			return nextSetBit(words, from);
+		}
+
+		@Override
+		int previous(int from) {
+			int index = from >>> 6;
+			long word = words[index] & -1L >>> 63 - (from & 63);
+			while (word == 0) {
+				if (--index < 0)
+					return -1;
+				word = words[index];
+			}
+			return (index << 6) + 63 - Long.numberOfLeadingZeros(word);
+		}
+
+		@Override
+		long[] words() {
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+
+		@Override
+		int runCount() {
+			int runCount = 0;
+			long carry = 0;
+			for (long word : words) {
+				runCount += Long.bitCount(word & ~(word << 1 | carry));
+				carry = word >>> 63;
+			}
+			return runCount;
+		}
+
+		@Override
+		int sizeInBytes() {
+			return BITMAP_WORDS * 8;
+		}
+	}
+
+	private static class RunContainer extends Container {
+		private char[] starts;
+		private char[] ends;
+		private int runCount;
+		private int cardinality;
+
+		RunContainer(Container container, int runCount) {
+			this.starts = new char[runCount];
+			this.ends = new char[runCount];
+			this.cardinality = container.cardinality();
+			for (int x = container.next(0); x >= 0; ) {
+				int end = x;
+				while (end < CHUNK_MASK && container.contains(end + 1))
+					end++;
+				starts[this.runCount] = (char) x;
+				ends[this.runCount++] = (char) end;
+				x = end < CHUNK_MASK ? container.next(end + 1) : -1;
+			}
+		}
+
+		private RunContainer(char[] starts, char[] ends, int runCount, int cardinality) {
+			this.starts = starts;
+			this.ends = ends;
+			this.runCount = runCount;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		boolean contains(int x) {
+			int run = findRun(x);
+			return run >= 0 && x <= ends[run];
+		}
+
+		@Override
+		Container add(int x) {
+			int run = findRun(x);
+			boolean joinsPrevious = run >= 0 && ends[run] + 1 == x;
+			boolean joinsNext = run + 1 < runCount && starts[run + 1] == x + 1;
+			if (joinsPrevious && joinsNext) {
+				ends[run] = ends[run + 1];
+				removeRun(run + 1);
+			} else if (joinsPrevious) {
+				ends[run] = (char) x;
+			} else if (joinsNext) {
+				starts[run + 1] = (char) x;
+			} else {
+				insertRun(run + 1, x, x);
+			}
+			cardinality++;
+			return runCount > MAX_RUNS ? fromWords(words(), cardinality) : this;
+		}
+
+		@Override
+		Container remove(int x) {
+			int run = findRun(x);
+			if (starts[run] == ends[run]) {
+				removeRun(run);
+			} else if (starts[run] == x) {
+				starts[run]++;
+			} else if (ends[run] == x) {
+				ends[run]--;
+			} else {
+				insertRun(run + 1, x + 1, ends[run]);
+				ends[run] = (char) (x - 1);
+			}
+			if (--cardinality == 0)
+				return null;
+			return runCount > MAX_RUNS ? fromWords(words(), cardinality) : this;
+		}
+
+		@Override
+		int next(int from) {
+			int run = findRun(from);
+			if (run >= 0 && from <= ends[run])
+				return from;
+			return ++run < runCount ? starts[run] : -1;
+		}
+
+		@Override
+		int previous(int from) {
+			int run = findRun(from);
+			return run >= 0 ? Math.min(from, ends[run]) : -1;
+		}
+
+		@Override
+		long[] words() {
+			long[] words = new long[BITMAP_WORDS];
+			for (int i = 0; i < runCount; i++) {
+				int from = starts[i], to = ends[i];
+				int fromIndex = from >>> 6, toIndex = to >>> 6;
+				long fromMask = -1L << from, toMask = -1L >>> 63 - (to & 63);
+				if (fromIndex == toIndex) {
+					words[fromIndex] |= fromMask & toMask;
+				} else {
+					words[fromIndex] |= fromMask;
+					Arrays.fill(words, fromIndex + 1, toIndex, -1L);
+					words[toIndex] |= toMask;
+				}
+			}
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			return new RunContainer(Arrays.copyOf(starts, runCount), Arrays.copyOf(ends, runCount), runCount,
+			                        cardinality);
+		}
+
+		@Override
+		int runCount() {
+			return runCount;
+		}
+
+		@Override
+		int sizeInBytes() {
+			return runCount * 4;
+		}
+
+		@Override
+		Container optimize() {
+			return this;
+		}
+
+		/**
+		 * @return the index of the last run starting at or before {@code x}, or {@code -1} if there is none.
+		 */
+		private int findRun(int x) {
+			int index = Arrays.binarySearch(starts, 0, runCount, (char) x);
+			return index >= 0 ? index : -(index + 1) - 1;
+		}
+
+		private void insertRun(int index, int start, int end) {
+			if (runCount == starts.length) {
+				int capacity = Math.max(runCount + 1, runCount + (runCount >> 1));
+				starts = Arrays.copyOf(starts, capacity);
+				ends = Arrays.copyOf(ends, capacity);
+			}
+			System.arraycopy(starts, index, starts, index + 1, runCount - index);
+			System.arraycopy(ends, index, ends, index + 1, runCount - index);
+			starts[index] = (char) start;
+			ends[index] = (char) end;
+			runCount++;
+		}
+
+		private void removeRun(int index) {
+			System.arraycopy(starts, index + 1, starts, index, runCount - index - 1);
+			System.arraycopy(ends, index + 1, ends, index, runCount - index - 1);
+			runCount--;
+		}
+	}
+
+	private static int nextSetBit(long[] words, int from) {
+		int index = from >>> 6;
+		long word = words[index] & -1L << from;
+		while (word == 0) {
+			if (++index == BITMAP_WORDS)
+				return -1;
+			word = words[index];
+		}
+		return (index << 6) + Long.numberOfTrailingZeros(word);
+	}
+}
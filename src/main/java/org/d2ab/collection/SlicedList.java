@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.d2ab.collection;
+
+import java.util.*;
+
+/**
+ * A {@link List} that presents a view of a contiguous range of a backing {@link List}, given as a number of elements
+ * to skip or keep at the beginning or end of the backing {@link List}. The range is computed from the current size of
+ * the backing {@link List} on every access, so changes in the backing {@link List} are reflected in the view. Meant
+ * for backing {@link List}s that implement {@link RandomAccess}, where all operations except removal are constant
+ * time. Removing elements through the {@link Iterator} or {@link ListIterator} of the view, including through bulk
+ * operations such as {@link #retainAll}, only ever reaches elements that were in the view when iteration started.
+ * Slicing a {@link SlicedList} or {@link SteppedList} composes the views over the same backing {@link List}.
+ *
+ * @since 2.4
+ */
+public class SlicedList<T> extends ListView<T> {
+	private final int skip;
+	private final int skipTail;
+	private final int limit;
+	private final int limitTail;
+
+	/**
+	 * @return a view of the given {@link List} without its first {@code skip} elements.
+	 */
+	public static <T> List<T> skip(List<T> original, int skip) {
+		return new SlicedList<>(original, skip, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @return a view of the given {@link List} without its last {@code skip} elements.
+	 */
+	public static <T> List<T> skipTail(List<T> original, int skip) {
+		return new SlicedList<>(original, 0, skip, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @return a view of the first {@code limit} elements of the given {@link List}.
+	 */
+	public static <T> List<T> limit(List<T> original, int limit) {
+		return new SlicedList<>(original, 0, 0, limit, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @return a view of the last {@code limit} elements of the given {@link List}.
+	 */
+	public static <T> List<T> limitTail(List<T> original, int limit) {
+		return new SlicedList<>(original, 0, 0, Integer.MAX_VALUE, limit);
+	}
+
+	private SlicedList(List<T> original, int skip, int skipTail, int limit, int limitTail) {
+		super(original, 1);
+		this.skip = skip;
+		this.skipTail = skipTail;
+		this.limit = limit;
+		this.limitTail = limitTail;
+	}
+
+	@Override
+	long range(int size) {
+		long range = parentRange(size);
+		int start = start(range);
+		int end = end(range);
+		int count = count(start, end, step);
+		return range((int) Math.min(end, start + (long) from(count) * step),
+		             (int) Math.min(end, start + (long) to(count) * step));
+	}
+
+	private int from(int size) {
+		return Math.max(Math.min(skip, size), to(size) - limitTail);
+	}
+
+	private int to(int size) {
+		int from = Math.min(skip, size);
+		int to = Math.max(from, size - skipTail);
+		return (int) Math.min(to, (long) from + limit);
+	}
+}
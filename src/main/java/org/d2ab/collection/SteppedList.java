@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.d2ab.collection;
+
+import java.util.*;
+
+/**
+ * A {@link List} that presents a view of every {@code step}th element of a backing {@link List}, starting with the
+ * first. Changes in the backing {@link List} are reflected in the view. Meant for backing {@link List}s that implement
+ * {@link RandomAccess}, where all operations except removal are constant time. Removing an element through the
+ * {@link Iterator} or {@link ListIterator} of the view, including through bulk operations such as {@link #clear()},
+ * keeps stepping over the same elements of the backing {@link List} as before the removal. Stepping over a
+ * {@link SteppedList} or {@link SlicedList} composes the views over the same backing {@link List}.
+ *
+ * @since 2.4
+ */
+public class SteppedList<T> extends ListView<T> {
+	public static <T> List<T> from(List<T> original, int step) {
+		return new SteppedList<>(original, step);
+	}
+
+	private SteppedList(List<T> original, int step) {
+		super(original, step);
+	}
+
+	@Override
+	long range(int size) {
+		return parentRange(size);
+	}
+}
@@ -428,6 +428,19 @@ public class ArrayCharList extends CharList.Base implements RandomAccess {
 			return contents[(currentIndex = nextIndex++) + from];
 		}
 
+		@Override
+		public int nextChars(char[] cs, int offset, int length) {
+			checkForCoModification();
+			int count = Math.min(length, to - from - nextIndex);
+			if (count <= 0)
+				return 0;
+			addOrRemove = false;
+			nextOrPrevious = true;
+			System.arraycopy(contents, nextIndex + from, cs, offset, count);
+			currentIndex = (nextIndex += count) - 1;
+			return count;
+		}
+
 		@Override
 		public boolean hasPrevious() {
 			return nextIndex > 0;
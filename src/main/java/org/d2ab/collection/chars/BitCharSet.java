@@ -16,28 +16,34 @@
 
 package org.d2ab.collection.chars;
 
-import org.d2ab.collection.SparseBitSet;
+import org.d2ab.collection.RoaringBitSet;
 import org.d2ab.iterator.chars.CharIterator;
 
 import java.util.Set;
 
 /**
- * An implementation of {@link CharSortedSet} backed by two {@link SparseBitSet}s for positive and negative values.
+ * An implementation of {@link CharSortedSet} backed by a {@link RoaringBitSet}.
  */
 public class BitCharSet implements CharSortedSet {
-	private final SparseBitSet values = new SparseBitSet();
+	private final RoaringBitSet values;
 
 	public static CharSet create(char... chars) {
 		return new BitCharSet(chars);
 	}
 
 	public BitCharSet() {
+		this(new RoaringBitSet());
 	}
 
 	public BitCharSet(char... xs) {
+		this();
 		addAllChars(xs);
 	}
 
+	private BitCharSet(RoaringBitSet values) {
+		this.values = values;
+	}
+
 	@Override
 	public int size() {
 		return values.size();
@@ -83,6 +89,70 @@ public class BitCharSet implements CharSortedSet {
 		return (char) (values.lastLong() + Character.MIN_VALUE);
 	}
 
+	@Override
+	public boolean addAllChars(CharCollection xs) {
+		if (!(xs instanceof BitCharSet))
+			return CharSortedSet.super.addAllChars(xs);
+
+		return values.addAllLongs(((BitCharSet) xs).values);
+	}
+
+	@Override
+	public boolean containsAllChars(CharIterable xs) {
+		if (!(xs instanceof BitCharSet))
+			return CharSortedSet.super.containsAllChars(xs);
+
+		return values.containsAllLongs(((BitCharSet) xs).values);
+	}
+
+	@Override
+	public boolean removeAllChars(CharIterable xs) {
+		if (!(xs instanceof BitCharSet))
+			return CharSortedSet.super.removeAllChars(xs);
+
+		return values.removeAllLongs(((BitCharSet) xs).values);
+	}
+
+	@Override
+	public boolean retainAllChars(CharIterable xs) {
+		if (!(xs instanceof BitCharSet))
+			return CharSortedSet.super.retainAllChars(xs);
+
+		return values.retainAllLongs(((BitCharSet) xs).values);
+	}
+
+	@Override
+	public CharSortedSet union(CharSortedSet other) {
+		if (!(other instanceof BitCharSet))
+			return CharSortedSet.super.union(other);
+
+		return new BitCharSet((RoaringBitSet) values.union(((BitCharSet) other).values));
+	}
+
+	@Override
+	public CharSortedSet intersect(CharSortedSet other) {
+		if (!(other instanceof BitCharSet))
+			return CharSortedSet.super.intersect(other);
+
+		return new BitCharSet((RoaringBitSet) values.intersect(((BitCharSet) other).values));
+	}
+
+	@Override
+	public CharSortedSet difference(CharSortedSet other) {
+		if (!(other instanceof BitCharSet))
+			return CharSortedSet.super.difference(other);
+
+		return new BitCharSet((RoaringBitSet) values.difference(((BitCharSet) other).values));
+	}
+
+	@Override
+	public int intersectionSize(CharSortedSet other) {
+		if (!(other instanceof BitCharSet))
+			return CharSortedSet.super.intersectionSize(other);
+
+		return values.intersectionSize(((BitCharSet) other).values);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder(size() * 3); // heuristic
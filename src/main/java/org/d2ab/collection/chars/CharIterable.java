@@ -21,6 +21,7 @@ import org.d2ab.function.CharConsumer;
 import org.d2ab.function.CharPredicate;
 import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.chars.ArrayCharIterator;
+import org.d2ab.iterator.chars.BufferedReaderCharIterator;
 import org.d2ab.iterator.chars.CharIterator;
 import org.d2ab.iterator.chars.ReaderCharIterator;
 import org.d2ab.iterator.ints.IntIterator;
@@ -35,6 +36,8 @@ import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
+import static org.d2ab.util.Preconditions.requireAtLeastOne;
+
 @FunctionalInterface
 public interface CharIterable extends Iterable<Character> {
 	/**
@@ -67,6 +70,37 @@ public interface CharIterable extends Iterable<Character> {
 		};
 	}
 
+	/**
+	 * Create a {@code CharIterable} from a {@link Reader} which iterates over the characters provided in the reader,
+	 * like {@link #read(Reader)}, but reads the {@link Reader} in blocks of the given buffer size rather than one
+	 * character at a time. Since the {@link Reader} is read ahead of iteration, it may be positioned past the last
+	 * character returned when iteration stops before the end of the reader.
+	 *
+	 * @throws IllegalArgumentException if the buffer size is less than one.
+	 * @since 2.4
+	 */
+	static CharIterable read(Reader reader, int bufferSize) {
+		requireAtLeastOne(bufferSize, "bufferSize");
+
+		return new CharIterable() {
+			boolean started;
+
+			@Override
+			public CharIterator iterator() {
+				if (started)
+					try {
+						reader.reset();
+					} catch (IOException e) {
+						// do nothing, let reader exhaust itself
+					}
+				else
+					started = true;
+
+				return new BufferedReaderCharIterator(reader, bufferSize);
+			}
+		};
+	}
+
 	static CharIterable of(char... characters) {
 		return () -> new ArrayCharIterator(characters);
 	}
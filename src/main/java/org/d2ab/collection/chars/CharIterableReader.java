@@ -62,13 +62,11 @@ public class CharIterableReader extends Reader {
 		if (!iterator.hasNext())
 			return -1;
 
-		int index = 0;
-		while (index < len && iterator.hasNext())
-			cbuf[off + index++] = iterator.nextChar();
+		int count = iterator.nextChars(cbuf, off, len);
 
-		position += index;
+		position += count;
 
-		return index;
+		return count;
 	}
 
 	@Override
@@ -153,6 +153,106 @@ public interface CharSortedSet extends SortedSet<Character>, CharSet {
 		return last;
 	}
 
+	/**
+	 * @return a new {@code CharSortedSet} containing the {@code chars} that are in this set, the given set or both.
+	 *
+	 * @since 2.4
+	 */
+	default CharSortedSet union(CharSortedSet other) {
+		CharSortedSet union = CharSortedSet.create();
+		union.addAllChars(this);
+		union.addAllChars(other);
+		return union;
+	}
+
+	/**
+	 * @return a new {@code CharSortedSet} containing the {@code chars} that are in both this set and the given set,
+	 * computed in a single merging pass over both sets.
+	 *
+	 * @since 2.4
+	 */
+	default CharSortedSet intersect(CharSortedSet other) {
+		CharSortedSet intersection = CharSortedSet.create();
+		CharIterator xs = iterator(), ys = other.iterator();
+		if (!xs.hasNext() || !ys.hasNext())
+			return intersection;
+
+		char x = xs.nextChar(), y = ys.nextChar();
+		while (true) {
+			if (x < y) {
+				if (!xs.hasNext())
+					break;
+				x = xs.nextChar();
+			} else if (y < x) {
+				if (!ys.hasNext())
+					break;
+				y = ys.nextChar();
+			} else {
+				intersection.addChar(x);
+				if (!xs.hasNext() || !ys.hasNext())
+					break;
+				x = xs.nextChar();
+				y = ys.nextChar();
+			}
+		}
+		return intersection;
+	}
+
+	/**
+	 * @return a new {@code CharSortedSet} containing the {@code chars} that are in this set but not in the given set,
+	 * computed in a single merging pass over both sets.
+	 *
+	 * @since 2.4
+	 */
+	default CharSortedSet difference(CharSortedSet other) {
+		CharSortedSet difference = CharSortedSet.create();
+		CharIterator ys = other.iterator();
+		boolean hasY = ys.hasNext();
+		char y = hasY ? ys.nextChar() : 0;
+		for (CharIterator xs = iterator(); xs.hasNext(); ) {
+			char x = xs.nextChar();
+			while (hasY && y < x)
+				if (hasY = ys.hasNext())
+					y = ys.nextChar();
+			if (!hasY || y != x)
+				difference.addChar(x);
+		}
+		return difference;
+	}
+
+	/**
+	 * @return the number of {@code chars} that are in both this set and the given set, computed in a single merging
+	 * pass over both sets without building the intersection.
+	 *
+	 * @since 2.4
+	 */
+	default int intersectionSize(CharSortedSet other) {
+		CharIterator xs = iterator(), ys = other.iterator();
+		if (!xs.hasNext() || !ys.hasNext())
+			return 0;
+
+		int size = 0;
+		char x = xs.nextChar(), y = ys.nextChar();
+		while (true) {
+			if (x < y) {
+				if (!xs.hasNext())
+					break;
+				x = xs.nextChar();
+			} else if (y < x) {
+				if (!ys.hasNext())
+					break;
+				y = ys.nextChar();
+			} else {
+				size++;
+				if (!xs.hasNext() || !ys.hasNext())
+					break;
+				x = xs.nextChar();
+				y = ys.nextChar();
+			}
+		}
+		return size;
+	}
+
 	@Override
 	default Spliterator.OfInt intSpliterator() {
 		return Spliterators.spliterator(intIterator(), size(),
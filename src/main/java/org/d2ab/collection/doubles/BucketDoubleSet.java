@@ -0,0 +1,263 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.doubles;
+
+import org.d2ab.iterator.doubles.DoubleIterator;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.d2ab.util.Doubles.eq;
+
+/**
+ * An implementation of {@link DoubleSet} backed by an open addressing hash table with linear probing, in which each
+ * {@code double} is hashed by the bucket of width twice the given precision that it falls into, rather than by its
+ * exact value. Besides constant time insertion, removal and lookup of exact values, this allows
+ * {@link #containsDouble(double, double)} with a precision no greater than the precision of the set to look in the
+ * neighbouring buckets only, rather than comparing against every value in the set. Iteration order is unspecified.
+ *
+ * @since 2.4
+ */
+public class BucketDoubleSet extends DoubleSet.Base {
+	private static final int MINIMUM_CAPACITY = 16;
+	private static final double MAXIMUM_BUCKET = 0x1p62;
+
+	private static final byte FREE = 0;
+	private static final byte FULL = 1;
+	private static final byte REMOVED = 2;
+
+	private final double precision;
+	private final double width;
+
+	private double[] values;
+	private byte[] states;
+	private int size;
+	private int removed;
+
+	private int modCount;
+
+	public BucketDoubleSet(double precision) {
+		this.precision = precision;
+		this.width = precision * 2;
+		this.values = new double[MINIMUM_CAPACITY];
+		this.states = new byte[MINIMUM_CAPACITY];
+	}
+
+	public BucketDoubleSet(double precision, double... xs) {
+		this(precision);
+		addAllDoubles(xs);
+	}
+
+	/**
+	 * @return the precision of this set, which is the greatest precision that {@link #containsDouble(double, double)}
+	 * can look up without comparing against every value in the set.
+	 */
+	public double precision() {
+		return precision;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(states, FREE);
+		size = 0;
+		removed = 0;
+		modCount++;
+	}
+
+	@Override
+	public boolean addDoubleExactly(double x) {
+		int mask = values.length - 1;
+		int target = -1;
+		for (int i = hash(bucket(x)) & mask; ; i = i + 1 & mask) {
+			byte state = states[i];
+			if (state == FREE) {
+				if (target == -1)
+					target = i;
+				break;
+			} else if (state == REMOVED) {
+				if (target == -1)
+					target = i;
+			} else if (Double.doubleToLongBits(values[i]) == Double.doubleToLongBits(x)) {
+				return false;
+			}
+		}
+
+		if (states[target] == REMOVED)
+			removed--;
+		values[target] = x;
+		states[target] = FULL;
+		size++;
+		modCount++;
+
+		if (size + removed > values.length >>> 1)
+			rehash(size > values.length >>> 2 ? values.length << 1 : values.length);
+
+		return true;
+	}
+
+	@Override
+	public boolean removeDoubleExactly(double x) {
+		int index = indexOf(x);
+		if (index == -1)
+			return false;
+
+		states[index] = REMOVED;
+		size--;
+		removed++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean containsDoubleExactly(double x) {
+		return indexOf(x) != -1;
+	}
+
+	@Override
+	public boolean containsDouble(double x, double precision) {
+		if (!(precision <= this.precision))
+			return super.containsDouble(x, precision);
+
+		long bucket = bucket(x);
+		if (width == 0)
+			return containsInBucket(bucket, x, precision);
+
+		return containsInBucket(bucket, x, precision) || containsInBucket(bucket - 1, x, precision) ||
+		       containsInBucket(bucket + 1, x, precision);
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return new DoubleIterator() {
+			private int index = nextIndex(0);
+			private int current = -1;
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return index < values.length;
+			}
+
+			@Override
+			public double nextDouble() {
+				if (modCount != expectedModCount)
+					throw new ConcurrentModificationException();
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				current = index;
+				index = nextIndex(index + 1);
+				return values[current];
+			}
+
+			@Override
+			public void remove() {
+				if (current == -1)
+					throw new IllegalStateException();
+				if (modCount != expectedModCount)
+					throw new ConcurrentModificationException();
+
+				states[current] = REMOVED;
+				size--;
+				removed++;
+				expectedModCount = ++modCount;
+				current = -1;
+			}
+		};
+	}
+
+	private int nextIndex(int index) {
+		while (index < states.length && states[index] != FULL)
+			index++;
+		return index;
+	}
+
+	private int indexOf(double x) {
+		long bits = Double.doubleToLongBits(x);
+		int mask = values.length - 1;
+		for (int i = hash(bucket(x)) & mask; ; i = i + 1 & mask) {
+			byte state = states[i];
+			if (state == FREE)
+				return -1;
+			if (state == FULL && Double.doubleToLongBits(values[i]) == bits)
+				return i;
+		}
+	}
+
+	private boolean containsInBucket(long bucket, double x, double precision) {
+		int mask = values.length - 1;
+		for (int i = hash(bucket) & mask; ; i = i + 1 & mask) {
+			byte state = states[i];
+			if (state == FREE)
+				return false;
+			if (state == FULL && eq(values[i], x, precision))
+				return true;
+		}
+	}
+
+	/**
+	 * @return the bucket of the given value. Values within the precision of this set of each other fall into the same
+	 * or adjacent buckets. Values that are not finite, or too far from zero for their bucket to fit in a {@code long},
+	 * are bucketed by their exact bits instead, as their neighbouring values are further apart than the precision.
+	 */
+	private long bucket(double x) {
+		if (width == 0)
+			return Double.doubleToLongBits(x + 0.0);
+
+		double bucket = Math.floor(x / width);
+		if (!(Math.abs(bucket) <= MAXIMUM_BUCKET))
+			return Double.doubleToLongBits(x + 0.0);
+
+		return (long) bucket;
+	}
+
+	private void rehash(int capacity) {
+		double[] oldValues = values;
+		byte[] oldStates = states;
+
+		values = new double[capacity];
+		states = new byte[capacity];
+		removed = 0;
+
+		int mask = capacity - 1;
+		for (int j = 0; j < oldValues.length; j++) {
+			if (oldStates[j] == FULL) {
+				int i = hash(bucket(oldValues[j])) & mask;
+				while (states[i] != FREE)
+					i = i + 1 & mask;
+				values[i] = oldValues[j];
+				states[i] = FULL;
+			}
+		}
+	}
+
+	private static int hash(long x) {
+		long h = x * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ h >>> 32);
+	}
+}
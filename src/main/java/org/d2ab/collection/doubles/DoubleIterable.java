@@ -16,11 +16,17 @@
 
 package org.d2ab.collection.doubles;
 
+import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.doubles.ArrayDoubleIterator;
+import org.d2ab.iterator.doubles.ChannelDoubleIterator;
 import org.d2ab.iterator.doubles.DoubleIterator;
 import org.d2ab.sequence.DoubleSequence;
 import org.d2ab.util.Strict;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -55,6 +61,38 @@ public interface DoubleIterable extends Iterable<Double> {
 		return once(DoubleIterator.from(iterator));
 	}
 
+	/**
+	 * Create a {@code DoubleIterable} from a {@link ReadableByteChannel} which iterates over the {@code doubles} in the
+	 * channel, decoded in the given {@link ByteOrder}. If the channel is a {@link SeekableByteChannel}, it will be
+	 * repositioned to where the first iteration started in between iterations, otherwise the {@code DoubleIterable} will
+	 * only be available to iterate over once. If an {@link IOException} occurs during iteration, an
+	 * {@link IterationException} will be thrown. The channel will not be closed by the {@code DoubleIterable} when
+	 * iteration finishes, it must be closed externally when iteration is finished.
+	 *
+	 * @since 2.4
+	 */
+	static DoubleIterable read(ReadableByteChannel channel, ByteOrder order) {
+		return new DoubleIterable() {
+			long start = -1;
+
+			@Override
+			public DoubleIterator iterator() {
+				if (channel instanceof SeekableByteChannel)
+					try {
+						SeekableByteChannel seekable = (SeekableByteChannel) channel;
+						if (start == -1)
+							start = seekable.position();
+						else
+							seekable.position(start);
+					} catch (IOException e) {
+						throw new IterationException(e);
+					}
+
+				return new ChannelDoubleIterator(channel, order);
+			}
+		};
+	}
+
 	@Override
 	DoubleIterator iterator();
 
@@ -37,7 +37,7 @@ public interface DoubleSortedSet extends SortedSet<Double>, DoubleSet {
 	 * @since 2.1
 	 */
 	static DoubleSortedSet create() {
-		return new SortedListDoubleSet();
+		return new TreeDoubleSet();
 	}
 
 	/**
@@ -46,7 +46,7 @@ public interface DoubleSortedSet extends SortedSet<Double>, DoubleSet {
 	 * @since 2.1
 	 */
 	static DoubleSortedSet create(double... xs) {
-		return new SortedListDoubleSet(xs);
+		return new TreeDoubleSet(xs);
 	}
 
 	@Override
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.doubles;
+
+import org.d2ab.collection.longs.HashLongSet;
+import org.d2ab.iterator.doubles.DelegatingTransformingDoubleIterator;
+import org.d2ab.iterator.doubles.DoubleIterator;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * An implementation of {@link DoubleSet} backed by a {@link HashLongSet} for raw double values, which provides
+ * constant time insertion, removal and lookup of exact values. The raw bits of {@code doubles} are usually spread far
+ * apart, which makes {@code HashDoubleSet} more compact than {@link RawDoubleSet} for most values. Iteration order is
+ * unspecified.
+ *
+ * @since 2.4
+ */
+public class HashDoubleSet extends DoubleSet.Base {
+	private final HashLongSet values = new HashLongSet();
+
+	public HashDoubleSet() {
+	}
+
+	public HashDoubleSet(double... xs) {
+		addAllDoubles(xs);
+	}
+
+	@Override
+	public int size() {
+		return values.size();
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return new DelegatingTransformingDoubleIterator<Long, PrimitiveIterator.OfLong>(values.iterator()) {
+			@Override
+			public double nextDouble() {
+				return Double.longBitsToDouble(iterator.nextLong());
+			}
+		};
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		values.clear();
+	}
+
+	@Override
+	public boolean addDoubleExactly(double x) {
+		return values.addLong(Double.doubleToLongBits(x));
+	}
+
+	@Override
+	public boolean removeDoubleExactly(double x) {
+		return values.removeLong(Double.doubleToLongBits(x));
+	}
+
+	@Override
+	public boolean containsDoubleExactly(double x) {
+		return values.containsLong(Double.doubleToLongBits(x));
+	}
+
+	/**
+	 * @return true if the raw bits of the {@code doubles} in this set are dense enough, relative to the range they
+	 * span, that a {@link RawDoubleSet} would store them more compactly than this {@code HashDoubleSet}.
+	 */
+	public boolean isDense() {
+		return values.isDense();
+	}
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.doubles;
+
+import org.d2ab.iterator.doubles.DoubleIterator;
+import org.d2ab.util.Doubles;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.d2ab.util.Doubles.eq;
+
+/**
+ * An implementation of {@link DoubleSortedSet} backed by a treap, a binary search tree kept balanced by random node
+ * priorities, stored in primitive arrays. Insertion, removal and exact lookup take logarithmic time, as do lookup
+ * and removal with a precision, which only visit the values within the precision of the given value. Sub sets and
+ * tail sets begin iteration directly at their lower bound. Values are ordered as by {@link Double#compare}.
+ *
+ * @since 2.4
+ */
+public class TreeDoubleSet extends DoubleSortedSet.Base {
+	private static final int NIL = -1;
+	private static final int MINIMUM_CAPACITY = 16;
+
+	private double[] keys;
+	private int[] left;
+	private int[] right;
+	private int[] priorities;
+
+	private int root = NIL;
+	private int size;
+	private int nodes;
+	private int free = NIL;
+	private int seed = 0x2545F491;
+
+	private int modCount;
+
+	private int splitLeft;
+	private int splitRight;
+
+	public TreeDoubleSet() {
+		this.keys = new double[MINIMUM_CAPACITY];
+		this.left = new int[MINIMUM_CAPACITY];
+		this.right = new int[MINIMUM_CAPACITY];
+		this.priorities = new int[MINIMUM_CAPACITY];
+	}
+
+	public TreeDoubleSet(double... xs) {
+		this();
+		addAllDoubles(xs);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		root = NIL;
+		free = NIL;
+		size = 0;
+		nodes = 0;
+		modCount++;
+	}
+
+	@Override
+	public boolean addDoubleExactly(double x) {
+		if (find(x) != NIL)
+			return false;
+
+		int node = allocate(x);
+		split(root, x);
+		root = merge(merge(splitLeft, node), splitRight);
+		size++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean removeDoubleExactly(double x) {
+		if (find(x) == NIL)
+			return false;
+
+		root = remove(root, x);
+		size--;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean containsDoubleExactly(double x) {
+		return find(x) != NIL;
+	}
+
+	@Override
+	public boolean containsDouble(double x, double precision) {
+		return findWithin(x, precision) != NIL;
+	}
+
+	@Override
+	public boolean removeDouble(double x, double precision) {
+		int node = findWithin(x, precision);
+		return node != NIL && removeDoubleExactly(keys[node]);
+	}
+
+	@Override
+	public double firstDouble() {
+		if (root == NIL)
+			throw new NoSuchElementException();
+
+		int node = root;
+		while (left[node] != NIL)
+			node = left[node];
+		return keys[node];
+	}
+
+	@Override
+	public double lastDouble() {
+		if (root == NIL)
+			throw new NoSuchElementException();
+
+		int node = root;
+		while (right[node] != NIL)
+			node = right[node];
+		return keys[node];
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return new Iter(Double.NEGATIVE_INFINITY);
+	}
+
+	@Override
+	public DoubleSortedSet subSetExactly(double from, double to) {
+		return new DoubleSortedSet.SubSet(this) {
+			@Override
+			public DoubleIterator iterator() {
+				return untilExcluded(fromIncluded(new Iter(Math.nextDown(from))));
+			}
+
+			@Override
+			protected boolean included(double x) {
+				return x >= from && x < to;
+			}
+		};
+	}
+
+	@Override
+	public DoubleSortedSet subSet(double from, double to, double precision) {
+		return new DoubleSortedSet.SubSet(this) {
+			@Override
+			public DoubleIterator iterator() {
+				return untilExcluded(fromIncluded(new Iter(Math.nextDown(from - precision))));
+			}
+
+			@Override
+			protected boolean included(double x) {
+				return Doubles.ge(x, from, precision) && Doubles.lt(x, to, precision);
+			}
+		};
+	}
+
+	@Override
+	public DoubleSortedSet tailSetExactly(double from) {
+		return new DoubleSortedSet.SubSet(this) {
+			@Override
+			public DoubleIterator iterator() {
+				return fromIncluded(new Iter(Math.nextDown(from)));
+			}
+
+			@Override
+			public double lastDouble() {
+				return TreeDoubleSet.this.lastDouble();
+			}
+
+			@Override
+			protected boolean included(double x) {
+				return x >= from;
+			}
+		};
+	}
+
+	@Override
+	public DoubleSortedSet tailSet(double from, double precision) {
+		return new DoubleSortedSet.SubSet(this) {
+			@Override
+			public DoubleIterator iterator() {
+				return fromIncluded(new Iter(Math.nextDown(from - precision)));
+			}
+
+			@Override
+			public double lastDouble() {
+				return TreeDoubleSet.this.lastDouble();
+			}
+
+			@Override
+			protected boolean included(double x) {
+				return Doubles.ge(x, from, precision);
+			}
+		};
+	}
+
+	private int find(double x) {
+		int node = root;
+		while (node != NIL) {
+			int comparison = Double.compare(x, keys[node]);
+			if (comparison == 0)
+				return node;
+			node = comparison < 0 ? left[node] : right[node];
+		}
+		return NIL;
+	}
+
+	/**
+	 * @return the node with the least value within the given precision of the given value, or {@link #NIL} if none.
+	 */
+	private int findWithin(double x, double precision) {
+		if (!(precision >= 0))
+			return NIL;
+
+		double from = Math.nextDown(x - precision);
+		for (int node = ceiling(from); node != NIL && !(keys[node] - x > precision); node = higher(keys[node]))
+			if (eq(keys[node], x, precision))
+				return node;
+		return NIL;
+	}
+
+	/**
+	 * @return the node with the least value greater than or equal to the given value, or {@link #NIL} if none.
+	 */
+	private int ceiling(double x) {
+		int result = NIL;
+		int node = root;
+		while (node != NIL) {
+			if (Double.compare(keys[node], x) >= 0) {
+				result = node;
+				node = left[node];
+			} else {
+				node = right[node];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the node with the least value strictly greater than the given value, or {@link #NIL} if none.
+	 */
+	private int higher(double x) {
+		int result = NIL;
+		int node = root;
+		while (node != NIL) {
+			if (Double.compare(keys[node], x) > 0) {
+				result = node;
+				node = left[node];
+			} else {
+				node = right[node];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Split the given tree into the trees of values less than the given value, stored in {@link #splitLeft}, and
+	 * values greater than or equal to the given value, stored in {@link #splitRight}.
+	 */
+	private void split(int node, double x) {
+		if (node == NIL) {
+			splitLeft = splitRight = NIL;
+		} else if (Double.compare(keys[node], x) < 0) {
+			split(right[node], x);
+			right[node] = splitLeft;
+			splitLeft = node;
+		} else {
+			split(left[node], x);
+			left[node] = splitRight;
+			splitRight = node;
+		}
+	}
+
+	/**
+	 * Merge the two given trees, where all values in the first tree are less than all values in the second tree.
+	 */
+	private int merge(int lower, int upper) {
+		if (lower == NIL)
+			return upper;
+		if (upper == NIL)
+			return lower;
+
+		if (priorities[lower] > priorities[upper]) {
+			right[lower] = merge(right[lower], upper);
+			return lower;
+		} else {
+			left[upper] = merge(lower, left[upper]);
+			return upper;
+		}
+	}
+
+	private int remove(int node, double x) {
+		int comparison = Double.compare(x, keys[node]);
+		if (comparison < 0) {
+			left[node] = remove(left[node], x);
+			return node;
+		} else if (comparison > 0) {
+			right[node] = remove(right[node], x);
+			return node;
+		}
+
+		int merged = merge(left[node], right[node]);
+		left[node] = free;
+		free = node;
+		return merged;
+	}
+
+	private int allocate(double x) {
+		int node;
+		if (free != NIL) {
+			node = free;
+			free = left[node];
+		} else {
+			if (nodes == keys.length) {
+				int capacity = keys.length << 1;
+				keys = Arrays.copyOf(keys, capacity);
+				left = Arrays.copyOf(left, capacity);
+				right = Arrays.copyOf(right, capacity);
+				priorities = Arrays.copyOf(priorities, capacity);
+			}
+			node = nodes++;
+		}
+
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+
+		keys[node] = x;
+		left[node] = NIL;
+		right[node] = NIL;
+		priorities[node] = seed;
+		return node;
+	}
+
+	/**
+	 * An in-order iterator over the values greater than or equal to a given value, which keeps the path to the next
+	 * node on a stack.
+	 */
+	private class Iter implements DoubleIterator {
+		private int[] stack = new int[32];
+		private int depth;
+		private boolean hasCurrent;
+		private double current;
+		private int expectedModCount = modCount;
+
+		private Iter(double from) {
+			seek(from, true);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return depth > 0;
+		}
+
+		@Override
+		public double nextDouble() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			int node = stack[--depth];
+			for (int child = right[node]; child != NIL; child = left[child])
+				push(child);
+
+			hasCurrent = true;
+			return current = keys[node];
+		}
+
+		@Override
+		public void remove() {
+			if (!hasCurrent)
+				throw new IllegalStateException();
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+
+			removeDoubleExactly(current);
+			expectedModCount = modCount;
+			hasCurrent = false;
+			seek(current, false);
+		}
+
+		private void seek(double from, boolean inclusive) {
+			depth = 0;
+			int node = root;
+			while (node != NIL) {
+				int comparison = Double.compare(keys[node], from);
+				if (comparison > 0 || inclusive && comparison == 0) {
+					push(node);
+					node = left[node];
+				} else {
+					node = right[node];
+				}
+			}
+		}
+
+		private void push(int node) {
+			if (depth == stack.length)
+				stack = Arrays.copyOf(stack, depth << 1);
+			stack[depth++] = node;
+		}
+	}
+}
@@ -430,6 +430,19 @@ public class ArrayIntList extends IntList.Base implements RandomAccess {
 			return contents[(currentIndex = nextIndex++) + from];
 		}
 
+		@Override
+		public int nextInts(int[] xs, int offset, int length) {
+			checkForCoModification();
+			int count = Math.min(length, to - from - nextIndex);
+			if (count <= 0)
+				return 0;
+			addOrRemove = false;
+			nextOrPrevious = true;
+			System.arraycopy(contents, nextIndex + from, xs, offset, count);
+			currentIndex = (nextIndex += count) - 1;
+			return count;
+		}
+
 		@Override
 		public boolean hasPrevious() {
 			return nextIndex > 0;
@@ -16,25 +16,32 @@
 
 package org.d2ab.collection.ints;
 
-import org.d2ab.collection.SparseBitSet;
+import org.d2ab.collection.RoaringBitSet;
 import org.d2ab.iterator.ints.DelegatingTransformingIntIterator;
 import org.d2ab.iterator.ints.IntIterator;
 
 import java.util.PrimitiveIterator;
 
 /**
- * An implementation of {@link IntSortedSet} backed by two {@link SparseBitSet}s for positive and negative values.
+ * An implementation of {@link IntSortedSet} backed by a {@link RoaringBitSet} of all values offset by
+ * {@link Integer#MIN_VALUE}.
  */
 public class BitIntSet extends IntSet.Base implements IntSortedSet {
-	private final SparseBitSet values = new SparseBitSet();
+	private final RoaringBitSet values;
 
 	public BitIntSet() {
+		this(new RoaringBitSet());
 	}
 
 	public BitIntSet(int... xs) {
+		this();
 		addAllInts(xs);
 	}
 
+	private BitIntSet(RoaringBitSet values) {
+		this.values = values;
+	}
+
 	@Override
 	public int size() {
 		return values.size();
@@ -84,4 +91,68 @@ public class BitIntSet extends IntSet.Base implements IntSortedSet {
 	public int lastInt() {
 		return (int) (values.lastLong() + Integer.MIN_VALUE);
 	}
+
+	@Override
+	public boolean addAllInts(IntCollection xs) {
+		if (!(xs instanceof BitIntSet))
+			return super.addAllInts(xs);
+
+		return values.addAllLongs(((BitIntSet) xs).values);
+	}
+
+	@Override
+	public boolean containsAllInts(IntIterable xs) {
+		if (!(xs instanceof BitIntSet))
+			return super.containsAllInts(xs);
+
+		return values.containsAllLongs(((BitIntSet) xs).values);
+	}
+
+	@Override
+	public boolean removeAllInts(IntIterable xs) {
+		if (!(xs instanceof BitIntSet))
+			return super.removeAllInts(xs);
+
+		return values.removeAllLongs(((BitIntSet) xs).values);
+	}
+
+	@Override
+	public boolean retainAllInts(IntIterable xs) {
+		if (!(xs instanceof BitIntSet))
+			return super.retainAllInts(xs);
+
+		return values.retainAllLongs(((BitIntSet) xs).values);
+	}
+
+	@Override
+	public IntSortedSet union(IntSortedSet other) {
+		if (!(other instanceof BitIntSet))
+			return IntSortedSet.super.union(other);
+
+		return new BitIntSet((RoaringBitSet) values.union(((BitIntSet) other).values));
+	}
+
+	@Override
+	public IntSortedSet intersect(IntSortedSet other) {
+		if (!(other instanceof BitIntSet))
+			return IntSortedSet.super.intersect(other);
+
+		return new BitIntSet((RoaringBitSet) values.intersect(((BitIntSet) other).values));
+	}
+
+	@Override
+	public IntSortedSet difference(IntSortedSet other) {
+		if (!(other instanceof BitIntSet))
+			return IntSortedSet.super.difference(other);
+
+		return new BitIntSet((RoaringBitSet) values.difference(((BitIntSet) other).values));
+	}
+
+	@Override
+	public int intersectionSize(IntSortedSet other) {
+		if (!(other instanceof BitIntSet))
+			return IntSortedSet.super.intersectionSize(other);
+
+		return values.intersectionSize(((BitIntSet) other).values);
+	}
 }
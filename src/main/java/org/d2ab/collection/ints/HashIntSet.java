@@ -0,0 +1,223 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.ints;
+
+import org.d2ab.iterator.ints.IntIterator;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of {@link IntSet} backed by an open addressing hash table with linear probing, which provides
+ * constant time insertion, removal and lookup regardless of how the values are distributed. Unlike {@link BitIntSet},
+ * memory usage is proportional to the number of values in the set rather than to how widely they are spread, which
+ * makes {@code HashIntSet} the better choice for sparse values such as random identifiers. Iteration order is
+ * unspecified.
+ *
+ * @since 2.4
+ */
+public class HashIntSet extends IntSet.Base {
+	private static final int MINIMUM_CAPACITY = 16;
+
+	private static final byte FREE = 0;
+	private static final byte FULL = 1;
+	private static final byte REMOVED = 2;
+
+	private int[] keys;
+	private byte[] states;
+	private int size;
+	private int removed;
+
+	private int modCount;
+
+	public HashIntSet() {
+		this.keys = new int[MINIMUM_CAPACITY];
+		this.states = new byte[MINIMUM_CAPACITY];
+	}
+
+	public HashIntSet(int... xs) {
+		this();
+		addAllInts(xs);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(states, FREE);
+		size = 0;
+		removed = 0;
+		modCount++;
+	}
+
+	@Override
+	public boolean addInt(int x) {
+		int mask = keys.length - 1;
+		int target = -1;
+		for (int i = hash(x) & mask; ; i = i + 1 & mask) {
+			byte state = states[i];
+			if (state == FREE) {
+				if (target == -1)
+					target = i;
+				break;
+			} else if (state == REMOVED) {
+				if (target == -1)
+					target = i;
+			} else if (keys[i] == x) {
+				return false;
+			}
+		}
+
+		if (states[target] == REMOVED)
+			removed--;
+		keys[target] = x;
+		states[target] = FULL;
+		size++;
+		modCount++;
+
+		if (size + removed > keys.length >>> 1)
+			rehash(size > keys.length >>> 2 ? keys.length << 1 : keys.length);
+
+		return true;
+	}
+
+	@Override
+	public boolean removeInt(int x) {
+		int index = indexOf(x);
+		if (index == -1)
+			return false;
+
+		states[index] = REMOVED;
+		size--;
+		removed++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean containsInt(int x) {
+		return indexOf(x) != -1;
+	}
+
+	/**
+	 * @return true if the {@code ints} in this set are dense enough, relative to the range they span, that a
+	 * {@link BitIntSet} would store them more compactly than this {@code HashIntSet}.
+	 */
+	public boolean isDense() {
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (int i = 0; i < keys.length; i++) {
+			if (states[i] == FULL) {
+				min = Math.min(min, keys[i]);
+				max = Math.max(max, keys[i]);
+			}
+		}
+
+		return size == 0 || ((long) max - min) >>> 4 < size;
+	}
+
+	@Override
+	public IntIterator iterator() {
+		return new IntIterator() {
+			private int index = nextIndex(0);
+			private int current = -1;
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return index < keys.length;
+			}
+
+			@Override
+			public int nextInt() {
+				if (modCount != expectedModCount)
+					throw new ConcurrentModificationException();
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				current = index;
+				index = nextIndex(index + 1);
+				return keys[current];
+			}
+
+			@Override
+			public void remove() {
+				if (current == -1)
+					throw new IllegalStateException();
+				if (modCount != expectedModCount)
+					throw new ConcurrentModificationException();
+
+				states[current] = REMOVED;
+				size--;
+				removed++;
+				expectedModCount = ++modCount;
+				current = -1;
+			}
+		};
+	}
+
+	private int nextIndex(int index) {
+		while (index < states.length && states[index] != FULL)
+			index++;
+		return index;
+	}
+
+	private int indexOf(int x) {
+		int mask = keys.length - 1;
+		for (int i = hash(x) & mask; ; i = i + 1 & mask) {
+			byte state = states[i];
+			if (state == FREE)
+				return -1;
+			if (state == FULL && keys[i] == x)
+				return i;
+		}
+	}
+
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		byte[] oldStates = states;
+
+		keys = new int[capacity];
+		states = new byte[capacity];
+		removed = 0;
+
+		int mask = capacity - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			if (oldStates[j] == FULL) {
+				int i = hash(oldKeys[j]) & mask;
+				while (states[i] != FREE)
+					i = i + 1 & mask;
+				keys[i] = oldKeys[j];
+				states[i] = FULL;
+			}
+		}
+	}
+
+	private static int hash(int x) {
+		int h = x * 0x9E3779B9;
+		return h ^ h >>> 16;
+	}
+}
@@ -21,6 +21,7 @@ import org.d2ab.collection.chars.CharIterable;
 import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.chars.CharIterator;
 import org.d2ab.iterator.ints.ArrayIntIterator;
+import org.d2ab.iterator.ints.BufferedInputStreamIntIterator;
 import org.d2ab.iterator.ints.InputStreamIntIterator;
 import org.d2ab.iterator.ints.IntIterator;
 import org.d2ab.sequence.IntSequence;
@@ -37,6 +38,8 @@ import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
+import static org.d2ab.util.Preconditions.requireAtLeastOne;
+
 @FunctionalInterface
 public interface IntIterable extends Iterable<Integer> {
 	static IntIterable of(int... integers) {
@@ -88,6 +91,37 @@ public interface IntIterable extends Iterable<Integer> {
 		};
 	}
 
+	/**
+	 * Create an {@code IntIterable} from an {@link InputStream} which iterates over the bytes provided in the
+	 * input stream as ints, like {@link #read(InputStream)}, but reads the {@link InputStream} in blocks of the given
+	 * buffer size rather than one byte at a time. Since the {@link InputStream} is read ahead of iteration, it may be
+	 * positioned past the last byte returned when iteration stops before the end of the stream.
+	 *
+	 * @throws IllegalArgumentException if the buffer size is less than one.
+	 * @since 2.4
+	 */
+	static IntIterable read(InputStream inputStream, int bufferSize) {
+		requireAtLeastOne(bufferSize, "bufferSize");
+
+		return new IntIterable() {
+			boolean started;
+
+			@Override
+			public IntIterator iterator() {
+				if (started)
+					try {
+						inputStream.reset();
+					} catch (IOException e) {
+						// do nothing, let input stream exhaust itself
+					}
+				else
+					started = true;
+
+				return new BufferedInputStreamIntIterator(inputStream, bufferSize);
+			}
+		};
+	}
+
 	@Override
 	IntIterator iterator();
 
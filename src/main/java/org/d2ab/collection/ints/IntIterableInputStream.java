@@ -21,6 +21,7 @@ import org.d2ab.iterator.ints.IntIterator;
 import java.io.IOException;
 import java.io.InputStream;
 
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 /**
@@ -29,11 +30,16 @@ import static java.lang.Math.min;
  * thrown at runtime.
  */
 public class IntIterableInputStream extends InputStream {
+	private static final int BUFFER_SIZE = 8192;
+
 	private final IntIterable iterable;
 
 	private IntIterator iterator;
 	private long position;
 	private long mark;
+	private int[] buffer;
+	private int bufferIndex;
+	private int bufferSize;
 
 	public IntIterableInputStream(IntIterable iterable) {
 		this.iterable = iterable;
@@ -45,14 +51,14 @@ public class IntIterableInputStream extends InputStream {
 		if (iterator == null)
 			throw new IOException("closed");
 
-		if (!iterator.hasNext())
+		if (bufferIndex == bufferSize && !iterator.hasNext())
 			return -1;
 
 		return nextByte();
 	}
 
 	private byte nextByte() throws IOException {
-		int nextInt = iterator.nextInt();
+		int nextInt = bufferIndex < bufferSize ? buffer[bufferIndex++] : iterator.nextInt();
 		position++;
 		if (nextInt < 0 || nextInt > 255)
 			throw new IOException("Invalid byte value: " + nextInt);
@@ -67,12 +73,34 @@ public class IntIterableInputStream extends InputStream {
 		if (len == 0)
 			return 0;
 
-		if (!iterator.hasNext())
+		if (bufferIndex == bufferSize && !iterator.hasNext())
 			return -1;
 
+		if (buffer == null)
+			buffer = new int[BUFFER_SIZE];
+
 		int index = 0;
-		while (index < len && iterator.hasNext())
-			buf[off + index++] = nextByte();
+		while (index < len) {
+			if (bufferIndex == bufferSize) {
+				if (!iterator.hasNext())
+					break;
+
+				bufferIndex = 0;
+				bufferSize = iterator.nextInts(buffer, 0, min(len - index, buffer.length));
+				if (bufferSize == 0)
+					break;
+			}
+
+			// ints after an invalid value stay buffered for the next read
+			int count = min(len - index, bufferSize - bufferIndex);
+			for (int i = 0; i < count; i++) {
+				int nextInt = buffer[bufferIndex++];
+				position++;
+				if (nextInt < 0 || nextInt > 255)
+					throw new IOException("Invalid byte value: " + nextInt);
+				buf[off + index++] = (byte) nextInt;
+			}
+		}
 
 		return index;
 	}
@@ -82,7 +110,11 @@ public class IntIterableInputStream extends InputStream {
 		if (iterator == null)
 			throw new IOException("closed");
 
-		long skipped = 0;
+		int buffered = (int) min(max(n, 0), bufferSize - bufferIndex);
+		bufferIndex += buffered;
+		n -= buffered;
+
+		long skipped = buffered;
 		while (n > Integer.MAX_VALUE) {
 			int skip = iterator.skip(Integer.MAX_VALUE);
 			if (skip == 0)
@@ -118,6 +150,7 @@ public class IntIterableInputStream extends InputStream {
 			throw new IOException("closed");
 
 		iterator = iterable.iterator();
+		bufferIndex = bufferSize = 0;
 
 		position = 0;
 		long skipped = skip(mark);
@@ -153,6 +153,106 @@ public interface IntSortedSet extends SortedSet<Integer>, IntSet {
 		return last;
 	}
 
+	/**
+	 * @return a new {@code IntSortedSet} containing the {@code ints} that are in this set, the given set or both.
+	 *
+	 * @since 2.4
+	 */
+	default IntSortedSet union(IntSortedSet other) {
+		IntSortedSet union = IntSortedSet.create();
+		union.addAllInts(this);
+		union.addAllInts(other);
+		return union;
+	}
+
+	/**
+	 * @return a new {@code IntSortedSet} containing the {@code ints} that are in both this set and the given set,
+	 * computed in a single merging pass over both sets.
+	 *
+	 * @since 2.4
+	 */
+	default IntSortedSet intersect(IntSortedSet other) {
+		IntSortedSet intersection = IntSortedSet.create();
+		IntIterator xs = iterator(), ys = other.iterator();
+		if (!xs.hasNext() || !ys.hasNext())
+			return intersection;
+
+		int x = xs.nextInt(), y = ys.nextInt();
+		while (true) {
+			if (x < y) {
+				if (!xs.hasNext())
+					break;
+				x = xs.nextInt();
+			} else if (y < x) {
+				if (!ys.hasNext())
+					break;
+				y = ys.nextInt();
+			} else {
+				intersection.addInt(x);
+				if (!xs.hasNext() || !ys.hasNext())
+					break;
+				x = xs.nextInt();
+				y = ys.nextInt();
+			}
+		}
+		return intersection;
+	}
+
+	/**
+	 * @return a new {@code IntSortedSet} containing the {@code ints} that are in this set but not in the given set,
+	 * computed in a single merging pass over both sets.
+	 *
+	 * @since 2.4
+	 */
+	default IntSortedSet difference(IntSortedSet other) {
+		IntSortedSet difference = IntSortedSet.create();
+		IntIterator ys = other.iterator();
+		boolean hasY = ys.hasNext();
+		int y = hasY ? ys.nextInt() : 0;
+		for (IntIterator xs = iterator(); xs.hasNext(); ) {
+			int x = xs.nextInt();
+			while (hasY && y < x)
+				if (hasY = ys.hasNext())
+					y = ys.nextInt();
+			if (!hasY || y != x)
+				difference.addInt(x);
+		}
+		return difference;
+	}
+
+	/**
+	 * @return the number of {@code ints} that are in both this set and the given set, computed in a single merging
+	 * pass over both sets without building the intersection.
+	 *
+	 * @since 2.4
+	 */
+	default int intersectionSize(IntSortedSet other) {
+		IntIterator xs = iterator(), ys = other.iterator();
+		if (!xs.hasNext() || !ys.hasNext())
+			return 0;
+
+		int size = 0;
+		int x = xs.nextInt(), y = ys.nextInt();
+		while (true) {
+			if (x < y) {
+				if (!xs.hasNext())
+					break;
+				x = xs.nextInt();
+			} else if (y < x) {
+				if (!ys.hasNext())
+					break;
+				y = ys.nextInt();
+			} else {
+				size++;
+				if (!xs.hasNext() || !ys.hasNext())
+					break;
+				x = xs.nextInt();
+				y = ys.nextInt();
+			}
+		}
+		return size;
+	}
+
 	@Override
 	default Spliterator.OfInt spliterator() {
 		return Spliterators.spliterator(iterator(), size(),
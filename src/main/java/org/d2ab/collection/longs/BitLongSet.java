@@ -16,7 +16,7 @@
 
 package org.d2ab.collection.longs;
 
-import org.d2ab.collection.SparseBitSet;
+import org.d2ab.collection.RoaringBitSet;
 import org.d2ab.iterator.longs.ChainingLongIterator;
 import org.d2ab.iterator.longs.DelegatingUnaryLongIterator;
 import org.d2ab.iterator.longs.LongIterator;
@@ -24,22 +24,29 @@ import org.d2ab.iterator.longs.LongIterator;
 import java.util.ConcurrentModificationException;
 
 /**
- * An implementation of {@link LongSortedSet} backed by two {@link SparseBitSet}s for positive and negative values.
+ * An implementation of {@link LongSortedSet} backed by two {@link RoaringBitSet}s for positive and negative values.
  * This {@link LongSortedSet} covers all values between {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE} inclusive.
  */
 public class BitLongSet extends LongSet.Base implements LongSortedSet {
-	private final SparseBitSet positives = new SparseBitSet();
-	private final SparseBitSet negatives = new SparseBitSet();
+	private final RoaringBitSet positives;
+	private final RoaringBitSet negatives;
 
 	private int modCount;
 
 	public BitLongSet() {
+		this(new RoaringBitSet(), new RoaringBitSet());
 	}
 
 	public BitLongSet(long... xs) {
+		this();
 		addAllLongs(xs);
 	}
 
+	private BitLongSet(RoaringBitSet positives, RoaringBitSet negatives) {
+		this.positives = positives;
+		this.negatives = negatives;
+	}
+
 	@Override
 	public int size() {
 		long bitCount = bitCount();
@@ -123,4 +130,82 @@ public class BitLongSet extends LongSet.Base implements LongSortedSet {
 		else
 			return negatives.get(-(x + 1));
 	}
+
+	@Override
+	public boolean addAllLongs(LongCollection xs) {
+		if (!(xs instanceof BitLongSet))
+			return super.addAllLongs(xs);
+
+		BitLongSet that = (BitLongSet) xs;
+		modCount++;
+		return positives.addAllLongs(that.positives) | negatives.addAllLongs(that.negatives);
+	}
+
+	@Override
+	public boolean containsAllLongs(LongIterable xs) {
+		if (!(xs instanceof BitLongSet))
+			return super.containsAllLongs(xs);
+
+		BitLongSet that = (BitLongSet) xs;
+		return positives.containsAllLongs(that.positives) && negatives.containsAllLongs(that.negatives);
+	}
+
+	@Override
+	public boolean removeAllLongs(LongIterable xs) {
+		if (!(xs instanceof BitLongSet))
+			return super.removeAllLongs(xs);
+
+		BitLongSet that = (BitLongSet) xs;
+		modCount++;
+		return positives.removeAllLongs(that.positives) | negatives.removeAllLongs(that.negatives);
+	}
+
+	@Override
+	public boolean retainAllLongs(LongIterable xs) {
+		if (!(xs instanceof BitLongSet))
+			return super.retainAllLongs(xs);
+
+		BitLongSet that = (BitLongSet) xs;
+		modCount++;
+		return positives.retainAllLongs(that.positives) | negatives.retainAllLongs(that.negatives);
+	}
+
+	@Override
+	public LongSortedSet union(LongSortedSet other) {
+		if (!(other instanceof BitLongSet))
+			return LongSortedSet.super.union(other);
+
+		BitLongSet that = (BitLongSet) other;
+		return new BitLongSet((RoaringBitSet) positives.union(that.positives),
+		                      (RoaringBitSet) negatives.union(that.negatives));
+	}
+
+	@Override
+	public LongSortedSet intersect(LongSortedSet other) {
+		if (!(other instanceof BitLongSet))
+			return LongSortedSet.super.intersect(other);
+
+		BitLongSet that = (BitLongSet) other;
+		return new BitLongSet((RoaringBitSet) positives.intersect(that.positives),
+		                      (RoaringBitSet) negatives.intersect(that.negatives));
+	}
+
+	@Override
+	public LongSortedSet difference(LongSortedSet other) {
+		if (!(other instanceof BitLongSet))
+			return LongSortedSet.super.difference(other);
+
+		BitLongSet that = (BitLongSet) other;
+		return new BitLongSet((RoaringBitSet) positives.difference(that.positives),
+		                      (RoaringBitSet) negatives.difference(that.negatives));
+	}
+
+	@Override
+	public int intersectionSize(LongSortedSet other) {
+		if (!(other instanceof BitLongSet))
+			return LongSortedSet.super.intersectionSize(other);
+
+		BitLongSet that = (BitLongSet) other;
+		return positives.intersectionSize(that.positives) + negatives.intersectionSize(that.negatives);
+	}
 }
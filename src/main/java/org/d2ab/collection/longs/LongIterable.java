@@ -17,11 +17,17 @@
 package org.d2ab.collection.longs;
 
 import org.d2ab.collection.Arrayz;
+import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.longs.ArrayLongIterator;
+import org.d2ab.iterator.longs.ChannelLongIterator;
 import org.d2ab.iterator.longs.LongIterator;
 import org.d2ab.sequence.LongSequence;
 import org.d2ab.util.Strict;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -52,6 +58,38 @@ public interface LongIterable extends Iterable<Long> {
 		return once(LongIterator.from(iterator));
 	}
 
+	/**
+	 * Create a {@code LongIterable} from a {@link ReadableByteChannel} which iterates over the {@code longs} in the
+	 * channel, decoded in the given {@link ByteOrder}. If the channel is a {@link SeekableByteChannel}, it will be
+	 * repositioned to where the first iteration started in between iterations, otherwise the {@code LongIterable} will
+	 * only be available to iterate over once. If an {@link IOException} occurs during iteration, an
+	 * {@link IterationException} will be thrown. The channel will not be closed by the {@code LongIterable} when
+	 * iteration finishes, it must be closed externally when iteration is finished.
+	 *
+	 * @since 2.4
+	 */
+	static LongIterable read(ReadableByteChannel channel, ByteOrder order) {
+		return new LongIterable() {
+			long start = -1;
+
+			@Override
+			public LongIterator iterator() {
+				if (channel instanceof SeekableByteChannel)
+					try {
+						SeekableByteChannel seekable = (SeekableByteChannel) channel;
+						if (start == -1)
+							start = seekable.position();
+						else
+							seekable.position(start);
+					} catch (IOException e) {
+						throw new IterationException(e);
+					}
+
+				return new ChannelLongIterator(channel, order);
+			}
+		};
+	}
+
 	@Override
 	LongIterator iterator();
 
@@ -153,6 +153,106 @@ public interface LongSortedSet extends SortedSet<Long>, LongSet {
 		return last;
 	}
 
+	/**
+	 * @return a new {@code LongSortedSet} containing the {@code longs} that are in this set, the given set or both.
+	 *
+	 * @since 2.4
+	 */
+	default LongSortedSet union(LongSortedSet other) {
+		LongSortedSet union = LongSortedSet.create();
+		union.addAllLongs(this);
+		union.addAllLongs(other);
+		return union;
+	}
+
+	/**
+	 * @return a new {@code LongSortedSet} containing the {@code longs} that are in both this set and the given set,
+	 * computed in a single merging pass over both sets.
+	 *
+	 * @since 2.4
+	 */
+	default LongSortedSet intersect(LongSortedSet other) {
+		LongSortedSet intersection = LongSortedSet.create();
+		LongIterator xs = iterator(), ys = other.iterator();
+		if (!xs.hasNext() || !ys.hasNext())
+			return intersection;
+
+		long x = xs.nextLong(), y = ys.nextLong();
+		while (true) {
+			if (x < y) {
+				if (!xs.hasNext())
+					break;
+				x = xs.nextLong();
+			} else if (y < x) {
+				if (!ys.hasNext())
+					break;
+				y = ys.nextLong();
+			} else {
+				intersection.addLong(x);
+				if (!xs.hasNext() || !ys.hasNext())
+					break;
+				x = xs.nextLong();
+				y = ys.nextLong();
+			}
+		}
+		return intersection;
+	}
+
+	/**
+	 * @return a new {@code LongSortedSet} containing the {@code longs} that are in this set but not in the given set,
+	 * computed in a single merging pass over both sets.
+	 *
+	 * @since 2.4
+	 */
+	default LongSortedSet difference(LongSortedSet other) {
+		LongSortedSet difference = LongSortedSet.create();
+		LongIterator ys = other.iterator();
+		boolean hasY = ys.hasNext();
+		long y = hasY ? ys.nextLong() : 0;
+		for (LongIterator xs = iterator(); xs.hasNext(); ) {
+			long x = xs.nextLong();
+			while (hasY && y < x)
+				if (hasY = ys.hasNext())
+					y = ys.nextLong();
+			if (!hasY || y != x)
+				difference.addLong(x);
+		}
+		return difference;
+	}
+
+	/**
+	 * @return the number of {@code longs} that are in both this set and the given set, computed in a single merging
+	 * pass over both sets without building the intersection.
+	 *
+	 * @since 2.4
+	 */
+	default int intersectionSize(LongSortedSet other) {
+		LongIterator xs = iterator(), ys = other.iterator();
+		if (!xs.hasNext() || !ys.hasNext())
+			return 0;
+
+		int size = 0;
+		long x = xs.nextLong(), y = ys.nextLong();
+		while (true) {
+			if (x < y) {
+				if (!xs.hasNext())
+					break;
+				x = xs.nextLong();
+			} else if (y < x) {
+				if (!ys.hasNext())
+					break;
+				y = ys.nextLong();
+			} else {
+				size++;
+				if (!xs.hasNext() || !ys.hasNext())
+					break;
+				x = xs.nextLong();
+				y = ys.nextLong();
+			}
+		}
+		return size;
+	}
+
 	@Override
 	default Spliterator.OfLong spliterator() {
 		return Spliterators.spliterator(iterator(), size(),
@@ -0,0 +1,546 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.longs;
+
+import org.d2ab.iterator.longs.LongIterator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * A {@link LongList} backed by a {@link LongBuffer} outside of the Java heap, either in directly allocated memory or in
+ * a memory-mapped file, supporting all {@link LongList}-methods by modifying and/or replacing the underlying buffers. A
+ * {@code MappedLongList} over a file keeps its size in a header at the start of the file, followed by the {@code longs}
+ * in little-endian order, and can be reopened without reading the {@code longs} into memory. The {@code longs} are held
+ * in regions of up to 1GB each, so that a {@code MappedLongList} can hold up to {@link Integer#MAX_VALUE} {@code
+ * longs}.
+ *
+ * @since 2.4
+ */
+public class MappedLongList extends LongList.Base implements RandomAccess, Closeable {
+	private static final int HEADER_SIZE = Long.BYTES;
+	private static final int REGION_SHIFT = 27;
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE;
+	private static final int MINIMUM_CAPACITY = 16;
+	private static final int MOVE_SIZE = 8192;
+
+	private final FileChannel channel;
+	private final int regionShift;
+	private final int regionMask;
+	private ByteBuffer header;
+	private ByteBuffer[] bytes = new ByteBuffer[0];
+	private LongBuffer[] regions = new LongBuffer[0];
+	private int size;
+
+	private int modCount;
+
+	/**
+	 * @return a new empty mutable {@code MappedLongList} in directly allocated memory, with the given initial capacity.
+	 */
+	public static MappedLongList allocate(int capacity) {
+		return allocate(capacity, REGION_SHIFT);
+	}
+
+	static MappedLongList allocate(int capacity, int regionShift) {
+		return new MappedLongList(capacity, regionShift);
+	}
+
+	/**
+	 * @return a mutable {@code MappedLongList} mapped to the given file, containing the {@code longs} previously stored
+	 * in the file, or empty if the file does not exist or is empty. Changes to the list are written to the file by the
+	 * operating system, or when {@link #force()} is called. The file is kept open until {@link #close()} is called.
+	 *
+	 * @throws IOException if the file could not be opened or mapped, or is not a {@code MappedLongList} file.
+	 */
+	public static MappedLongList map(Path path) throws IOException {
+		return map(path, REGION_SHIFT);
+	}
+
+	static MappedLongList map(Path path, int regionShift) throws IOException {
+		return new MappedLongList(FileChannel.open(path, CREATE, READ, WRITE), regionShift);
+	}
+
+	private MappedLongList(int capacity, int regionShift) {
+		this.channel = null;
+		this.regionShift = regionShift;
+		this.regionMask = (1 << regionShift) - 1;
+		try {
+			grow(Math.min(MAXIMUM_CAPACITY, Math.max(capacity, MINIMUM_CAPACITY)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private MappedLongList(FileChannel channel, int regionShift) throws IOException {
+		this.channel = channel;
+		this.regionShift = regionShift;
+		this.regionMask = (1 << regionShift) - 1;
+		try {
+			long fileSize = channel.size();
+			if (fileSize != 0 && fileSize < HEADER_SIZE)
+				throw new IOException("Not a MappedLongList file, file size: " + fileSize);
+
+			header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			grow((int) Math.min(MAXIMUM_CAPACITY,
+			                    Math.max(MINIMUM_CAPACITY, (fileSize - HEADER_SIZE) / Long.BYTES)));
+
+			long storedSize = header.getLong(0);
+			if (storedSize < 0 || storedSize > capacity())
+				throw new IOException("Not a MappedLongList file, size: " + storedSize + " file size: " + fileSize);
+			size = (int) storedSize;
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Grow this {@code MappedLongList} to the given capacity, by adding regions and replacing the last region if it is
+	 * not full. Full regions are never moved.
+	 */
+	private void grow(int capacity) throws IOException {
+		int regionCount = (int) ((capacity + (long) regionMask) >>> regionShift);
+		int first = Math.max(regions.length - 1, 0);
+		bytes = Arrays.copyOf(bytes, regionCount);
+		regions = Arrays.copyOf(regions, regionCount);
+		for (int i = first; i < regionCount; i++) {
+			int regionCapacity = (int) Math.min(regionMask + 1L, capacity - ((long) i << regionShift));
+			if (regions[i] == null || regions[i].capacity() != regionCapacity)
+				region(i, regionCapacity);
+		}
+	}
+
+	private void region(int index, int capacity) throws IOException {
+		ByteBuffer buffer;
+		if (channel != null) {
+			long position = HEADER_SIZE + ((long) index << regionShift) * Long.BYTES;
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) capacity * Long.BYTES)
+			                .order(ByteOrder.LITTLE_ENDIAN);
+		} else {
+			buffer = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder());
+			if (regions[index] != null) {
+				LongBuffer source = regions[index].duplicate();
+				source.limit(Math.max(0, Math.min(source.capacity(), size - (index << regionShift))));
+				buffer.asLongBuffer().put(source);
+			}
+		}
+		bytes[index] = buffer;
+		regions[index] = buffer.asLongBuffer();
+	}
+
+	/**
+	 * @return the current capacity of this {@code MappedLongList}, before it needs to grow its buffer.
+	 */
+	public int capacity() {
+		return ((regions.length - 1) << regionShift) + regions[regions.length - 1].capacity();
+	}
+
+	/**
+	 * Write any changes to this {@code MappedLongList} to the backing file, if any.
+	 */
+	public void force() {
+		if (channel != null) {
+			for (ByteBuffer buffer : bytes)
+				((MappedByteBuffer) buffer).force();
+			((MappedByteBuffer) header).force();
+		}
+	}
+
+	/**
+	 * Write any changes to this {@code MappedLongList} to the backing file and close it, if any. The contents remain
+	 * accessible after closing, but the {@code MappedLongList} can no longer grow beyond its current capacity.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (channel != null) {
+			force();
+			channel.close();
+		}
+	}
+
+	/**
+	 * Copy {@code length} {@code longs} from this {@code MappedLongList}, starting at the given index, into the given
+	 * array at the given offset.
+	 */
+	public void getLongs(int index, long[] xs, int offset, int length) {
+		rangeCheckForBulk(index, length);
+		read(index, xs, offset, length);
+	}
+
+	/**
+	 * Overwrite {@code length} {@code longs} in this {@code MappedLongList}, starting at the given index, with the
+	 * {@code longs} in the given array at the given offset.
+	 */
+	public void setLongs(int index, long[] xs, int offset, int length) {
+		rangeCheckForBulk(index, length);
+		write(index, xs, offset, length);
+
+		modCount++;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		setSize(0);
+
+		modCount++;
+	}
+
+	@Override
+	public long[] toLongArray() {
+		long[] xs = new long[size];
+		getLongs(0, xs, 0, size);
+		return xs;
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return listIterator();
+	}
+
+	@Override
+	public LongListIterator listIterator(int index) {
+		rangeCheckForAdd(index);
+		return new ListIter(index);
+	}
+
+	@Override
+	public LongList subList(int from, int to) {
+		return new SubList(from, to);
+	}
+
+	@Override
+	public long getLong(int index) {
+		rangeCheck(index);
+		return uncheckedGet(index);
+	}
+
+	@Override
+	public long setLong(int index, long x) {
+		rangeCheck(index);
+		long previous = uncheckedGet(index);
+		uncheckedSet(index, x);
+
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void addLongAt(int index, long x) {
+		rangeCheckForAdd(index);
+		uncheckedAdd(index, x);
+
+		modCount++;
+	}
+
+	@Override
+	public long removeLongAt(int index) {
+		rangeCheck(index);
+		long previous = uncheckedGet(index);
+		uncheckedRemove(index);
+
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public boolean addLong(long x) {
+		growIfNecessaryBy(1);
+		uncheckedSet(size, x);
+		setSize(size + 1);
+
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean addAllLongs(long... xs) {
+		if (xs.length == 0)
+			return false;
+
+		growIfNecessaryBy(xs.length);
+		write(size, xs, 0, xs.length);
+		setSize(size + xs.length);
+
+		modCount++;
+		return true;
+	}
+
+	private void setSize(int size) {
+		this.size = size;
+		if (channel != null)
+			header.putLong(0, size);
+	}
+
+	private void growIfNecessaryBy(int grow) {
+		long newSize = (long) size + grow;
+		if (newSize > MAXIMUM_CAPACITY)
+			throw new IllegalStateException("MappedLongList full, size: " + size + " adding: " + grow);
+
+		if (newSize > capacity()) {
+			try {
+				grow((int) Math.min(MAXIMUM_CAPACITY, newSize + (newSize >> 1)));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private long uncheckedGet(int index) {
+		return regions[index >>> regionShift].get(index & regionMask);
+	}
+
+	private void uncheckedSet(int index, long x) {
+		regions[index >>> regionShift].put(index & regionMask, x);
+	}
+
+	private void uncheckedAdd(int index, long x) {
+		growIfNecessaryBy(1);
+		move(index, index + 1, size - index);
+		uncheckedSet(index, x);
+		setSize(size + 1);
+	}
+
+	private void uncheckedRemove(int index) {
+		move(index + 1, index, size - index - 1);
+		setSize(size - 1);
+	}
+
+	private void read(int index, long[] xs, int offset, int length) {
+		while (length > 0) {
+			LongBuffer source = regions[index >>> regionShift].duplicate();
+			source.position(index & regionMask);
+			int count = Math.min(length, source.remaining());
+			source.get(xs, offset, count);
+			index += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	private void write(int index, long[] xs, int offset, int length) {
+		while (length > 0) {
+			LongBuffer target = regions[index >>> regionShift].duplicate();
+			target.position(index & regionMask);
+			int count = Math.min(length, target.remaining());
+			target.put(xs, offset, count);
+			index += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Move {@code length} {@code longs} from index {@code from} to index {@code to} in blocks, starting from the end
+	 * that is overwritten last.
+	 */
+	private void move(int from, int to, int length) {
+		long[] block = new long[Math.min(length, MOVE_SIZE)];
+		for (int moved = 0; moved < length; ) {
+			int count = Math.min(length - moved, block.length);
+			int offset = to > from ? length - moved - count : moved;
+			read(from + offset, block, 0, count);
+			write(to + offset, block, 0, count);
+			moved += count;
+		}
+	}
+
+	private void rangeCheck(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + size);
+	}
+
+	private void rangeCheckForAdd(int index) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + size);
+	}
+
+	private void rangeCheckForBulk(int index, int length) {
+		if (index < 0 || length < 0 || index > size - length)
+			throw new IndexOutOfBoundsException("index: " + index + " length: " + length + " size: " + size);
+	}
+
+	private class ListIter implements LongListIterator {
+		private int nextIndex;
+		private int currentIndex;
+		private final int from;
+		private int to;
+		private boolean addOrRemove;
+		private boolean nextOrPrevious;
+
+		private int expectedModCount = modCount;
+
+		private ListIter(int index) {
+			this(index, 0, size);
+		}
+
+		private ListIter(int index, int from, int to) {
+			this.nextIndex = index;
+			this.currentIndex = index - 1;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < to - from;
+		}
+
+		@Override
+		public long nextLong() {
+			checkForCoModification();
+			if (!hasNext())
+				throw new NoSuchElementException();
+			addOrRemove = false;
+			nextOrPrevious = true;
+			return uncheckedGet((currentIndex = nextIndex++) + from);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public long previousLong() {
+			checkForCoModification();
+			if (!hasPrevious())
+				throw new NoSuchElementException();
+			addOrRemove = false;
+			nextOrPrevious = true;
+			return uncheckedGet((currentIndex = --nextIndex) + from);
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			checkForCoModification();
+			if (addOrRemove)
+				throw new IllegalStateException("add() or remove() called");
+			if (!nextOrPrevious)
+				throw new IllegalStateException("nextLong() or previousLong() not called");
+
+			uncheckedRemove((nextIndex = currentIndex--) + from);
+
+			addOrRemove = true;
+			to--;
+			modCount++;
+			expectedModCount++;
+		}
+
+		@Override
+		public void set(long x) {
+			checkForCoModification();
+			if (addOrRemove)
+				throw new IllegalStateException("add() or remove() called");
+			if (!nextOrPrevious)
+				throw new IllegalStateException("nextLong() or previousLong() not called");
+
+			uncheckedSet(currentIndex + from, x);
+
+			modCount++;
+			expectedModCount++;
+		}
+
+		@Override
+		public void add(long x) {
+			checkForCoModification();
+			uncheckedAdd((currentIndex = nextIndex++) + from, x);
+
+			addOrRemove = true;
+			to++;
+			modCount++;
+			expectedModCount++;
+		}
+
+		private void checkForCoModification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+	private class SubList implements LongList {
+		private int from;
+		private int to;
+
+		private SubList(int from, int to) {
+			if (from < 0)
+				throw new ArrayIndexOutOfBoundsException(from);
+			if (to > size)
+				throw new ArrayIndexOutOfBoundsException(to);
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public LongIterator iterator() {
+			return listIterator();
+		}
+
+		@Override
+		public LongListIterator listIterator(int index) {
+			return new ListIter(index, from, to) {
+				@Override
+				public void add(long x) {
+					super.add(x);
+					MappedLongList.SubList.this.to++;
+				}
+
+				@Override
+				public void remove() {
+					super.remove();
+					MappedLongList.SubList.this.to--;
+				}
+			};
+		}
+
+		public int size() {
+			return to - from;
+		}
+	}
+}
@@ -18,6 +18,9 @@ package org.d2ab.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * An {@link Iterator} over an array of items.
@@ -43,4 +46,26 @@ public class ArrayIterator<T> implements Iterator<T> {
 
 		return items[index++];
 	}
+
+	/**
+	 * Skip the given number of steps in this {@code ArrayIterator} by moving the cursor directly.
+	 *
+	 * @return the actual number of steps skipped, if the end of the array was reached.
+	 *
+	 * @see Iterators#skip(Iterator, int)
+	 * @since 2.4
+	 */
+	public int skip(int steps) {
+		int count = Math.max(0, Math.min(steps, items.length - index));
+		index += count;
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		requireNonNull(action, "action");
+
+		while (index < items.length)
+			action.accept(items[index++]);
+	}
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the first {@code limit} elements of another {@link Iterator} in the order given by a
+ * {@link Comparator}, equivalent to sorting the elements and then limiting the result, but keeping only
+ * {@code limit} elements in a bounded heap while traversing the delegate. Elements that compare as equal are returned
+ * in encounter order, just as they would be by a stable sort.
+ *
+ * @since 2.4
+ */
+public class BoundedSortingIterator<T> extends DelegatingUnaryIterator<T> {
+	private final int limit;
+	private final Comparator<? super T> comparator;
+
+	private boolean started;
+	private Object[] heap;
+	private long[] order;
+	private int size;
+	private int index;
+
+	public BoundedSortingIterator(Iterator<? extends T> iterator, int limit, Comparator<? super T> comparator) {
+		super(iterator);
+		this.limit = limit;
+		this.comparator = comparator;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			heap = new Object[Math.min(limit, 16)];
+			order = new long[heap.length];
+			long position = 0;
+			while (iterator.hasNext()) {
+				T next = iterator.next();
+				if (size < limit) {
+					if (size == heap.length) {
+						int capacity = (int) Math.min(limit, (long) size << 1);
+						heap = Arrays.copyOf(heap, capacity);
+						order = Arrays.copyOf(order, capacity);
+					}
+					heap[size] = next;
+					order[size] = position;
+					siftUp(size++);
+				} else if (comparator.compare(next, root()) < 0) {
+					heap[0] = next;
+					order[0] = position;
+					siftDown(0);
+				}
+				position++;
+			}
+
+			// pop the greatest element into the back of the heap until the heap is sorted
+			for (int last = size - 1; last > 0; last--) {
+				swap(0, last);
+				siftDown(0, last);
+			}
+			order = null;
+			started = true;
+		}
+
+		return index < size;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		T next = element(index);
+		heap[index++] = null;
+		return next;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@SuppressWarnings("unchecked")
+	private T element(int i) {
+		return (T) heap[i];
+	}
+
+	private T root() {
+		return element(0);
+	}
+
+	/**
+	 * Compare the heap entries at the given positions by element, and by encounter order for equal elements.
+	 */
+	private int compareAt(int i, int j) {
+		int comparison = comparator.compare(element(i), element(j));
+		return comparison != 0 ? comparison : Long.compare(order[i], order[j]);
+	}
+
+	private void siftUp(int i) {
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (compareAt(i, parent) <= 0)
+				break;
+			swap(i, parent);
+			i = parent;
+		}
+	}
+
+	private void siftDown(int i) {
+		siftDown(i, size);
+	}
+
+	private void siftDown(int i, int size) {
+		int child;
+		while ((child = (i << 1) + 1) < size) {
+			if (child + 1 < size && compareAt(child + 1, child) > 0)
+				child++;
+			if (compareAt(i, child) >= 0)
+				break;
+			swap(i, child);
+			i = child;
+		}
+	}
+
+	private void swap(int i, int j) {
+		Object element = heap[i];
+		heap[i] = heap[j];
+		heap[j] = element;
+
+		long position = order[i];
+		order[i] = order[j];
+		order[j] = position;
+	}
+}
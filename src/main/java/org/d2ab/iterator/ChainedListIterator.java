@@ -46,6 +46,21 @@ public class ChainedListIterator<T> implements ListIterator<T> {
 			listIterator = Lists.<T>of().listIterator();
 	}
 
+	/**
+	 * Create a {@code ChainedListIterator} positioned at the given index in the {@link List} at the given cursor in
+	 * the chain, which starts at the given offset in the chain. This avoids walking the chain to find the position
+	 * when it is already known.
+	 *
+	 * @since 2.4
+	 */
+	public ChainedListIterator(List<List<T>> lists, int cursor, int offset, int index) {
+		this.lists = lists;
+		this.cursor = cursor;
+		this.offset = offset;
+		this.listIterator = cursor < lists.size() ? lists.get(cursor).listIterator(index) :
+		                    Lists.<T>of().listIterator();
+	}
+
 	@Override
 	public boolean hasNext() {
 		while (!listIterator.hasNext() && cursor < lists.size() - 1) {
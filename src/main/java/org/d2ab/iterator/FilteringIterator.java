@@ -18,8 +18,11 @@ package org.d2ab.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import static java.util.Objects.requireNonNull;
+
 public class FilteringIterator<T> extends DelegatingUnaryIterator<T> {
 	private final Predicate<? super T> predicate;
 
@@ -57,4 +60,19 @@ public class FilteringIterator<T> extends DelegatingUnaryIterator<T> {
 		hasNext = false;
 		return next;
 	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		requireNonNull(action, "action");
+
+		if (hasNext) {
+			hasNext = false;
+			action.accept(next);
+		}
+
+		iterator.forEachRemaining(t -> {
+			if (predicate.test(t))
+				action.accept(t);
+		});
+	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Iterator} applying a fused chain of stateless operations to each element of a delegate {@link Iterator}
+ * in a single step, instead of one {@link Iterator} per operation.
+ * <p>
+ * The optional {@code filtering} function is applied while looking ahead in {@link #hasNext()}, and returns
+ * {@link #SKIP} for elements that are to be filtered out. The {@code mapping} function is applied to each remaining
+ * element in {@link #next()}. This matches the points in time at which a chain of {@link FilteringIterator}s and
+ * {@link MappingIterator}s would evaluate the same operations.
+ */
+public class FusedIterator<T, U> extends DelegatingMappingIterator<T, U> {
+	/**
+	 * The value returned by a {@code filtering} function for elements that are filtered out.
+	 */
+	public static final Object SKIP = new Object();
+
+	private final Function<? super T, ?> filtering;
+	private final Function<Object, ? extends U> mapping;
+
+	private Object next;
+	private boolean hasNext;
+
+	/**
+	 * @param filtering the function to apply while looking ahead, returning {@link #SKIP} for elements to be
+	 *                  filtered out, or {@code null} if there are no filtering operations in the chain.
+	 * @param mapping   the function to apply to each remaining element when it is returned from {@link #next()}.
+	 */
+	public FusedIterator(Iterator<T> iterator, Function<? super T, ?> filtering,
+	                     Function<Object, ? extends U> mapping) {
+		super(iterator);
+		this.filtering = filtering;
+		this.mapping = mapping;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (filtering == null)
+			return iterator.hasNext();
+
+		if (hasNext)
+			return true;
+
+		while (iterator.hasNext()) {
+			Object candidate = filtering.apply(iterator.next());
+			if (candidate != SKIP) {
+				next = candidate;
+				return hasNext = true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public U next() {
+		if (filtering == null)
+			return mapping.apply(iterator.next());
+
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		hasNext = false;
+		return mapping.apply(next);
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super U> action) {
+		requireNonNull(action, "action");
+
+		if (filtering == null) {
+			iterator.forEachRemaining(t -> action.accept(mapping.apply(t)));
+			return;
+		}
+
+		if (hasNext) {
+			hasNext = false;
+			action.accept(mapping.apply(next));
+		}
+
+		iterator.forEachRemaining(t -> {
+			Object candidate = filtering.apply(t);
+			if (candidate != SKIP)
+				action.accept(mapping.apply(candidate));
+		});
+	}
+}
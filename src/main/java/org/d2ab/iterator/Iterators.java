@@ -125,11 +125,14 @@ public abstract class Iterators {
 	}
 
 	/**
-	 * Skip the given number of steps in the given {@link Iterator}.
+	 * Skip the given number of steps in the given {@link Iterator}. Iterators over arrays skip in constant time.
 	 *
 	 * @return the actual number of steps skipped, if iterator terminated early.
 	 */
 	public static int skip(Iterator<?> iterator, int steps) {
+		if (iterator instanceof ArrayIterator)
+			return ((ArrayIterator<?>) iterator).skip(steps);
+
 		int count = 0;
 		while (count < steps && iterator.hasNext()) {
 			iterator.next();
@@ -160,10 +163,10 @@ public abstract class Iterators {
 	 * the current result and each element in this sequence, starting with the given identity as the initial result.
 	 */
 	public static <T> T reduce(Iterator<? extends T> iterator, T identity, BinaryOperator<T> operator) {
-		T result = identity;
-		while (iterator.hasNext())
-			result = operator.apply(result, iterator.next());
-		return result;
+		@SuppressWarnings("unchecked")
+		T[] result = (T[]) new Object[]{identity};
+		iterator.forEachRemaining(t -> result[0] = operator.apply(result[0], t));
+		return result[0];
 	}
 
 	/**
@@ -199,8 +202,7 @@ public abstract class Iterators {
 	 */
 	public static <T> List<T> toList(Iterator<? extends T> iterator) {
 		List<T> list = new ArrayList<>();
-		while (iterator.hasNext())
-			list.add(iterator.next());
+		iterator.forEachRemaining(list::add);
 		return list;
 	}
 
@@ -18,6 +18,9 @@ package org.d2ab.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
 
 public class LimitingIterator<T> extends DelegatingUnaryIterator<T> {
 	private final int limit;
@@ -41,4 +44,12 @@ public class LimitingIterator<T> extends DelegatingUnaryIterator<T> {
 		count++;
 		return next;
 	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		requireNonNull(action, "action");
+
+		for (; count < limit && iterator.hasNext(); count++)
+			action.accept(iterator.next());
+	}
 }
@@ -17,8 +17,11 @@
 package org.d2ab.iterator;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static java.util.Objects.requireNonNull;
+
 public class MappingIterator<T, U> extends DelegatingMappingIterator<T, U> {
 	private final Function<? super T, ? extends U> mapper;
 
@@ -31,4 +34,11 @@ public class MappingIterator<T, U> extends DelegatingMappingIterator<T, U> {
 	public U next() {
 		return mapper.apply(iterator.next());
 	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super U> action) {
+		requireNonNull(action, "action");
+
+		iterator.forEachRemaining(t -> action.accept(mapper.apply(t)));
+	}
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * An {@link Iterator} over the partitions of a random access source of the given size, giving the same partitions as
+ * {@link PredicatePartitioningIterator} but as index ranges into the source, so that each partition can be a view of
+ * the source instead of a copy.
+ *
+ * @since 2.4
+ */
+public abstract class RangePartitioningIterator<S> implements Iterator<S> {
+	private final int size;
+	private final IntPredicate split;
+
+	private int from;
+
+	/**
+	 * @param split a predicate which is given an index in the source, greater than zero, and returns true if a partition
+	 *              should be created between the elements at that index and the previous index.
+	 */
+	public RangePartitioningIterator(int size, IntPredicate split) {
+		this.size = size;
+		this.split = split;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return from < size;
+	}
+
+	@Override
+	public S next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		int to = from + 1;
+		while (to < size && !split.test(to))
+			to++;
+
+		S next = toSequence(from, to);
+		from = to;
+		return next;
+	}
+
+	/**
+	 * @return the partition between the given indices of the source, from inclusive and to exclusive.
+	 */
+	protected abstract S toSequence(int from, int to);
+}
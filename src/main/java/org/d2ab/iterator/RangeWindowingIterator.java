@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the windows of a random access source of the given size, giving the same windows as
+ * {@link WindowingIterator} but as index ranges into the source, so that each window can be a view of the source
+ * instead of a copy.
+ *
+ * @since 2.4
+ */
+public abstract class RangeWindowingIterator<S> implements Iterator<S> {
+	private final int size;
+	private final int window;
+	private final int step;
+
+	private int from;
+	private boolean started;
+
+	public RangeWindowingIterator(int size, int window, int step) {
+		this.size = size;
+		this.window = window;
+		this.step = step;
+	}
+
+	@Override
+	public boolean hasNext() {
+		int length = Math.min(window, size - from);
+		return length == window || length > 0 && (!started || length > window - step);
+	}
+
+	@Override
+	public S next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		S next = toSequence(from, from + Math.min(window, size - from));
+
+		from = (int) Math.min((long) from + step, size);
+		started = true;
+		return next;
+	}
+
+	/**
+	 * @return the window between the given indices of the source, from inclusive and to exclusive.
+	 */
+	protected abstract S toSequence(int from, int to);
+}
@@ -18,26 +18,58 @@ package org.d2ab.iterator;
 
 import java.util.*;
 
+/**
+ * An {@link Iterator} over windows of the elements of another {@link Iterator}, each with the given window size and
+ * stepping the given number of elements between windows. The current window is kept in a ring buffer that grows as
+ * needed up to the window size, so advancing the window does not move the elements that remain in it. Each window is
+ * either copied into a new {@link List}, or, if the iterator is created as a view, presented as a {@link List} view of
+ * the ring buffer which is only valid until the next call to {@link #hasNext()} or {@link #next()}.
+ */
 public abstract class WindowingIterator<T, S> extends DelegatingMappingIterator<T, S> {
+	private static final int INITIAL_CAPACITY = 16;
+
 	private final int window;
 	private final int step;
+	private final boolean view;
 
-	private final Deque<T> partition = new LinkedList<>();
+	private Object[] buffer;
+	private int head;
+	private int size;
 	private boolean started;
+	private boolean advance;
 
 	public WindowingIterator(Iterator<T> iterator, int window, int step) {
+		this(iterator, window, step, false);
+	}
+
+	/**
+	 * @param view true if each window should be a view of the ring buffer which is only valid until the iterator is
+	 *             advanced, or false if each window should be a copy.
+	 *
+	 * @since 2.4
+	 */
+	public WindowingIterator(Iterator<T> iterator, int window, int step, boolean view) {
 		super(iterator);
 		this.window = window;
 		this.step = step;
+		this.view = view;
+		this.buffer = new Object[Math.min(window, INITIAL_CAPACITY)];
 	}
 
 	@Override
 	public boolean hasNext() {
-		while (partition.size() < window && iterator.hasNext())
-			partition.add(iterator.next());
+		if (advance) {
+			advance();
+			advance = false;
+		}
+
+		while (size < window && iterator.hasNext()) {
+			if (size == buffer.length)
+				grow();
+			buffer[(head + size++) % buffer.length] = iterator.next();
+		}
 
-		return partition.size() == window ||
-		       !partition.isEmpty() && (!started || partition.size() > window - step);
+		return size == window || size > 0 && (!started || size > window - step);
 	}
 
 	@Override
@@ -45,19 +77,46 @@ public abstract class WindowingIterator<T, S> extends DelegatingMappingIterator<
 		if (!hasNext())
 			throw new NoSuchElementException();
 
-		List<T> next = new ArrayList<>(partition);
+		S next = toSequence(view ? new WindowList() : copy());
+
+		advance = true;
+		started = true;
+		return next;
+	}
+
+	private List<T> copy() {
+		List<T> copy = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			copy.add(get(i));
+		return copy;
+	}
 
-		if (step < partition.size()) {
+	private void grow() {
+		Object[] grown = new Object[(int) Math.min(window, (long) buffer.length * 2)];
+		for (int i = 0; i < size; i++)
+			grown[i] = buffer[(head + i) % buffer.length];
+		buffer = grown;
+		head = 0;
+	}
+
+	private void advance() {
+		if (step < size) {
 			for (int i = 0; i < step; i++)
-				partition.removeFirst();
+				buffer[(head + i) % buffer.length] = null;
+			head = (head + step) % buffer.length;
+			size -= step;
 		} else {
-			for (int i = partition.size(); i < step && iterator.hasNext(); i++)
+			for (int i = size; i < step && iterator.hasNext(); i++)
 				iterator.next();
-			partition.clear();
+			Arrays.fill(buffer, null);
+			head = 0;
+			size = 0;
 		}
+	}
 
-		started = true;
-		return toSequence(next);
+	@SuppressWarnings("unchecked")
+	private T get(int index) {
+		return (T) buffer[(head + index) % buffer.length];
 	}
 
 	protected abstract S toSequence(List<T> list);
@@ -66,4 +125,21 @@ public abstract class WindowingIterator<T, S> extends DelegatingMappingIterator<
 	public void remove() {
 		throw new UnsupportedOperationException();
 	}
+
+	private class WindowList extends AbstractList<T> implements RandomAccess {
+		private final int size = WindowingIterator.this.size;
+
+		@Override
+		public T get(int index) {
+			if (index < 0 || index >= size)
+				throw new IndexOutOfBoundsException(String.valueOf(index));
+
+			return WindowingIterator.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
 }
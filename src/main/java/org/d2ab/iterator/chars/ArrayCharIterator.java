@@ -16,6 +16,8 @@
 
 package org.d2ab.iterator.chars;
 
+import org.d2ab.function.CharConsumer;
+
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -61,4 +63,27 @@ public class ArrayCharIterator implements CharIterator {
 
 		return array[offset + index++];
 	}
+
+	@Override
+	public int nextChars(char[] cs, int offset, int length) {
+		int count = Math.min(length, size - index);
+		System.arraycopy(array, this.offset + index, cs, offset, count);
+		index += count;
+		return count;
+	}
+
+	@Override
+	public int skip(int steps) {
+		int count = Math.max(0, Math.min(steps, size - index));
+		index += count;
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(CharConsumer action) {
+		requireNonNull(action, "action");
+
+		while (index < size)
+			action.accept(array[offset + index++]);
+	}
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.chars;
+
+import org.d2ab.function.CharConsumer;
+import org.d2ab.iterator.IterationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link CharIterator} over the characters of a {@link Reader}, which reads the {@link Reader} in blocks into an
+ * internal buffer instead of one character at a time. Since the {@link Reader} is read ahead of iteration by up to
+ * one block, it will be positioned after the last block read rather than after the last character returned.
+ *
+ * @since 2.4
+ */
+public class BufferedReaderCharIterator implements CharIterator {
+	private final Reader reader;
+	private final char[] buffer;
+	private int position;
+	private int limit;
+	private boolean ended;
+
+	public BufferedReaderCharIterator(Reader reader, int bufferSize) {
+		this.reader = reader;
+		this.buffer = new char[bufferSize];
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < limit || fill();
+	}
+
+	@Override
+	public char nextChar() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return buffer[position++];
+	}
+
+	@Override
+	public int nextChars(char[] cs, int offset, int length) {
+		int count = 0;
+		while (count < length && hasNext()) {
+			int copied = Math.min(length - count, limit - position);
+			System.arraycopy(buffer, position, cs, offset + count, copied);
+			position += copied;
+			count += copied;
+		}
+		return count;
+	}
+
+	@Override
+	public int skip(int steps) {
+		int count = 0;
+		while (count < steps && hasNext()) {
+			int skipped = Math.min(steps - count, limit - position);
+			position += skipped;
+			count += skipped;
+		}
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(CharConsumer consumer) {
+		while (hasNext()) {
+			for (int i = position; i < limit; i++)
+				consumer.accept(buffer[i]);
+			position = limit;
+		}
+	}
+
+	private boolean fill() {
+		if (ended)
+			return false;
+
+		int read;
+		try {
+			do
+				read = reader.read(buffer, 0, buffer.length);
+			while (read == 0);
+		} catch (IOException e) {
+			throw new IterationException(e);
+		}
+
+		if (read == -1) {
+			ended = true;
+			return false;
+		}
+
+		position = 0;
+		limit = read;
+		return true;
+	}
+}
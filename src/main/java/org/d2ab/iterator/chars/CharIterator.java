@@ -171,6 +171,22 @@ public interface CharIterator extends PrimitiveIterator<Character, CharConsumer>
 		return count;
 	}
 
+	/**
+	 * Read up to {@code length} {@code char} values from this iterator into the given array, starting at the given
+	 * offset in the array. Iterators over arrays and other contiguous storage override this to copy the values in
+	 * bulk.
+	 *
+	 * @return the number of {@code char} values read, which is less than {@code length} only if this iterator
+	 * was exhausted.
+	 * @since 2.4
+	 */
+	default int nextChars(char[] cs, int offset, int length) {
+		int count = 0;
+		while (count < length && hasNext())
+			cs[offset + count++] = nextChar();
+		return count;
+	}
+
 	/**
 	 * @return the number of {@code chars} remaining in this iterator.
 	 */
@@ -222,9 +238,8 @@ public interface CharIterator extends PrimitiveIterator<Character, CharConsumer>
 	 * the current result and each element in the iterator, starting with the given identity as the initial result.
 	 */
 	default char reduce(char identity, CharBinaryOperator operator) {
-		char result = identity;
-		while (hasNext())
-			result = operator.applyAsChar(result, nextChar());
-		return result;
+		char[] result = {identity};
+		forEachRemaining((char x) -> result[0] = operator.applyAsChar(result[0], x));
+		return result[0];
 	}
 }
@@ -41,4 +41,27 @@ public class CharSequenceCharIterator implements CharIterator {
 
 		return csq.charAt(index++);
 	}
+
+	@Override
+	public int nextChars(char[] cs, int offset, int length) {
+		int count = Math.max(0, Math.min(length, csq.length() - index));
+		if (csq instanceof String)
+			((String) csq).getChars(index, index + count, cs, offset);
+		else if (csq instanceof StringBuilder)
+			((StringBuilder) csq).getChars(index, index + count, cs, offset);
+		else if (csq instanceof StringBuffer)
+			((StringBuffer) csq).getChars(index, index + count, cs, offset);
+		else
+			for (int i = 0; i < count; i++)
+				cs[offset + i] = csq.charAt(index + i);
+		index += count;
+		return count;
+	}
+
+	@Override
+	public int skip(int steps) {
+		int count = Math.max(0, Math.min(steps, csq.length() - index));
+		index += count;
+		return count;
+	}
 }
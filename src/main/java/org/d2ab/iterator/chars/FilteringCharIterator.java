@@ -16,10 +16,13 @@
 
 package org.d2ab.iterator.chars;
 
+import org.d2ab.function.CharConsumer;
 import org.d2ab.function.CharPredicate;
 
 import java.util.NoSuchElementException;
 
+import static java.util.Objects.requireNonNull;
+
 public class FilteringCharIterator extends DelegatingUnaryCharIterator {
 	private final CharPredicate predicate;
 
@@ -57,4 +60,19 @@ public class FilteringCharIterator extends DelegatingUnaryCharIterator {
 		// found matching value
 		return true;
 	}
+
+	@Override
+	public void forEachRemaining(CharConsumer action) {
+		requireNonNull(action, "action");
+
+		if (hasNext) {
+			hasNext = false;
+			action.accept(next);
+		}
+
+		iterator.forEachRemaining((char x) -> {
+			if (predicate.test(x))
+				action.accept(x);
+		});
+	}
 }
@@ -16,8 +16,12 @@
 
 package org.d2ab.iterator.chars;
 
+import org.d2ab.function.CharConsumer;
+
 import java.util.NoSuchElementException;
 
+import static java.util.Objects.requireNonNull;
+
 public class LimitingCharIterator extends DelegatingUnaryCharIterator {
 	private final int limit;
 
@@ -41,4 +45,12 @@ public class LimitingCharIterator extends DelegatingUnaryCharIterator {
 	public boolean hasNext() {
 		return count < limit && iterator.hasNext();
 	}
+
+	@Override
+	public void forEachRemaining(CharConsumer action) {
+		requireNonNull(action, "action");
+
+		for (; count < limit && iterator.hasNext(); count++)
+			action.accept(iterator.nextChar());
+	}
 }
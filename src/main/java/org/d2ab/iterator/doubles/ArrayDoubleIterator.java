@@ -18,6 +18,7 @@ package org.d2ab.iterator.doubles;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
 
 import static java.util.Objects.requireNonNull;
 import static org.d2ab.util.Preconditions.requireSizeWithinBounds;
@@ -61,4 +62,19 @@ public class ArrayDoubleIterator implements DoubleIterator {
 
 		return array[offset + index++];
 	}
+
+	@Override
+	public int skip(int steps) {
+		int count = Math.max(0, Math.min(steps, size - index));
+		index += count;
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(DoubleConsumer action) {
+		requireNonNull(action, "action");
+
+		while (index < size)
+			action.accept(array[offset + index++]);
+	}
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.doubles;
+
+import org.d2ab.iterator.IterationException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link DoubleIterator} over the {@code doubles} in a {@link ReadableByteChannel}, decoded in the given
+ * {@link ByteOrder}. The channel is read in blocks into an internal {@link ByteBuffer}, and must be a blocking
+ * channel. If the channel ends in the middle of a {@code double}, an {@link IterationException} is thrown.
+ *
+ * @since 2.4
+ */
+public class ChannelDoubleIterator implements DoubleIterator {
+	private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer;
+	private boolean ended;
+
+	public ChannelDoubleIterator(ReadableByteChannel channel, ByteOrder order) {
+		this(channel, order, DEFAULT_BUFFER_SIZE);
+	}
+
+	public ChannelDoubleIterator(ReadableByteChannel channel, ByteOrder order, int bufferSize) {
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocate(bufferSize * Double.BYTES).order(order);
+		buffer.flip();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return buffer.remaining() >= Double.BYTES || fill();
+	}
+
+	@Override
+	public double nextDouble() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return buffer.getDouble();
+	}
+
+	@Override
+	public void forEachRemaining(DoubleConsumer action) {
+		requireNonNull(action, "action");
+
+		while (hasNext())
+			while (buffer.remaining() >= Double.BYTES)
+				action.accept(buffer.getDouble());
+	}
+
+	private boolean fill() {
+		if (ended)
+			return false;
+
+		buffer.compact();
+		try {
+			while (buffer.position() < Double.BYTES && !ended)
+				ended = channel.read(buffer) == -1;
+		} catch (IOException e) {
+			throw new IterationException(e);
+		} finally {
+			buffer.flip();
+		}
+
+		if (buffer.remaining() >= Double.BYTES)
+			return true;
+
+		if (buffer.hasRemaining())
+			throw new IterationException(
+					new EOFException("Channel ended after " + buffer.remaining() + " bytes of a double"));
+
+		return false;
+	}
+}
@@ -16,12 +16,12 @@
 
 package org.d2ab.iterator.doubles;
 
-import org.d2ab.collection.doubles.DoubleList;
+import org.d2ab.collection.doubles.BucketDoubleSet;
 
 import java.util.NoSuchElementException;
 
 public class DistinctDoubleIterator extends DelegatingUnaryDoubleIterator {
-	private final DoubleList seen = DoubleList.create();
+	private final BucketDoubleSet seen;
 	private final double precision;
 
 	private double next;
@@ -29,6 +29,7 @@ public class DistinctDoubleIterator extends DelegatingUnaryDoubleIterator {
 
 	public DistinctDoubleIterator(DoubleIterator iterator, double precision) {
 		super(iterator);
+		this.seen = new BucketDoubleSet(precision);
 		this.precision = precision;
 	}
 
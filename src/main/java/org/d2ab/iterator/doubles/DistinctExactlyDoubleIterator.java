@@ -17,12 +17,16 @@
 package org.d2ab.iterator.doubles;
 
 import org.d2ab.collection.doubles.DoubleSet;
+import org.d2ab.collection.doubles.HashDoubleSet;
 import org.d2ab.collection.doubles.RawDoubleSet;
 
 import java.util.NoSuchElementException;
 
 public class DistinctExactlyDoubleIterator extends DelegatingUnaryDoubleIterator {
-	private final DoubleSet seen = new RawDoubleSet();
+	private static final int DENSITY_CHECK_SIZE = 1024;
+
+	private DoubleSet seen = new HashDoubleSet();
+	private int densityCheckSize = DENSITY_CHECK_SIZE;
 
 	private double next;
 	private boolean hasNext;
@@ -47,10 +51,29 @@ public class DistinctExactlyDoubleIterator extends DelegatingUnaryDoubleIterator
 
 		while (!hasNext && iterator.hasNext()) {
 			double maybeNext = iterator.nextDouble();
-			if (hasNext = seen.addDoubleExactly(maybeNext))
+			if (hasNext = seen.addDoubleExactly(maybeNext)) {
 				next = maybeNext;
+				if (seen.size() == densityCheckSize)
+					checkDensity();
+			}
 		}
 
 		return hasNext;
 	}
+
+	/**
+	 * Switch to a {@link RawDoubleSet} for the {@code doubles} seen so far if their raw bits turn out to be dense, or
+	 * check again when the number of seen {@code doubles} has doubled.
+	 */
+	private void checkDensity() {
+		HashDoubleSet sparse = (HashDoubleSet) seen;
+		if (sparse.isDense()) {
+			seen = new RawDoubleSet();
+			for (DoubleIterator iterator = sparse.iterator(); iterator.hasNext(); )
+				seen.addDoubleExactly(iterator.nextDouble());
+			densityCheckSize = -1;
+		} else {
+			densityCheckSize <<= 1;
+		}
+	}
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.doubles;
+
+import java.nio.DoubleBuffer;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link DoubleIterator} over the remaining {@code doubles} in one or more {@link DoubleBuffer}s, in order. The buffers
+ * are not modified by iteration.
+ *
+ * @since 2.4
+ */
+public class DoubleBufferIterator implements DoubleIterator {
+	private final DoubleBuffer[] buffers;
+	private DoubleBuffer current;
+	private int index;
+
+	public DoubleBufferIterator(DoubleBuffer... buffers) {
+		this.buffers = buffers;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (current == null || !current.hasRemaining()) {
+			if (index == buffers.length)
+				return false;
+			current = buffers[index++].duplicate();
+		}
+		return true;
+	}
+
+	@Override
+	public double nextDouble() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return current.get();
+	}
+
+	@Override
+	public int skip(int steps) {
+		int count = 0;
+		while (count < steps && hasNext()) {
+			int skipped = Math.min(steps - count, current.remaining());
+			current.position(current.position() + skipped);
+			count += skipped;
+		}
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(DoubleConsumer consumer) {
+		while (hasNext())
+			while (current.hasRemaining())
+				consumer.accept(current.get());
+	}
+}
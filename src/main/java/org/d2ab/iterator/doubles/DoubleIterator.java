@@ -178,10 +178,9 @@ public interface DoubleIterator extends PrimitiveIterator.OfDouble {
 	}
 
 	default double reduce(double identity, DoubleBinaryOperator operator) {
-		double result = identity;
-		while (hasNext())
-			result = operator.applyAsDouble(result, nextDouble());
-		return result;
+		double[] result = {identity};
+		forEachRemaining((double x) -> result[0] = operator.applyAsDouble(result[0], x));
+		return result[0];
 	}
 
 	/**
@@ -17,8 +17,11 @@
 package org.d2ab.iterator.doubles;
 
 import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
 import java.util.function.DoublePredicate;
 
+import static java.util.Objects.requireNonNull;
+
 public class FilteringDoubleIterator extends DelegatingUnaryDoubleIterator {
 	private final DoublePredicate predicate;
 
@@ -56,4 +59,19 @@ public class FilteringDoubleIterator extends DelegatingUnaryDoubleIterator {
 		// found matching value
 		return true;
 	}
+
+	@Override
+	public void forEachRemaining(DoubleConsumer action) {
+		requireNonNull(action, "action");
+
+		if (hasNext) {
+			hasNext = false;
+			action.accept(next);
+		}
+
+		iterator.forEachRemaining((double x) -> {
+			if (predicate.test(x))
+				action.accept(x);
+		});
+	}
 }
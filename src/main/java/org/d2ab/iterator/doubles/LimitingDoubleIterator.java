@@ -17,6 +17,9 @@
 package org.d2ab.iterator.doubles;
 
 import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+import static java.util.Objects.requireNonNull;
 
 public class LimitingDoubleIterator extends DelegatingUnaryDoubleIterator {
 	private final int limit;
@@ -40,4 +43,12 @@ public class LimitingDoubleIterator extends DelegatingUnaryDoubleIterator {
 	public boolean hasNext() {
 		return count < limit && iterator.hasNext();
 	}
+
+	@Override
+	public void forEachRemaining(DoubleConsumer action) {
+		requireNonNull(action, "action");
+
+		for (; count < limit && iterator.hasNext(); count++)
+			action.accept(iterator.nextDouble());
+	}
 }
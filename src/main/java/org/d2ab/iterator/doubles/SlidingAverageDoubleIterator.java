@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.doubles;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the averages of a sliding window over the {@code doubles} of another {@link DoubleIterator}, with one
+ * average for each window that would be produced by {@link WindowingDoubleIterator} with a step of one. The sum of the
+ * window is updated incrementally as the window slides, keeping only the {@code doubles} of the current window in a ring
+ * buffer.
+ *
+ * @since 2.4
+ */
+public class SlidingAverageDoubleIterator extends DelegatingUnaryDoubleIterator {
+	private final SlidingSumDoubleIterator sums;
+
+	public SlidingAverageDoubleIterator(DoubleIterator iterator, int window) {
+		super(iterator);
+		this.sums = new SlidingSumDoubleIterator(iterator, window);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return sums.hasNext();
+	}
+
+	@Override
+	public double nextDouble() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return sums.nextDouble() / sums.currentWindowSize();
+	}
+}
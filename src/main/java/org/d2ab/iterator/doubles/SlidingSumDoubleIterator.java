@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.doubles;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the sums of a sliding window over the {@code doubles} of another {@link DoubleIterator}, with one sum
+ * for each window that would be produced by {@link WindowingDoubleIterator} with a step of one. The sum is updated
+ * incrementally as the window slides, keeping only the {@code doubles} of the current window in a ring buffer.
+ * <p>
+ * Finite values are summed with compensated summation, and the sum is recomputed from the ring buffer once every
+ * {@code window} steps, so that rounding errors and cancellation do not accumulate. {@code NaN} and infinite values
+ * are counted separately, so that they only affect the windows that contain them.
+ *
+ * @since 2.4
+ */
+public class SlidingSumDoubleIterator extends DelegatingUnaryDoubleIterator {
+	private final int window;
+	private final double[] buffer;
+
+	private int head;
+	private int count;
+	private int steps;
+	private double sum;
+	private double compensation;
+	private int nans;
+	private int positiveInfinities;
+	private int negativeInfinities;
+	private boolean started;
+	private boolean ready;
+
+	public SlidingSumDoubleIterator(DoubleIterator iterator, int window) {
+		super(iterator);
+		this.window = window;
+		this.buffer = new double[window];
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			while (count < window && iterator.hasNext()) {
+				double next = iterator.nextDouble();
+				buffer[count++] = next;
+				add(next, 1);
+			}
+			ready = count > 0;
+			started = true;
+		} else if (!ready && count == window && iterator.hasNext()) {
+			double next = iterator.nextDouble();
+			double previous = buffer[head];
+			buffer[head] = next;
+			head = (head + 1) % window;
+
+			if (++steps == window) {
+				recompute();
+			} else {
+				add(previous, -1);
+				add(next, 1);
+			}
+			ready = true;
+		}
+
+		return ready;
+	}
+
+	@Override
+	public double nextDouble() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		ready = false;
+		if (nans > 0 || positiveInfinities > 0 && negativeInfinities > 0)
+			return Double.NaN;
+		if (positiveInfinities > 0)
+			return Double.POSITIVE_INFINITY;
+		if (negativeInfinities > 0)
+			return Double.NEGATIVE_INFINITY;
+		if (Double.isInfinite(sum))
+			return sum;
+
+		return sum + compensation;
+	}
+
+	/**
+	 * @return the number of {@code doubles} in the current window, which is less than the window size only if the
+	 * delegate iterator has fewer {@code doubles} than the window size.
+	 */
+	public int currentWindowSize() {
+		return count;
+	}
+
+	private void add(double x, int sign) {
+		if (Double.isNaN(x))
+			nans += sign;
+		else if (x == Double.POSITIVE_INFINITY)
+			positiveInfinities += sign;
+		else if (x == Double.NEGATIVE_INFINITY)
+			negativeInfinities += sign;
+		else
+			accumulate(sign * x);
+	}
+
+	private void accumulate(double x) {
+		double total = sum + x;
+		if (Math.abs(sum) >= Math.abs(x))
+			compensation += sum - total + x;
+		else
+			compensation += x - total + sum;
+		sum = total;
+	}
+
+	private void recompute() {
+		sum = compensation = 0;
+		nans = positiveInfinities = negativeInfinities = 0;
+		for (int i = 0; i < count; i++)
+			add(buffer[i], 1);
+		steps = 0;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.doubles;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the population variances of a sliding window over the {@code doubles} of another
+ * {@link DoubleIterator}, with one variance for each window that would be produced by {@link WindowingDoubleIterator}
+ * with a step of one. The sums of the deviations and squared deviations from a shift value close to the mean are
+ * updated incrementally as the window slides, keeping only the {@code doubles} of the current window in a ring buffer.
+ * <p>
+ * The sums are recomputed from the ring buffer, with the shift moved to the current mean, once every {@code window}
+ * steps and whenever the mean has drifted far from the shift relative to the spread of the window, so that rounding
+ * errors and cancellation do not accumulate. Windows containing {@code NaN} or infinite values have a variance of
+ * {@code NaN}.
+ *
+ * @since 2.4
+ */
+public class SlidingVarianceDoubleIterator extends DelegatingUnaryDoubleIterator {
+	private static final double DRIFT = 0x1p20;
+
+	private final int window;
+	private final double[] buffer;
+
+	private int head;
+	private int count;
+	private int steps;
+	private int finite;
+	private int nonFinite;
+	private double shift;
+	private double deviations;
+	private double squares;
+	private boolean started;
+	private boolean ready;
+
+	public SlidingVarianceDoubleIterator(DoubleIterator iterator, int window) {
+		super(iterator);
+		this.window = window;
+		this.buffer = new double[window];
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			while (count < window && iterator.hasNext())
+				buffer[count++] = iterator.nextDouble();
+			recompute();
+			ready = count > 0;
+			started = true;
+		} else if (!ready && count == window && iterator.hasNext()) {
+			double next = iterator.nextDouble();
+			double previous = buffer[head];
+			buffer[head] = next;
+			head = (head + 1) % window;
+
+			add(previous, -1);
+			add(next, 1);
+			if (++steps == window || drifted())
+				recompute();
+			ready = true;
+		}
+
+		return ready;
+	}
+
+	@Override
+	public double nextDouble() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		ready = false;
+		if (nonFinite > 0)
+			return Double.NaN;
+
+		return Math.max(0, squares - deviations * deviations / finite) / finite;
+	}
+
+	private void add(double x, int sign) {
+		if (Double.isNaN(x) || Double.isInfinite(x)) {
+			nonFinite += sign;
+		} else {
+			double deviation = x - shift;
+			finite += sign;
+			deviations += sign * deviation;
+			squares += sign * deviation * deviation;
+		}
+	}
+
+	private boolean drifted() {
+		if (finite == 0)
+			return false;
+
+		double mean = deviations / finite;
+		double spread = Math.max(0, squares - deviations * deviations / finite) / finite;
+		return mean * mean > DRIFT * spread && Math.abs(mean) * DRIFT > Math.abs(shift);
+	}
+
+	private void recompute() {
+		double sum = 0;
+		finite = nonFinite = 0;
+		for (int i = 0; i < count; i++) {
+			double x = buffer[i];
+			if (Double.isNaN(x) || Double.isInfinite(x)) {
+				nonFinite++;
+			} else {
+				sum += x;
+				finite++;
+			}
+		}
+
+		shift = finite == 0 ? 0 : sum / finite;
+		if (Double.isInfinite(shift))
+			shift = 0;
+		deviations = squares = 0;
+		for (int i = 0; i < count; i++) {
+			double x = buffer[i];
+			if (!Double.isNaN(x) && !Double.isInfinite(x)) {
+				double deviation = x - shift;
+				deviations += deviation;
+				squares += deviation * deviation;
+			}
+		}
+		steps = 0;
+	}
+}
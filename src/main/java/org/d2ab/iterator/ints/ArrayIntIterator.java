@@ -18,6 +18,7 @@ package org.d2ab.iterator.ints;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
 
 import static java.util.Objects.requireNonNull;
 import static org.d2ab.util.Preconditions.requireSizeWithinBounds;
@@ -61,4 +62,27 @@ public class ArrayIntIterator implements IntIterator {
 
 		return array[offset + index++];
 	}
+
+	@Override
+	public int nextInts(int[] xs, int offset, int length) {
+		int count = Math.min(length, size - index);
+		System.arraycopy(array, this.offset + index, xs, offset, count);
+		index += count;
+		return count;
+	}
+
+	@Override
+	public int skip(int steps) {
+		int count = Math.max(0, Math.min(steps, size - index));
+		index += count;
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(IntConsumer action) {
+		requireNonNull(action, "action");
+
+		while (index < size)
+			action.accept(array[offset + index++]);
+	}
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.ints;
+
+import org.d2ab.iterator.IterationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link IntIterator} over the bytes of an {@link InputStream} as ints, which reads the {@link InputStream} in
+ * blocks into an internal buffer instead of one byte at a time. Since the {@link InputStream} is read ahead of
+ * iteration by up to one block, it will be positioned after the last block read rather than after the last byte
+ * returned.
+ *
+ * @since 2.4
+ */
+public class BufferedInputStreamIntIterator implements IntIterator {
+	private final InputStream inputStream;
+	private final byte[] buffer;
+	private int position;
+	private int limit;
+	private boolean ended;
+
+	public BufferedInputStreamIntIterator(InputStream inputStream, int bufferSize) {
+		this.inputStream = inputStream;
+		this.buffer = new byte[bufferSize];
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < limit || fill();
+	}
+
+	@Override
+	public int nextInt() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return buffer[position++] & 0xFF;
+	}
+
+	@Override
+	public int nextInts(int[] xs, int offset, int length) {
+		int count = 0;
+		while (count < length && hasNext()) {
+			int copied = Math.min(length - count, limit - position);
+			for (int i = 0; i < copied; i++)
+				xs[offset + count + i] = buffer[position + i] & 0xFF;
+			position += copied;
+			count += copied;
+		}
+		return count;
+	}
+
+	@Override
+	public int skip(int steps) {
+		int count = 0;
+		while (count < steps && hasNext()) {
+			int skipped = Math.min(steps - count, limit - position);
+			position += skipped;
+			count += skipped;
+		}
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(IntConsumer consumer) {
+		while (hasNext()) {
+			for (int i = position; i < limit; i++)
+				consumer.accept(buffer[i] & 0xFF);
+			position = limit;
+		}
+	}
+
+	private boolean fill() {
+		if (ended)
+			return false;
+
+		int read;
+		try {
+			do
+				read = inputStream.read(buffer, 0, buffer.length);
+			while (read == 0);
+		} catch (IOException e) {
+			throw new IterationException(e);
+		}
+
+		if (read == -1) {
+			ended = true;
+			return false;
+		}
+
+		position = 0;
+		limit = read;
+		return true;
+	}
+}
@@ -17,12 +17,16 @@
 package org.d2ab.iterator.ints;
 
 import org.d2ab.collection.ints.BitIntSet;
+import org.d2ab.collection.ints.HashIntSet;
 import org.d2ab.collection.ints.IntSet;
 
 import java.util.NoSuchElementException;
 
 public class DistinctIntIterator extends DelegatingUnaryIntIterator {
-	private final IntSet seen = new BitIntSet();
+	private static final int DENSITY_CHECK_SIZE = 1024;
+
+	private IntSet seen = new HashIntSet();
+	private int densityCheckSize = DENSITY_CHECK_SIZE;
 
 	private int next;
 	private boolean hasNext;
@@ -47,10 +51,28 @@ public class DistinctIntIterator extends DelegatingUnaryIntIterator {
 
 		while (!hasNext && iterator.hasNext()) {
 			int maybeNext = iterator.nextInt();
-			if (hasNext = seen.addInt(maybeNext))
+			if (hasNext = seen.addInt(maybeNext)) {
 				next = maybeNext;
+				if (seen.size() == densityCheckSize)
+					checkDensity();
+			}
 		}
 
 		return hasNext;
 	}
+
+	/**
+	 * Switch to a {@link BitIntSet} for the {@code ints} seen so far if they turn out to be dense, or check again when
+	 * the number of seen {@code ints} has doubled.
+	 */
+	private void checkDensity() {
+		HashIntSet sparse = (HashIntSet) seen;
+		if (sparse.isDense()) {
+			seen = new BitIntSet();
+			seen.addAllInts(sparse);
+			densityCheckSize = -1;
+		} else {
+			densityCheckSize <<= 1;
+		}
+	}
 }
@@ -17,8 +17,11 @@
 package org.d2ab.iterator.ints;
 
 import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
 import java.util.function.IntPredicate;
 
+import static java.util.Objects.requireNonNull;
+
 public class FilteringIntIterator extends DelegatingUnaryIntIterator {
 	private final IntPredicate predicate;
 
@@ -56,4 +59,19 @@ public class FilteringIntIterator extends DelegatingUnaryIntIterator {
 		// found matching value
 		return true;
 	}
+
+	@Override
+	public void forEachRemaining(IntConsumer action) {
+		requireNonNull(action, "action");
+
+		if (hasNext) {
+			hasNext = false;
+			action.accept(next);
+		}
+
+		iterator.forEachRemaining((int x) -> {
+			if (predicate.test(x))
+				action.accept(x);
+		});
+	}
 }
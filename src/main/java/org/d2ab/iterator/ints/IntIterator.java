@@ -171,6 +171,22 @@ public interface IntIterator extends PrimitiveIterator.OfInt {
 		return count;
 	}
 
+	/**
+	 * Read up to {@code length} {@code int} values from this iterator into the given array, starting at the given
+	 * offset in the array. Iterators over arrays and other contiguous storage override this to copy the values in
+	 * bulk.
+	 *
+	 * @return the number of {@code int} values read, which is less than {@code length} only if this iterator
+	 * was exhausted.
+	 * @since 2.4
+	 */
+	default int nextInts(int[] xs, int offset, int length) {
+		int count = 0;
+		while (count < length && hasNext())
+			xs[offset + count++] = nextInt();
+		return count;
+	}
+
 	/**
 	 * @return the number of {@code ints} remaining in this iterator.
 	 */
@@ -215,9 +231,8 @@ public interface IntIterator extends PrimitiveIterator.OfInt {
 	}
 
 	default int reduce(int identity, IntBinaryOperator operator) {
-		int result = identity;
-		while (hasNext())
-			result = operator.applyAsInt(result, nextInt());
-		return result;
+		int[] result = {identity};
+		forEachRemaining((int x) -> result[0] = operator.applyAsInt(result[0], x));
+		return result[0];
 	}
 }
@@ -17,6 +17,9 @@
 package org.d2ab.iterator.ints;
 
 import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+import static java.util.Objects.requireNonNull;
 
 public class LimitingIntIterator extends DelegatingUnaryIntIterator {
 	private final int limit;
@@ -40,4 +43,12 @@ public class LimitingIntIterator extends DelegatingUnaryIntIterator {
 	public boolean hasNext() {
 		return count < limit && iterator.hasNext();
 	}
+
+	@Override
+	public void forEachRemaining(IntConsumer action) {
+		requireNonNull(action, "action");
+
+		for (; count < limit && iterator.hasNext(); count++)
+			action.accept(iterator.nextInt());
+	}
 }
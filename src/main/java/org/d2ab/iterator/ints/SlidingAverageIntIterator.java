@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.ints;
+
+import org.d2ab.iterator.doubles.DelegatingTransformingDoubleIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the averages of a sliding window over the {@code ints} of another {@link IntIterator}, with one
+ * average for each window that would be produced by {@link WindowingIntIterator} with a step of one. The sum of the
+ * window is updated incrementally as the window slides, keeping only the {@code ints} of the current window in a ring
+ * buffer.
+ *
+ * @since 2.4
+ */
+public class SlidingAverageIntIterator extends DelegatingTransformingDoubleIterator<Integer, IntIterator> {
+	private final SlidingSumIntIterator sums;
+
+	public SlidingAverageIntIterator(IntIterator iterator, int window) {
+		super(iterator);
+		this.sums = new SlidingSumIntIterator(iterator, window);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return sums.hasNext();
+	}
+
+	@Override
+	public double nextDouble() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return (double) sums.nextLong() / sums.currentWindowSize();
+	}
+}
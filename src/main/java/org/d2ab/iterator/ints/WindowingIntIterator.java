@@ -19,28 +19,59 @@ package org.d2ab.iterator.ints;
 import org.d2ab.iterator.DelegatingTransformingIterator;
 import org.d2ab.sequence.IntSequence;
 
-import java.util.Arrays;
 import java.util.NoSuchElementException;
 
+/**
+ * An {@link java.util.Iterator} over windows of the {@code ints} of an {@link IntIterator}, each with the given window
+ * size and stepping the given number of {@code ints} between windows. The current window is kept in a ring buffer that
+ * grows as needed up to the window size, so advancing the window does not move the {@code ints} that remain in it. Each
+ * window is either copied into a new {@link IntSequence}, or, if the iterator is created as a view, presented as an
+ * {@link IntSequence} view of the ring buffer which is only valid until the next call to {@link #hasNext()} or {@link
+ * #next()}.
+ */
 public class WindowingIntIterator extends DelegatingTransformingIterator<Integer, IntIterator, IntSequence> {
+	private static final int INITIAL_CAPACITY = 16;
+
 	private final int window;
 	private final int step;
+	private final boolean view;
 
-	private final int[] partition;
+	private int[] buffer;
+	private int head;
 	private int size;
 	private boolean started;
+	private boolean advance;
 
 	public WindowingIntIterator(IntIterator iterator, int window, int step) {
+		this(iterator, window, step, false);
+	}
+
+	/**
+	 * @param view true if each window should be a view of the ring buffer which is only valid until the iterator is
+	 *             advanced, or false if each window should be a copy.
+	 *
+	 * @since 2.4
+	 */
+	public WindowingIntIterator(IntIterator iterator, int window, int step, boolean view) {
 		super(iterator);
 		this.window = window;
 		this.step = step;
-		this.partition = new int[window];
+		this.view = view;
+		this.buffer = new int[Math.min(window, INITIAL_CAPACITY)];
 	}
 
 	@Override
 	public boolean hasNext() {
-		while (size < window && iterator.hasNext())
-			partition[size++] = iterator.nextInt();
+		if (advance) {
+			advance();
+			advance = false;
+		}
+
+		while (size < window && iterator.hasNext()) {
+			if (size == buffer.length)
+				grow();
+			buffer[(head + size++) % buffer.length] = iterator.nextInt();
+		}
 
 		return size == window || size > 0 && (!started || size > window - step);
 	}
@@ -50,19 +81,60 @@ public class WindowingIntIterator extends DelegatingTransformingIterator<Integer
 		if (!hasNext())
 			throw new NoSuchElementException();
 
-		IntSequence next = IntSequence.of(Arrays.copyOf(partition, size));
+		IntSequence next = view ? view() : IntSequence.of(copy());
+
+		advance = true;
+		started = true;
+		return next;
+	}
 
-		if (step < partition.length) {
-			System.arraycopy(partition, step, partition, 0, partition.length - step);
-			size = partition.length - step;
+	private int[] copy() {
+		int[] copy = new int[size];
+		int tail = Math.min(size, buffer.length - head);
+		System.arraycopy(buffer, head, copy, 0, tail);
+		System.arraycopy(buffer, 0, copy, tail, size - tail);
+		return copy;
+	}
+
+	private IntSequence view() {
+		int size = this.size;
+		return () -> new IntIterator() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return buffer[(head + index++) % buffer.length];
+			}
+		};
+	}
+
+	private void grow() {
+		int[] grown = new int[(int) Math.min(window, (long) buffer.length * 2)];
+		int tail = Math.min(size, buffer.length - head);
+		System.arraycopy(buffer, head, grown, 0, tail);
+		System.arraycopy(buffer, 0, grown, tail, size - tail);
+		buffer = grown;
+		head = 0;
+	}
+
+	private void advance() {
+		if (step < size) {
+			head = (head + step) % buffer.length;
+			size -= step;
 		} else {
-			for (int i = partition.length; i < step && iterator.hasNext(); i++)
+			for (int i = size; i < step && iterator.hasNext(); i++)
 				iterator.nextInt();
+			head = 0;
 			size = 0;
 		}
-
-		started = true;
-		return next;
 	}
 
 	@Override
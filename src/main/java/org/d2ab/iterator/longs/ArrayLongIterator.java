@@ -18,6 +18,7 @@ package org.d2ab.iterator.longs;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
 
 import static java.util.Objects.requireNonNull;
 import static org.d2ab.util.Preconditions.requireSizeWithinBounds;
@@ -62,4 +63,19 @@ public class ArrayLongIterator implements LongIterator {
 
 		return values[offset + index++];
 	}
+
+	@Override
+	public int skip(int steps) {
+		int count = Math.max(0, Math.min(steps, size - index));
+		index += count;
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(LongConsumer action) {
+		requireNonNull(action, "action");
+
+		while (index < size)
+			action.accept(values[offset + index++]);
+	}
 }
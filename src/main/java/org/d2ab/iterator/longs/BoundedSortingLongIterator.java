@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.longs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link LongIterator} over the {@code limit} smallest or greatest {@code longs} of another {@link LongIterator}, in
+ * ascending or descending order respectively, keeping only {@code limit} {@code longs} in a bounded heap while
+ * traversing the delegate.
+ *
+ * @since 2.4
+ */
+public class BoundedSortingLongIterator extends DelegatingUnaryLongIterator {
+	private final int limit;
+	private final boolean descending;
+
+	private boolean started;
+	private long[] heap;
+	private int size;
+	private int index;
+
+	/**
+	 * @param descending false to return the {@code limit} smallest {@code longs} in ascending order, or true to return
+	 *                   the {@code limit} greatest {@code longs} in descending order.
+	 */
+	public BoundedSortingLongIterator(LongIterator iterator, int limit, boolean descending) {
+		super(iterator);
+		this.limit = limit;
+		this.descending = descending;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			heap = new long[Math.min(limit, 16)];
+			while (iterator.hasNext()) {
+				long next = iterator.nextLong();
+				if (size < limit) {
+					if (size == heap.length)
+						heap = Arrays.copyOf(heap, (int) Math.min(limit, (long) size << 1));
+					heap[size] = next;
+					siftUp(size++);
+				} else if (compare(next, heap[0]) < 0) {
+					heap[0] = next;
+					siftDown(0, size);
+				}
+			}
+
+			// pop the last element in order into the back of the heap until the heap is sorted
+			for (int last = size - 1; last > 0; last--) {
+				swap(0, last);
+				siftDown(0, last);
+			}
+			started = true;
+		}
+
+		return index < size;
+	}
+
+	@Override
+	public long nextLong() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return heap[index++];
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	private int compare(long x, long y) {
+		return descending ? Long.compare(y, x) : Long.compare(x, y);
+	}
+
+	private void siftUp(int i) {
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (compare(heap[i], heap[parent]) <= 0)
+				break;
+			swap(i, parent);
+			i = parent;
+		}
+	}
+
+	private void siftDown(int i, int size) {
+		int child;
+		while ((child = (i << 1) + 1) < size) {
+			if (child + 1 < size && compare(heap[child + 1], heap[child]) > 0)
+				child++;
+			if (compare(heap[i], heap[child]) >= 0)
+				break;
+			swap(i, child);
+			i = child;
+		}
+	}
+
+	private void swap(int i, int j) {
+		long x = heap[i];
+		heap[i] = heap[j];
+		heap[j] = x;
+	}
+}
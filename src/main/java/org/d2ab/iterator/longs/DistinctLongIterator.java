@@ -17,12 +17,16 @@
 package org.d2ab.iterator.longs;
 
 import org.d2ab.collection.longs.BitLongSet;
+import org.d2ab.collection.longs.HashLongSet;
 import org.d2ab.collection.longs.LongSet;
 
 import java.util.NoSuchElementException;
 
 public class DistinctLongIterator extends DelegatingUnaryLongIterator {
-	private final LongSet seen = new BitLongSet();
+	private static final int DENSITY_CHECK_SIZE = 1024;
+
+	private LongSet seen = new HashLongSet();
+	private int densityCheckSize = DENSITY_CHECK_SIZE;
 
 	private long next;
 	private boolean hasNext;
@@ -38,8 +42,11 @@ public class DistinctLongIterator extends DelegatingUnaryLongIterator {
 
 		while (!hasNext && iterator.hasNext()) {
 			long maybeNext = iterator.nextLong();
-			if (hasNext = seen.addLong(maybeNext))
+			if (hasNext = seen.addLong(maybeNext)) {
 				next = maybeNext;
+				if (seen.size() == densityCheckSize)
+					checkDensity();
+			}
 		}
 
 		return hasNext;
@@ -53,4 +60,19 @@ public class DistinctLongIterator extends DelegatingUnaryLongIterator {
 		hasNext = false;
 		return next;
 	}
+
+	/**
+	 * Switch to a {@link BitLongSet} for the {@code longs} seen so far if they turn out to be dense, or check again when
+	 * the number of seen {@code longs} has doubled.
+	 */
+	private void checkDensity() {
+		HashLongSet sparse = (HashLongSet) seen;
+		if (sparse.isDense()) {
+			seen = new BitLongSet();
+			seen.addAllLongs(sparse);
+			densityCheckSize = -1;
+		} else {
+			densityCheckSize <<= 1;
+		}
+	}
 }
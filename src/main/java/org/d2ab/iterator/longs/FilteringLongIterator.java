@@ -17,8 +17,11 @@
 package org.d2ab.iterator.longs;
 
 import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
 import java.util.function.LongPredicate;
 
+import static java.util.Objects.requireNonNull;
+
 public class FilteringLongIterator extends DelegatingUnaryLongIterator {
 	private final LongPredicate predicate;
 
@@ -56,4 +59,19 @@ public class FilteringLongIterator extends DelegatingUnaryLongIterator {
 		// found matching value
 		return true;
 	}
+
+	@Override
+	public void forEachRemaining(LongConsumer action) {
+		requireNonNull(action, "action");
+
+		if (hasNext) {
+			hasNext = false;
+			action.accept(next);
+		}
+
+		iterator.forEachRemaining((long x) -> {
+			if (predicate.test(x))
+				action.accept(x);
+		});
+	}
 }
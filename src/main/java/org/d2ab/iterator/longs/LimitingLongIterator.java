@@ -17,6 +17,9 @@
 package org.d2ab.iterator.longs;
 
 import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+import static java.util.Objects.requireNonNull;
 
 public class LimitingLongIterator extends DelegatingUnaryLongIterator {
 	private final int limit;
@@ -41,4 +44,12 @@ public class LimitingLongIterator extends DelegatingUnaryLongIterator {
 	public boolean hasNext() {
 		return count < limit && iterator.hasNext();
 	}
+
+	@Override
+	public void forEachRemaining(LongConsumer action) {
+		requireNonNull(action, "action");
+
+		for (; count < limit && iterator.hasNext(); count++)
+			action.accept(iterator.nextLong());
+	}
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.longs;
+
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link LongIterator} over the remaining {@code longs} in one or more {@link LongBuffer}s, in order. The buffers
+ * are not modified by iteration.
+ *
+ * @since 2.4
+ */
+public class LongBufferIterator implements LongIterator {
+	private final LongBuffer[] buffers;
+	private LongBuffer current;
+	private int index;
+
+	public LongBufferIterator(LongBuffer... buffers) {
+		this.buffers = buffers;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (current == null || !current.hasRemaining()) {
+			if (index == buffers.length)
+				return false;
+			current = buffers[index++].duplicate();
+		}
+		return true;
+	}
+
+	@Override
+	public long nextLong() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		return current.get();
+	}
+
+	@Override
+	public int skip(int steps) {
+		int count = 0;
+		while (count < steps && hasNext()) {
+			int skipped = Math.min(steps - count, current.remaining());
+			current.position(current.position() + skipped);
+			count += skipped;
+		}
+		return count;
+	}
+
+	@Override
+	public void forEachRemaining(LongConsumer consumer) {
+		while (hasNext())
+			while (current.hasRemaining())
+				consumer.accept(current.get());
+	}
+}
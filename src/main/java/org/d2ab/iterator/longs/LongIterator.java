@@ -152,10 +152,9 @@ public interface LongIterator extends PrimitiveIterator.OfLong {
 	}
 
 	default long reduce(long identity, LongBinaryOperator operator) {
-		long result = identity;
-		while (hasNext())
-			result = operator.applyAsLong(result, nextLong());
-		return result;
+		long[] result = {identity};
+		forEachRemaining((long x) -> result[0] = operator.applyAsLong(result[0], x));
+		return result[0];
 	}
 
 	/**
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.longs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the minimum or maximum of a sliding window over the {@code longs} of another
+ * {@link LongIterator}, with one value for each window that would be produced by {@link WindowingLongIterator} with a
+ * step of one. The extremum is maintained using a monotonic deque of the {@code longs} in the current window that may
+ * still become the extremum of a later window, so each {@code long} is added and removed at most once.
+ *
+ * @since 2.4
+ */
+public class SlidingExtremumLongIterator extends DelegatingUnaryLongIterator {
+	private final int window;
+	private final boolean maximum;
+
+	private final long[] values;
+	private final long[] positions;
+	private int head;
+	private int size;
+
+	private long position;
+	private boolean started;
+	private boolean ready;
+
+	/**
+	 * @param maximum false to return the minimum of each window, or true to return the maximum of each window.
+	 */
+	public SlidingExtremumLongIterator(LongIterator iterator, int window, boolean maximum) {
+		super(iterator);
+		this.window = window;
+		this.maximum = maximum;
+		this.values = new long[window];
+		this.positions = new long[window];
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			while (position < window && iterator.hasNext())
+				add(iterator.nextLong());
+			ready = position > 0;
+			started = true;
+		} else if (!ready && position >= window && iterator.hasNext()) {
+			add(iterator.nextLong());
+			ready = true;
+		}
+
+		return ready;
+	}
+
+	@Override
+	public long nextLong() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		ready = false;
+		return values[head];
+	}
+
+	private void add(long value) {
+		if (size > 0 && positions[head] <= position - window) {
+			head = (head + 1) % window;
+			size--;
+		}
+
+		while (size > 0 && !precedes(values[(head + size - 1) % window], value))
+			size--;
+
+		int tail = (head + size++) % window;
+		values[tail] = value;
+		positions[tail] = position++;
+	}
+
+	/**
+	 * @return true if the given earlier {@code long} is strictly more extreme than the given later {@code long}, and
+	 * must therefore stay in the deque.
+	 */
+	private boolean precedes(long x, long y) {
+		int comparison = Long.compare(x, y);
+		return maximum ? comparison > 0 : comparison < 0;
+	}
+}
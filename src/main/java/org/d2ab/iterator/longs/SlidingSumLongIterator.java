@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.iterator.longs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the sums of a sliding window over the {@code longs} of another {@link LongIterator}, with one sum
+ * for each window that would be produced by {@link WindowingLongIterator} with a step of one. The sum is updated
+ * incrementally as the window slides, keeping only the {@code longs} of the current window in a ring buffer.
+ *
+ * @since 2.4
+ */
+public class SlidingSumLongIterator extends DelegatingUnaryLongIterator {
+	private final int window;
+	private final long[] buffer;
+
+	private int head;
+	private int count;
+	private long sum;
+	private boolean started;
+	private boolean ready;
+
+	public SlidingSumLongIterator(LongIterator iterator, int window) {
+		super(iterator);
+		this.window = window;
+		this.buffer = new long[window];
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			while (count < window && iterator.hasNext()) {
+				long next = iterator.nextLong();
+				buffer[count++] = next;
+				sum += next;
+			}
+			ready = count > 0;
+			started = true;
+		} else if (!ready && count == window && iterator.hasNext()) {
+			long next = iterator.nextLong();
+			sum += next;
+			sum -= buffer[head];
+			buffer[head] = next;
+			head = (head + 1) % window;
+			ready = true;
+		}
+
+		return ready;
+	}
+
+	@Override
+	public long nextLong() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		ready = false;
+		return sum;
+	}
+
+	/**
+	 * @return the number of {@code longs} in the current window, which is less than the window size only if the
+	 * delegate iterator has fewer {@code longs} than the window size.
+	 */
+	public int currentWindowSize() {
+		return count;
+	}
+}
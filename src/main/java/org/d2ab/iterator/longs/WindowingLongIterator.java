@@ -19,28 +19,59 @@ package org.d2ab.iterator.longs;
 import org.d2ab.iterator.DelegatingTransformingIterator;
 import org.d2ab.sequence.LongSequence;
 
-import java.util.Arrays;
 import java.util.NoSuchElementException;
 
+/**
+ * An {@link java.util.Iterator} over windows of the {@code longs} of an {@link LongIterator}, each with the given
+ * window size and stepping the given number of {@code longs} between windows. The current window is kept in a ring
+ * buffer that grows as needed up to the window size, so advancing the window does not move the {@code longs} that
+ * remain in it. Each window is either copied into a new {@link LongSequence}, or, if the iterator is created as a view,
+ * presented as a {@link LongSequence} view of the ring buffer which is only valid until the next call to {@link
+ * #hasNext()} or {@link #next()}.
+ */
 public class WindowingLongIterator extends DelegatingTransformingIterator<Long, LongIterator, LongSequence> {
+	private static final int INITIAL_CAPACITY = 16;
+
 	private final int window;
 	private final int step;
+	private final boolean view;
 
-	private final long[] partition;
+	private long[] buffer;
+	private int head;
 	private int size;
 	private boolean started;
+	private boolean advance;
 
 	public WindowingLongIterator(LongIterator iterator, int window, int step) {
+		this(iterator, window, step, false);
+	}
+
+	/**
+	 * @param view true if each window should be a view of the ring buffer which is only valid until the iterator is
+	 *             advanced, or false if each window should be a copy.
+	 *
+	 * @since 2.4
+	 */
+	public WindowingLongIterator(LongIterator iterator, int window, int step, boolean view) {
 		super(iterator);
 		this.window = window;
 		this.step = step;
-		this.partition = new long[window];
+		this.view = view;
+		this.buffer = new long[Math.min(window, INITIAL_CAPACITY)];
 	}
 
 	@Override
 	public boolean hasNext() {
-		while (size < window && iterator.hasNext())
-			partition[size++] = iterator.nextLong();
+		if (advance) {
+			advance();
+			advance = false;
+		}
+
+		while (size < window && iterator.hasNext()) {
+			if (size == buffer.length)
+				grow();
+			buffer[(head + size++) % buffer.length] = iterator.nextLong();
+		}
 
 		return size == window || size > 0 && (!started || size > window - step);
 	}
@@ -50,19 +81,60 @@ public class WindowingLongIterator extends DelegatingTransformingIterator<Long,
 		if (!hasNext())
 			throw new NoSuchElementException();
 
-		LongSequence next = LongSequence.of(Arrays.copyOf(partition, size));
+		LongSequence next = view ? view() : LongSequence.of(copy());
+
+		advance = true;
+		started = true;
+		return next;
+	}
 
-		if (step < partition.length) {
-			System.arraycopy(partition, step, partition, 0, partition.length - step);
-			size = partition.length - step;
+	private long[] copy() {
+		long[] copy = new long[size];
+		int tail = Math.min(size, buffer.length - head);
+		System.arraycopy(buffer, head, copy, 0, tail);
+		System.arraycopy(buffer, 0, copy, tail, size - tail);
+		return copy;
+	}
+
+	private LongSequence view() {
+		int size = this.size;
+		return () -> new LongIterator() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return buffer[(head + index++) % buffer.length];
+			}
+		};
+	}
+
+	private void grow() {
+		long[] grown = new long[(int) Math.min(window, (long) buffer.length * 2)];
+		int tail = Math.min(size, buffer.length - head);
+		System.arraycopy(buffer, head, grown, 0, tail);
+		System.arraycopy(buffer, 0, grown, tail, size - tail);
+		buffer = grown;
+		head = 0;
+	}
+
+	private void advance() {
+		if (step < size) {
+			head = (head + step) % buffer.length;
+			size -= step;
 		} else {
-			for (int i = partition.length; i < step && iterator.hasNext(); i++)
+			for (int i = size; i < step && iterator.hasNext(); i++)
 				iterator.nextLong();
+			head = 0;
 			size = 0;
 		}
-
-		started = true;
-		return next;
 	}
 
 	@Override
@@ -586,10 +586,14 @@ public interface BiSequence<L, R> extends IterableCollection<Pair<L, R>> {
 	default BiSequence<L, R> including(Pair<L, R>... pairs) {
 		requireNonNull(pairs, "pairs");
 
-		return filter(p -> Arrayz.contains(pairs, p));
+		Set<Pair<L, R>> set = new HashSet<>(Arrays.asList(pairs));
+		return filter(p -> set.contains(p));
 	}
 
 	/**
+	 * The target iterable is collected into a {@link Set} the first time it is needed, so later changes to it are only
+	 * reflected if it is a {@link Set} itself.
+	 *
 	 * @return a {@code BiSequence} containing only the pairs found in the given target iterable.
 	 *
 	 * @since 1.2
@@ -597,7 +601,7 @@ public interface BiSequence<L, R> extends IterableCollection<Pair<L, R>> {
 	default BiSequence<L, R> including(Iterable<? extends Pair<L, R>> pairs) {
 		requireNonNull(pairs, "pairs");
 
-		return filter(p -> Iterables.contains(pairs, p));
+		return filter(Iterables.containedIn(pairs));
 	}
 
 	/**
@@ -609,10 +613,14 @@ public interface BiSequence<L, R> extends IterableCollection<Pair<L, R>> {
 	default BiSequence<L, R> excluding(Pair<L, R>... pairs) {
 		requireNonNull(pairs, "pairs");
 
-		return filter(p -> !Arrayz.contains(pairs, p));
+		Set<Pair<L, R>> set = new HashSet<>(Arrays.asList(pairs));
+		return filter(p -> !set.contains(p));
 	}
 
 	/**
+	 * The target iterable is collected into a {@link Set} the first time it is needed, so later changes to it are only
+	 * reflected if it is a {@link Set} itself.
+	 *
 	 * @return a {@code BiSequence} containing only the pairs not found in the given target iterable.
 	 *
 	 * @since 1.2
@@ -620,7 +628,7 @@ public interface BiSequence<L, R> extends IterableCollection<Pair<L, R>> {
 	default BiSequence<L, R> excluding(Iterable<? extends Pair<L, R>> pairs) {
 		requireNonNull(pairs, "pairs");
 
-		return filter(p -> !Iterables.contains(pairs, p));
+		return filter(Iterables.containedIn(pairs).negate());
 	}
 
 	/**
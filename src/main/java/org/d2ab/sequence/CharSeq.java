@@ -22,6 +22,9 @@ import org.d2ab.collection.chars.*;
 import org.d2ab.function.*;
 import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.Iterators;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
 import org.d2ab.iterator.chars.*;
 import org.d2ab.iterator.ints.IntIterator;
 import org.d2ab.util.OptionalChar;
@@ -77,7 +80,185 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 		requireSizeWithinBounds(offset, "offset", array.length, "array.length");
 		requireSizeWithinBounds(size, "size", array.length - offset, "array.length - offset");
 
-		return () -> CharIterator.from(array, offset, size);
+		return new CharSeq() {
+			@Override
+			public CharIterator iterator() {
+				return CharIterator.from(array, offset, size);
+			}
+
+			@Override
+			public SizeType sizeType() {
+				return SizeType.FIXED;
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return size == 0;
+			}
+
+			@Override
+			public OptionalChar at(int index) {
+				requireAtLeastZero(index, "index");
+
+				if (index >= size)
+					return OptionalChar.empty();
+
+				return OptionalChar.of(array[offset + index]);
+			}
+
+			@Override
+			public OptionalChar last() {
+				if (size == 0)
+					return OptionalChar.empty();
+
+				return OptionalChar.of(array[offset + size - 1]);
+			}
+
+			@Override
+			public CharSeq skip(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				int skipped = Math.min(skip, size);
+				return CharSeq.from(array, offset + skipped, size - skipped);
+			}
+
+			@Override
+			public CharSeq skipTail(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				return CharSeq.from(array, offset, size - Math.min(skip, size));
+			}
+
+			@Override
+			public CharSeq limit(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				return CharSeq.from(array, offset, Math.min(limit, size));
+			}
+
+			@Override
+			public CharSeq limitTail(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				int limited = Math.min(limit, size);
+				return CharSeq.from(array, offset + size - limited, limited);
+			}
+
+			@Override
+			public CharSeq step(int step) {
+				requireAtLeastOne(step, "step");
+
+				int steps = size == 0 ? 0 : (size - 1) / step + 1;
+				return new CharSeq() {
+					@Override
+					public CharIterator iterator() {
+						return new CharIterator() {
+							private int index;
+
+							@Override
+							public boolean hasNext() {
+								return index < steps;
+							}
+
+							@Override
+							public char nextChar() {
+								if (!hasNext())
+									throw new NoSuchElementException();
+
+								return array[offset + index++ * step];
+							}
+						};
+					}
+
+					@Override
+					public SizeType sizeType() {
+						return SizeType.FIXED;
+					}
+
+					@Override
+					public int size() {
+						return steps;
+					}
+
+					@Override
+					public boolean isEmpty() {
+						return steps == 0;
+					}
+
+					@Override
+					public OptionalChar at(int index) {
+						requireAtLeastZero(index, "index");
+
+						if (index >= steps)
+							return OptionalChar.empty();
+
+						return OptionalChar.of(array[offset + index * step]);
+					}
+
+					@Override
+					public OptionalChar last() {
+						if (steps == 0)
+							return OptionalChar.empty();
+
+						return OptionalChar.of(array[offset + (steps - 1) * step]);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<CharSeq> window(int window, int step) {
+				requireAtLeastOne(window, "window");
+				requireAtLeastOne(step, "step");
+
+				return () -> new RangeWindowingIterator<CharSeq>(size, window, step) {
+					@Override
+					protected CharSeq toSequence(int from, int to) {
+						return CharSeq.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<CharSeq> batch(CharBiPredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangePartitioningIterator<CharSeq>(
+						size, i -> predicate.test(array[offset + i - 1], array[offset + i])) {
+					@Override
+					protected CharSeq toSequence(int from, int to) {
+						return CharSeq.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<CharSeq> split(char element) {
+				return split(x -> x == element);
+			}
+
+			@Override
+			public Sequence<CharSeq> split(CharPredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangeSplittingIterator<CharSeq>(size, i -> predicate.test(array[offset + i])) {
+					@Override
+					protected CharSeq toSequence(int from, int to) {
+						return CharSeq.from(array, offset + from, to - from);
+					}
+				};
+			}
+		};
 	}
 
 	/**
@@ -97,9 +278,28 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 	static CharSeq from(CharIterable iterable) {
 		requireNonNull(iterable, "iterable");
 
+		if (iterable instanceof CharCollection)
+			return from((CharCollection) iterable);
+
 		return iterable::iterator;
 	}
 
+	/**
+	 * Create a {@code CharSeq} from a {@link CharCollection}, which reports the size and uses the {@link Spliterator} of the
+	 * {@link CharCollection}.
+	 *
+	 * @see #cache(CharIterable)
+	 * @since 2.4
+	 */
+	static CharSeq from(CharCollection collection) {
+		requireNonNull(collection, "collection");
+
+		if (collection instanceof CharSeq)
+			return (CharSeq) collection;
+
+		return new CollectionCharSeq(collection);
+	}
+
 	/**
 	 * Create a {@code CharSeq} from an {@link Iterable} of {@code Character} values.
 	 *
@@ -197,6 +397,22 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 		return CharIterable.read(reader)::iterator;
 	}
 
+	/**
+	 * Create a {@code CharSeq} from a {@link Reader} which iterates over the characters provided in the reader, like
+	 * {@link #read(Reader)}, but reads the {@link Reader} in blocks of the given buffer size rather than one character
+	 * at a time, which is considerably faster for large inputs. Since the {@link Reader} is read ahead of iteration,
+	 * it may be positioned past the last character returned when iteration stops before the end of the reader.
+	 *
+	 * @throws IllegalArgumentException if the buffer size is less than one.
+	 * @see #read(Reader)
+	 * @since 2.4
+	 */
+	static CharSeq read(Reader reader, int bufferSize) {
+		requireNonNull(reader, "reader");
+
+		return CharIterable.read(reader, bufferSize)::iterator;
+	}
+
 	/**
 	 * Create a {@code CharSeq} from a cached copy of a {@link CharIterator}.
 	 *
@@ -647,6 +863,13 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 			public char nextChar() {
 				return mapper.applyAsChar(iterator.nextChar());
 			}
+
+			@Override
+			public void forEachRemaining(CharConsumer action) {
+				requireNonNull(action, "action");
+
+				iterator.forEachRemaining((char x) -> action.accept(mapper.applyAsChar(x)));
+			}
 		};
 	}
 
@@ -881,7 +1104,8 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 	default CharSeq including(char... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> Arrayz.contains(array, e));
+		CharSet set = new BitCharSet(array);
+		return filter(e -> set.containsChar(e));
 	}
 
 	/**
@@ -892,7 +1116,8 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 	default CharSeq excluding(char... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> !Arrayz.contains(array, e));
+		CharSet set = new BitCharSet(array);
+		return filter(e -> !set.containsChar(e));
 	}
 
 	/**
@@ -974,8 +1199,7 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 		requireNonNull(result, "result");
 		requireNonNull(adder, "adder");
 
-		for (CharIterator iterator = iterator(); iterator.hasNext(); )
-			adder.accept(result, iterator.nextChar());
+		iterator().forEachRemaining((char x) -> adder.accept(result, x));
 		return result;
 	}
 
@@ -1272,6 +1496,20 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 		};
 	}
 
+	/**
+	 * @return this {@code CharSeq} sorted according to the natural order of the characters' integer values, like {@link
+	 * #sorted()}, but sorted only once, the first time the returned {@code CharSeq} is iterated over, and kept in
+	 * memory for later iterations. Changes to this {@code CharSeq} after that are not necessarily reflected in the
+	 * returned {@code CharSeq}.
+	 *
+	 * @see #sorted()
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default CharSeq sortedOnce() {
+		return sorted().memoize();
+	}
+
 	/**
 	 * Prefix the characters in this {@code CharSeq} with the given characters.
 	 */
@@ -1363,6 +1601,38 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 		return () -> IntIterator.from(iterator(), mapper);
 	}
 
+	/**
+	 * Memoize the {@code chars} of this {@code CharSeq} lazily as they are first iterated over, so that this
+	 * {@code CharSeq} is iterated over only once, and no further than the furthest iteration over the returned
+	 * {@code CharSeq}. This is useful when this {@code CharSeq} is expensive to compute or can only be iterated over
+	 * once, and is not necessarily iterated over to the end. The returned {@code CharSeq} may be iterated over
+	 * concurrently from several threads.
+	 *
+	 * @see #memoize(int)
+	 * @see #cache(CharIterable)
+	 * @since 2.4
+	 */
+	default CharSeq memoize() {
+		return new MemoizingCharSeq(this, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Memoize the {@code chars} of this {@code CharSeq} lazily as they are first iterated over, like
+	 * {@link #memoize()}, but keeping only the last {@code bufferSize} {@code chars} that have been read from this
+	 * {@code CharSeq}. This allows several forward-only iterations over the returned {@code CharSeq} to share a single
+	 * iteration over this {@code CharSeq} without keeping all of it in memory, as long as they stay within
+	 * {@code bufferSize} of each other. An iteration over the returned {@code CharSeq} that needs an evicted element
+	 * fails with an {@link IllegalStateException}.
+	 *
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default CharSeq memoize(int bufferSize) {
+		requireAtLeastOne(bufferSize, "bufferSize");
+
+		return new MemoizingCharSeq(this, bufferSize);
+	}
+
 	/**
 	 * Repeat this sequence of characters forever, looping back to the beginning when the iterator runs out of chars.
 	 * <p>
@@ -1404,6 +1674,35 @@ public interface CharSeq extends CharCollection, SizedIterable<Character> {
 		return () -> new WindowingCharIterator(iterator(), window, step);
 	}
 
+	/**
+	 * Window the elements of this {@code CharSeq} into a sequence of {@code CharSeq}s of elements, like
+	 * {@link #window(int)}, but where each window is a view of a reused buffer instead of a copy. Each window is only
+	 * valid until the iteration over the windows advances to the next window, after which it reflects the contents
+	 * of the later window. This is equivalent to {@code windowView(window, 1)}.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<CharSeq> windowView(int window) {
+		requireAtLeastOne(window, "window");
+
+		return windowView(window, 1);
+	}
+
+	/**
+	 * Window the elements of this {@code CharSeq} into a sequence of {@code CharSeq}s of elements, like
+	 * {@link #window(int, int)}, but where each window is a view of a reused buffer instead of a copy. Each window is
+	 * only valid until the iteration over the windows advances to the next window, after which it reflects the
+	 * contents of the later window.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<CharSeq> windowView(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		return () -> new WindowingCharIterator(iterator(), window, step, true);
+	}
+
 	/**
 	 * Batch the elements of this {@link Sequence} into a sequence of {@code CharSeq}s of distinct elements, each with
 	 * the given batch size. This is equivalent to {@code window(size, size)}.
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.chars.CharCollection;
+import org.d2ab.collection.chars.CharList;
+import org.d2ab.collection.chars.CharListIterator;
+import org.d2ab.collection.chars.CharSortedSet;
+import org.d2ab.function.CharBiPredicate;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
+import org.d2ab.function.CharPredicate;
+import org.d2ab.iterator.chars.CharIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import static java.util.Objects.requireNonNull;
+import static org.d2ab.util.Preconditions.requireAtLeastOne;
+
+/**
+ * A {@link CharSeq} backed by a {@link CharCollection}, which reports the size and uses the {@link Spliterator}s of the
+ * {@link CharCollection}. Implements {@link #sorted()} without sorting when the backing collection is a sorted set,
+ * {@link #sortedOnce()} by sorting a copy only once, and {@link #reverse()} without copying when the backing collection
+ * is a {@link CharList}. Updates to the backing collection are reflected in the {@code CollectionCharSeq}. This class
+ * should not be used directly as {@link CharSeq#from(CharCollection)} returns this class where appropriate.
+ *
+ * @since 2.4
+ */
+class CollectionCharSeq implements CharSeq {
+	private final CharCollection collection;
+
+	CollectionCharSeq(CharCollection collection) {
+		this.collection = collection;
+	}
+
+	@Override
+	public CharIterator iterator() {
+		return collection.iterator();
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return SizeType.AVAILABLE;
+	}
+
+	@Override
+	public int size() {
+		return collection.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return collection.isEmpty();
+	}
+
+	@Override
+	public Spliterator<Character> spliterator() {
+		return collection.spliterator();
+	}
+
+	@Override
+	public Spliterator.OfInt intSpliterator() {
+		return collection.intSpliterator();
+	}
+
+	@Override
+	public CharSeq sorted() {
+		if (collection instanceof CharSortedSet)
+			return () -> unmodifiable(collection.iterator());
+
+		return () -> {
+			char[] array = collection.toCharArray();
+			Arrays.sort(array);
+			return CharIterator.of(array);
+		};
+	}
+
+	@Override
+	public CharSeq sortedOnce() {
+		if (collection instanceof CharSortedSet)
+			return sorted();
+
+		return new CharSeq() {
+			private volatile char[] sorted;
+
+			@Override
+			public CharIterator iterator() {
+				char[] sorted = this.sorted;
+				if (sorted == null) {
+					sorted = collection.toCharArray();
+					Arrays.sort(sorted);
+					this.sorted = sorted;
+				}
+				return CharIterator.of(sorted);
+			}
+		};
+	}
+
+	@Override
+	public CharSeq reverse() {
+		if (!(collection instanceof CharList))
+			return CharSeq.super.reverse();
+
+		CharList list = (CharList) collection;
+		return () -> new CharIterator() {
+			private final CharListIterator iterator = list.listIterator(list.size());
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasPrevious();
+			}
+
+			@Override
+			public char nextChar() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return iterator.previousChar();
+			}
+		};
+	}
+
+
+	@Override
+	public Sequence<CharSeq> window(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		if (!(collection instanceof CharList && collection instanceof RandomAccess))
+			return CharSeq.super.window(window, step);
+
+		CharList list = (CharList) collection;
+		return () -> new RangeWindowingIterator<CharSeq>(list.size(), window, step) {
+			@Override
+			protected CharSeq toSequence(int from, int to) {
+				return CharSeq.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<CharSeq> batch(CharBiPredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof CharList && collection instanceof RandomAccess))
+			return CharSeq.super.batch(predicate);
+
+		CharList list = (CharList) collection;
+		return () -> new RangePartitioningIterator<CharSeq>(
+				list.size(), i -> predicate.test(list.getChar(i - 1), list.getChar(i))) {
+			@Override
+			protected CharSeq toSequence(int from, int to) {
+				return CharSeq.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<CharSeq> split(char element) {
+		return split(x -> x == element);
+	}
+
+	@Override
+	public Sequence<CharSeq> split(CharPredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof CharList && collection instanceof RandomAccess))
+			return CharSeq.super.split(predicate);
+
+		CharList list = (CharList) collection;
+		return () -> new RangeSplittingIterator<CharSeq>(list.size(), i -> predicate.test(list.getChar(i))) {
+			@Override
+			protected CharSeq toSequence(int from, int to) {
+				return CharSeq.from(list.subList(from, to));
+			}
+		};
+	}
+
+	private static CharIterator unmodifiable(CharIterator iterator) {
+		return new CharIterator() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public char nextChar() {
+				return iterator.nextChar();
+			}
+		};
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.doubles.DoubleCollection;
+import org.d2ab.collection.doubles.DoubleList;
+import org.d2ab.collection.doubles.DoubleListIterator;
+import org.d2ab.collection.doubles.DoubleSortedSet;
+import org.d2ab.function.DoubleBiPredicate;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
+import org.d2ab.iterator.doubles.DoubleIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.DoublePredicate;
+
+import static java.util.Objects.requireNonNull;
+import static org.d2ab.util.Preconditions.requireAtLeastOne;
+
+/**
+ * A {@link DoubleSequence} backed by a {@link DoubleCollection}, which reports the size and uses the {@link
+ * Spliterator} of the {@link DoubleCollection}. Implements {@link #sorted()} without sorting when the backing
+ * collection is a sorted set, {@link #sortedOnce()} by sorting a copy only once, and {@link #reverse()} without copying
+ * when the backing collection is a {@link DoubleList}. Updates to the backing collection are reflected in the {@code
+ * CollectionDoubleSequence}. This class should not be used directly as {@link DoubleSequence#from(DoubleCollection)}
+ * returns this class where appropriate.
+ *
+ * @since 2.4
+ */
+class CollectionDoubleSequence implements DoubleSequence {
+	private final DoubleCollection collection;
+
+	CollectionDoubleSequence(DoubleCollection collection) {
+		this.collection = collection;
+	}
+
+	@Override
+	public DoubleIterator iterator() {
+		return collection.iterator();
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return SizeType.AVAILABLE;
+	}
+
+	@Override
+	public int size() {
+		return collection.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return collection.isEmpty();
+	}
+
+	@Override
+	public Spliterator.OfDouble spliterator() {
+		return collection.spliterator();
+	}
+
+	@Override
+	public DoubleSequence sorted() {
+		if (collection instanceof DoubleSortedSet)
+			return () -> unmodifiable(collection.iterator());
+
+		return () -> {
+			double[] array = collection.toDoubleArray();
+			Arrays.sort(array);
+			return DoubleIterator.of(array);
+		};
+	}
+
+	@Override
+	public DoubleSequence sortedOnce() {
+		if (collection instanceof DoubleSortedSet)
+			return sorted();
+
+		return new DoubleSequence() {
+			private volatile double[] sorted;
+
+			@Override
+			public DoubleIterator iterator() {
+				double[] sorted = this.sorted;
+				if (sorted == null) {
+					sorted = collection.toDoubleArray();
+					Arrays.sort(sorted);
+					this.sorted = sorted;
+				}
+				return DoubleIterator.of(sorted);
+			}
+		};
+	}
+
+	@Override
+	public DoubleSequence reverse() {
+		if (!(collection instanceof DoubleList))
+			return DoubleSequence.super.reverse();
+
+		DoubleList list = (DoubleList) collection;
+		return () -> new DoubleIterator() {
+			private final DoubleListIterator iterator = list.listIterator(list.size());
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasPrevious();
+			}
+
+			@Override
+			public double nextDouble() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return iterator.previousDouble();
+			}
+		};
+	}
+
+
+	@Override
+	public Sequence<DoubleSequence> window(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		if (!(collection instanceof DoubleList && collection instanceof RandomAccess))
+			return DoubleSequence.super.window(window, step);
+
+		DoubleList list = (DoubleList) collection;
+		return () -> new RangeWindowingIterator<DoubleSequence>(list.size(), window, step) {
+			@Override
+			protected DoubleSequence toSequence(int from, int to) {
+				return DoubleSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<DoubleSequence> batch(DoubleBiPredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof DoubleList && collection instanceof RandomAccess))
+			return DoubleSequence.super.batch(predicate);
+
+		DoubleList list = (DoubleList) collection;
+		return () -> new RangePartitioningIterator<DoubleSequence>(
+				list.size(), i -> predicate.test(list.getDouble(i - 1), list.getDouble(i))) {
+			@Override
+			protected DoubleSequence toSequence(int from, int to) {
+				return DoubleSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<DoubleSequence> split(double element) {
+		return split(x -> x == element);
+	}
+
+	@Override
+	public Sequence<DoubleSequence> split(DoublePredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof DoubleList && collection instanceof RandomAccess))
+			return DoubleSequence.super.split(predicate);
+
+		DoubleList list = (DoubleList) collection;
+		return () -> new RangeSplittingIterator<DoubleSequence>(list.size(), i -> predicate.test(list.getDouble(i))) {
+			@Override
+			protected DoubleSequence toSequence(int from, int to) {
+				return DoubleSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	private static DoubleIterator unmodifiable(DoubleIterator iterator) {
+		return new DoubleIterator() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public double nextDouble() {
+				return iterator.nextDouble();
+			}
+		};
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.ints.IntCollection;
+import org.d2ab.collection.ints.IntList;
+import org.d2ab.collection.ints.IntListIterator;
+import org.d2ab.collection.ints.IntSortedSet;
+import org.d2ab.function.IntBiPredicate;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
+import org.d2ab.iterator.ints.IntIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.IntPredicate;
+
+import static java.util.Objects.requireNonNull;
+import static org.d2ab.util.Preconditions.requireAtLeastOne;
+
+/**
+ * An {@link IntSequence} backed by an {@link IntCollection}, which reports the size and uses the {@link Spliterator} of
+ * the {@link IntCollection}. Implements {@link #sorted()} without sorting when the backing collection is a sorted set,
+ * {@link #sortedOnce()} by sorting a copy only once, and {@link #reverse()} without copying when the backing collection
+ * is an {@link IntList}. Updates to the backing collection are reflected in the {@code CollectionIntSequence}. This
+ * class should not be used directly as {@link IntSequence#from(IntCollection)} returns this class where appropriate.
+ *
+ * @since 2.4
+ */
+class CollectionIntSequence implements IntSequence {
+	private final IntCollection collection;
+
+	CollectionIntSequence(IntCollection collection) {
+		this.collection = collection;
+	}
+
+	@Override
+	public IntIterator iterator() {
+		return collection.iterator();
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return SizeType.AVAILABLE;
+	}
+
+	@Override
+	public int size() {
+		return collection.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return collection.isEmpty();
+	}
+
+	@Override
+	public Spliterator.OfInt spliterator() {
+		return collection.spliterator();
+	}
+
+	@Override
+	public IntSequence sorted() {
+		if (collection instanceof IntSortedSet)
+			return () -> unmodifiable(collection.iterator());
+
+		return () -> {
+			int[] array = collection.toIntArray();
+			Arrays.sort(array);
+			return IntIterator.of(array);
+		};
+	}
+
+	@Override
+	public IntSequence sortedOnce() {
+		if (collection instanceof IntSortedSet)
+			return sorted();
+
+		return new IntSequence() {
+			private volatile int[] sorted;
+
+			@Override
+			public IntIterator iterator() {
+				int[] sorted = this.sorted;
+				if (sorted == null) {
+					sorted = collection.toIntArray();
+					Arrays.sort(sorted);
+					this.sorted = sorted;
+				}
+				return IntIterator.of(sorted);
+			}
+		};
+	}
+
+	@Override
+	public IntSequence reverse() {
+		if (!(collection instanceof IntList))
+			return IntSequence.super.reverse();
+
+		IntList list = (IntList) collection;
+		return () -> new IntIterator() {
+			private final IntListIterator iterator = list.listIterator(list.size());
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasPrevious();
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return iterator.previousInt();
+			}
+		};
+	}
+
+
+	@Override
+	public Sequence<IntSequence> window(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		if (!(collection instanceof IntList && collection instanceof RandomAccess))
+			return IntSequence.super.window(window, step);
+
+		IntList list = (IntList) collection;
+		return () -> new RangeWindowingIterator<IntSequence>(list.size(), window, step) {
+			@Override
+			protected IntSequence toSequence(int from, int to) {
+				return IntSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<IntSequence> batch(IntBiPredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof IntList && collection instanceof RandomAccess))
+			return IntSequence.super.batch(predicate);
+
+		IntList list = (IntList) collection;
+		return () -> new RangePartitioningIterator<IntSequence>(
+				list.size(), i -> predicate.test(list.getInt(i - 1), list.getInt(i))) {
+			@Override
+			protected IntSequence toSequence(int from, int to) {
+				return IntSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<IntSequence> split(int element) {
+		return split(x -> x == element);
+	}
+
+	@Override
+	public Sequence<IntSequence> split(IntPredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof IntList && collection instanceof RandomAccess))
+			return IntSequence.super.split(predicate);
+
+		IntList list = (IntList) collection;
+		return () -> new RangeSplittingIterator<IntSequence>(list.size(), i -> predicate.test(list.getInt(i))) {
+			@Override
+			protected IntSequence toSequence(int from, int to) {
+				return IntSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	private static IntIterator unmodifiable(IntIterator iterator) {
+		return new IntIterator() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				return iterator.nextInt();
+			}
+		};
+	}
+}
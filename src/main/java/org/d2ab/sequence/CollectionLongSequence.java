@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.longs.LongCollection;
+import org.d2ab.collection.longs.LongList;
+import org.d2ab.collection.longs.LongListIterator;
+import org.d2ab.collection.longs.LongSortedSet;
+import org.d2ab.function.LongBiPredicate;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
+import org.d2ab.iterator.longs.LongIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.LongPredicate;
+
+import static java.util.Objects.requireNonNull;
+import static org.d2ab.util.Preconditions.requireAtLeastOne;
+
+/**
+ * A {@link LongSequence} backed by a {@link LongCollection}, which reports the size and uses the {@link Spliterator} of
+ * the {@link LongCollection}. Implements {@link #sorted()} without sorting when the backing collection is a sorted set,
+ * {@link #sortedOnce()} by sorting a copy only once, and {@link #reverse()} without copying when the backing collection
+ * is a {@link LongList}. Updates to the backing collection are reflected in the {@code CollectionLongSequence}. This
+ * class should not be used directly as {@link LongSequence#from(LongCollection)} returns this class where appropriate.
+ *
+ * @since 2.4
+ */
+class CollectionLongSequence implements LongSequence {
+	private final LongCollection collection;
+
+	CollectionLongSequence(LongCollection collection) {
+		this.collection = collection;
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return collection.iterator();
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return SizeType.AVAILABLE;
+	}
+
+	@Override
+	public int size() {
+		return collection.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return collection.isEmpty();
+	}
+
+	@Override
+	public Spliterator.OfLong spliterator() {
+		return collection.spliterator();
+	}
+
+	@Override
+	public LongSequence sorted() {
+		if (collection instanceof LongSortedSet)
+			return () -> unmodifiable(collection.iterator());
+
+		return () -> {
+			long[] array = collection.toLongArray();
+			Arrays.sort(array);
+			return LongIterator.of(array);
+		};
+	}
+
+	@Override
+	public LongSequence sortedOnce() {
+		if (collection instanceof LongSortedSet)
+			return sorted();
+
+		return new LongSequence() {
+			private volatile long[] sorted;
+
+			@Override
+			public LongIterator iterator() {
+				long[] sorted = this.sorted;
+				if (sorted == null) {
+					sorted = collection.toLongArray();
+					Arrays.sort(sorted);
+					this.sorted = sorted;
+				}
+				return LongIterator.of(sorted);
+			}
+		};
+	}
+
+	@Override
+	public LongSequence reverse() {
+		if (!(collection instanceof LongList))
+			return LongSequence.super.reverse();
+
+		LongList list = (LongList) collection;
+		return () -> new LongIterator() {
+			private final LongListIterator iterator = list.listIterator(list.size());
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasPrevious();
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return iterator.previousLong();
+			}
+		};
+	}
+
+
+	@Override
+	public Sequence<LongSequence> window(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		if (!(collection instanceof LongList && collection instanceof RandomAccess))
+			return LongSequence.super.window(window, step);
+
+		LongList list = (LongList) collection;
+		return () -> new RangeWindowingIterator<LongSequence>(list.size(), window, step) {
+			@Override
+			protected LongSequence toSequence(int from, int to) {
+				return LongSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<LongSequence> batch(LongBiPredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof LongList && collection instanceof RandomAccess))
+			return LongSequence.super.batch(predicate);
+
+		LongList list = (LongList) collection;
+		return () -> new RangePartitioningIterator<LongSequence>(
+				list.size(), i -> predicate.test(list.getLong(i - 1), list.getLong(i))) {
+			@Override
+			protected LongSequence toSequence(int from, int to) {
+				return LongSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	@Override
+	public Sequence<LongSequence> split(long element) {
+		return split(x -> x == element);
+	}
+
+	@Override
+	public Sequence<LongSequence> split(LongPredicate predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(collection instanceof LongList && collection instanceof RandomAccess))
+			return LongSequence.super.split(predicate);
+
+		LongList list = (LongList) collection;
+		return () -> new RangeSplittingIterator<LongSequence>(list.size(), i -> predicate.test(list.getLong(i))) {
+			@Override
+			protected LongSequence toSequence(int from, int to) {
+				return LongSequence.from(list.subList(from, to));
+			}
+		};
+	}
+
+	private static LongIterator unmodifiable(LongIterator iterator) {
+		return new LongIterator() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				return iterator.nextLong();
+			}
+		};
+	}
+}
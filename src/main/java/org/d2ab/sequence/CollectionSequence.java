@@ -19,6 +19,7 @@ package org.d2ab.sequence;
 import org.d2ab.collection.*;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -133,6 +134,15 @@ public class CollectionSequence<T> implements Sequence<T> {
 		return Collectionz.asList(collection);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public Sequence<T> parallel(ForkJoinPool pool) {
+		if (ParallelSequence.isSplittable(collection))
+			return ParallelSequence.from((List<T>) collection, pool);
+
+		return Sequence.super.parallel(pool);
+	}
+
 	@Override
 	public Sequence<T> filter(Predicate<? super T> predicate) {
 		return from(FilteredCollection.from(collection, predicate));
@@ -23,11 +23,22 @@ import org.d2ab.function.DoubleBiPredicate;
 import org.d2ab.function.DoubleIntConsumer;
 import org.d2ab.function.DoubleIntPredicate;
 import org.d2ab.function.DoubleIntToDoubleFunction;
+import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.Iterators;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
 import org.d2ab.iterator.doubles.*;
 import org.d2ab.iterator.ints.IntIterator;
 import org.d2ab.iterator.longs.LongIterator;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.DoubleStream;
@@ -79,7 +90,185 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 		requireSizeWithinBounds(offset, "offset", array.length, "array.length");
 		requireSizeWithinBounds(size, "size", array.length - offset, "array.length - offset");
 
-		return () -> DoubleIterator.from(array, offset, size);
+		return new DoubleSequence() {
+			@Override
+			public DoubleIterator iterator() {
+				return DoubleIterator.from(array, offset, size);
+			}
+
+			@Override
+			public SizeType sizeType() {
+				return SizeType.FIXED;
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return size == 0;
+			}
+
+			@Override
+			public OptionalDouble at(int index) {
+				requireAtLeastZero(index, "index");
+
+				if (index >= size)
+					return OptionalDouble.empty();
+
+				return OptionalDouble.of(array[offset + index]);
+			}
+
+			@Override
+			public OptionalDouble last() {
+				if (size == 0)
+					return OptionalDouble.empty();
+
+				return OptionalDouble.of(array[offset + size - 1]);
+			}
+
+			@Override
+			public DoubleSequence skip(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				int skipped = Math.min(skip, size);
+				return DoubleSequence.from(array, offset + skipped, size - skipped);
+			}
+
+			@Override
+			public DoubleSequence skipTail(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				return DoubleSequence.from(array, offset, size - Math.min(skip, size));
+			}
+
+			@Override
+			public DoubleSequence limit(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				return DoubleSequence.from(array, offset, Math.min(limit, size));
+			}
+
+			@Override
+			public DoubleSequence limitTail(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				int limited = Math.min(limit, size);
+				return DoubleSequence.from(array, offset + size - limited, limited);
+			}
+
+			@Override
+			public DoubleSequence step(int step) {
+				requireAtLeastOne(step, "step");
+
+				int steps = size == 0 ? 0 : (size - 1) / step + 1;
+				return new DoubleSequence() {
+					@Override
+					public DoubleIterator iterator() {
+						return new DoubleIterator() {
+							private int index;
+
+							@Override
+							public boolean hasNext() {
+								return index < steps;
+							}
+
+							@Override
+							public double nextDouble() {
+								if (!hasNext())
+									throw new NoSuchElementException();
+
+								return array[offset + index++ * step];
+							}
+						};
+					}
+
+					@Override
+					public SizeType sizeType() {
+						return SizeType.FIXED;
+					}
+
+					@Override
+					public int size() {
+						return steps;
+					}
+
+					@Override
+					public boolean isEmpty() {
+						return steps == 0;
+					}
+
+					@Override
+					public OptionalDouble at(int index) {
+						requireAtLeastZero(index, "index");
+
+						if (index >= steps)
+							return OptionalDouble.empty();
+
+						return OptionalDouble.of(array[offset + index * step]);
+					}
+
+					@Override
+					public OptionalDouble last() {
+						if (steps == 0)
+							return OptionalDouble.empty();
+
+						return OptionalDouble.of(array[offset + (steps - 1) * step]);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<DoubleSequence> window(int window, int step) {
+				requireAtLeastOne(window, "window");
+				requireAtLeastOne(step, "step");
+
+				return () -> new RangeWindowingIterator<DoubleSequence>(size, window, step) {
+					@Override
+					protected DoubleSequence toSequence(int from, int to) {
+						return DoubleSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<DoubleSequence> batch(DoubleBiPredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangePartitioningIterator<DoubleSequence>(
+						size, i -> predicate.test(array[offset + i - 1], array[offset + i])) {
+					@Override
+					protected DoubleSequence toSequence(int from, int to) {
+						return DoubleSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<DoubleSequence> split(double element) {
+				return split(x -> x == element);
+			}
+
+			@Override
+			public Sequence<DoubleSequence> split(DoublePredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangeSplittingIterator<DoubleSequence>(size, i -> predicate.test(array[offset + i])) {
+					@Override
+					protected DoubleSequence toSequence(int from, int to) {
+						return DoubleSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+		};
 	}
 
 	/**
@@ -90,9 +279,28 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	static DoubleSequence from(DoubleIterable iterable) {
 		requireNonNull(iterable, "iterable");
 
+		if (iterable instanceof DoubleCollection)
+			return from((DoubleCollection) iterable);
+
 		return iterable::iterator;
 	}
 
+	/**
+	 * Create a {@code DoubleSequence} from a {@link DoubleCollection}, which reports the size and uses the {@link Spliterator} of the
+	 * {@link DoubleCollection}.
+	 *
+	 * @see #cache(DoubleIterable)
+	 * @since 2.4
+	 */
+	static DoubleSequence from(DoubleCollection collection) {
+		requireNonNull(collection, "collection");
+
+		if (collection instanceof DoubleSequence)
+			return (DoubleSequence) collection;
+
+		return new CollectionDoubleSequence(collection);
+	}
+
 	/**
 	 * Create a {@code DoubleSequence} from an {@link Iterable} of {@code Double} values.
 	 *
@@ -162,6 +370,43 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 		return once(stream.iterator());
 	}
 
+	/**
+	 * Create a {@code DoubleSequence} from a {@link ReadableByteChannel} which iterates over the {@code doubles} in the
+	 * channel, decoded in the given {@link ByteOrder}. If the channel is a {@link SeekableByteChannel}, it will be
+	 * repositioned to where the first iteration started in between iterations, otherwise the {@code DoubleSequence} will
+	 * only be available to iterate over once. If an {@link IOException} occurs during iteration, an
+	 * {@link IterationException} will be thrown. The channel will not be closed by the {@code DoubleSequence} when
+	 * iteration finishes, it must be closed externally when iteration is finished.
+	 *
+	 * @see #writeTo(WritableByteChannel, ByteOrder)
+	 * @see #mapFile(Path, ByteOrder)
+	 * @since 2.4
+	 */
+	static DoubleSequence read(ReadableByteChannel channel, ByteOrder order) {
+		requireNonNull(channel, "channel");
+		requireNonNull(order, "order");
+
+		return DoubleIterable.read(channel, order)::iterator;
+	}
+
+	/**
+	 * Create a {@code DoubleSequence} over the {@code doubles} in the given file, decoded in the given {@link ByteOrder},
+	 * by mapping the file into memory. The file is mapped read-only in regions of up to 2GB, so files larger than
+	 * what fits in an array are supported, and the {@code doubles} are read directly from the mapped memory during
+	 * iteration. The file must not be truncated while the {@code DoubleSequence} is in use.
+	 *
+	 * @throws IOException if the file could not be mapped, or if its size is not a multiple of {@link Double#BYTES}.
+	 * @see #read(ReadableByteChannel, ByteOrder)
+	 * @see #writeTo(WritableByteChannel, ByteOrder)
+	 * @since 2.4
+	 */
+	static DoubleSequence mapFile(Path path, ByteOrder order) throws IOException {
+		requireNonNull(path, "path");
+		requireNonNull(order, "order");
+
+		return MappedDoubleSequence.map(path, order);
+	}
+
 	/**
 	 * Create a {@code DoubleSequence} from a cached copy of a {@link PrimitiveIterator.OfDouble}.
 	 *
@@ -567,6 +812,13 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 			public double nextDouble() {
 				return mapper.applyAsDouble(iterator.nextDouble());
 			}
+
+			@Override
+			public void forEachRemaining(DoubleConsumer action) {
+				requireNonNull(action, "action");
+
+				iterator.forEachRemaining((double x) -> action.accept(mapper.applyAsDouble(x)));
+			}
 		};
 	}
 
@@ -792,7 +1044,11 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	default DoubleSequence includingExactly(double... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> Arrayz.containsExactly(array, e));
+		// -0.0 == 0.0 and NaN != NaN, so store and look up with -0.0 normalized and never match NaN
+		DoubleSet set = new HashDoubleSet();
+		for (double x : array)
+			set.addDoubleExactly(x + 0.0);
+		return filter(e -> !Double.isNaN(e) && set.containsDoubleExactly(e + 0.0));
 	}
 
 	/**
@@ -804,7 +1060,8 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	default DoubleSequence including(double[] array, double precision) {
 		requireNonNull(array, "array");
 
-		return filter(e -> Arrayz.contains(array, e, precision));
+		DoubleSet set = new BucketDoubleSet(precision, array);
+		return filter(e -> set.containsDouble(e, precision));
 	}
 
 	/**
@@ -816,7 +1073,11 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	default DoubleSequence excludingExactly(double... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> !Arrayz.containsExactly(array, e));
+		// -0.0 == 0.0 and NaN != NaN, so store and look up with -0.0 normalized and never match NaN
+		DoubleSet set = new HashDoubleSet();
+		for (double x : array)
+			set.addDoubleExactly(x + 0.0);
+		return filter(e -> Double.isNaN(e) || !set.containsDoubleExactly(e + 0.0));
 	}
 
 	/**
@@ -828,7 +1089,8 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	default DoubleSequence excluding(double[] array, double precision) {
 		requireNonNull(array, "array");
 
-		return filter(e -> !Arrayz.contains(array, e, precision));
+		DoubleSet set = new BucketDoubleSet(precision, array);
+		return filter(e -> !set.containsDouble(e, precision));
 	}
 
 	/**
@@ -849,10 +1111,19 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	}
 
 	/**
-	 * Collect the elements in this {@code DoubleSequence} into an {@link DoubleSet}.
+	 * Collect the elements in this {@code DoubleSequence} into an {@link DoubleSet}. The {@code doubles} are collected
+	 * into a {@link HashDoubleSet}, which is returned if their raw bits are sparse, as they usually are, or copied into
+	 * a {@link RawDoubleSet} if they are dense enough to be stored more compactly there.
 	 */
 	default DoubleSet toSet() {
-		return toSet(RawDoubleSet::new);
+		HashDoubleSet set = toSet(HashDoubleSet::new);
+		if (!set.isDense())
+			return set;
+
+		DoubleSet dense = new RawDoubleSet();
+		for (DoubleIterator iterator = set.iterator(); iterator.hasNext(); )
+			dense.addDoubleExactly(iterator.nextDouble());
+		return dense;
 	}
 
 	/**
@@ -909,8 +1180,7 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 		requireNonNull(result, "result");
 		requireNonNull(adder, "adder");
 
-		for (DoubleIterator iterator = iterator(); iterator.hasNext(); )
-			adder.accept(result, iterator.nextDouble());
+		iterator().forEachRemaining((double x) -> adder.accept(result, x));
 		return result;
 	}
 
@@ -947,6 +1217,34 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 		return result.append(suffix).toString();
 	}
 
+	/**
+	 * Write the {@code doubles} in this {@code DoubleSequence} to the given {@link WritableByteChannel}, encoded in the
+	 * given {@link ByteOrder}. The {@code doubles} are encoded in blocks into an internal buffer, which is written to the
+	 * channel as it fills up. The channel must be a blocking channel, and will not be closed when writing finishes.
+	 *
+	 * @see #read(ReadableByteChannel, ByteOrder)
+	 * @since 2.4
+	 */
+	default void writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+		requireNonNull(channel, "channel");
+		requireNonNull(order, "order");
+
+		ByteBuffer buffer = ByteBuffer.allocate(8192).order(order);
+		for (DoubleIterator iterator = iterator(); iterator.hasNext(); ) {
+			buffer.putDouble(iterator.nextDouble());
+			if (!buffer.hasRemaining()) {
+				buffer.flip();
+				while (buffer.hasRemaining())
+					channel.write(buffer);
+				buffer.clear();
+			}
+		}
+
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+	}
+
 	/**
 	 * Reduce this {@code DoubleSequence} into a single {@code double} by iteratively applying the given binary
 	 * operator to the current result and each {@code double} in the sequence.
@@ -1101,19 +1399,20 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	 * @return the sum of the {@code doubles} in this {@code DoubleSequence}.
 	 */
 	default double sum() {
-		double result = 0;
-		for (DoubleIterator it = iterator(); it.hasNext(); )
-			result += it.nextDouble();
-		return result;
+		double[] result = {0};
+		iterator().forEachRemaining((double x) -> result[0] += x);
+		return result[0];
 	}
 
 	default OptionalDouble average() {
-		long count = 0;
-		double sum = 0;
-		for (DoubleIterator iterator = iterator(); iterator.hasNext(); count++)
-			sum += iterator.nextDouble();
+		long[] count = {0};
+		double[] sum = {0};
+		iterator().forEachRemaining((double x) -> {
+			count[0]++;
+			sum[0] += x;
+		});
 
-		return count > 0 ? OptionalDouble.of(sum / count) : OptionalDouble.empty();
+		return count[0] > 0 ? OptionalDouble.of(sum[0] / count[0]) : OptionalDouble.empty();
 	}
 
 	default DoubleSummaryStatistics statistics() {
@@ -1130,13 +1429,22 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 	}
 
 	/**
-	 * @return an unsized {@link Spliterator.OfDouble} for this {@code DoubleSequence}.
+	 * @return a {@link Spliterator.OfDouble} for this {@code DoubleSequence}, which reports {@link Spliterator#SIZED} and
+	 * {@link Spliterator#SUBSIZED} if the size of this {@code DoubleSequence} is known without traversal.
 	 *
 	 * @since 2.2
 	 */
 	@Override
 	default Spliterator.OfDouble spliterator() {
-		return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		switch (sizeType()) {
+			case AVAILABLE:
+			case FIXED:
+				return Spliterators.spliterator(iterator(), size(), 0);
+			case UNAVAILABLE:
+			case INFINITE:
+			default:
+				return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		}
 	}
 
 	/**
@@ -1222,6 +1530,54 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 		};
 	}
 
+	/**
+	 * @return this {@code DoubleSequence} sorted according to the natural order of the double values, like {@link
+	 * #sorted()}, but sorted only once, the first time the returned {@code DoubleSequence} is iterated over, and kept
+	 * in memory for later iterations. Changes to this {@code DoubleSequence} after that are not necessarily reflected
+	 * in the returned {@code DoubleSequence}.
+	 *
+	 * @see #sorted()
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default DoubleSequence sortedOnce() {
+		return sorted().memoize();
+	}
+
+	/**
+	 * @return the {@code n} greatest {@code doubles} in this {@code DoubleSequence}, in descending order. Equivalent to
+	 * sorting this {@code DoubleSequence} in descending order and limiting the result to {@code n} {@code doubles}, but keeps
+	 * only {@code n} {@code doubles} in memory while traversing this {@code DoubleSequence}.
+	 *
+	 * @see #bottom(int)
+	 * @since 2.4
+	 */
+	default DoubleSequence top(int n) {
+		requireAtLeastZero(n, "n");
+
+		if (n == 0)
+			return empty();
+
+		return () -> new BoundedSortingDoubleIterator(iterator(), n, true);
+	}
+
+	/**
+	 * @return the {@code n} smallest {@code doubles} in this {@code DoubleSequence}, in ascending order. Equivalent to
+	 * {@code sorted().limit(n)}, but keeps only {@code n} {@code doubles} in memory while traversing this
+	 * {@code DoubleSequence}.
+	 *
+	 * @see #top(int)
+	 * @since 2.4
+	 */
+	default DoubleSequence bottom(int n) {
+		requireAtLeastZero(n, "n");
+
+		if (n == 0)
+			return empty();
+
+		return () -> new BoundedSortingDoubleIterator(iterator(), n, false);
+	}
+
 	/**
 	 * Prefix the doubles in this {@code DoubleSequence} with the given doubles.
 	 */
@@ -1341,6 +1697,38 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 		return () -> LongIterator.from(iterator(), mapper);
 	}
 
+	/**
+	 * Memoize the {@code doubles} of this {@code DoubleSequence} lazily as they are first iterated over, so that this
+	 * {@code DoubleSequence} is iterated over only once, and no further than the furthest iteration over the returned
+	 * {@code DoubleSequence}. This is useful when this {@code DoubleSequence} is expensive to compute or can only be
+	 * iterated over once, and is not necessarily iterated over to the end. The returned {@code DoubleSequence} may be
+	 * iterated over concurrently from several threads.
+	 *
+	 * @see #memoize(int)
+	 * @see #cache(DoubleIterable)
+	 * @since 2.4
+	 */
+	default DoubleSequence memoize() {
+		return new MemoizingDoubleSequence(this, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Memoize the {@code doubles} of this {@code DoubleSequence} lazily as they are first iterated over, like
+	 * {@link #memoize()}, but keeping only the last {@code bufferSize} {@code doubles} that have been read from this
+	 * {@code DoubleSequence}. This allows several forward-only iterations over the returned {@code DoubleSequence} to
+	 * share a single iteration over this {@code DoubleSequence} without keeping all of it in memory, as long as they
+	 * stay within {@code bufferSize} of each other. An iteration over the returned {@code DoubleSequence} that needs an
+	 * evicted element fails with an {@link IllegalStateException}.
+	 *
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default DoubleSequence memoize(int bufferSize) {
+		requireAtLeastOne(bufferSize, "bufferSize");
+
+		return new MemoizingDoubleSequence(this, bufferSize);
+	}
+
 	/**
 	 * Repeat this sequence of characters doubles, looping back to the beginning when the iterator runs out of doubles.
 	 * <p>
@@ -1384,6 +1772,100 @@ public interface DoubleSequence extends DoubleCollection, SizedIterable<Double>
 		return () -> new WindowingDoubleIterator(iterator(), window, step);
 	}
 
+	/**
+	 * Window the elements of this {@code DoubleSequence} into a sequence of {@code DoubleSequence}s of elements, like
+	 * {@link #window(int)}, but where each window is a view of a reused buffer instead of a copy. Each window is only
+	 * valid until the iteration over the windows advances to the next window, after which it reflects the contents
+	 * of the later window. This is equivalent to {@code windowView(window, 1)}.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<DoubleSequence> windowView(int window) {
+		requireAtLeastOne(window, "window");
+
+		return windowView(window, 1);
+	}
+
+	/**
+	 * Window the elements of this {@code DoubleSequence} into a sequence of {@code DoubleSequence}s of elements, like
+	 * {@link #window(int, int)}, but where each window is a view of a reused buffer instead of a copy. Each window is
+	 * only valid until the iteration over the windows advances to the next window, after which it reflects the
+	 * contents of the later window.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<DoubleSequence> windowView(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		return () -> new WindowingDoubleIterator(iterator(), window, step, true);
+	}
+
+	/**
+	 * @return a {@code DoubleSequence} of the sums of the {@code doubles} in each window of this {@code DoubleSequence}, as given by
+	 * {@link #window(int)}. The sum is updated incrementally as the window slides, rather than being summed for each
+	 * window.
+	 *
+	 * @since 2.4
+	 */
+	default DoubleSequence slidingSum(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingSumDoubleIterator(iterator(), window);
+	}
+
+	/**
+	 * @return a {@code DoubleSequence} of the minimum {@code double} in each window of this {@code DoubleSequence}, as given by
+	 * {@link #window(int)}. The minimum is maintained incrementally as the window slides, rather than being
+	 * searched for in each window.
+	 *
+	 * @since 2.4
+	 */
+	default DoubleSequence slidingMin(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingExtremumDoubleIterator(iterator(), window, false);
+	}
+
+	/**
+	 * @return a {@code DoubleSequence} of the maximum {@code double} in each window of this {@code DoubleSequence}, as given by
+	 * {@link #window(int)}. The maximum is maintained incrementally as the window slides, rather than being
+	 * searched for in each window.
+	 *
+	 * @since 2.4
+	 */
+	default DoubleSequence slidingMax(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingExtremumDoubleIterator(iterator(), window, true);
+	}
+
+	/**
+	 * @return a {@code DoubleSequence} of the averages of the {@code doubles} in each window of this {@code DoubleSequence}, as
+	 * given by {@link #window(int)}. The sum of the window is updated incrementally as the window slides, rather than
+	 * being summed for each window.
+	 *
+	 * @since 2.4
+	 */
+	default DoubleSequence slidingAverage(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingAverageDoubleIterator(iterator(), window);
+	}
+
+	/**
+	 * @return a {@code DoubleSequence} of the population variances of the {@code doubles} in each window of this
+	 * {@code DoubleSequence}, as given by {@link #window(int)}. The mean and variance are updated incrementally as the
+	 * window slides, rather than being computed for each window.
+	 *
+	 * @since 2.4
+	 */
+	default DoubleSequence slidingVariance(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingVarianceDoubleIterator(iterator(), window);
+	}
+
 	/**
 	 * Batch the elements of this {@code DoubleSequence} into a sequence of {@code DoubleSequence}s of distinct
 	 * elements,
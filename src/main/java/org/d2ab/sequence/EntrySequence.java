@@ -579,10 +579,14 @@ public interface EntrySequence<K, V> extends IterableCollection<Entry<K, V>> {
 	default EntrySequence<K, V> including(Entry<K, V>... entries) {
 		requireNonNull(entries, "entries");
 
-		return filter(e -> Arrayz.contains(entries, e));
+		Set<Entry<K, V>> set = new HashSet<>(Arrays.asList(entries));
+		return filter(e -> set.contains(e));
 	}
 
 	/**
+	 * The target iterable is collected into a {@link Set} the first time it is needed, so later changes to it are only
+	 * reflected if it is a {@link Set} itself.
+	 *
 	 * @return a {@code EntrySequence} containing only the entries found in the given target iterable.
 	 *
 	 * @since 1.2
@@ -590,7 +594,7 @@ public interface EntrySequence<K, V> extends IterableCollection<Entry<K, V>> {
 	default EntrySequence<K, V> including(Iterable<? extends Entry<K, V>> entries) {
 		requireNonNull(entries, "entries");
 
-		return filter(e -> Iterables.contains(entries, e));
+		return filter(Iterables.containedIn(entries));
 	}
 
 	/**
@@ -600,10 +604,14 @@ public interface EntrySequence<K, V> extends IterableCollection<Entry<K, V>> {
 	 */
 	@SuppressWarnings("unchecked")
 	default EntrySequence<K, V> excluding(Entry<K, V>... entries) {
-		return filter(e -> !Arrayz.contains(entries, e));
+		Set<Entry<K, V>> set = new HashSet<>(Arrays.asList(entries));
+		return filter(e -> !set.contains(e));
 	}
 
 	/**
+	 * The target iterable is collected into a {@link Set} the first time it is needed, so later changes to it are only
+	 * reflected if it is a {@link Set} itself.
+	 *
 	 * @return a {@code EntrySequence} containing only the entries not found in the given target iterable.
 	 *
 	 * @since 1.2
@@ -611,7 +619,7 @@ public interface EntrySequence<K, V> extends IterableCollection<Entry<K, V>> {
 	default EntrySequence<K, V> excluding(Iterable<? extends Entry<K, V>> entries) {
 		requireNonNull(entries, "entries");
 
-		return filter(e -> !Iterables.contains(entries, e));
+		return filter(Iterables.containedIn(entries).negate());
 	}
 
 	/**
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.SizedIterable;
+import org.d2ab.function.ObjIntFunction;
+import org.d2ab.function.ObjIntPredicate;
+import org.d2ab.iterator.FusedIterator;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+import static org.d2ab.collection.SizedIterable.SizeType.UNAVAILABLE;
+import static org.d2ab.iterator.FusedIterator.SKIP;
+
+/**
+ * A {@link Sequence} which fuses consecutive stateless operations, i.e. {@link #map}, {@link #filter}, {@link #peek}
+ * and their indexed variants, into a single {@link FusedIterator} over the source {@link Sequence}, instead of
+ * wrapping one {@link Iterator} per operation. Any other operation ends the fused chain and wraps the
+ * {@link FusedIterator} as usual.
+ */
+class FusedSequence<S, T> implements Sequence<T> {
+	private static final Stage[] NO_STAGES = new Stage[0];
+
+	private final Sequence<S> source;
+	private final Stage[] stages;
+	private final int lastFilter;
+
+	static <T> FusedSequence<T, T> from(Sequence<T> source) {
+		return new FusedSequence<>(source, NO_STAGES, -1);
+	}
+
+	private FusedSequence(Sequence<S> source, Stage[] stages, int lastFilter) {
+		this.source = source;
+		this.stages = stages;
+		this.lastFilter = lastFilter;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		Function<Object, Object> filtering = null;
+		Function<Object, Object> mapping = Function.identity();
+		for (int i = 0; i < stages.length; i++) {
+			Function<Object, Object> stage = stages[i].start();
+			if (i <= lastFilter)
+				filtering = filtering == null ? stage : skipping(filtering, stage);
+			else
+				mapping = i == lastFilter + 1 ? stage : mapping.andThen(stage);
+		}
+
+		@SuppressWarnings("unchecked")
+		Function<Object, T> castMapping = (Function<Object, T>) mapping;
+		return new FusedIterator<>(source.iterator(), filtering, castMapping);
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return lastFilter < 0 ? source.sizeType() : UNAVAILABLE;
+	}
+
+	@Override
+	public int size() {
+		return lastFilter < 0 ? source.size() : SizedIterable.size(this);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return lastFilter < 0 ? source.isEmpty() : SizedIterable.isEmpty(this);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <U> Sequence<U> map(Function<? super T, ? extends U> mapper) {
+		requireNonNull(mapper, "mapper");
+
+		return then(false, () -> (Function<Object, Object>) mapper);
+	}
+
+	@Override
+	public <U> Sequence<U> mapIndexed(ObjIntFunction<? super T, ? extends U> mapper) {
+		requireNonNull(mapper, "mapper");
+
+		return then(false, () -> new Function<Object, Object>() {
+			private int index;
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public Object apply(Object t) {
+				return mapper.apply((T) t, index++);
+			}
+		});
+	}
+
+	@Override
+	public Sequence<T> filter(Predicate<? super T> predicate) {
+		requireNonNull(predicate, "predicate");
+
+		return then(true, () -> t -> {
+			@SuppressWarnings("unchecked")
+			T element = (T) t;
+			return predicate.test(element) ? t : SKIP;
+		});
+	}
+
+	@Override
+	public Sequence<T> filterIndexed(ObjIntPredicate<? super T> predicate) {
+		requireNonNull(predicate, "predicate");
+
+		return then(true, () -> new Function<Object, Object>() {
+			private int index;
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public Object apply(Object t) {
+				return predicate.test((T) t, index++) ? t : SKIP;
+			}
+		});
+	}
+
+	@Override
+	public Sequence<T> peek(Consumer<? super T> action) {
+		requireNonNull(action, "action");
+
+		return then(false, () -> t -> {
+			@SuppressWarnings("unchecked")
+			T element = (T) t;
+			action.accept(element);
+			return t;
+		});
+	}
+
+	@Override
+	public Sequence<T> peekIndexed(ObjIntConsumer<? super T> action) {
+		requireNonNull(action, "action");
+
+		return then(false, () -> new Function<Object, Object>() {
+			private int index;
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public Object apply(Object t) {
+				action.accept((T) t, index++);
+				return t;
+			}
+		});
+	}
+
+	private <U> Sequence<U> then(boolean filtering, Stage stage) {
+		Stage[] stages = Arrays.copyOf(this.stages, this.stages.length + 1);
+		stages[this.stages.length] = stage;
+		return new FusedSequence<>(source, stages, filtering ? this.stages.length : lastFilter);
+	}
+
+	private static Function<Object, Object> skipping(Function<Object, Object> first, Function<Object, Object> second) {
+		return t -> {
+			Object result = first.apply(t);
+			return result == SKIP ? SKIP : second.apply(result);
+		};
+	}
+
+	/**
+	 * A fused operation, which provides a new function for each traversal so that it may keep per-traversal state
+	 * such as the current index.
+	 */
+	@FunctionalInterface
+	private interface Stage {
+		Function<Object, Object> start();
+	}
+}
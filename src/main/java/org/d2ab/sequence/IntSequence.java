@@ -24,6 +24,9 @@ import org.d2ab.function.IntBiPredicate;
 import org.d2ab.function.IntToCharFunction;
 import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.Iterators;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
 import org.d2ab.iterator.chars.CharIterator;
 import org.d2ab.iterator.doubles.DoubleIterator;
 import org.d2ab.iterator.ints.*;
@@ -58,7 +61,7 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 	static IntSequence of(int... array) {
 		requireNonNull(array, "array");
 
-		return () -> IntIterator.of(array);
+		return from(array, 0, array.length);
 	}
 
 	/**
@@ -68,7 +71,7 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 		requireNonNull(array, "array");
 		requireSizeWithinBounds(size, "size", array.length, "array.length");
 
-		return () -> IntIterator.from(array, size);
+		return from(array, 0, size);
 	}
 
 	/**
@@ -80,7 +83,224 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 		requireSizeWithinBounds(offset, "offset", array.length, "array.length");
 		requireSizeWithinBounds(size, "size", array.length - offset, "array.length - offset");
 
-		return () -> IntIterator.from(array, offset, size);
+		return new IntSequence() {
+			@Override
+			public IntIterator iterator() {
+				return IntIterator.from(array, offset, size);
+			}
+
+			@Override
+			public SizeType sizeType() {
+				return SizeType.FIXED;
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return size == 0;
+			}
+
+			@Override
+			public Spliterator.OfInt spliterator() {
+				return Arrays.spliterator(array, offset, offset + size);
+			}
+
+			@Override
+			public IntSequence sorted() {
+				return () -> {
+					for (int i = offset + 1; i < offset + size; i++)
+						if (array[i - 1] > array[i]) {
+							int[] sorted = Arrays.copyOfRange(array, offset, offset + size);
+							Arrays.sort(sorted);
+							return IntIterator.of(sorted);
+						}
+
+					return IntIterator.from(array, offset, size);
+				};
+			}
+
+			@Override
+			public IntSequence reverse() {
+				return () -> new IntIterator() {
+					private int index = offset + size;
+
+					@Override
+					public boolean hasNext() {
+						return index > offset;
+					}
+
+					@Override
+					public int nextInt() {
+						if (!hasNext())
+							throw new NoSuchElementException();
+
+						return array[--index];
+					}
+				};
+			}
+
+			@Override
+			public OptionalInt at(int index) {
+				requireAtLeastZero(index, "index");
+
+				if (index >= size)
+					return OptionalInt.empty();
+
+				return OptionalInt.of(array[offset + index]);
+			}
+
+			@Override
+			public OptionalInt last() {
+				if (size == 0)
+					return OptionalInt.empty();
+
+				return OptionalInt.of(array[offset + size - 1]);
+			}
+
+			@Override
+			public IntSequence skip(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				int skipped = Math.min(skip, size);
+				return IntSequence.from(array, offset + skipped, size - skipped);
+			}
+
+			@Override
+			public IntSequence skipTail(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				return IntSequence.from(array, offset, size - Math.min(skip, size));
+			}
+
+			@Override
+			public IntSequence limit(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				return IntSequence.from(array, offset, Math.min(limit, size));
+			}
+
+			@Override
+			public IntSequence limitTail(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				int limited = Math.min(limit, size);
+				return IntSequence.from(array, offset + size - limited, limited);
+			}
+
+			@Override
+			public IntSequence step(int step) {
+				requireAtLeastOne(step, "step");
+
+				int steps = size == 0 ? 0 : (size - 1) / step + 1;
+				return new IntSequence() {
+					@Override
+					public IntIterator iterator() {
+						return new IntIterator() {
+							private int index;
+
+							@Override
+							public boolean hasNext() {
+								return index < steps;
+							}
+
+							@Override
+							public int nextInt() {
+								if (!hasNext())
+									throw new NoSuchElementException();
+
+								return array[offset + index++ * step];
+							}
+						};
+					}
+
+					@Override
+					public SizeType sizeType() {
+						return SizeType.FIXED;
+					}
+
+					@Override
+					public int size() {
+						return steps;
+					}
+
+					@Override
+					public boolean isEmpty() {
+						return steps == 0;
+					}
+
+					@Override
+					public OptionalInt at(int index) {
+						requireAtLeastZero(index, "index");
+
+						if (index >= steps)
+							return OptionalInt.empty();
+
+						return OptionalInt.of(array[offset + index * step]);
+					}
+
+					@Override
+					public OptionalInt last() {
+						if (steps == 0)
+							return OptionalInt.empty();
+
+						return OptionalInt.of(array[offset + (steps - 1) * step]);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<IntSequence> window(int window, int step) {
+				requireAtLeastOne(window, "window");
+				requireAtLeastOne(step, "step");
+
+				return () -> new RangeWindowingIterator<IntSequence>(size, window, step) {
+					@Override
+					protected IntSequence toSequence(int from, int to) {
+						return IntSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<IntSequence> batch(IntBiPredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangePartitioningIterator<IntSequence>(
+						size, i -> predicate.test(array[offset + i - 1], array[offset + i])) {
+					@Override
+					protected IntSequence toSequence(int from, int to) {
+						return IntSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<IntSequence> split(int element) {
+				return split(x -> x == element);
+			}
+
+			@Override
+			public Sequence<IntSequence> split(IntPredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangeSplittingIterator<IntSequence>(size, i -> predicate.test(array[offset + i])) {
+					@Override
+					protected IntSequence toSequence(int from, int to) {
+						return IntSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+		};
 	}
 
 	/**
@@ -91,9 +311,28 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 	static IntSequence from(IntIterable iterable) {
 		requireNonNull(iterable, "iterable");
 
+		if (iterable instanceof IntCollection)
+			return from((IntCollection) iterable);
+
 		return iterable::iterator;
 	}
 
+	/**
+	 * Create an {@code IntSequence} from an {@link IntCollection}, which reports the size and uses the
+	 * {@link Spliterator} of the {@link IntCollection}.
+	 *
+	 * @see #cache(IntIterable)
+	 * @since 2.4
+	 */
+	static IntSequence from(IntCollection collection) {
+		requireNonNull(collection, "collection");
+
+		if (collection instanceof IntSequence)
+			return (IntSequence) collection;
+
+		return new CollectionIntSequence(collection);
+	}
+
 	/**
 	 * Create an {@code IntSequence} from an {@link Iterable} of {@code Integer} values.
 	 *
@@ -179,6 +418,23 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 		return IntIterable.read(inputStream)::iterator;
 	}
 
+	/**
+	 * Create an {@code IntSequence} from an {@link InputStream} which iterates over the bytes provided in the
+	 * input stream as ints, like {@link #read(InputStream)}, but reads the {@link InputStream} in blocks of the given
+	 * buffer size rather than one byte at a time, which is considerably faster for large inputs. Since the
+	 * {@link InputStream} is read ahead of iteration, it may be positioned past the last byte returned when iteration
+	 * stops before the end of the stream.
+	 *
+	 * @throws IllegalArgumentException if the buffer size is less than one.
+	 * @see #read(InputStream)
+	 * @since 2.4
+	 */
+	static IntSequence read(InputStream inputStream, int bufferSize) {
+		requireNonNull(inputStream, "inputStream");
+
+		return IntIterable.read(inputStream, bufferSize)::iterator;
+	}
+
 	/**
 	 * Create an {@code IntSequence} from a cached copy of an {@link IntIterable}.
 	 *
@@ -753,6 +1009,13 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 			public int nextInt() {
 				return mapper.applyAsInt(iterator.nextInt());
 			}
+
+			@Override
+			public void forEachRemaining(IntConsumer action) {
+				requireNonNull(action, "action");
+
+				iterator.forEachRemaining((int x) -> action.accept(mapper.applyAsInt(x)));
+			}
 		};
 	}
 
@@ -981,7 +1244,8 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 	default IntSequence including(int... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> Arrayz.contains(array, e));
+		IntSet set = new HashIntSet(array);
+		return filter(e -> set.containsInt(e));
 	}
 
 	/**
@@ -992,7 +1256,8 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 	default IntSequence excluding(int... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> !Arrayz.contains(array, e));
+		IntSet set = new HashIntSet(array);
+		return filter(e -> !set.containsInt(e));
 	}
 
 	/**
@@ -1013,12 +1278,20 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 	}
 
 	/**
-	 * Collect the elements in this {@code IntSequence} into an {@link IntSet}.
+	 * Collect the elements in this {@code IntSequence} into an {@link IntSet}. The {@code ints} are collected into a
+	 * {@link HashIntSet}, which is returned if the {@code ints} are sparse, or copied into a {@link BitIntSet} if they are
+	 * dense enough to be stored more compactly there.
 	 *
 	 * @see #toSortedSet()
 	 */
 	default IntSet toSet() {
-		return toSortedSet();
+		HashIntSet set = toSet(HashIntSet::new);
+		if (!set.isDense())
+			return set;
+
+		IntSet dense = new BitIntSet();
+		dense.addAllInts(set);
+		return dense;
 	}
 
 	/**
@@ -1074,8 +1347,7 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 		requireNonNull(result, "result");
 		requireNonNull(adder, "adder");
 
-		for (IntIterator iterator = iterator(); iterator.hasNext(); )
-			adder.accept(result, iterator.nextInt());
+		iterator().forEachRemaining((int x) -> adder.accept(result, x));
 		return result;
 	}
 
@@ -1254,17 +1526,19 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 	 * @return the sum of the {@code ints} in this {@code IntSequence}, as a {@code long} value.
 	 */
 	default long sum() {
-		long result = 0;
-		for (IntIterator it = iterator(); it.hasNext(); )
-			result += it.nextInt();
-		return result;
+		long[] result = {0};
+		iterator().forEachRemaining((int x) -> result[0] += x);
+		return result[0];
 	}
 
 	default OptionalDouble average() {
-		long count = 0, sum = 0;
-		for (IntIterator iterator = iterator(); iterator.hasNext(); count++)
-			sum += iterator.nextInt();
+		long[] countAndSum = new long[2];
+		iterator().forEachRemaining((int x) -> {
+			countAndSum[0]++;
+			countAndSum[1] += x;
+		});
 
+		long count = countAndSum[0], sum = countAndSum[1];
 		return count > 0 ? OptionalDouble.of((double) sum / count) : OptionalDouble.empty();
 	}
 
@@ -1283,13 +1557,22 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 	}
 
 	/**
-	 * @return an unsized {@link Spliterator.OfInt} for this {@code IntSequence}.
+	 * @return a {@link Spliterator.OfInt} for this {@code IntSequence}, which reports {@link Spliterator#SIZED} and
+	 * {@link Spliterator#SUBSIZED} if the size of this {@code IntSequence} is known without traversal.
 	 *
 	 * @since 2.0
 	 */
 	@Override
 	default Spliterator.OfInt spliterator() {
-		return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		switch (sizeType()) {
+			case AVAILABLE:
+			case FIXED:
+				return Spliterators.spliterator(iterator(), size(), 0);
+			case UNAVAILABLE:
+			case INFINITE:
+			default:
+				return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		}
 	}
 
 	/**
@@ -1377,6 +1660,54 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 		};
 	}
 
+	/**
+	 * @return this {@code IntSequence} sorted according to the natural order of the int values, like {@link #sorted()},
+	 * but sorted only once, the first time the returned {@code IntSequence} is iterated over, and kept in memory for
+	 * later iterations. Changes to this {@code IntSequence} after that are not necessarily reflected in the returned
+	 * {@code IntSequence}.
+	 *
+	 * @see #sorted()
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default IntSequence sortedOnce() {
+		return sorted().memoize();
+	}
+
+	/**
+	 * @return the {@code n} greatest {@code ints} in this {@code IntSequence}, in descending order. Equivalent to
+	 * sorting this {@code IntSequence} in descending order and limiting the result to {@code n} {@code ints}, but keeps
+	 * only {@code n} {@code ints} in memory while traversing this {@code IntSequence}.
+	 *
+	 * @see #bottom(int)
+	 * @since 2.4
+	 */
+	default IntSequence top(int n) {
+		requireAtLeastZero(n, "n");
+
+		if (n == 0)
+			return empty();
+
+		return () -> new BoundedSortingIntIterator(iterator(), n, true);
+	}
+
+	/**
+	 * @return the {@code n} smallest {@code ints} in this {@code IntSequence}, in ascending order. Equivalent to
+	 * {@code sorted().limit(n)}, but keeps only {@code n} {@code ints} in memory while traversing this
+	 * {@code IntSequence}.
+	 *
+	 * @see #top(int)
+	 * @since 2.4
+	 */
+	default IntSequence bottom(int n) {
+		requireAtLeastZero(n, "n");
+
+		if (n == 0)
+			return empty();
+
+		return () -> new BoundedSortingIntIterator(iterator(), n, false);
+	}
+
 	/**
 	 * Prefix the ints in this {@code IntSequence} with the given ints.
 	 */
@@ -1489,6 +1820,38 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 		return () -> DoubleIterator.from(iterator(), mapper);
 	}
 
+	/**
+	 * Memoize the {@code ints} of this {@code IntSequence} lazily as they are first iterated over, so that this
+	 * {@code IntSequence} is iterated over only once, and no further than the furthest iteration over the returned
+	 * {@code IntSequence}. This is useful when this {@code IntSequence} is expensive to compute or can only be iterated
+	 * over once, and is not necessarily iterated over to the end. The returned {@code IntSequence} may be iterated over
+	 * concurrently from several threads.
+	 *
+	 * @see #memoize(int)
+	 * @see #cache(IntIterable)
+	 * @since 2.4
+	 */
+	default IntSequence memoize() {
+		return new MemoizingIntSequence(this, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Memoize the {@code ints} of this {@code IntSequence} lazily as they are first iterated over, like
+	 * {@link #memoize()}, but keeping only the last {@code bufferSize} {@code ints} that have been read from this
+	 * {@code IntSequence}. This allows several forward-only iterations over the returned {@code IntSequence} to share a
+	 * single iteration over this {@code IntSequence} without keeping all of it in memory, as long as they stay within
+	 * {@code bufferSize} of each other. An iteration over the returned {@code IntSequence} that needs an evicted
+	 * element fails with an {@link IllegalStateException}.
+	 *
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default IntSequence memoize(int bufferSize) {
+		requireAtLeastOne(bufferSize, "bufferSize");
+
+		return new MemoizingIntSequence(this, bufferSize);
+	}
+
 	/**
 	 * Repeat this sequence of ints forever, looping back to the beginning when the iterator runs out of ints.
 	 * <p>
@@ -1530,6 +1893,87 @@ public interface IntSequence extends IntCollection, SizedIterable<Integer> {
 		return () -> new WindowingIntIterator(iterator(), window, step);
 	}
 
+	/**
+	 * Window the elements of this {@code IntSequence} into a sequence of {@code IntSequence}s of elements, like
+	 * {@link #window(int)}, but where each window is a view of a reused buffer instead of a copy. Each window is only
+	 * valid until the iteration over the windows advances to the next window, after which it reflects the contents
+	 * of the later window. This is equivalent to {@code windowView(window, 1)}.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<IntSequence> windowView(int window) {
+		requireAtLeastOne(window, "window");
+
+		return windowView(window, 1);
+	}
+
+	/**
+	 * Window the elements of this {@code IntSequence} into a sequence of {@code IntSequence}s of elements, like
+	 * {@link #window(int, int)}, but where each window is a view of a reused buffer instead of a copy. Each window is
+	 * only valid until the iteration over the windows advances to the next window, after which it reflects the
+	 * contents of the later window.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<IntSequence> windowView(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		return () -> new WindowingIntIterator(iterator(), window, step, true);
+	}
+
+	/**
+	 * @return a {@code LongSequence} of the sums of the {@code ints} in each window of this {@code IntSequence}, as given by
+	 * {@link #window(int)}. The sum is updated incrementally as the window slides, rather than being summed for each
+	 * window.
+	 *
+	 * @since 2.4
+	 */
+	default LongSequence slidingSum(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingSumIntIterator(iterator(), window);
+	}
+
+	/**
+	 * @return a {@code IntSequence} of the minimum {@code int} in each window of this {@code IntSequence}, as given by
+	 * {@link #window(int)}. The minimum is maintained incrementally as the window slides, rather than being
+	 * searched for in each window.
+	 *
+	 * @since 2.4
+	 */
+	default IntSequence slidingMin(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingExtremumIntIterator(iterator(), window, false);
+	}
+
+	/**
+	 * @return a {@code IntSequence} of the maximum {@code int} in each window of this {@code IntSequence}, as given by
+	 * {@link #window(int)}. The maximum is maintained incrementally as the window slides, rather than being
+	 * searched for in each window.
+	 *
+	 * @since 2.4
+	 */
+	default IntSequence slidingMax(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingExtremumIntIterator(iterator(), window, true);
+	}
+
+	/**
+	 * @return a {@code DoubleSequence} of the averages of the {@code ints} in each window of this {@code IntSequence}, as
+	 * given by {@link #window(int)}. The sum of the window is updated incrementally as the window slides, rather than
+	 * being summed for each window.
+	 *
+	 * @since 2.4
+	 */
+	default DoubleSequence slidingAverage(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingAverageIntIterator(iterator(), window);
+	}
+
 	/**
 	 * Batch the elements of this {@code IntSequence} into a sequence of {@code IntSequence}s of distinct elements,
 	 * each with the given batch size. This is equivalent to {@code window(size, size)}.
@@ -17,17 +17,33 @@
 package org.d2ab.sequence;
 
 import org.d2ab.collection.*;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static java.util.Objects.requireNonNull;
+import static org.d2ab.util.Preconditions.requireAtLeastOne;
+import static org.d2ab.util.Preconditions.requireAtLeastZero;
+
 /**
  * A {@link Sequence} backed by a {@link List}. Implements certain operations on {@link Sequence} in a more performant
  * way due to the {@link List} backing. This class should normally not be used directly as e.g.
  * {@link Sequence#from(Iterable)} and other methods return this class directly where appropriate.
+ * <p>
+ * When the backing {@link List} is {@link RandomAccess}, the {@code Sequence}s returned by {@link #window},
+ * {@link #batch} and {@link #split} are unmodifiable views of ranges of the backing {@link List} instead of copies,
+ * and are only valid as long as the backing {@link List} is not structurally modified. Likewise, {@link #skip},
+ * {@link #skipTail}, {@link #limit}, {@link #limitTail} and {@link #step} return views of index ranges or strides of
+ * the backing {@link List}, so that e.g. {@link #at}, {@link #last} and {@link #size} remain constant time on the
+ * result.
  */
 public class ListSequence<T> implements Sequence<T> {
 	private static final Sequence<?> EMPTY = from(Lists.of());
@@ -284,11 +300,34 @@ public class ListSequence<T> implements Sequence<T> {
 		return from(ReverseList.from(list));
 	}
 
+	@Override
+	public Sequence<T> parallel(ForkJoinPool pool) {
+		if (ParallelSequence.isSplittable(list))
+			return ParallelSequence.from(list, pool);
+
+		return Sequence.super.parallel(pool);
+	}
+
 	@Override
 	public Sequence<T> filter(Predicate<? super T> predicate) {
 		return from(FilteredList.from(list, predicate));
 	}
 
+	/**
+	 * Filter the elements in this {@code ListSequence} like {@link #filter(Predicate)}, but cache the positions of
+	 * the matching elements in the backing {@link List}, giving constant time indexed access once the positions are
+	 * cached. Meant for backing {@link List}s that implement {@link RandomAccess} and are only modified through the
+	 * returned {@link Sequence}.
+	 *
+	 * @see FilteredList#indexed(List, Predicate)
+	 * @since 2.4
+	 */
+	public Sequence<T> indexedFilter(Predicate<? super T> predicate) {
+		requireNonNull(predicate, "predicate");
+
+		return from(FilteredList.indexed(list, predicate));
+	}
+
 	@Override
 	public <U> Sequence<U> map(Function<? super T, ? extends U> mapper) {
 		return from(MappedList.from(list, mapper));
@@ -314,4 +353,166 @@ public class ListSequence<T> implements Sequence<T> {
 	public Sequence<T> append(T... items) {
 		return append(Lists.of(items));
 	}
+
+	@Override
+	public Sequence<T> skip(int skip) {
+		requireAtLeastZero(skip, "skip");
+
+		if (skip == 0)
+			return this;
+
+		if (!(list instanceof RandomAccess))
+			return Sequence.super.skip(skip);
+
+		return from(SlicedList.skip(list, skip));
+	}
+
+	@Override
+	public Sequence<T> skipTail(int skip) {
+		requireAtLeastZero(skip, "skip");
+
+		if (skip == 0)
+			return this;
+
+		if (!(list instanceof RandomAccess))
+			return Sequence.super.skipTail(skip);
+
+		return from(Collections.unmodifiableList(SlicedList.skipTail(list, skip)));
+	}
+
+	@Override
+	public Sequence<T> limit(int limit) {
+		requireAtLeastZero(limit, "limit");
+
+		if (limit == 0)
+			return empty();
+
+		if (!(list instanceof RandomAccess))
+			return Sequence.super.limit(limit);
+
+		return from(SlicedList.limit(list, limit));
+	}
+
+	@Override
+	public Sequence<T> limitTail(int limit) {
+		requireAtLeastZero(limit, "limit");
+
+		if (limit == 0)
+			return empty();
+
+		if (!(list instanceof RandomAccess))
+			return Sequence.super.limitTail(limit);
+
+		return from(Collections.unmodifiableList(SlicedList.limitTail(list, limit)));
+	}
+
+	@Override
+	public Sequence<T> step(int step) {
+		requireAtLeastOne(step, "step");
+
+		if (step == 1)
+			return this;
+
+		if (!(list instanceof RandomAccess))
+			return Sequence.super.step(step);
+
+		return from(SteppedList.from(list, step));
+	}
+
+	@Override
+	public Sequence<Sequence<T>> window(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		Sequence<Sequence<T>> windows = Sequence.super.window(window, step);
+		if (!(list instanceof RandomAccess))
+			return windows;
+
+		return new Sequence<Sequence<T>>() {
+			@Override
+			public Iterator<Sequence<T>> iterator() {
+				return new RangeWindowingIterator<Sequence<T>>(list.size(), window, step) {
+					@Override
+					protected Sequence<T> toSequence(int from, int to) {
+						return range(from, to);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return windows.sizeType() == SizeType.UNAVAILABLE ? SizedIterable.size(this) : windows.size();
+			}
+
+			@Override
+			public SizeType sizeType() {
+				return windows.sizeType();
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return list.isEmpty();
+			}
+		};
+	}
+
+	@Override
+	public Sequence<Sequence<T>> batch(BiPredicate<? super T, ? super T> predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(list instanceof RandomAccess))
+			return Sequence.super.batch(predicate);
+
+		return new Sequence<Sequence<T>>() {
+			@Override
+			public Iterator<Sequence<T>> iterator() {
+				return new RangePartitioningIterator<Sequence<T>>(list.size(),
+				                                                  i -> predicate.test(list.get(i - 1), list.get(i))) {
+					@Override
+					protected Sequence<T> toSequence(int from, int to) {
+						return range(from, to);
+					}
+				};
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return list.isEmpty();
+			}
+		};
+	}
+
+	@Override
+	public Sequence<Sequence<T>> split(T element) {
+		return split(e -> Objects.equals(e, element));
+	}
+
+	@Override
+	public Sequence<Sequence<T>> split(Predicate<? super T> predicate) {
+		requireNonNull(predicate, "predicate");
+
+		if (!(list instanceof RandomAccess))
+			return Sequence.super.split(predicate);
+
+		return new Sequence<Sequence<T>>() {
+			@Override
+			public Iterator<Sequence<T>> iterator() {
+				return new RangeSplittingIterator<Sequence<T>>(list.size(), i -> predicate.test(list.get(i))) {
+					@Override
+					protected Sequence<T> toSequence(int from, int to) {
+						return range(from, to);
+					}
+				};
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return list.isEmpty();
+			}
+		};
+	}
+
+	private Sequence<T> range(int from, int to) {
+		return from(Collections.unmodifiableList(list.subList(from, to)));
+	}
 }
@@ -20,12 +20,23 @@ import org.d2ab.collection.Arrayz;
 import org.d2ab.collection.SizedIterable;
 import org.d2ab.collection.longs.*;
 import org.d2ab.function.*;
+import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.Iterators;
+import org.d2ab.iterator.RangePartitioningIterator;
+import org.d2ab.iterator.RangeSplittingIterator;
+import org.d2ab.iterator.RangeWindowingIterator;
 import org.d2ab.iterator.chars.CharIterator;
 import org.d2ab.iterator.doubles.DoubleIterator;
 import org.d2ab.iterator.ints.IntIterator;
 import org.d2ab.iterator.longs.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.LongStream;
@@ -75,7 +86,185 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 		requireSizeWithinBounds(offset, "offset", array.length, "array.length");
 		requireSizeWithinBounds(size, "size", array.length - offset, "array.length - offset");
 
-		return () -> LongIterator.from(array, offset, size);
+		return new LongSequence() {
+			@Override
+			public LongIterator iterator() {
+				return LongIterator.from(array, offset, size);
+			}
+
+			@Override
+			public SizeType sizeType() {
+				return SizeType.FIXED;
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return size == 0;
+			}
+
+			@Override
+			public OptionalLong at(int index) {
+				requireAtLeastZero(index, "index");
+
+				if (index >= size)
+					return OptionalLong.empty();
+
+				return OptionalLong.of(array[offset + index]);
+			}
+
+			@Override
+			public OptionalLong last() {
+				if (size == 0)
+					return OptionalLong.empty();
+
+				return OptionalLong.of(array[offset + size - 1]);
+			}
+
+			@Override
+			public LongSequence skip(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				int skipped = Math.min(skip, size);
+				return LongSequence.from(array, offset + skipped, size - skipped);
+			}
+
+			@Override
+			public LongSequence skipTail(int skip) {
+				requireAtLeastZero(skip, "skip");
+
+				if (skip == 0)
+					return this;
+
+				return LongSequence.from(array, offset, size - Math.min(skip, size));
+			}
+
+			@Override
+			public LongSequence limit(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				return LongSequence.from(array, offset, Math.min(limit, size));
+			}
+
+			@Override
+			public LongSequence limitTail(int limit) {
+				requireAtLeastZero(limit, "limit");
+
+				int limited = Math.min(limit, size);
+				return LongSequence.from(array, offset + size - limited, limited);
+			}
+
+			@Override
+			public LongSequence step(int step) {
+				requireAtLeastOne(step, "step");
+
+				int steps = size == 0 ? 0 : (size - 1) / step + 1;
+				return new LongSequence() {
+					@Override
+					public LongIterator iterator() {
+						return new LongIterator() {
+							private int index;
+
+							@Override
+							public boolean hasNext() {
+								return index < steps;
+							}
+
+							@Override
+							public long nextLong() {
+								if (!hasNext())
+									throw new NoSuchElementException();
+
+								return array[offset + index++ * step];
+							}
+						};
+					}
+
+					@Override
+					public SizeType sizeType() {
+						return SizeType.FIXED;
+					}
+
+					@Override
+					public int size() {
+						return steps;
+					}
+
+					@Override
+					public boolean isEmpty() {
+						return steps == 0;
+					}
+
+					@Override
+					public OptionalLong at(int index) {
+						requireAtLeastZero(index, "index");
+
+						if (index >= steps)
+							return OptionalLong.empty();
+
+						return OptionalLong.of(array[offset + index * step]);
+					}
+
+					@Override
+					public OptionalLong last() {
+						if (steps == 0)
+							return OptionalLong.empty();
+
+						return OptionalLong.of(array[offset + (steps - 1) * step]);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<LongSequence> window(int window, int step) {
+				requireAtLeastOne(window, "window");
+				requireAtLeastOne(step, "step");
+
+				return () -> new RangeWindowingIterator<LongSequence>(size, window, step) {
+					@Override
+					protected LongSequence toSequence(int from, int to) {
+						return LongSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<LongSequence> batch(LongBiPredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangePartitioningIterator<LongSequence>(
+						size, i -> predicate.test(array[offset + i - 1], array[offset + i])) {
+					@Override
+					protected LongSequence toSequence(int from, int to) {
+						return LongSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+
+			@Override
+			public Sequence<LongSequence> split(long element) {
+				return split(x -> x == element);
+			}
+
+			@Override
+			public Sequence<LongSequence> split(LongPredicate predicate) {
+				requireNonNull(predicate, "predicate");
+
+				return () -> new RangeSplittingIterator<LongSequence>(size, i -> predicate.test(array[offset + i])) {
+					@Override
+					protected LongSequence toSequence(int from, int to) {
+						return LongSequence.from(array, offset + from, to - from);
+					}
+				};
+			}
+		};
 	}
 
 	/**
@@ -86,9 +275,28 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 	static LongSequence from(LongIterable iterable) {
 		requireNonNull(iterable, "iterable");
 
+		if (iterable instanceof LongCollection)
+			return from((LongCollection) iterable);
+
 		return iterable::iterator;
 	}
 
+	/**
+	 * Create a {@code LongSequence} from a {@link LongCollection}, which reports the size and uses the {@link Spliterator} of the
+	 * {@link LongCollection}.
+	 *
+	 * @see #cache(LongIterable)
+	 * @since 2.4
+	 */
+	static LongSequence from(LongCollection collection) {
+		requireNonNull(collection, "collection");
+
+		if (collection instanceof LongSequence)
+			return (LongSequence) collection;
+
+		return new CollectionLongSequence(collection);
+	}
+
 	/**
 	 * Create a {@code LongSequence} from an {@link Iterable} of {@code Long} values.
 	 *
@@ -158,6 +366,43 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 		return once(stream.iterator());
 	}
 
+	/**
+	 * Create a {@code LongSequence} from a {@link ReadableByteChannel} which iterates over the {@code longs} in the
+	 * channel, decoded in the given {@link ByteOrder}. If the channel is a {@link SeekableByteChannel}, it will be
+	 * repositioned to where the first iteration started in between iterations, otherwise the {@code LongSequence} will
+	 * only be available to iterate over once. If an {@link IOException} occurs during iteration, an
+	 * {@link IterationException} will be thrown. The channel will not be closed by the {@code LongSequence} when
+	 * iteration finishes, it must be closed externally when iteration is finished.
+	 *
+	 * @see #writeTo(WritableByteChannel, ByteOrder)
+	 * @see #mapFile(Path, ByteOrder)
+	 * @since 2.4
+	 */
+	static LongSequence read(ReadableByteChannel channel, ByteOrder order) {
+		requireNonNull(channel, "channel");
+		requireNonNull(order, "order");
+
+		return LongIterable.read(channel, order)::iterator;
+	}
+
+	/**
+	 * Create a {@code LongSequence} over the {@code longs} in the given file, decoded in the given {@link ByteOrder},
+	 * by mapping the file into memory. The file is mapped read-only in regions of up to 2GB, so files larger than
+	 * what fits in an array are supported, and the {@code longs} are read directly from the mapped memory during
+	 * iteration. The file must not be truncated while the {@code LongSequence} is in use.
+	 *
+	 * @throws IOException if the file could not be mapped, or if its size is not a multiple of {@link Long#BYTES}.
+	 * @see #read(ReadableByteChannel, ByteOrder)
+	 * @see #writeTo(WritableByteChannel, ByteOrder)
+	 * @since 2.4
+	 */
+	static LongSequence mapFile(Path path, ByteOrder order) throws IOException {
+		requireNonNull(path, "path");
+		requireNonNull(order, "order");
+
+		return MappedLongSequence.map(path, order);
+	}
+
 	/**
 	 * Create a {@code LongSequence} from a cached copy of a {@link PrimitiveIterator.OfLong}.
 	 *
@@ -731,6 +976,13 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 			public long nextLong() {
 				return mapper.applyAsLong(iterator.nextLong());
 			}
+
+			@Override
+			public void forEachRemaining(LongConsumer action) {
+				requireNonNull(action, "action");
+
+				iterator.forEachRemaining((long x) -> action.accept(mapper.applyAsLong(x)));
+			}
 		};
 	}
 
@@ -977,7 +1229,8 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 	default LongSequence including(long... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> Arrayz.contains(array, e));
+		LongSet set = new HashLongSet(array);
+		return filter(e -> set.containsLong(e));
 	}
 
 	/**
@@ -988,7 +1241,8 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 	default LongSequence excluding(long... array) {
 		requireNonNull(array, "array");
 
-		return filter(e -> !Arrayz.contains(array, e));
+		LongSet set = new HashLongSet(array);
+		return filter(e -> !set.containsLong(e));
 	}
 
 	/**
@@ -1009,12 +1263,20 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 	}
 
 	/**
-	 * Collect the elements in this {@code LongSequence} into an {@link LongSet}.
+	 * Collect the elements in this {@code LongSequence} into an {@link LongSet}. The {@code longs} are collected into a
+	 * {@link HashLongSet}, which is returned if the {@code longs} are sparse, or copied into a {@link BitLongSet} if they are
+	 * dense enough to be stored more compactly there.
 	 *
 	 * @see #toSortedSet()
 	 */
 	default LongSet toSet() {
-		return toSortedSet();
+		HashLongSet set = toSet(HashLongSet::new);
+		if (!set.isDense())
+			return set;
+
+		LongSet dense = new BitLongSet();
+		dense.addAllLongs(set);
+		return dense;
 	}
 
 	/**
@@ -1071,8 +1333,7 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 		requireNonNull(result, "result");
 		requireNonNull(adder, "adder");
 
-		for (LongIterator iterator = iterator(); iterator.hasNext(); )
-			adder.accept(result, iterator.nextLong());
+		iterator().forEachRemaining((long x) -> adder.accept(result, x));
 		return result;
 	}
 
@@ -1108,6 +1369,34 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 		return result.append(suffix).toString();
 	}
 
+	/**
+	 * Write the {@code longs} in this {@code LongSequence} to the given {@link WritableByteChannel}, encoded in the
+	 * given {@link ByteOrder}. The {@code longs} are encoded in blocks into an internal buffer, which is written to the
+	 * channel as it fills up. The channel must be a blocking channel, and will not be closed when writing finishes.
+	 *
+	 * @see #read(ReadableByteChannel, ByteOrder)
+	 * @since 2.4
+	 */
+	default void writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+		requireNonNull(channel, "channel");
+		requireNonNull(order, "order");
+
+		ByteBuffer buffer = ByteBuffer.allocate(8192).order(order);
+		for (LongIterator iterator = iterator(); iterator.hasNext(); ) {
+			buffer.putLong(iterator.nextLong());
+			if (!buffer.hasRemaining()) {
+				buffer.flip();
+				while (buffer.hasRemaining())
+					channel.write(buffer);
+				buffer.clear();
+			}
+		}
+
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+	}
+
 	/**
 	 * Reduce this {@code LongSequence} into a single {@code long} by iteratively applying the given binary operator to
 	 * the current result and each {@code long} in the sequence.
@@ -1252,19 +1541,20 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 	 * @return the sum of the {@code longs} in this {@code LongSequence}.
 	 */
 	default long sum() {
-		long result = 0;
-		for (LongIterator it = iterator(); it.hasNext(); )
-			result += it.nextLong();
-		return result;
+		long[] result = {0};
+		iterator().forEachRemaining((long x) -> result[0] += x);
+		return result[0];
 	}
 
 	default OptionalDouble average() {
-		long count = 0;
-		double sum = 0;
-		for (LongIterator iterator = iterator(); iterator.hasNext(); count++)
-			sum += iterator.nextLong();
+		long[] count = {0};
+		double[] sum = {0};
+		iterator().forEachRemaining((long x) -> {
+			count[0]++;
+			sum[0] += x;
+		});
 
-		return count > 0 ? OptionalDouble.of(sum / count) : OptionalDouble.empty();
+		return count[0] > 0 ? OptionalDouble.of(sum[0] / count[0]) : OptionalDouble.empty();
 	}
 
 	default LongSummaryStatistics statistics() {
@@ -1281,13 +1571,22 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 	}
 
 	/**
-	 * @return an unsized {@link Spliterator.OfLong} for this {@code LongSequence}.
+	 * @return a {@link Spliterator.OfLong} for this {@code LongSequence}, which reports {@link Spliterator#SIZED} and
+	 * {@link Spliterator#SUBSIZED} if the size of this {@code LongSequence} is known without traversal.
 	 *
 	 * @since 2.2
 	 */
 	@Override
 	default Spliterator.OfLong spliterator() {
-		return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		switch (sizeType()) {
+			case AVAILABLE:
+			case FIXED:
+				return Spliterators.spliterator(iterator(), size(), 0);
+			case UNAVAILABLE:
+			case INFINITE:
+			default:
+				return Spliterators.spliteratorUnknownSize(iterator(), 0);
+		}
 	}
 
 	/**
@@ -1373,6 +1672,54 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 		};
 	}
 
+	/**
+	 * @return this {@code LongSequence} sorted according to the natural order of the long values, like {@link
+	 * #sorted()}, but sorted only once, the first time the returned {@code LongSequence} is iterated over, and kept in
+	 * memory for later iterations. Changes to this {@code LongSequence} after that are not necessarily reflected in the
+	 * returned {@code LongSequence}.
+	 *
+	 * @see #sorted()
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default LongSequence sortedOnce() {
+		return sorted().memoize();
+	}
+
+	/**
+	 * @return the {@code n} greatest {@code longs} in this {@code LongSequence}, in descending order. Equivalent to
+	 * sorting this {@code LongSequence} in descending order and limiting the result to {@code n} {@code longs}, but keeps
+	 * only {@code n} {@code longs} in memory while traversing this {@code LongSequence}.
+	 *
+	 * @see #bottom(int)
+	 * @since 2.4
+	 */
+	default LongSequence top(int n) {
+		requireAtLeastZero(n, "n");
+
+		if (n == 0)
+			return empty();
+
+		return () -> new BoundedSortingLongIterator(iterator(), n, true);
+	}
+
+	/**
+	 * @return the {@code n} smallest {@code longs} in this {@code LongSequence}, in ascending order. Equivalent to
+	 * {@code sorted().limit(n)}, but keeps only {@code n} {@code longs} in memory while traversing this
+	 * {@code LongSequence}.
+	 *
+	 * @see #top(int)
+	 * @since 2.4
+	 */
+	default LongSequence bottom(int n) {
+		requireAtLeastZero(n, "n");
+
+		if (n == 0)
+			return empty();
+
+		return () -> new BoundedSortingLongIterator(iterator(), n, false);
+	}
+
 	/**
 	 * Prefix the longs in this {@code LongSequence} with the given longs.
 	 */
@@ -1458,6 +1805,38 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 		return () -> DoubleIterator.from(iterator(), mapper);
 	}
 
+	/**
+	 * Memoize the {@code longs} of this {@code LongSequence} lazily as they are first iterated over, so that this
+	 * {@code LongSequence} is iterated over only once, and no further than the furthest iteration over the returned
+	 * {@code LongSequence}. This is useful when this {@code LongSequence} is expensive to compute or can only be
+	 * iterated over once, and is not necessarily iterated over to the end. The returned {@code LongSequence} may be
+	 * iterated over concurrently from several threads.
+	 *
+	 * @see #memoize(int)
+	 * @see #cache(LongIterable)
+	 * @since 2.4
+	 */
+	default LongSequence memoize() {
+		return new MemoizingLongSequence(this, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Memoize the {@code longs} of this {@code LongSequence} lazily as they are first iterated over, like
+	 * {@link #memoize()}, but keeping only the last {@code bufferSize} {@code longs} that have been read from this
+	 * {@code LongSequence}. This allows several forward-only iterations over the returned {@code LongSequence} to share
+	 * a single iteration over this {@code LongSequence} without keeping all of it in memory, as long as they stay
+	 * within {@code bufferSize} of each other. An iteration over the returned {@code LongSequence} that needs an
+	 * evicted element fails with an {@link IllegalStateException}.
+	 *
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default LongSequence memoize(int bufferSize) {
+		requireAtLeastOne(bufferSize, "bufferSize");
+
+		return new MemoizingLongSequence(this, bufferSize);
+	}
+
 	/**
 	 * Repeat this sequence of longs forever, looping back to the beginning when the iterator runs out of longs.
 	 * <p>
@@ -1499,6 +1878,87 @@ public interface LongSequence extends LongCollection, SizedIterable<Long> {
 		return () -> new WindowingLongIterator(iterator(), window, step);
 	}
 
+	/**
+	 * Window the elements of this {@code LongSequence} into a sequence of {@code LongSequence}s of elements, like
+	 * {@link #window(int)}, but where each window is a view of a reused buffer instead of a copy. Each window is only
+	 * valid until the iteration over the windows advances to the next window, after which it reflects the contents
+	 * of the later window. This is equivalent to {@code windowView(window, 1)}.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<LongSequence> windowView(int window) {
+		requireAtLeastOne(window, "window");
+
+		return windowView(window, 1);
+	}
+
+	/**
+	 * Window the elements of this {@code LongSequence} into a sequence of {@code LongSequence}s of elements, like
+	 * {@link #window(int, int)}, but where each window is a view of a reused buffer instead of a copy. Each window is
+	 * only valid until the iteration over the windows advances to the next window, after which it reflects the
+	 * contents of the later window.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<LongSequence> windowView(int window, int step) {
+		requireAtLeastOne(window, "window");
+		requireAtLeastOne(step, "step");
+
+		return () -> new WindowingLongIterator(iterator(), window, step, true);
+	}
+
+	/**
+	 * @return a {@code LongSequence} of the sums of the {@code longs} in each window of this {@code LongSequence}, as given by
+	 * {@link #window(int)}. The sum is updated incrementally as the window slides, rather than being summed for each
+	 * window.
+	 *
+	 * @since 2.4
+	 */
+	default LongSequence slidingSum(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingSumLongIterator(iterator(), window);
+	}
+
+	/**
+	 * @return a {@code LongSequence} of the minimum {@code long} in each window of this {@code LongSequence}, as given by
+	 * {@link #window(int)}. The minimum is maintained incrementally as the window slides, rather than being
+	 * searched for in each window.
+	 *
+	 * @since 2.4
+	 */
+	default LongSequence slidingMin(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingExtremumLongIterator(iterator(), window, false);
+	}
+
+	/**
+	 * @return a {@code LongSequence} of the maximum {@code long} in each window of this {@code LongSequence}, as given by
+	 * {@link #window(int)}. The maximum is maintained incrementally as the window slides, rather than being
+	 * searched for in each window.
+	 *
+	 * @since 2.4
+	 */
+	default LongSequence slidingMax(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingExtremumLongIterator(iterator(), window, true);
+	}
+
+	/**
+	 * @return a {@code DoubleSequence} of the averages of the {@code longs} in each window of this {@code LongSequence}, as
+	 * given by {@link #window(int)}. The sum of the window is updated incrementally as the window slides, rather than
+	 * being summed for each window.
+	 *
+	 * @since 2.4
+	 */
+	default DoubleSequence slidingAverage(int window) {
+		requireAtLeastOne(window, "window");
+
+		return () -> new SlidingAverageLongIterator(iterator(), window);
+	}
+
 	/**
 	 * Batch the elements of this {@code LongSequence} into a sequence of {@code LongSequence}s of distinct elements,
 	 * each with the given batch size. This is equivalent to {@code window(size, size)}.
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.iterator.longs.LongBufferIterator;
+import org.d2ab.iterator.longs.LongIterator;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link LongSequence} over the {@code longs} in a file mapped read-only into memory, in regions of up to 2GB each.
+ * The size is known without iterating. This class should not be used directly as
+ * {@link LongSequence#mapFile(Path, ByteOrder)} returns this class.
+ *
+ * @since 2.4
+ */
+class MappedLongSequence implements LongSequence {
+	private static final long REGION_SIZE = Integer.MAX_VALUE / Long.BYTES * Long.BYTES;
+
+	private final LongBuffer[] regions;
+	private final long count;
+
+	static MappedLongSequence map(Path path, ByteOrder order) throws IOException {
+		return map(path, order, REGION_SIZE);
+	}
+
+	static MappedLongSequence map(Path path, ByteOrder order, long regionSize) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size % Long.BYTES != 0)
+				throw new IOException("File size " + size + " is not a multiple of " + Long.BYTES + ": " + path);
+
+			LongBuffer[] regions = new LongBuffer[(int) ((size + regionSize - 1) / regionSize)];
+			for (int i = 0; i < regions.length; i++) {
+				long position = i * regionSize;
+				regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position))
+				                    .order(order)
+				                    .asLongBuffer();
+			}
+
+			return new MappedLongSequence(regions, size / Long.BYTES);
+		}
+	}
+
+	private MappedLongSequence(LongBuffer[] regions, long count) {
+		this.regions = regions;
+		this.count = count;
+	}
+
+	@Override
+	public LongIterator iterator() {
+		return new LongBufferIterator(regions);
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return count <= Integer.MAX_VALUE ? SizeType.FIXED : SizeType.UNAVAILABLE;
+	}
+
+	@Override
+	public int size() {
+		if (count > Integer.MAX_VALUE)
+			throw new IllegalStateException("count > Integer.MAX_VALUE: " + count);
+
+		return (int) count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+}
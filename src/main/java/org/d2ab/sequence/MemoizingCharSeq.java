@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.iterator.chars.CharIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link CharSeq} which memoizes the {@code chars} of another {@link CharSeq} as they are first iterated over,
+ * reading the source {@link CharSeq} only once and no further than the furthest iteration over the
+ * {@code MemoizingCharSeq}. The memoized {@code chars} are kept in a buffer which grows up to the given limit, after
+ * which the oldest elements are evicted to make room for new ones. Iterations that need an evicted {@code char} fail
+ * with an {@link IllegalStateException}. All access to the buffer and the source is synchronized, so the
+ * {@code MemoizingCharSeq} may be iterated over concurrently from several threads. This class should not be used
+ * directly as {@link CharSeq#memoize()} and {@link CharSeq#memoize(int)} return this class.
+ *
+ * @since 2.4
+ */
+class MemoizingCharSeq implements CharSeq {
+	private final CharSeq source;
+	private final int limit;
+
+	private CharIterator iterator;
+	private char[] buffer;
+	private long count;
+
+	MemoizingCharSeq(CharSeq source, int limit) {
+		this.source = source;
+		this.limit = limit;
+		this.buffer = new char[Math.min(limit, 16)];
+	}
+
+	@Override
+	public CharIterator iterator() {
+		return new CharIterator() {
+			private long position;
+
+			@Override
+			public boolean hasNext() {
+				synchronized (MemoizingCharSeq.this) {
+					return position < count || fetch();
+				}
+			}
+
+			@Override
+			public char nextChar() {
+				synchronized (MemoizingCharSeq.this) {
+					if (!hasNext())
+						throw new NoSuchElementException();
+
+					return get(position++);
+				}
+			}
+		};
+	}
+
+	private boolean fetch() {
+		if (iterator == null)
+			iterator = source.iterator();
+
+		if (!iterator.hasNext())
+			return false;
+
+		char next = iterator.nextChar();
+		if (count == buffer.length && buffer.length < limit)
+			buffer = Arrays.copyOf(buffer, (int) Math.min(limit, (long) buffer.length << 1));
+
+		buffer[(int) (count++ % buffer.length)] = next;
+		return true;
+	}
+
+	private char get(long position) {
+		if (position < count - buffer.length)
+			throw new IllegalStateException(
+					"Element at position " + position + " has been evicted from memoized buffer of size " + limit);
+
+		return buffer[(int) (position % buffer.length)];
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.iterator.ints.IntIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link IntSequence} which memoizes the {@code ints} of another {@link IntSequence} as they are first iterated
+ * over, reading the source {@link IntSequence} only once and no further than the furthest iteration over the
+ * {@code MemoizingIntSequence}. The memoized {@code ints} are kept in a buffer which grows up to the given limit, after
+ * which the oldest elements are evicted to make room for new ones. Iterations that need an evicted {@code int} fail
+ * with an {@link IllegalStateException}. All access to the buffer and the source is synchronized, so the
+ * {@code MemoizingIntSequence} may be iterated over concurrently from several threads. This class should not be used
+ * directly as {@link IntSequence#memoize()} and {@link IntSequence#memoize(int)} return this class.
+ *
+ * @since 2.4
+ */
+class MemoizingIntSequence implements IntSequence {
+	private final IntSequence source;
+	private final int limit;
+
+	private IntIterator iterator;
+	private int[] buffer;
+	private long count;
+
+	MemoizingIntSequence(IntSequence source, int limit) {
+		this.source = source;
+		this.limit = limit;
+		this.buffer = new int[Math.min(limit, 16)];
+	}
+
+	@Override
+	public IntIterator iterator() {
+		return new IntIterator() {
+			private long position;
+
+			@Override
+			public boolean hasNext() {
+				synchronized (MemoizingIntSequence.this) {
+					return position < count || fetch();
+				}
+			}
+
+			@Override
+			public int nextInt() {
+				synchronized (MemoizingIntSequence.this) {
+					if (!hasNext())
+						throw new NoSuchElementException();
+
+					return get(position++);
+				}
+			}
+		};
+	}
+
+	private boolean fetch() {
+		if (iterator == null)
+			iterator = source.iterator();
+
+		if (!iterator.hasNext())
+			return false;
+
+		int next = iterator.nextInt();
+		if (count == buffer.length && buffer.length < limit)
+			buffer = Arrays.copyOf(buffer, (int) Math.min(limit, (long) buffer.length << 1));
+
+		buffer[(int) (count++ % buffer.length)] = next;
+		return true;
+	}
+
+	private int get(long position) {
+		if (position < count - buffer.length)
+			throw new IllegalStateException(
+					"Element at position " + position + " has been evicted from memoized buffer of size " + limit);
+
+		return buffer[(int) (position % buffer.length)];
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Sequence} which memoizes the elements of another {@link Sequence} as they are first iterated over, reading
+ * the source {@link Sequence} only once and no further than the furthest iteration over the {@code MemoizingSequence}.
+ * The memoized elements are kept in a buffer which grows up to the given limit, after which the oldest elements are
+ * evicted to make room for new ones. Iterations that need an evicted element fail with an
+ * {@link IllegalStateException}. All access to the buffer and the source is synchronized, so the
+ * {@code MemoizingSequence} may be iterated over concurrently from several threads. This class should not be used
+ * directly as {@link Sequence#memoize()} and {@link Sequence#memoize(int)} return this class.
+ *
+ * @since 2.4
+ */
+class MemoizingSequence<T> implements Sequence<T> {
+	private final Sequence<T> source;
+	private final int limit;
+
+	private Iterator<T> iterator;
+	private Object[] buffer;
+	private long count;
+
+	MemoizingSequence(Sequence<T> source, int limit) {
+		this.source = source;
+		this.limit = limit;
+		this.buffer = new Object[Math.min(limit, 16)];
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private long position;
+
+			@Override
+			public boolean hasNext() {
+				synchronized (MemoizingSequence.this) {
+					return position < count || fetch();
+				}
+			}
+
+			@Override
+			public T next() {
+				synchronized (MemoizingSequence.this) {
+					if (!hasNext())
+						throw new NoSuchElementException();
+
+					return get(position++);
+				}
+			}
+		};
+	}
+
+	private boolean fetch() {
+		if (iterator == null)
+			iterator = source.iterator();
+
+		if (!iterator.hasNext())
+			return false;
+
+		T next = iterator.next();
+		if (count == buffer.length && buffer.length < limit)
+			buffer = Arrays.copyOf(buffer, (int) Math.min(limit, (long) buffer.length << 1));
+
+		buffer[(int) (count++ % buffer.length)] = next;
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T get(long position) {
+		if (position < count - buffer.length)
+			throw new IllegalStateException(
+					"Element at position " + position + " has been evicted from memoized buffer of size " + limit);
+
+		return (T) buffer[(int) (position % buffer.length)];
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.ChainedList;
+import org.d2ab.collection.Iterables;
+import org.d2ab.collection.SizedIterable;
+import org.d2ab.iterator.FusedIterator;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.*;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collector.Characteristics.IDENTITY_FINISH;
+import static org.d2ab.collection.SizedIterable.SizeType.UNAVAILABLE;
+import static org.d2ab.iterator.FusedIterator.SKIP;
+
+/**
+ * A {@link Sequence} over a sized, random access {@link List}, which evaluates {@link #map} and {@link #filter}
+ * stages together with the terminal operations {@link #reduce}, {@link #collect(Collector)},
+ * {@link #toCollection} and {@link #groupBy} in parallel, by splitting the backing {@link List} into chunks by index
+ * and processing the chunks on a {@link ForkJoinPool}. Results are combined in encounter order. All other operations
+ * are evaluated sequentially, as for any other {@link Sequence}.
+ * <p>
+ * Functions passed to a {@code ParallelSequence} may be called concurrently from several threads and must be
+ * stateless. Reductions must be associative for the result to be well-defined.
+ *
+ * @see Sequence#parallel()
+ * @since 2.4
+ */
+class ParallelSequence<S, T> implements Sequence<T> {
+	private static final int MINIMUM_CHUNK_SIZE = 1024;
+
+	private final List<S> source;
+	private final ForkJoinPool pool;
+	private final Function<Object, Object> pipeline;
+	private final boolean filtered;
+
+	/**
+	 * @return true if the given {@link Collection} is a {@link List} that can be split into chunks by index.
+	 */
+	static boolean isSplittable(Collection<?> collection) {
+		return collection instanceof RandomAccess && collection instanceof List || collection instanceof ChainedList;
+	}
+
+	/**
+	 * @return a {@code ParallelSequence} over the given {@link List}, which must be {@link #isSplittable splittable}.
+	 */
+	static <T> Sequence<T> from(List<T> list, ForkJoinPool pool) {
+		requireNonNull(pool, "pool");
+
+		return new ParallelSequence<>(list, pool, null, false);
+	}
+
+	private ParallelSequence(List<S> source, ForkJoinPool pool, Function<Object, Object> pipeline, boolean filtered) {
+		this.source = source;
+		this.pool = pool;
+		this.pipeline = pipeline;
+		this.filtered = filtered;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return iterator(source);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Iterator<T> iterator(List<S> list) {
+		if (pipeline == null)
+			return (Iterator<T>) list.iterator();
+
+		Function<Object, T> mapping = filtered ? t -> (T) t : (Function<Object, T>) (Function<?, ?>) pipeline;
+		return new FusedIterator<>(list.iterator(), filtered ? pipeline : null, mapping);
+	}
+
+	@Override
+	public SizeType sizeType() {
+		return filtered ? UNAVAILABLE : Iterables.sizeType(source);
+	}
+
+	@Override
+	public int size() {
+		return filtered ? SizedIterable.size(this) : source.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return filtered ? SizedIterable.isEmpty(this) : source.isEmpty();
+	}
+
+	@Override
+	public Sequence<T> parallel() {
+		return this;
+	}
+
+	@Override
+	public Sequence<T> parallel(ForkJoinPool pool) {
+		requireNonNull(pool, "pool");
+
+		return new ParallelSequence<>(source, pool, pipeline, filtered);
+	}
+
+	@Override
+	public <U> Sequence<U> map(Function<? super T, ? extends U> mapper) {
+		requireNonNull(mapper, "mapper");
+
+		@SuppressWarnings("unchecked")
+		Function<Object, Object> stage = (Function<Object, Object>) mapper;
+		return new ParallelSequence<>(source, pool, then(stage), filtered);
+	}
+
+	@Override
+	public Sequence<T> filter(Predicate<? super T> predicate) {
+		requireNonNull(predicate, "predicate");
+
+		@SuppressWarnings("unchecked")
+		Predicate<Object> test = (Predicate<Object>) predicate;
+		return new ParallelSequence<>(source, pool, then(t -> test.test(t) ? t : SKIP), true);
+	}
+
+	private Function<Object, Object> then(Function<Object, Object> stage) {
+		if (pipeline == null)
+			return stage;
+
+		Function<Object, Object> pipeline = this.pipeline;
+		return t -> {
+			Object result = pipeline.apply(t);
+			return result == SKIP ? SKIP : stage.apply(result);
+		};
+	}
+
+	@Override
+	public Optional<T> reduce(BinaryOperator<T> operator) {
+		requireNonNull(operator, "operator");
+
+		return evaluate(chunk -> chunk.reduce(operator), (left, right) -> {
+			if (!left.isPresent())
+				return right;
+			if (!right.isPresent())
+				return left;
+			return Optional.of(operator.apply(left.get(), right.get()));
+		});
+	}
+
+	@Override
+	public T reduce(T identity, BinaryOperator<T> operator) {
+		requireNonNull(operator, "operator");
+
+		return evaluate(chunk -> chunk.reduce(identity, operator), operator);
+	}
+
+	@Override
+	public <R, A> R collect(Collector<T, A, R> collector) {
+		requireNonNull(collector, "collector");
+
+		Supplier<A> supplier = collector.supplier();
+		BiConsumer<A, T> accumulator = collector.accumulator();
+		A container = evaluate(chunk -> chunk.collect(supplier, accumulator), collector.combiner());
+		return collector.finisher().apply(container);
+	}
+
+	@Override
+	public <U extends Collection<T>> U toCollection(Supplier<? extends U> constructor) {
+		requireNonNull(constructor, "constructor");
+
+		return evaluate(chunk -> chunk.collectInto(constructor.get()), (left, right) -> {
+			left.addAll(right);
+			return left;
+		});
+	}
+
+	@Override
+	public <M extends Map<K, C>, C, K, A> M groupBy(Function<? super T, ? extends K> classifier,
+	                                                 Supplier<? extends M> mapConstructor,
+	                                                 Collector<? super T, A, C> groupCollector) {
+		requireNonNull(classifier, "classifier");
+		requireNonNull(mapConstructor, "mapConstructor");
+		requireNonNull(groupCollector, "groupCollector");
+
+		Collector<? super T, A, A> groupAccumulator = Collector.of(groupCollector.supplier(),
+		                                                         groupCollector.accumulator(),
+		                                                         groupCollector.combiner());
+		BinaryOperator<A> groupCombiner = groupCollector.combiner();
+
+		@SuppressWarnings("unchecked")
+		Supplier<Map<K, A>> accumulatingMapConstructor = (Supplier<Map<K, A>>) mapConstructor;
+		Map<K, A> result = evaluate(chunk -> chunk.groupBy(classifier, accumulatingMapConstructor, groupAccumulator),
+		                            (left, right) -> {
+			                            right.forEach((k, v) -> left.merge(k, v, groupCombiner));
+			                            return left;
+		                            });
+
+		if (!groupCollector.characteristics().contains(IDENTITY_FINISH)) {
+			@SuppressWarnings("unchecked")
+			Function<? super A, ? extends A> groupFinisher = (Function<? super A, ? extends A>) groupCollector
+					.finisher();
+			result.replaceAll((k, v) -> groupFinisher.apply(v));
+		}
+
+		@SuppressWarnings("unchecked")
+		M groups = (M) result;
+		return groups;
+	}
+
+	/**
+	 * Apply the given operation to chunks of this {@code ParallelSequence} in parallel, combining the results of
+	 * adjacent chunks in encounter order using the given combiner.
+	 */
+	private <R> R evaluate(Function<? super Sequence<T>, ? extends R> operation, BinaryOperator<R> combiner) {
+		int size = source.size();
+		int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, size / (pool.getParallelism() << 2));
+		if (size <= chunkSize)
+			return operation.apply(chunk(0, size));
+
+		return pool.invoke(new ChunkTask<>(0, size, chunkSize, operation, combiner));
+	}
+
+	private Sequence<T> chunk(int from, int to) {
+		List<S> chunk = source.subList(from, to);
+		return () -> iterator(chunk);
+	}
+
+	private class ChunkTask<R> extends RecursiveTask<R> {
+		private static final long serialVersionUID = 0L;
+
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+		private final Function<? super Sequence<T>, ? extends R> operation;
+		private final BinaryOperator<R> combiner;
+
+		private ChunkTask(int from, int to, int chunkSize, Function<? super Sequence<T>, ? extends R> operation,
+		                  BinaryOperator<R> combiner) {
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+			this.operation = operation;
+			this.combiner = combiner;
+		}
+
+		@Override
+		protected R compute() {
+			if (to - from <= chunkSize)
+				return operation.apply(chunk(from, to));
+
+			int middle = (from + to) >>> 1;
+			ChunkTask<R> left = new ChunkTask<>(from, middle, chunkSize, operation, combiner);
+			left.fork();
+			R right = new ChunkTask<>(middle, to, chunkSize, operation, combiner).compute();
+			return combiner.apply(left.join(), right);
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.d2ab.util.Pair;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -163,6 +164,11 @@ public interface Sequence<T> extends IterableCollection<T> {
 			public boolean isEmpty() {
 				return sizedIterable.isEmpty();
 			}
+
+			@Override
+			public Spliterator<T> spliterator() {
+				return sizedIterable.spliterator();
+			}
 		};
 	}
 
@@ -824,7 +830,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default <U> Sequence<U> map(Function<? super T, ? extends U> mapper) {
 		requireNonNull(mapper, "mapper");
 
-		return new EquivalentSizeSequence<>(this, it -> new MappingIterator<>(it, mapper));
+		return FusedSequence.from(this).map(mapper);
 	}
 
 	/**
@@ -870,7 +876,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default <U> Sequence<U> mapIndexed(ObjIntFunction<? super T, ? extends U> mapper) {
 		requireNonNull(mapper, "mapper");
 
-		return new EquivalentSizeSequence<>(this, it -> new IndexingMappingIterator<>(it, mapper));
+		return FusedSequence.from(this).mapIndexed(mapper);
 	}
 
 	/**
@@ -1121,7 +1127,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> filter(Predicate<? super T> predicate) {
 		requireNonNull(predicate, "predicate");
 
-		return () -> new FilteringIterator<>(iterator(), predicate);
+		return FusedSequence.from(this).filter(predicate);
 	}
 
 	/**
@@ -1133,7 +1139,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> filterIndexed(ObjIntPredicate<? super T> predicate) {
 		requireNonNull(predicate, "predicate");
 
-		return () -> new IndexedFilteringIterator<>(iterator(), predicate);
+		return FusedSequence.from(this).filterIndexed(predicate);
 	}
 
 	/**
@@ -1218,10 +1224,14 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> including(T... items) {
 		requireNonNull(items, "items");
 
-		return filter(e -> Arrayz.contains(items, e));
+		Set<T> set = new HashSet<>(Arrays.asList(items));
+		return filter(e -> set.contains(e));
 	}
 
 	/**
+	 * The target iterable is collected into a {@link Set} the first time it is needed, so later changes to it are only
+	 * reflected if it is a {@link Set} itself.
+	 *
 	 * @return a {@code Sequence} containing only the items found in the given target iterable.
 	 *
 	 * @since 1.2
@@ -1229,7 +1239,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> including(Iterable<? extends T> items) {
 		requireNonNull(items, "items");
 
-		return filter(e -> Iterables.contains(items, e));
+		return filter(Iterables.containedIn(items));
 	}
 
 	/**
@@ -1241,10 +1251,14 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> excluding(T... items) {
 		requireNonNull(items, "items");
 
-		return filter(e -> !Arrayz.contains(items, e));
+		Set<T> set = new HashSet<>(Arrays.asList(items));
+		return filter(e -> !set.contains(e));
 	}
 
 	/**
+	 * The target iterable is collected into a {@link Set} the first time it is needed, so later changes to it are only
+	 * reflected if it is a {@link Set} itself.
+	 *
 	 * @return a {@code Sequence} containing only the items not found in the given target iterable.
 	 *
 	 * @since 1.2
@@ -1252,7 +1266,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> excluding(Iterable<? extends T> items) {
 		requireNonNull(items, "items");
 
-		return filter(e -> !Iterables.contains(items, e));
+		return filter(Iterables.containedIn(items).negate());
 	}
 
 	/**
@@ -1573,11 +1587,39 @@ public interface Sequence<T> extends IterableCollection<T> {
 
 		requireFinite(this, "Infinite Sequence");
 
-		for (T t : this)
-			adder.accept(result, t);
+		iterator().forEachRemaining(t -> adder.accept(result, t));
 		return result;
 	}
 
+	/**
+	 * @return a {@code Sequence} over the elements in this {@code Sequence}, which evaluates {@link #map},
+	 * {@link #filter}, {@link #reduce}, {@link #collect(Collector)}, {@link #toCollection} and {@link #groupBy} in
+	 * parallel on the common {@link ForkJoinPool}, if this {@code Sequence} is backed by a sized list that can be split
+	 * by index. Otherwise, this {@code Sequence} is returned and evaluated sequentially. Functions passed to the returned
+	 * {@code Sequence} must be stateless and reductions must be associative.
+	 *
+	 * @see #parallel(ForkJoinPool)
+	 * @since 2.4
+	 */
+	default Sequence<T> parallel() {
+		return parallel(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @return a {@code Sequence} over the elements in this {@code Sequence}, which evaluates {@link #map},
+	 * {@link #filter}, {@link #reduce}, {@link #collect(Collector)}, {@link #toCollection} and {@link #groupBy} in
+	 * parallel on the given {@link ForkJoinPool}, if this {@code Sequence} is backed by a sized list that can be split
+	 * by index. Otherwise, this {@code Sequence} is returned and evaluated sequentially.
+	 *
+	 * @see #parallel()
+	 * @since 2.4
+	 */
+	default Sequence<T> parallel(ForkJoinPool pool) {
+		requireNonNull(pool, "pool");
+
+		return this;
+	}
+
 	/**
 	 * @return a {@link List} view of this {@code Sequence}, which is updated in real time as the backing store of the
 	 * {@code Sequence} changes. The list does not implement {@link RandomAccess} and is best accessed in sequence. The
@@ -2025,6 +2067,59 @@ public interface Sequence<T> extends IterableCollection<T> {
 		};
 	}
 
+	/**
+	 * Window the elements of this {@code Sequence} into a sequence of {@code Sequence}s of elements, like
+	 * {@link #window(int)}, but where each window is a view of a reused buffer instead of a copy. Each window is only
+	 * valid until the iteration over the windows advances to the next window, after which it reflects the contents
+	 * of the later window. This method is equivalent to {@code windowView(window, 1)}.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<Sequence<T>> windowView(int window) {
+		requireAtLeastOne(window, "window");
+
+		return windowView(window, 1);
+	}
+
+	/**
+	 * Window the elements of this {@code Sequence} into a sequence of {@code Sequence}s of elements, like
+	 * {@link #window(int, int)}, but where each window is a view of a reused buffer instead of a copy. Each window is
+	 * only valid until the iteration over the windows advances to the next window, after which it reflects the
+	 * contents of the later window.
+	 *
+	 * @since 2.4
+	 */
+	default Sequence<Sequence<T>> windowView(int window, int step) {
+		Sequence<Sequence<T>> windows = window(window, step);
+
+		return new Sequence<Sequence<T>>() {
+			@Override
+			public Iterator<Sequence<T>> iterator() {
+				return new WindowingIterator<T, Sequence<T>>(Sequence.this.iterator(), window, step, true) {
+					@Override
+					protected Sequence<T> toSequence(List<T> list) {
+						return ListSequence.from(list);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return windows.size();
+			}
+
+			@Override
+			public SizeType sizeType() {
+				return windows.sizeType();
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return windows.isEmpty();
+			}
+		};
+	}
+
 	/**
 	 * Batch the elements of this {@code Sequence} into a sequence of {@code Sequence}s of distinct elements, each with
 	 * the given batch size. This method is equivalent to {@code window(size, size)}.
@@ -2198,6 +2293,86 @@ public interface Sequence<T> extends IterableCollection<T> {
 		};
 	}
 
+	/**
+	 * @return the {@code n} greatest elements in this {@code Sequence} according to the natural order, in descending
+	 * order. Equivalent to {@code sorted(Comparator.reverseOrder()).limit(n)}, but keeps only {@code n} elements in
+	 * memory while traversing this {@code Sequence}. Must be a {@code Sequence} of {@link Comparable} or a
+	 * {@link ClassCastException} is thrown during traversal.
+	 *
+	 * @see #bottom(int)
+	 * @since 2.4
+	 */
+	@SuppressWarnings("unchecked")
+	default Sequence<T> top(int n) {
+		return top(n, (Comparator) Comparator.naturalOrder());
+	}
+
+	/**
+	 * @return the {@code n} greatest elements in this {@code Sequence} according to the given {@link Comparator}, in
+	 * descending order. Equivalent to {@code sorted(comparator.reversed()).limit(n)}, but keeps only {@code n}
+	 * elements in memory while traversing this {@code Sequence}.
+	 *
+	 * @see #bottom(int, Comparator)
+	 * @since 2.4
+	 */
+	default Sequence<T> top(int n, Comparator<? super T> comparator) {
+		requireNonNull(comparator, "comparator");
+
+		return bottom(n, comparator.reversed());
+	}
+
+	/**
+	 * @return the {@code n} smallest elements in this {@code Sequence} according to the natural order, in ascending
+	 * order. Equivalent to {@code sorted().limit(n)}, but keeps only {@code n} elements in memory while traversing
+	 * this {@code Sequence}. Must be a {@code Sequence} of {@link Comparable} or a {@link ClassCastException} is
+	 * thrown during traversal.
+	 *
+	 * @see #top(int)
+	 * @since 2.4
+	 */
+	@SuppressWarnings("unchecked")
+	default Sequence<T> bottom(int n) {
+		return bottom(n, (Comparator) Comparator.naturalOrder());
+	}
+
+	/**
+	 * @return the {@code n} smallest elements in this {@code Sequence} according to the given {@link Comparator}, in
+	 * ascending order. Equivalent to {@code sorted(comparator).limit(n)}, but keeps only {@code n} elements in memory
+	 * while traversing this {@code Sequence}.
+	 *
+	 * @see #top(int, Comparator)
+	 * @since 2.4
+	 */
+	default Sequence<T> bottom(int n, Comparator<? super T> comparator) {
+		requireAtLeastZero(n, "n");
+		requireNonNull(comparator, "comparator");
+
+		if (n == 0)
+			return empty();
+
+		return new Sequence<T>() {
+			@Override
+			public Iterator<T> iterator() {
+				return new BoundedSortingIterator<>(Sequence.this.iterator(), n, comparator);
+			}
+
+			@Override
+			public int size() {
+				return Sequence.this.sizeType().limitedSize(Sequence.this, this, n);
+			}
+
+			@Override
+			public SizeType sizeType() {
+				return Sequence.this.sizeType().limited();
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return Sequence.this.isEmpty();
+			}
+		};
+	}
+
 	/**
 	 * @return the minimal element in this {@code Sequence} according to their natural order. Elements in the sequence
 	 * must all implement {@link Comparable} or a {@link ClassCastException} will be thrown at traversal.
@@ -2304,7 +2479,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> peek(Consumer<? super T> action) {
 		requireNonNull(action, "action");
 
-		return new EquivalentSizeSequence<>(this, it -> new PeekingIterator<>(it, action));
+		return FusedSequence.from(this).peek(action);
 	}
 
 	/**
@@ -2316,7 +2491,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default Sequence<T> peekIndexed(ObjIntConsumer<? super T> action) {
 		requireNonNull(action, "action");
 
-		return new EquivalentSizeSequence<>(this, it -> new IndexPeekingIterator<>(it, action));
+		return FusedSequence.from(this).peekIndexed(action);
 	}
 
 	/**
@@ -2812,6 +2987,38 @@ public interface Sequence<T> extends IterableCollection<T> {
 		};
 	}
 
+	/**
+	 * Memoize the elements of this {@code Sequence} lazily as they are first iterated over, so that this
+	 * {@code Sequence} is iterated over only once, and no further than the furthest iteration over the returned
+	 * {@code Sequence}. This is useful when this {@code Sequence} is expensive to compute or can only be iterated over
+	 * once, and is not necessarily iterated over to the end. The returned {@code Sequence} may be iterated over
+	 * concurrently from several threads.
+	 *
+	 * @see #memoize(int)
+	 * @see #cache(Iterable)
+	 * @since 2.4
+	 */
+	default Sequence<T> memoize() {
+		return new MemoizingSequence<>(this, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Memoize the elements of this {@code Sequence} lazily as they are first iterated over, like {@link #memoize()},
+	 * but keeping only the last {@code bufferSize} elements that have been read from this {@code Sequence}. This allows
+	 * several forward-only iterations over the returned {@code Sequence} to share a single iteration over this
+	 * {@code Sequence} without keeping all of it in memory, as long as they stay within {@code bufferSize} of each
+	 * other. An iteration over the returned {@code Sequence} that needs an evicted element fails with an
+	 * {@link IllegalStateException}.
+	 *
+	 * @see #memoize()
+	 * @since 2.4
+	 */
+	default Sequence<T> memoize(int bufferSize) {
+		requireAtLeastOne(bufferSize, "bufferSize");
+
+		return new MemoizingSequence<>(this, bufferSize);
+	}
+
 	/**
 	 * Repeat this {@code Sequence} forever, producing a sequence that never terminates unless the original sequence is
 	 * empty in which case the resulting sequence is also empty, or the original sequence at some point returns an
@@ -2943,6 +3150,16 @@ public interface Sequence<T> extends IterableCollection<T> {
 		};
 	}
 
+	/**
+	 * Perform the given action for each element in this {@code Sequence}.
+	 */
+	@Override
+	default void forEach(Consumer<? super T> action) {
+		requireNonNull(action, "action");
+
+		iterator().forEachRemaining(action);
+	}
+
 	/**
 	 * Perform the given action for each element in this {@code Sequence}, with the index of each element passed as the
 	 * second parameter in the action.
@@ -2952,8 +3169,7 @@ public interface Sequence<T> extends IterableCollection<T> {
 	default void forEachIndexed(ObjIntConsumer<? super T> action) {
 		requireNonNull(action, "action");
 
-		int index = 0;
-		for (T each : this)
-			action.accept(each, index++);
+		int[] index = {0};
+		iterator().forEachRemaining(each -> action.accept(each, index[0]++));
 	}
 }
@@ -0,0 +1,795 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection;
+
+import org.d2ab.collection.longs.LongSet;
+import org.d2ab.collection.longs.LongSortedSet;
+import org.d2ab.iterator.longs.LongIterator;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.d2ab.test.IsLongIterableContainingInOrder.containsLongs;
+import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class RoaringBitSetTest {
+	private final RoaringBitSet empty = new RoaringBitSet();
+	private final RoaringBitSet set = new RoaringBitSet(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+	                                                  Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+
+	@Test
+	public void setGetClear() throws Exception {
+		assertThat(empty.get(17), is(false));
+
+		assertThat(empty.set(17), is(true));
+		assertThat(empty.get(17), is(true));
+
+		assertThat(empty.set(17), is(false));
+		assertThat(empty.get(17), is(true));
+
+		assertThat(empty.clear(17), is(true));
+		assertThat(empty.get(17), is(false));
+
+		assertThat(empty.clear(17), is(false));
+		assertThat(empty.get(17), is(false));
+
+		assertThat(empty.set(17, false), is(false));
+		assertThat(empty.get(17), is(false));
+
+		assertThat(empty.set(17, true), is(true));
+		assertThat(empty.get(17), is(true));
+
+		assertThat(empty.set(17, true), is(false));
+		assertThat(empty.get(17), is(true));
+
+		assertThat(empty.set(17, false), is(true));
+		assertThat(empty.get(17), is(false));
+
+		expecting(IllegalArgumentException.class, () -> empty.get(-1));
+		expecting(IllegalArgumentException.class, () -> empty.clear(-1));
+		expecting(IllegalArgumentException.class, () -> empty.set(-1, true));
+	}
+
+	@Test
+	public void boundaries() throws Exception {
+		RoaringBitSet set = new RoaringBitSet();
+
+		assertThat(set.get(0), is(false));
+		assertThat(set.set(0), is(true));
+		assertThat(set.get(0), is(true));
+
+		assertThat(set.get(Long.MAX_VALUE), is(false));
+		assertThat(set.set(Long.MAX_VALUE), is(true));
+		assertThat(set.get(Long.MAX_VALUE), is(true));
+	}
+
+	@Test
+	public void fullWords() throws Exception {
+		RoaringBitSet set = new RoaringBitSet();
+
+		for (int i = 0; i < 128; i++)
+			assertThat(set.set(i), is(true));
+
+		for (int i = 0; i < 128; i++)
+			assertThat(set.get(i), is(true));
+
+		StringBuilder expectedToString = new StringBuilder("{");
+		for (int i = 0; i < 128; i++)
+			expectedToString.append(i > 0 ? ", " : "").append(i);
+		expectedToString.append("}");
+		assertThat(set.toString(), is(expectedToString.toString()));
+
+		for (int i = 0; i < 128; i += 2)
+			assertThat(set.clear(i), is(true));
+		assertThat(set.bitCount(), is(64L));
+
+		for (int i = 1; i < 128; i += 2)
+			assertThat(set.clear(i), is(true));
+		assertThat(set.bitCount(), is(0L));
+	}
+
+	@Test
+	public void bitCount() {
+		assertThat(empty.bitCount(), is(0L));
+		assertThat(set.bitCount(), is(14L));
+	}
+
+	@Test
+	public void size() {
+		assertThat(empty.size(), is(0));
+		assertThat(set.size(), is(14));
+	}
+
+	@Test
+	public void sizeOverIntegerMaxInt() {
+		assertThat(new RoaringBitSet() {
+			@Override
+			public long bitCount() {
+				return Integer.MAX_VALUE;
+			}
+		}.size(), is(Integer.MAX_VALUE));
+
+		expecting(IllegalStateException.class, () -> new RoaringBitSet() {
+			@Override
+			public long bitCount() {
+				return Integer.MAX_VALUE + 1L;
+			}
+		}.size());
+	}
+
+	@Test
+	public void clear() {
+		empty.clear();
+		assertThat(empty.bitCount(), is(0L));
+
+		set.clear();
+		assertThat(set.bitCount(), is(0L));
+	}
+
+	@Test
+	public void firstLong() {
+		expecting(NoSuchElementException.class, empty::firstLong);
+		assertThat(set.firstLong(), is(0L));
+	}
+
+	@Test
+	public void lastLong() {
+		expecting(NoSuchElementException.class, empty::lastLong);
+		assertThat(set.lastLong(), is(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void iterator() {
+		LongIterator iterator = set.iterator();
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(0L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(1L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(2L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(3L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(17L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(42L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(73L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(1222L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(58723484L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(58723485L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(58723486L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(Long.MAX_VALUE - 2));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(Long.MAX_VALUE - 1));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(Long.MAX_VALUE));
+		assertThat(iterator.hasNext(), is(false));
+		expecting(NoSuchElementException.class, iterator::nextLong);
+	}
+
+	@Test
+	public void iteratorRemove() {
+		LongIterator iterator = set.iterator();
+
+		expecting(IllegalStateException.class, iterator::remove);
+
+		while (iterator.hasNext()) {
+			iterator.nextLong();
+			iterator.remove();
+		}
+
+		expecting(IllegalStateException.class, iterator::remove);
+
+		assertThat(set.bitCount(), is(0L));
+	}
+
+	@Test
+	public void iteratorFailFast() {
+		LongIterator it1 = set.iterator();
+		set.addLong(5);
+		expecting(ConcurrentModificationException.class, it1::nextLong);
+
+		LongIterator it2 = set.iterator();
+		set.removeLong(5);
+		expecting(ConcurrentModificationException.class, it2::nextLong);
+	}
+
+	@Test
+	public void descendingIterator() {
+		LongIterator iterator = set.descendingIterator();
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(Long.MAX_VALUE));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(Long.MAX_VALUE - 1));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(Long.MAX_VALUE - 2));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(58723486L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(58723485L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(58723484L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(1222L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(73L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(42L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(17L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(3L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(2L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(1L));
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.nextLong(), is(0L));
+		assertThat(iterator.hasNext(), is(false));
+		expecting(NoSuchElementException.class, iterator::nextLong);
+	}
+
+	@Test
+	public void descendingIteratorRemove() {
+		LongIterator iterator = set.descendingIterator();
+
+		expecting(IllegalStateException.class, iterator::remove);
+
+		while (iterator.hasNext()) {
+			iterator.nextLong();
+			iterator.remove();
+		}
+
+		expecting(IllegalStateException.class, iterator::remove);
+
+		assertThat(set.bitCount(), is(0L));
+	}
+
+	@Test
+	public void descendingIteratorFailFast() {
+		LongIterator it1 = set.descendingIterator();
+		set.addLong(5);
+		expecting(ConcurrentModificationException.class, it1::nextLong);
+
+		LongIterator it2 = set.descendingIterator();
+		set.removeLong(5);
+		expecting(ConcurrentModificationException.class, it2::nextLong);
+	}
+
+	@Test
+	public void testToString() {
+		assertThat(empty.toString(), is("{}"));
+		assertThat(set.toString(), is("{0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486, " +
+		                              "9223372036854775805, 9223372036854775806, 9223372036854775807}"));
+	}
+
+	@Test
+	public void testEqualsHashCode() {
+		RoaringBitSet set1 = new RoaringBitSet(20);
+		RoaringBitSet set2 = new RoaringBitSet(10);
+
+		set1.set(0);
+		set1.set(17);
+		set1.set(32);
+		set1.set(73);
+
+		set2.set(0);
+		set2.set(17);
+		set2.set(32);
+
+		assertThat(set1, is(not(equalTo(set2))));
+		assertThat(set2, is(not(equalTo(set1))));
+		assertThat(set1.hashCode(), is(not(set2.hashCode())));
+
+		set1.clear(73);
+		assertThat(set1, is(equalTo(set2)));
+		assertThat(set2, is(equalTo(set1)));
+		assertThat(set1.hashCode(), is(set2.hashCode()));
+	}
+
+	@Test
+	public void subSet() {
+		LongSortedSet subSet = set.subSet(3, 7777);
+		assertThat(subSet, containsLongs(3, 17, 42, 73, 1222));
+		assertThat(subSet.size(), is(5));
+		assertThat(subSet.firstLong(), is(3L));
+		assertThat(subSet.lastLong(), is(1222L));
+		assertThat(subSet.containsLong(17), is(true));
+		assertThat(subSet.containsLong(5), is(false));
+		assertThat(subSet.toString(), is("[3, 17, 42, 73, 1222]"));
+
+		LongSet equivalentSet = LongSet.create(3L, 17L, 42L, 73L, 1222L);
+		assertThat(subSet, is(equalTo(equivalentSet)));
+		assertThat(subSet.hashCode(), is(equivalentSet.hashCode()));
+
+		assertThat(subSet.removeLong(17), is(true));
+		assertThat(subSet, containsLongs(3, 42, 73, 1222));
+		assertThat(subSet.size(), is(4));
+		assertThat(set, containsLongs(0, 1, 2, 3, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(subSet.removeLong(17), is(false));
+		assertThat(subSet, containsLongs(3, 42, 73, 1222));
+		assertThat(subSet.size(), is(4));
+		assertThat(set, containsLongs(0, 1, 2, 3, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(subSet.addLong(17), is(true));
+		assertThat(subSet, containsLongs(3, 17, 42, 73, 1222));
+		assertThat(subSet.size(), is(5));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(subSet.addLong(17), is(false));
+		assertThat(subSet, containsLongs(3, 17, 42, 73, 1222));
+		assertThat(subSet.size(), is(5));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		expecting(IllegalArgumentException.class, () -> subSet.addLong(0));
+		assertThat(subSet, containsLongs(3, 17, 42, 73, 1222));
+		assertThat(subSet.size(), is(5));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(set.addLong(5), is(true));
+		assertThat(subSet, containsLongs(3, 5, 17, 42, 73, 1222));
+		assertThat(subSet.size(), is(6));
+		assertThat(set, containsLongs(0, 1, 2, 3, 5, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		subSet.clear();
+		assertThat(subSet, is(emptyIterable()));
+		assertThat(subSet.size(), is(0));
+		assertThat(set, containsLongs(0, 1, 2, 58723484, 58723485, 58723486, Long.MAX_VALUE - 2, Long.MAX_VALUE - 1,
+		                              Long.MAX_VALUE));
+	}
+
+	@Test
+	public void headSet() {
+		LongSortedSet headSet = set.headSet(7777);
+		assertThat(headSet, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222));
+		assertThat(headSet.size(), is(8));
+		assertThat(headSet.firstLong(), is(0L));
+		assertThat(headSet.lastLong(), is(1222L));
+		assertThat(headSet.containsLong(17), is(true));
+		assertThat(headSet.containsLong(5), is(false));
+		assertThat(headSet.toString(), is("[0, 1, 2, 3, 17, 42, 73, 1222]"));
+
+		LongSet equivalentSet = LongSet.create(0L, 1L, 2L, 3L, 17L, 42L, 73L, 1222L);
+		assertThat(headSet, is(equalTo(equivalentSet)));
+		assertThat(headSet.hashCode(), is(equivalentSet.hashCode()));
+
+		assertThat(headSet.removeLong(17), is(true));
+		assertThat(headSet, containsLongs(0, 1, 2, 3, 42, 73, 1222));
+		assertThat(headSet.size(), is(7));
+		assertThat(set, containsLongs(0, 1, 2, 3, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(headSet.removeLong(17), is(false));
+		assertThat(headSet, containsLongs(0, 1, 2, 3, 42, 73, 1222));
+		assertThat(headSet.size(), is(7));
+		assertThat(set, containsLongs(0, 1, 2, 3, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(headSet.addLong(17), is(true));
+		assertThat(headSet, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222));
+		assertThat(headSet.size(), is(8));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(headSet.addLong(17), is(false));
+		assertThat(headSet, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222));
+		assertThat(headSet.size(), is(8));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		expecting(IllegalArgumentException.class, () -> headSet.addLong(10000));
+		assertThat(headSet, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222));
+		assertThat(headSet.size(), is(8));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(set.addLong(5), is(true));
+		assertThat(headSet, containsLongs(0, 1, 2, 3, 5, 17, 42, 73, 1222));
+		assertThat(headSet.size(), is(9));
+		assertThat(set, containsLongs(0, 1, 2, 3, 5, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		headSet.clear();
+		assertThat(headSet, is(emptyIterable()));
+		assertThat(headSet.size(), is(0));
+		assertThat(set, containsLongs(58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void tailSet() {
+		LongSortedSet tailSet = set.tailSet(1222);
+		assertThat(tailSet, containsLongs(1222, 58723484, 58723485, 58723486, Long.MAX_VALUE - 2,
+		                                  Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertThat(tailSet.size(), is(7));
+		assertThat(tailSet.firstLong(), is(1222L));
+		assertThat(tailSet.lastLong(), is(Long.MAX_VALUE));
+		assertThat(tailSet.containsLong(58723484), is(true));
+		assertThat(tailSet.containsLong(7777), is(false));
+		assertThat(tailSet.toString(),
+		           is("[1222, 58723484, 58723485, 58723486, 9223372036854775805, 9223372036854775806, " +
+		              "9223372036854775807]"));
+
+		LongSet equivalentSet = LongSet.create(1222L, 58723484L, 58723485L, 58723486L, Long.MAX_VALUE - 2,
+		                                       Long.MAX_VALUE - 1, Long.MAX_VALUE);
+		assertThat(tailSet, is(equalTo(equivalentSet)));
+		assertThat(tailSet.hashCode(), is(equivalentSet.hashCode()));
+
+		assertThat(tailSet.removeLong(58723484), is(true));
+		assertThat(tailSet, containsLongs(1222, 58723485, 58723486, Long.MAX_VALUE - 2,
+		                                  Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertThat(tailSet.size(), is(6));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(tailSet.removeLong(58723484), is(false));
+		assertThat(tailSet, containsLongs(1222, 58723485, 58723486, Long.MAX_VALUE - 2,
+		                                  Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertThat(tailSet.size(), is(6));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(tailSet.addLong(58723484), is(true));
+		assertThat(tailSet, containsLongs(1222, 58723484, 58723485, 58723486, Long.MAX_VALUE - 2,
+		                                  Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertThat(tailSet.size(), is(7));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(tailSet.addLong(58723484), is(false));
+		assertThat(tailSet, containsLongs(1222, 58723484, 58723485, 58723486, Long.MAX_VALUE - 2,
+		                                  Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertThat(tailSet.size(), is(7));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		expecting(IllegalArgumentException.class, () -> tailSet.addLong(0));
+		assertThat(tailSet, containsLongs(1222, 58723484, 58723485, 58723486, Long.MAX_VALUE - 2,
+		                                  Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertThat(tailSet.size(), is(7));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		assertThat(set.addLong(1223), is(true));
+		assertThat(tailSet, containsLongs(1222, 1223, 58723484, 58723485, 58723486, Long.MAX_VALUE - 2,
+		                                  Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertThat(tailSet.size(), is(8));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73, 1222, 1223, 58723484, 58723485, 58723486,
+		                              Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+		tailSet.clear();
+		assertThat(tailSet, is(emptyIterable()));
+		assertThat(tailSet.size(), is(0));
+		assertThat(set, containsLongs(0, 1, 2, 3, 17, 42, 73));
+	}
+
+	@Test
+	public void denseChunks() {
+		RoaringBitSet set = new RoaringBitSet();
+		for (long i = 0; i < 200_000; i += 3)
+			assertThat(set.set(i), is(true));
+		assertThat(set.bitCount(), is(66_667L));
+		assertThat(set.firstLong(), is(0L));
+		assertThat(set.lastLong(), is(199_998L));
+
+		for (long i = 0; i < 200_000; i++)
+			assertThat(set.get(i), is(i % 3 == 0));
+
+		LongIterator iterator = set.iterator();
+		for (long i = 0; i < 200_000; i += 3)
+			assertThat(iterator.nextLong(), is(i));
+		assertThat(iterator.hasNext(), is(false));
+
+		LongIterator descendingIterator = set.descendingIterator();
+		for (long i = 199_998; i >= 0; i -= 3)
+			assertThat(descendingIterator.nextLong(), is(i));
+		assertThat(descendingIterator.hasNext(), is(false));
+
+		for (long i = 0; i < 200_000; i += 6)
+			assertThat(set.clear(i), is(true));
+		assertThat(set.bitCount(), is(33_333L));
+		for (long i = 0; i < 200_000; i++)
+			assertThat(set.get(i), is(i % 6 == 3));
+	}
+
+	@Test
+	public void optimize() {
+		RoaringBitSet set = new RoaringBitSet();
+		for (long i = 1000; i < 150_000; i++)
+			set.set(i);
+		set.set(200_000);
+
+		set.optimize();
+		assertThat(set.bitCount(), is(149_001L));
+		assertThat(set.firstLong(), is(1000L));
+		assertThat(set.lastLong(), is(200_000L));
+		assertThat(set.get(999), is(false));
+		assertThat(set.get(1000), is(true));
+		assertThat(set.get(149_999), is(true));
+		assertThat(set.get(150_000), is(false));
+
+		assertThat(set.clear(70_000), is(true));
+		assertThat(set.clear(1000), is(true));
+		assertThat(set.clear(149_999), is(true));
+		assertThat(set.set(1000), is(true));
+		assertThat(set.set(70_000), is(true));
+		assertThat(set.set(150_000), is(true));
+		assertThat(set.bitCount(), is(149_001L));
+
+		LongIterator iterator = set.iterator();
+		for (long i = 1000; i < 150_001; i++)
+			if (i != 149_999)
+				assertThat(iterator.nextLong(), is(i));
+		assertThat(iterator.nextLong(), is(200_000L));
+		assertThat(iterator.hasNext(), is(false));
+
+		// fragment the runs until the chunk is converted back
+		for (long i = 1000; i < 65_536; i += 2)
+			assertThat(set.clear(i), is(true));
+		for (long i = 1000; i < 65_536; i++)
+			assertThat(set.get(i), is(i % 2 == 1));
+	}
+
+	@Test
+	public void or() {
+		RoaringBitSet other = new RoaringBitSet(4, 17, 43, 58723487, 1L << 40);
+		for (long i = 100_000; i < 110_000; i++)
+			other.set(i);
+
+		set.or(other);
+		assertThat(set.bitCount(), is(14L + 4 + 10_000));
+		assertThat(set.get(43), is(true));
+		assertThat(set.get(105_000), is(true));
+		assertThat(set.get(1L << 40), is(true));
+		assertThat(set.get(58723487), is(true));
+		assertThat(other.bitCount(), is(10_005L));
+
+		other.clear(105_000);
+		assertThat(set.get(105_000), is(true));
+
+		empty.or(set);
+		assertThat(empty, is(equalTo(set)));
+	}
+
+	@Test
+	public void and() {
+		RoaringBitSet other = new RoaringBitSet(3, 4, 17, 58723486, Long.MAX_VALUE);
+		for (long i = 100_000; i < 110_000; i++)
+			other.set(i);
+
+		set.and(other);
+		assertThat(set, containsLongs(3, 17, 58723486, Long.MAX_VALUE));
+
+		RoaringBitSet dense = new RoaringBitSet();
+		for (long i = 0; i < 100_000; i += 2)
+			dense.set(i);
+		RoaringBitSet denser = new RoaringBitSet();
+		for (long i = 0; i < 100_000; i += 3)
+			denser.set(i);
+		dense.and(denser);
+		assertThat(dense.bitCount(), is(16_667L));
+		for (long i = 0; i < 100_000; i++)
+			assertThat(dense.get(i), is(i % 6 == 0));
+
+		set.and(empty);
+		assertThat(set.isEmpty(), is(true));
+	}
+
+	@Test
+	public void andNot() {
+		RoaringBitSet other = new RoaringBitSet(3, 4, 17, 58723486, Long.MAX_VALUE);
+		set.andNot(other);
+		assertThat(set, containsLongs(0, 1, 2, 42, 73, 1222, 58723484, 58723485, Long.MAX_VALUE - 2,
+		                              Long.MAX_VALUE - 1));
+
+		RoaringBitSet dense = new RoaringBitSet();
+		for (long i = 0; i < 100_000; i++)
+			dense.set(i);
+		dense.optimize();
+		RoaringBitSet odd = new RoaringBitSet();
+		for (long i = 1; i < 100_000; i += 2)
+			odd.set(i);
+		dense.andNot(odd);
+		assertThat(dense.bitCount(), is(50_000L));
+		for (long i = 0; i < 100_000; i++)
+			assertThat(dense.get(i), is(i % 2 == 0));
+
+		set.andNot(set);
+		assertThat(set.isEmpty(), is(true));
+	}
+
+	@Test
+	public void intersectionCount() {
+		assertThat(set.intersectionCount(empty), is(0L));
+		assertThat(set.intersectionCount(set), is(14L));
+		assertThat(set.intersectionCount(new RoaringBitSet(3, 4, 17, 58723486, Long.MAX_VALUE)), is(4L));
+
+		RoaringBitSet even = new RoaringBitSet();
+		for (long i = 0; i < 100_000; i += 2)
+			even.set(i);
+		RoaringBitSet thirds = new RoaringBitSet();
+		for (long i = 0; i < 100_000; i += 3)
+			thirds.set(i);
+		assertThat(even.intersectionCount(thirds), is(16_667L));
+
+		thirds.optimize();
+		RoaringBitSet range = new RoaringBitSet();
+		for (long i = 50_000; i < 150_000; i++)
+			range.set(i);
+		range.optimize();
+		assertThat(range.intersectionCount(even), is(25_000L));
+		assertThat(even.intersectionCount(range), is(25_000L));
+		assertThat(range.intersectionCount(range), is(100_000L));
+	}
+
+	@Test
+	public void randomOperations() {
+		Random random = new Random(17);
+		RoaringBitSet set = new RoaringBitSet();
+		SortedSet<Long> expected = new TreeSet<>();
+		for (int i = 0; i < 100_000; i++) {
+			long x = random.nextInt(1 << 18);
+			switch (random.nextInt(4)) {
+				case 0:
+				case 1:
+					assertThat(set.set(x), is(expected.add(x)));
+					break;
+				case 2:
+					assertThat(set.clear(x), is(expected.remove(x)));
+					break;
+				default:
+					assertThat(set.get(x), is(expected.contains(x)));
+			}
+			if (i % 20_000 == 0)
+				set.optimize();
+		}
+
+		assertThat(set.bitCount(), is((long) expected.size()));
+		assertThat(set.toString(), is(expected.toString().replace('[', '{').replace(']', '}')));
+		assertThat(set.firstLong(), is(expected.first()));
+		assertThat(set.lastLong(), is(expected.last()));
+
+		LongIterator iterator = set.iterator();
+		Iterator<Long> expectedIterator = expected.iterator();
+		while (expectedIterator.hasNext()) {
+			long x = expectedIterator.next();
+			assertThat(iterator.nextLong(), is(x));
+			if (x % 3 == 0) {
+				iterator.remove();
+				expectedIterator.remove();
+			}
+		}
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(set.toString(), is(expected.toString().replace('[', '{').replace(']', '}')));
+	}
+
+	@Test
+	public void sparseBlocks() {
+		Random random = new Random(17);
+		RoaringBitSet set = new RoaringBitSet();
+		RoaringBitSet other = new RoaringBitSet();
+		SortedSet<Long> expected = new TreeSet<>();
+		SortedSet<Long> expectedOther = new TreeSet<>();
+		for (int i = 0; i < 200_000; i++) {
+			long x = i % 4 == 0 ? random.nextInt(1 << 20) : random.nextLong() >>> 1;
+			assertThat(set.set(x), is(expected.add(x)));
+			if (i % 3 == 0) {
+				long y = i % 2 == 0 ? x : x ^ 1;
+				assertThat(other.set(y), is(expectedOther.add(y)));
+			}
+		}
+		assertThat(set.bitCount(), is((long) expected.size()));
+		assertThat(set.size(), is(expected.size()));
+		assertThat(set.firstLong(), is(expected.first()));
+		assertThat(set.lastLong(), is(expected.last()));
+
+		LongIterator descending = set.descendingIterator();
+		for (Iterator<Long> expectedDescending = new TreeSet<>(expected).descendingIterator();
+		     expectedDescending.hasNext(); ) {
+			long x = expectedDescending.next();
+			assertThat(descending.nextLong(), is(x));
+			if (x % 5 == 0) {
+				descending.remove();
+				expected.remove(x);
+			}
+		}
+		assertThat(descending.hasNext(), is(false));
+		assertThat(set.bitCount(), is((long) expected.size()));
+
+		SortedSet<Long> intersection = new TreeSet<>(expected);
+		intersection.retainAll(expectedOther);
+		assertThat(set.intersectionCount(other), is((long) intersection.size()));
+		assertThat(set.intersect(other).toString(), is(toString(intersection)));
+
+		SortedSet<Long> difference = new TreeSet<>(expected);
+		difference.removeAll(expectedOther);
+		assertThat(set.difference(other).toString(), is(toString(difference)));
+
+		SortedSet<Long> union = new TreeSet<>(expected);
+		union.addAll(expectedOther);
+		set.or(other);
+		assertThat(set.bitCount(), is((long) union.size()));
+		assertThat(set.toString(), is(toString(union)));
+
+		set.andNot(other);
+		assertThat(set.bitCount(), is((long) difference.size()));
+		assertThat(set.toString(), is(toString(difference)));
+
+		for (long x : expectedOther)
+			assertThat(other.clear(x), is(true));
+		assertThat(other.isEmpty(), is(true));
+		assertThat(other.bitCount(), is(0L));
+	}
+
+	@Test
+	public void fuzz() {
+		long[] randomIndices = new long[1000];
+		Random random = new Random();
+		for (int i = 0; i < randomIndices.length; i++) {
+			long randomIndex;
+			do
+				randomIndex = Math.abs(random.nextLong());
+			while (Arrayz.contains(randomIndices, randomIndex));
+			randomIndices[i] = randomIndex;
+		}
+
+		RoaringBitSet set = new RoaringBitSet();
+		for (long randomIndex : randomIndices)
+			assertThat(set.set(randomIndex), is(true));
+		assertThat(set.bitCount(), is((long) randomIndices.length));
+
+		for (long randomIndex : randomIndices)
+			assertThat(set.set(randomIndex), is(false));
+
+		for (long randomIndex : randomIndices)
+			assertThat(set.get(randomIndex), is(true));
+
+		Arrays.sort(randomIndices);
+		StringBuilder expectedToString = new StringBuilder("{");
+		for (int i = 0; i < randomIndices.length; i++)
+			expectedToString.append(i > 0 ? ", " : "").append(randomIndices[i]);
+		expectedToString.append("}");
+		assertThat(set.toString(), is(expectedToString.toString()));
+
+		for (long randomIndex : randomIndices)
+			assertThat(set.clear(randomIndex), is(true));
+		assertThat(set.toString(), is("{}"));
+		assertThat(set.bitCount(), is(0L));
+
+		for (long randomIndex : randomIndices)
+			assertThat(set.clear(randomIndex), is(false));
+	}
+
+	private static String toString(SortedSet<Long> expected) {
+		return expected.toString().replace('[', '{').replace(']', '}');
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.d2ab.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class SlicedListTest {
+	private final List<Integer> original = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+	@Test
+	public void skip() {
+		assertThat(SlicedList.skip(original, 0), contains(1, 2, 3, 4, 5, 6, 7, 8, 9));
+		assertThat(SlicedList.skip(original, 3), contains(4, 5, 6, 7, 8, 9));
+		assertThat(SlicedList.skip(original, 9), is(emptyIterable()));
+		assertThat(SlicedList.skip(original, 10), is(emptyIterable()));
+	}
+
+	@Test
+	public void skipTail() {
+		assertThat(SlicedList.skipTail(original, 3), contains(1, 2, 3, 4, 5, 6));
+		assertThat(SlicedList.skipTail(original, 10), is(emptyIterable()));
+	}
+
+	@Test
+	public void limit() {
+		assertThat(SlicedList.limit(original, 0), is(emptyIterable()));
+		assertThat(SlicedList.limit(original, 3), contains(1, 2, 3));
+		assertThat(SlicedList.limit(original, 10), contains(1, 2, 3, 4, 5, 6, 7, 8, 9));
+	}
+
+	@Test
+	public void limitTail() {
+		assertThat(SlicedList.limitTail(original, 0), is(emptyIterable()));
+		assertThat(SlicedList.limitTail(original, 3), contains(7, 8, 9));
+		assertThat(SlicedList.limitTail(original, 10), contains(1, 2, 3, 4, 5, 6, 7, 8, 9));
+	}
+
+	@Test
+	public void get() {
+		List<Integer> sliced = SlicedList.skip(original, 3);
+		assertThat(sliced.get(0), is(4));
+		assertThat(sliced.get(5), is(9));
+		expecting(IndexOutOfBoundsException.class, () -> sliced.get(-1));
+		expecting(IndexOutOfBoundsException.class, () -> sliced.get(6));
+	}
+
+	@Test
+	public void set() {
+		List<Integer> sliced = SlicedList.limitTail(original, 3);
+		assertThat(sliced.set(1, 17), is(8));
+		assertThat(sliced, contains(7, 17, 9));
+		assertThat(original, contains(1, 2, 3, 4, 5, 6, 7, 17, 9));
+	}
+
+	@Test
+	public void iteratorRemove() {
+		List<Integer> sliced = SlicedList.skip(original, 6);
+		Iterator<Integer> iterator = sliced.iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertThat(sliced, contains(8, 9));
+		assertThat(original, contains(1, 2, 3, 4, 5, 6, 8, 9));
+	}
+
+	@Test
+	public void reflectsChangesInOriginal() {
+		List<Integer> sliced = SlicedList.limit(original, 3);
+		original.remove(0);
+		assertThat(sliced, contains(2, 3, 4));
+
+		original.clear();
+		assertThat(sliced, is(emptyIterable()));
+		assertThat(sliced.size(), is(0));
+	}
+
+	@Test
+	public void clearAndRetainAll() {
+		List<Integer> limited = SlicedList.limit(original, 5);
+		limited.retainAll(Lists.of(1, 2));
+		assertThat(limited, contains(1, 2, 6, 7, 8));
+		assertThat(original, contains(1, 2, 6, 7, 8, 9));
+
+		List<Integer> skipped = SlicedList.skip(original, 3);
+		skipped.clear();
+		assertThat(skipped, is(emptyIterable()));
+		assertThat(original, contains(1, 2, 6));
+	}
+
+	@Test
+	public void listIterator() {
+		ListIterator<Integer> listIterator = SlicedList.limit(original, 3).listIterator(1);
+		assertThat(listIterator.previousIndex(), is(0));
+		assertThat(listIterator.next(), is(2));
+		listIterator.remove();
+		assertThat(listIterator.nextIndex(), is(1));
+		assertThat(listIterator.next(), is(3));
+		assertThat(listIterator.hasNext(), is(false));
+		assertThat(listIterator.previous(), is(3));
+		assertThat(listIterator.previous(), is(1));
+		assertThat(listIterator.hasPrevious(), is(false));
+		expecting(UnsupportedOperationException.class, () -> listIterator.add(17));
+		assertThat(original, contains(1, 3, 4, 5, 6, 7, 8, 9));
+	}
+	@Test
+	public void nested() {
+		List<Integer> sliced = SlicedList.limitTail(SlicedList.skipTail(SlicedList.skip(original, 2), 1), 4);
+		assertThat(sliced.size(), is(4));
+		assertThat(sliced, contains(5, 6, 7, 8));
+
+		List<Integer> skippedStepped = SlicedList.skip(SteppedList.from(original, 3), 1);
+		assertThat(skippedStepped, contains(4, 7));
+		assertThat(skippedStepped.get(1), is(7));
+
+		skippedStepped.removeIf(x -> true);
+		assertThat(original, contains(1, 2, 3, 5, 6, 8, 9));
+
+		List<Integer> limitedStepped = SlicedList.limitTail(SteppedList.from(original, 2), 2);
+		assertThat(limitedStepped, contains(6, 9));
+		limitedStepped.clear();
+		assertThat(original, contains(1, 2, 3, 5, 8));
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.d2ab.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class SteppedListTest {
+	private final List<Integer> original = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+	private final List<Integer> stepped = SteppedList.from(original, 3);
+
+	@Test
+	public void size() {
+		assertThat(SteppedList.from(new ArrayList<>(), 3).size(), is(0));
+		assertThat(SteppedList.from(original, 1).size(), is(9));
+		assertThat(stepped.size(), is(3));
+		assertThat(SteppedList.from(original, 4).size(), is(3));
+		assertThat(SteppedList.from(original, 10).size(), is(1));
+	}
+
+	@Test
+	public void iterator() {
+		assertThat(SteppedList.from(new ArrayList<>(), 3), is(emptyIterable()));
+		assertThat(stepped, contains(1, 4, 7));
+		assertThat(SteppedList.from(original, 4), contains(1, 5, 9));
+	}
+
+	@Test
+	public void get() {
+		assertThat(stepped.get(0), is(1));
+		assertThat(stepped.get(2), is(7));
+		expecting(IndexOutOfBoundsException.class, () -> stepped.get(-1));
+		expecting(IndexOutOfBoundsException.class, () -> stepped.get(3));
+	}
+
+	@Test
+	public void set() {
+		assertThat(stepped.set(1, 17), is(4));
+		assertThat(stepped, contains(1, 17, 7));
+		assertThat(original, contains(1, 2, 3, 17, 5, 6, 7, 8, 9));
+	}
+
+	@Test
+	public void iteratorRemove() {
+		Iterator<Integer> iterator = stepped.iterator();
+		expecting(IllegalStateException.class, iterator::remove);
+		iterator.next();
+		iterator.remove();
+		expecting(IllegalStateException.class, iterator::remove);
+		iterator.next();
+		iterator.remove();
+
+		assertThat(original, contains(2, 3, 5, 6, 7, 8, 9));
+		assertThat(stepped, contains(2, 6, 9));
+	}
+
+	@Test
+	public void clear() {
+		stepped.clear();
+		assertThat(original, contains(2, 3, 5, 6, 8, 9));
+		assertThat(stepped, contains(2, 6));
+	}
+
+	@Test
+	public void listIterator() {
+		ListIterator<Integer> listIterator = stepped.listIterator(1);
+		assertThat(listIterator.nextIndex(), is(1));
+		assertThat(listIterator.next(), is(4));
+		assertThat(listIterator.next(), is(7));
+		assertThat(listIterator.hasNext(), is(false));
+		assertThat(listIterator.previous(), is(7));
+		listIterator.set(17);
+		assertThat(listIterator.previous(), is(4));
+		assertThat(listIterator.previous(), is(1));
+		assertThat(listIterator.hasPrevious(), is(false));
+		expecting(UnsupportedOperationException.class, () -> listIterator.add(17));
+		assertThat(original, contains(1, 2, 3, 4, 5, 6, 17, 8, 9));
+	}
+	@Test
+	public void nested() {
+		List<Integer> steppedTwice = SteppedList.from(stepped, 2);
+		assertThat(steppedTwice, contains(1, 7));
+		assertThat(SteppedList.from(stepped, 1), contains(1, 4, 7));
+
+		steppedTwice.clear();
+		assertThat(original, contains(2, 3, 4, 5, 6, 8, 9));
+
+		List<Integer> steppedSkipped = SteppedList.from(SlicedList.skip(original, 1), 3);
+		assertThat(steppedSkipped, contains(3, 6));
+		assertThat(steppedSkipped.get(1), is(6));
+
+		steppedSkipped.clear();
+		assertThat(original, contains(2, 4, 5, 8, 9));
+	}
+}
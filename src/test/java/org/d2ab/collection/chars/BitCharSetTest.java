@@ -486,6 +486,95 @@ public class BitCharSetTest {
 		assertThat(charSet, is(emptyIterable()));
 	}
 
+	@Test
+	public void union() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.union(empty), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.union(new BitCharSet('a', 'c', 'e', 'x')), containsChars('a', 'b', 'c', 'd', 'e', 'x'));
+	}
+
+	@Test
+	public void intersect() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.intersect(new BitCharSet('a', 'c', 'e', 'x')), containsChars('a', 'c', 'e'));
+	}
+
+	@Test
+	public void difference() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(new BitCharSet('a', 'c', 'e', 'x')), containsChars('b', 'd'));
+	}
+
+	@Test
+	public void intersectionSize() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(5));
+		assertThat(set.intersectionSize(new BitCharSet('a', 'c', 'e', 'x')), is(3));
+	}
+
+	@Test
+	public void unionWithOtherSortedSet() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.union(empty), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.union(CharSortedSet.Base.create('a', 'c', 'e', 'x')), containsChars('a', 'b', 'c', 'd', 'e', 'x'));
+	}
+
+	@Test
+	public void intersectWithOtherSortedSet() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.intersect(CharSortedSet.Base.create('a', 'c', 'e', 'x')), containsChars('a', 'c', 'e'));
+	}
+
+	@Test
+	public void differenceWithOtherSortedSet() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(CharSortedSet.Base.create('a', 'c', 'e', 'x')), containsChars('b', 'd'));
+	}
+
+	@Test
+	public void intersectionSizeWithOtherSortedSet() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(5));
+		assertThat(set.intersectionSize(CharSortedSet.Base.create('a', 'c', 'e', 'x')), is(3));
+	}
+
+	@Test
+	public void bulkOperations() {
+		BitCharSet other = new BitCharSet('a', 'c', 'e', 'x');
+
+		assertThat(set.containsAllChars(other), is(false));
+		assertThat(set.containsAllChars(new BitCharSet('a', 'c', 'e')), is(true));
+
+		BitCharSet union = new BitCharSet('a', 'b', 'c', 'd', 'e');
+		assertThat(union.addAllChars(other), is(true));
+		assertThat(union.addAllChars(other), is(false));
+		assertThat(union, containsChars('a', 'b', 'c', 'd', 'e', 'x'));
+
+		BitCharSet intersection = new BitCharSet('a', 'b', 'c', 'd', 'e');
+		assertThat(intersection.retainAllChars(other), is(true));
+		assertThat(intersection.retainAllChars(other), is(false));
+		assertThat(intersection, containsChars('a', 'c', 'e'));
+
+		BitCharSet difference = new BitCharSet('a', 'b', 'c', 'd', 'e');
+		assertThat(difference.removeAllChars(other), is(true));
+		assertThat(difference.removeAllChars(other), is(false));
+		assertThat(difference, containsChars('b', 'd'));
+
+		assertThat(other, containsChars('a', 'c', 'e', 'x'));
+	}
+
 	@Test
 	public void fuzz() {
 		char[] randomValues = new char[1000];
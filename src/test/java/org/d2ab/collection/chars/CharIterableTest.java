@@ -3,6 +3,7 @@ package org.d2ab.collection.chars;
 import org.d2ab.collection.ints.IntList;
 import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.chars.CharIterator;
+import org.d2ab.sequence.CharSeq;
 import org.junit.Test;
 
 import java.io.IOException;
@@ -247,6 +248,29 @@ public class CharIterableTest {
 		expecting(IOException.class, () -> reader.read(cbuf, 0, 2));
 	}
 
+	@Test
+	public void asReaderReadBulk() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+			builder.append((char) ('a' + i % 26));
+		String string = builder.toString();
+
+		for (CharIterable source : new CharIterable[]{CharSeq.from(string), CharSeq.from(builder),
+		                                              CharList.create(string.toCharArray()),
+		                                              CharIterable.of(string.toCharArray())}) {
+			Reader reader = source.asReader();
+			char[] cbuf = new char[20010];
+			assertThat(reader.read(cbuf, 3, 10), is(10));
+			reader.mark(0);
+			assertThat(reader.read(cbuf, 13, 19990), is(19990));
+			assertThat(reader.read(cbuf, 0, 10), is(-1));
+			assertThat(new String(cbuf, 3, 20000), is(string));
+
+			reader.reset();
+			assertThat(reader.read(), is((int) 'k'));
+		}
+	}
+
 	@Test
 	public void asReaderSkip() throws Exception {
 		Reader reader = iterable.asReader();
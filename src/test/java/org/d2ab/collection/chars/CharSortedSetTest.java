@@ -525,6 +525,38 @@ public class CharSortedSetTest {
 		assertThat(charSet, is(emptyIterable()));
 	}
 
+	@Test
+	public void union() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.union(empty), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.union(CharSortedSet.Base.create('a', 'c', 'e', 'x')), containsChars('a', 'b', 'c', 'd', 'e', 'x'));
+	}
+
+	@Test
+	public void intersect() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.intersect(CharSortedSet.Base.create('a', 'c', 'e', 'x')), containsChars('a', 'c', 'e'));
+	}
+
+	@Test
+	public void difference() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(CharSortedSet.Base.create('a', 'c', 'e', 'x')), containsChars('b', 'd'));
+	}
+
+	@Test
+	public void intersectionSize() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(5));
+		assertThat(set.intersectionSize(CharSortedSet.Base.create('a', 'c', 'e', 'x')), is(3));
+	}
+
 	@Test
 	public void fuzz() {
 		char[] randomValues = new char[1000];
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.doubles;
+
+import org.d2ab.iterator.doubles.DoubleIterator;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import static org.d2ab.test.IsDoubleIterableContainingInOrder.containsDoubles;
+import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class BucketDoubleSetTest {
+	private final BucketDoubleSet empty = new BucketDoubleSet(0.1);
+	private final BucketDoubleSet set = new BucketDoubleSet(0.1, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+
+	@Test
+	public void size() {
+		assertThat(empty.size(), is(0));
+		assertThat(set.size(), is(10));
+	}
+
+	@Test
+	public void iterator() {
+		assertThat(empty, is(emptyIterable()));
+		assertThat(set, is(equalTo(new RawDoubleSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4))));
+	}
+
+	@Test
+	public void iteratorFailFast() {
+		DoubleIterator it1 = set.iterator();
+		set.addDoubleExactly(17);
+		expecting(ConcurrentModificationException.class, it1::nextDouble);
+
+		DoubleIterator it2 = set.iterator();
+		set.removeDoubleExactly(17);
+		expecting(ConcurrentModificationException.class, it2::nextDouble);
+	}
+
+	@Test
+	public void isEmpty() {
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(set.isEmpty(), is(false));
+	}
+
+	@Test
+	public void clear() {
+		empty.clear();
+		assertThat(empty.isEmpty(), is(true));
+
+		set.clear();
+		assertThat(set.isEmpty(), is(true));
+	}
+
+	@Test
+	public void addDoubleExactly() {
+		assertThat(empty.addDoubleExactly(17), is(true));
+		assertThat(empty, containsDoubles(17));
+
+		assertThat(empty.addDoubleExactly(17), is(false));
+		assertThat(empty, containsDoubles(17));
+
+		assertThat(set.addDoubleExactly(17), is(true));
+		assertThat(set.addDoubleExactly(17), is(false));
+		assertThat(set, is(equalTo(new RawDoubleSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17))));
+	}
+
+	@Test
+	public void containsDoubleExactly() {
+		assertThat(empty.containsDoubleExactly(17), is(false));
+
+		assertThat(set.containsDoubleExactly(17), is(false));
+		for (double x = -5; x <= 4; x++)
+			assertThat(set.containsDoubleExactly(x), is(true));
+	}
+
+	@Test
+	public void removeDoubleExactly() {
+		assertThat(empty.removeDoubleExactly(17), is(false));
+
+		assertThat(set.removeDoubleExactly(17), is(false));
+		for (double x = -5; x <= 4; x++)
+			assertThat(set.removeDoubleExactly(x), is(true));
+		assertThat(set.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testEqualsHashCodeAgainstRawDoubleSet() {
+		RawDoubleSet set2 = new RawDoubleSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17);
+		assertThat(set, is(not(equalTo(set2))));
+		assertThat(set.hashCode(), is(not(set2.hashCode())));
+
+		set2.removeDoubleExactly(17);
+
+		assertThat(set, is(equalTo(set2)));
+		assertThat(set2, is(equalTo(set)));
+		assertThat(set.hashCode(), is(set2.hashCode()));
+	}
+
+	@Test
+	public void containsDouble() {
+		assertThat(empty.containsDouble(17, 0.1), is(false));
+		assertThat(set.precision(), is(0.1));
+
+		for (double x = -5; x <= 4; x++) {
+			assertThat(set.containsDouble(x, 0.1), is(true));
+			assertThat(set.containsDouble(x - 0.09, 0.1), is(true));
+			assertThat(set.containsDouble(x + 0.09, 0.1), is(true));
+			assertThat(set.containsDouble(x + 0.09, 0.05), is(false));
+			assertThat(set.containsDouble(x - 0.11, 0.1), is(false));
+			assertThat(set.containsDouble(x + 0.11, 0.1), is(false));
+			assertThat(set.containsDouble(x + 0.5, 0.5), is(true));
+			assertThat(set.containsDouble(x + 0.5, 0.4), is(false));
+		}
+
+		BucketDoubleSet exact = new BucketDoubleSet(0, -0.0, 1, 2);
+		assertThat(exact.containsDouble(0.0, 0), is(true));
+		assertThat(exact.containsDouble(1, 0), is(true));
+		assertThat(exact.containsDouble(Math.nextUp(1.0), 0), is(false));
+		assertThat(exact.containsDouble(1.5, 0.5), is(true));
+	}
+
+	@Test
+	public void hugeAndNonFiniteValues() {
+		BucketDoubleSet huge = new BucketDoubleSet(0.1, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+		                                           Double.MAX_VALUE, -Double.MAX_VALUE);
+		for (int i = 0; i < 10000; i++) {
+			double x = Math.scalb(1.0 + i / 16384.0, 58 + i % 960);
+			assertThat(huge.addDoubleExactly(x), is(true));
+			assertThat(huge.addDoubleExactly(-x), is(true));
+		}
+		assertThat(huge.size(), is(20005));
+
+		assertThat(huge.containsDoubleExactly(Double.POSITIVE_INFINITY), is(true));
+		assertThat(huge.containsDoubleExactly(Double.NEGATIVE_INFINITY), is(true));
+		assertThat(huge.containsDoubleExactly(Double.NaN), is(true));
+		assertThat(huge.containsDouble(Double.MAX_VALUE, 0.1), is(true));
+		assertThat(huge.containsDouble(Math.nextDown(Double.MAX_VALUE), 0.1), is(false));
+
+		for (int i = 0; i < 10000; i++) {
+			double x = Math.scalb(1.0 + i / 16384.0, 58 + i % 960);
+			assertThat(huge.containsDouble(x, 0.1), is(true));
+			assertThat(huge.containsDouble(-x, 0.1), is(true));
+			assertThat(huge.containsDouble(Math.nextUp(x), 0.1), is(false));
+			assertThat(huge.removeDoubleExactly(x), is(true));
+			assertThat(huge.containsDouble(x, 0.1), is(false));
+		}
+		assertThat(huge.size(), is(10005));
+	}
+
+	@Test
+	public void fuzz() {
+		double[] randomValues = new Random().doubles(10000).toArray();
+		RawDoubleSet expected = new RawDoubleSet(randomValues);
+		DoubleList list = DoubleList.create(randomValues);
+
+		for (double randomValue : randomValues)
+			empty.addDoubleExactly(randomValue);
+		assertThat(empty.size(), is(expected.size()));
+		assertThat(empty, is(equalTo(expected)));
+
+		for (double x = 0; x < 1; x += 0.001)
+			assertThat(empty.containsDouble(x, 0.0001), is(list.containsDouble(x, 0.0001)));
+
+		for (double randomValue : randomValues)
+			empty.removeDoubleExactly(randomValue);
+		assertThat(empty, is(emptyIterable()));
+	}
+}
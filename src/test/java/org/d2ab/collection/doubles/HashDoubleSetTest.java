@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.doubles;
+
+import org.d2ab.iterator.doubles.DoubleIterator;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import static org.d2ab.test.IsDoubleIterableContainingInOrder.containsDoubles;
+import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class HashDoubleSetTest {
+	private final HashDoubleSet empty = new HashDoubleSet();
+	private final HashDoubleSet set = new HashDoubleSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+
+	@Test
+	public void size() {
+		assertThat(empty.size(), is(0));
+		assertThat(set.size(), is(10));
+	}
+
+	@Test
+	public void iterator() {
+		assertThat(empty, is(emptyIterable()));
+		assertThat(set, is(equalTo(new RawDoubleSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4))));
+	}
+
+	@Test
+	public void iteratorFailFast() {
+		DoubleIterator it1 = set.iterator();
+		set.addDoubleExactly(17);
+		expecting(ConcurrentModificationException.class, it1::nextDouble);
+
+		DoubleIterator it2 = set.iterator();
+		set.removeDoubleExactly(17);
+		expecting(ConcurrentModificationException.class, it2::nextDouble);
+	}
+
+	@Test
+	public void isEmpty() {
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(set.isEmpty(), is(false));
+	}
+
+	@Test
+	public void clear() {
+		empty.clear();
+		assertThat(empty.isEmpty(), is(true));
+
+		set.clear();
+		assertThat(set.isEmpty(), is(true));
+	}
+
+	@Test
+	public void addDoubleExactly() {
+		assertThat(empty.addDoubleExactly(17), is(true));
+		assertThat(empty, containsDoubles(17));
+
+		assertThat(empty.addDoubleExactly(17), is(false));
+		assertThat(empty, containsDoubles(17));
+
+		assertThat(set.addDoubleExactly(17), is(true));
+		assertThat(set.addDoubleExactly(17), is(false));
+		assertThat(set, is(equalTo(new RawDoubleSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17))));
+	}
+
+	@Test
+	public void containsDoubleExactly() {
+		assertThat(empty.containsDoubleExactly(17), is(false));
+
+		assertThat(set.containsDoubleExactly(17), is(false));
+		for (double x = -5; x <= 4; x++)
+			assertThat(set.containsDoubleExactly(x), is(true));
+	}
+
+	@Test
+	public void removeDoubleExactly() {
+		assertThat(empty.removeDoubleExactly(17), is(false));
+
+		assertThat(set.removeDoubleExactly(17), is(false));
+		for (double x = -5; x <= 4; x++)
+			assertThat(set.removeDoubleExactly(x), is(true));
+		assertThat(set.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testEqualsHashCodeAgainstRawDoubleSet() {
+		RawDoubleSet set2 = new RawDoubleSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17);
+		assertThat(set, is(not(equalTo(set2))));
+		assertThat(set.hashCode(), is(not(set2.hashCode())));
+
+		set2.removeDoubleExactly(17);
+
+		assertThat(set, is(equalTo(set2)));
+		assertThat(set2, is(equalTo(set)));
+		assertThat(set.hashCode(), is(set2.hashCode()));
+	}
+
+	@Test
+	public void isDense() {
+		assertThat(empty.isDense(), is(true));
+		assertThat(set.isDense(), is(false));
+		assertThat(new HashDoubleSet(1, Math.nextUp(1.0), Math.nextUp(Math.nextUp(1.0))).isDense(), is(true));
+	}
+
+	@Test
+	public void fuzz() {
+		double[] randomValues = new Random().doubles(10000).toArray();
+		RawDoubleSet expected = new RawDoubleSet(randomValues);
+
+		for (double randomValue : randomValues)
+			empty.addDoubleExactly(randomValue);
+		assertThat(empty.size(), is(expected.size()));
+		assertThat(empty, is(equalTo(expected)));
+
+		for (double randomValue : randomValues)
+			empty.removeDoubleExactly(randomValue);
+		assertThat(empty, is(emptyIterable()));
+	}
+}
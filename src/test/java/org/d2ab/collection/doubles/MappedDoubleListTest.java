@@ -0,0 +1,259 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.doubles;
+
+import org.d2ab.iterator.doubles.DoubleIterator;
+import org.d2ab.sequence.DoubleSequence;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.d2ab.test.IsDoubleIterableContainingInOrder.containsDoubles;
+import static org.d2ab.test.Tests.expecting;
+import static org.d2ab.test.Tests.twice;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class MappedDoubleListTest {
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final MappedDoubleList empty = MappedDoubleList.allocate(0);
+	private final MappedDoubleList list = MappedDoubleList.allocate(5);
+
+	{
+		list.addAllDoubles(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	public void allocate() {
+		twice(() -> assertThat(empty, is(emptyIterable())));
+		twice(() -> assertThat(list, containsDoubles(1, 2, 3, 4, 5)));
+		assertThat(empty.size(), is(0));
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(list.size(), is(5));
+		assertThat(list.isEmpty(), is(false));
+	}
+
+	@Test
+	public void growth() {
+		int capacity = empty.capacity();
+		for (int i = 0; i < capacity * 10; i++)
+			empty.addDoubleExactly(i);
+
+		assertThat(empty.size(), is(capacity * 10));
+		assertThat(empty.capacity(), is(greaterThanOrEqualTo(capacity * 10)));
+		for (int i = 0; i < capacity * 10; i++)
+			assertThat(empty.getDouble(i), is((double) i));
+	}
+
+	@Test
+	public void getAndSetDouble() {
+		assertThat(list.getDouble(2), is(3.0));
+		assertThat(list.setDouble(2, 17), is(3.0));
+		assertThat(list.getDouble(2), is(17.0));
+
+		expecting(IndexOutOfBoundsException.class, () -> list.getDouble(5));
+		expecting(IndexOutOfBoundsException.class, () -> list.setDouble(-1, 17));
+		expecting(IndexOutOfBoundsException.class, () -> empty.getDouble(0));
+	}
+
+	@Test
+	public void addAndRemoveAt() {
+		list.addDoubleAt(0, 0);
+		list.addDoubleAt(3, 17);
+		list.addDoubleAt(7, 6);
+		assertThat(list, containsDoubles(0, 1, 2, 17, 3, 4, 5, 6));
+
+		assertThat(list.removeDoubleAt(3), is(17.0));
+		assertThat(list.removeDoubleAt(0), is(0.0));
+		assertThat(list.removeDoubleAt(5), is(6.0));
+		assertThat(list, containsDoubles(1, 2, 3, 4, 5));
+
+		expecting(IndexOutOfBoundsException.class, () -> list.addDoubleAt(6, 17));
+		expecting(IndexOutOfBoundsException.class, () -> list.removeDoubleAt(5));
+	}
+
+	@Test
+	public void removeAndContains() {
+		assertThat(list.containsDoubleExactly(3), is(true));
+		assertThat(list.removeDoubleExactly(3), is(true));
+		assertThat(list.removeDoubleExactly(3), is(false));
+		assertThat(list.containsDoubleExactly(3), is(false));
+		assertThat(list.removeDoublesIf(x -> x % 2 == 0), is(true));
+		assertThat(list, containsDoubles(1, 5));
+	}
+
+	@Test
+	public void clear() {
+		list.clear();
+		assertThat(list, is(emptyIterable()));
+		assertThat(list.size(), is(0));
+
+		list.addDoubleExactly(17);
+		assertThat(list, containsDoubles(17));
+	}
+
+	@Test
+	public void listIterator() {
+		DoubleListIterator listIterator = list.listIterator();
+		assertThat(listIterator.nextDouble(), is(1.0));
+		listIterator.remove();
+		assertThat(listIterator.nextDouble(), is(2.0));
+		listIterator.set(17);
+		listIterator.add(18);
+		assertThat(listIterator.previousDouble(), is(18.0));
+		assertThat(list, containsDoubles(17, 18, 3, 4, 5));
+
+		DoubleIterator iterator = list.iterator();
+		list.addDoubleExactly(6);
+		expecting(ConcurrentModificationException.class, iterator::nextDouble);
+		expecting(NoSuchElementException.class, () -> empty.iterator().nextDouble());
+	}
+
+	@Test
+	public void subList() {
+		DoubleList subList = list.subList(1, 4);
+		twice(() -> assertThat(subList, containsDoubles(2, 3, 4)));
+		assertThat(subList.size(), is(3));
+		assertThat(subList.getDouble(1), is(3.0));
+
+		subList.removeDoubleAt(1);
+		assertThat(subList, containsDoubles(2, 4));
+		assertThat(list, containsDoubles(1, 2, 4, 5));
+
+		subList.addDoubleExactly(17);
+		assertThat(subList, containsDoubles(2, 4, 17));
+		assertThat(list, containsDoubles(1, 2, 4, 17, 5));
+	}
+
+	@Test
+	public void bulkGetAndSet() {
+		double[] xs = new double[4];
+		list.getDoubles(1, xs, 1, 3);
+		assertArrayEquals(new double[]{0, 2, 3, 4}, xs, 0.0);
+
+		list.setDoubles(2, new double[]{17, 18, 19}, 1, 2);
+		assertThat(list, containsDoubles(1, 2, 18, 19, 5));
+		assertArrayEquals(new double[]{1, 2, 18, 19, 5}, list.toDoubleArray(), 0.0);
+
+		expecting(IndexOutOfBoundsException.class, () -> list.getDoubles(3, xs, 0, 3));
+		expecting(IndexOutOfBoundsException.class, () -> list.setDoubles(-1, xs, 0, 1));
+	}
+
+	@Test
+	public void sequence() {
+		DoubleSequence sequence = list.sequence();
+		twice(() -> assertThat(sequence, containsDoubles(1, 2, 3, 4, 5)));
+		twice(() -> assertThat(sequence.batch(2), contains(containsDoubles(1, 2), containsDoubles(3, 4), containsDoubles(5))));
+		assertThat(sequence.sum(), is(15.0));
+	}
+
+	@Test
+	public void equalsHashCode() {
+		DoubleList same = DoubleList.create(1, 2, 3, 4, 5);
+		assertThat(list, is(equalTo(same)));
+		assertThat(list.hashCode(), is(same.hashCode()));
+		assertThat(empty, is(equalTo(DoubleList.create())));
+	}
+
+	@Test
+	public void mapFile() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("doubles");
+		try (MappedDoubleList mapped = MappedDoubleList.map(path)) {
+			assertThat(mapped, is(emptyIterable()));
+			for (int i = 0; i < 1000; i++)
+				mapped.addDoubleExactly((double) i * 3);
+			mapped.removeDoubleAt(0);
+		}
+
+		try (MappedDoubleList reopened = MappedDoubleList.map(path)) {
+			assertThat(reopened.size(), is(999));
+			for (int i = 0; i < 999; i++)
+				assertThat(reopened.getDouble(i), is((double) (i + 1) * 3));
+
+			reopened.clear();
+			reopened.addAllDoubles(1, 2, 3);
+		}
+
+		try (MappedDoubleList reopened = MappedDoubleList.map(path)) {
+			assertThat(reopened, containsDoubles(1, 2, 3));
+		}
+	}
+
+	@Test
+	public void regions() throws IOException {
+		MappedDoubleList small = MappedDoubleList.allocate(0, 2);
+		DoubleList expected = DoubleList.create();
+		for (int i = 0; i < 100; i++) {
+			small.addDoubleExactly(i);
+			expected.addDoubleExactly(i);
+		}
+		for (int i = 0; i < 50; i += 3) {
+			small.addDoubleAt(i * 2, -i);
+			expected.addDoubleAt(i * 2, -i);
+			assertThat(small.removeDoubleAt(i + 1), is(expected.removeDoubleAt(i + 1)));
+		}
+		assertThat(small.capacity(), is(greaterThanOrEqualTo(100)));
+		assertArrayEquals(expected.toDoubleArray(), small.toDoubleArray(), 0.0);
+
+		double[] xs = new double[10];
+		small.getDoubles(1, xs, 0, 10);
+		assertArrayEquals(Arrays.copyOfRange(expected.toDoubleArray(), 1, 11), xs, 0.0);
+
+		MappedDoubleList large = MappedDoubleList.allocate(0, 10);
+		for (int i = 0; i < 20000; i++)
+			large.addDoubleExactly(i);
+		large.addDoubleAt(3, -1);
+		assertThat(large.removeDoubleAt(10), is(9.0));
+		assertThat(large.getDouble(3), is(-1.0));
+		assertThat(large.getDouble(19999), is(19999.0));
+		assertThat(large.size(), is(20000));
+
+		Path path = folder.getRoot().toPath().resolve("regions");
+		try (MappedDoubleList mapped = MappedDoubleList.map(path, 3)) {
+			mapped.addAllDoubles(small.toDoubleArray());
+			mapped.removeDoubleAt(5);
+			mapped.addDoubleAt(40, 17);
+		}
+		expected.removeDoubleAt(5);
+		expected.addDoubleAt(40, 17);
+
+		try (MappedDoubleList reopened = MappedDoubleList.map(path, 4)) {
+			assertArrayEquals(expected.toDoubleArray(), reopened.toDoubleArray(), 0.0);
+		}
+	}
+
+	@Test
+	public void mapInvalidFile() throws IOException {
+		Path tooShort = folder.getRoot().toPath().resolve("too-short");
+		Files.write(tooShort, new byte[]{1, 2, 3});
+		expecting(IOException.class, () -> MappedDoubleList.map(tooShort));
+
+		Path badSize = folder.getRoot().toPath().resolve("bad-size");
+		Files.write(badSize, new byte[]{100, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4});
+		expecting(IOException.class, () -> MappedDoubleList.map(badSize));
+	}
+}
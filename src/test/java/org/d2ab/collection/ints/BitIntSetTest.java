@@ -503,6 +503,95 @@ public class BitIntSetTest {
 		assertThat(intSet, is(emptyIterable()));
 	}
 
+	@Test
+	public void union() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(empty), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(new BitIntSet(-7, -5, 0, 4, 5)), containsInts(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void intersect() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.intersect(new BitIntSet(-7, -5, 0, 4, 5)), containsInts(-5, 0, 4));
+	}
+
+	@Test
+	public void difference() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(new BitIntSet(-7, -5, 0, 4, 5)), containsInts(-4, -3, -2, -1, 1, 2, 3));
+	}
+
+	@Test
+	public void intersectionSize() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(10));
+		assertThat(set.intersectionSize(new BitIntSet(-7, -5, 0, 4, 5)), is(3));
+	}
+
+	@Test
+	public void unionWithOtherSortedSet() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(empty), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), containsInts(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void intersectWithOtherSortedSet() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.intersect(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), containsInts(-5, 0, 4));
+	}
+
+	@Test
+	public void differenceWithOtherSortedSet() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), containsInts(-4, -3, -2, -1, 1, 2, 3));
+	}
+
+	@Test
+	public void intersectionSizeWithOtherSortedSet() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(10));
+		assertThat(set.intersectionSize(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), is(3));
+	}
+
+	@Test
+	public void bulkOperations() {
+		BitIntSet other = new BitIntSet(-7, -5, 0, 4, 5);
+
+		assertThat(set.containsAllInts(other), is(false));
+		assertThat(set.containsAllInts(new BitIntSet(-5, 0, 4)), is(true));
+
+		BitIntSet union = new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(union.addAllInts(other), is(true));
+		assertThat(union.addAllInts(other), is(false));
+		assertThat(union, containsInts(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+
+		BitIntSet intersection = new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(intersection.retainAllInts(other), is(true));
+		assertThat(intersection.retainAllInts(other), is(false));
+		assertThat(intersection, containsInts(-5, 0, 4));
+
+		BitIntSet difference = new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(difference.removeAllInts(other), is(true));
+		assertThat(difference.removeAllInts(other), is(false));
+		assertThat(difference, containsInts(-4, -3, -2, -1, 1, 2, 3));
+
+		assertThat(other, containsInts(-7, -5, 0, 4, 5));
+	}
+
 	@Test
 	public void fuzz() {
 		int[] randomValues = new int[1000];
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.ints;
+
+import org.d2ab.collection.Arrayz;
+import org.d2ab.iterator.ints.IntIterator;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.d2ab.test.IsIntIterableContainingInOrder.containsInts;
+import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class HashIntSetTest {
+	private final HashIntSet empty = new HashIntSet();
+	private final HashIntSet set = new HashIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+
+	@Test
+	public void size() {
+		assertThat(empty.size(), is(0));
+		assertThat(set.size(), is(10));
+	}
+
+	@Test
+	public void iterator() {
+		assertThat(empty, is(emptyIterable()));
+		assertThat(set, is(equalTo(new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4))));
+
+		IntIterator iterator = empty.iterator();
+		assertThat(iterator.hasNext(), is(false));
+		expecting(NoSuchElementException.class, iterator::nextInt);
+	}
+
+	@Test
+	public void iteratorFailFast() {
+		IntIterator it1 = set.iterator();
+		set.addInt(17);
+		expecting(ConcurrentModificationException.class, it1::nextInt);
+
+		IntIterator it2 = set.iterator();
+		set.removeInt(17);
+		expecting(ConcurrentModificationException.class, it2::nextInt);
+	}
+
+	@Test
+	public void isEmpty() {
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(set.isEmpty(), is(false));
+	}
+
+	@Test
+	public void clear() {
+		empty.clear();
+		assertThat(empty.isEmpty(), is(true));
+
+		set.clear();
+		assertThat(set.isEmpty(), is(true));
+		assertThat(set.containsInt(0), is(false));
+	}
+
+	@Test
+	public void addInt() {
+		assertThat(empty.addInt(17), is(true));
+		assertThat(empty.addInt(17), is(false));
+		assertThat(empty, containsInts(17));
+
+		assertThat(set.addInt(17), is(true));
+		assertThat(set.addInt(4), is(false));
+		assertThat(set, is(equalTo(new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17))));
+	}
+
+	@Test
+	public void containsInt() {
+		assertThat(empty.containsInt(17), is(false));
+
+		assertThat(set.containsInt(17), is(false));
+		for (int x = -5; x <= 4; x++)
+			assertThat(set.containsInt(x), is(true));
+	}
+
+	@Test
+	public void removeInt() {
+		assertThat(empty.removeInt(17), is(false));
+
+		assertThat(set.removeInt(17), is(false));
+		for (int x = -5; x <= 4; x++)
+			assertThat(set.removeInt(x), is(true));
+		assertThat(set.isEmpty(), is(true));
+		assertThat(set, is(emptyIterable()));
+	}
+
+	@Test
+	public void equalsHashCodeAgainstBitIntSet() {
+		IntSet larger = new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17);
+		assertThat(set, is(not(equalTo(larger))));
+		assertThat(set.hashCode(), is(not(larger.hashCode())));
+
+		IntSet dissimilar = new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 5);
+		assertThat(set, is(not(equalTo(dissimilar))));
+		assertThat(set.hashCode(), is(not(dissimilar.hashCode())));
+
+		IntSet same = new BitIntSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(set, is(equalTo(same)));
+		assertThat(same, is(equalTo(set)));
+		assertThat(set.hashCode(), is(same.hashCode()));
+	}
+
+	@Test
+	public void iteratorRemoveAll() {
+		IntIterator iterator = set.iterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			int value = iterator.nextInt();
+			iterator.remove();
+			assertThat(set.containsInt(value), is(false));
+			count++;
+		}
+		assertThat(count, is(10));
+		assertThat(set, is(emptyIterable()));
+		expecting(IllegalStateException.class, iterator::remove);
+	}
+
+	@Test
+	public void isDense() {
+		assertThat(empty.isDense(), is(true));
+		assertThat(set.isDense(), is(true));
+		assertThat(new HashIntSet(Integer.MIN_VALUE, Integer.MAX_VALUE).isDense(), is(false));
+		assertThat(new HashIntSet(0, 1000).isDense(), is(false));
+	}
+
+	@Test
+	public void fuzz() {
+		int[] randomValues = new int[10000];
+		Random random = new Random();
+		for (int i = 0; i < randomValues.length; i++) {
+			int randomValue;
+			do
+				randomValue = random.nextInt();
+			while (Arrayz.contains(randomValues, randomValue));
+			randomValues[i] = randomValue;
+		}
+
+		// Adding
+		for (int randomValue : randomValues)
+			assertThat(empty.addInt(randomValue), is(true));
+		assertThat(empty.size(), is(randomValues.length));
+
+		for (int randomValue : randomValues)
+			assertThat(empty.addInt(randomValue), is(false));
+		assertThat(empty.size(), is(randomValues.length));
+
+		// Containment checks
+		assertThat(empty.containsAllInts(randomValues), is(true));
+		assertThat(empty, is(equalTo(new BitIntSet(randomValues))));
+
+		// Removing every other value, leaving tombstones behind
+		for (int i = 0; i < randomValues.length; i += 2)
+			assertThat(empty.removeInt(randomValues[i]), is(true));
+		assertThat(empty.size(), is(randomValues.length / 2));
+
+		for (int i = 0; i < randomValues.length; i++)
+			assertThat(empty.containsInt(randomValues[i]), is(i % 2 == 1));
+
+		// Re-adding into the tombstones
+		for (int i = 0; i < randomValues.length; i += 2)
+			assertThat(empty.addInt(randomValues[i]), is(true));
+		assertThat(empty, is(equalTo(new BitIntSet(randomValues))));
+
+		for (int randomValue : randomValues)
+			assertThat(empty.removeInt(randomValue), is(true));
+		assertThat(empty.size(), is(0));
+		assertThat(empty, is(emptyIterable()));
+	}
+}
@@ -260,6 +260,51 @@ public class IntIterableTest {
 		expecting(IOException.class, () -> inputStream.read(buf, 0, 10));
 	}
 
+	@Test
+	public void asInputStreamReadBulk() throws Exception {
+		IntList list = IntList.create();
+		for (int i = 0; i < 20000; i++)
+			list.addInt(i & 0xFF);
+
+		for (IntIterable source : new IntIterable[]{list, list::iterator, IntIterable.of(list.toIntArray())}) {
+			InputStream inputStream = source.asInputStream();
+			byte[] bytes = new byte[20010];
+			assertThat(inputStream.read(bytes, 3, 10), is(10));
+			inputStream.mark(0);
+			assertThat(inputStream.read(bytes, 13, 19990), is(19990));
+			assertThat(inputStream.read(bytes, 0, 10), is(-1));
+			for (int i = 0; i < 20000; i++)
+				assertThat(bytes[i + 3], is((byte) i));
+
+			inputStream.reset();
+			assertThat(inputStream.read(), is(10));
+		}
+
+		InputStream invalid = IntIterable.of(1, 2, 256, 4).asInputStream();
+		expecting(IOException.class, () -> invalid.read(new byte[4], 0, 4));
+		assertThat(invalid.read(), is(4));
+		assertThat(invalid.read(), is(-1));
+
+		InputStream invalidInBlock = IntIterable.of(1, 2, -1, 4, 5, 6, 7, 8).asInputStream();
+		byte[] bytes = new byte[8];
+		expecting(IOException.class, () -> invalidInBlock.read(bytes, 0, 8));
+		assertThat(invalidInBlock.read(bytes, 0, 2), is(2));
+		assertThat(bytes[0], is((byte) 4));
+		assertThat(bytes[1], is((byte) 5));
+		assertThat(invalidInBlock.skip(1), is(1L));
+		assertThat(invalidInBlock.read(bytes, 0, 8), is(2));
+		assertThat(bytes[0], is((byte) 7));
+		assertThat(bytes[1], is((byte) 8));
+		assertThat(invalidInBlock.read(bytes, 0, 8), is(-1));
+
+		invalidInBlock.reset();
+		assertThat(invalidInBlock.read(), is(1));
+		assertThat(invalidInBlock.read(bytes, 0, 1), is(1));
+		assertThat(bytes[0], is((byte) 2));
+		expecting(IOException.class, invalidInBlock::read);
+		assertThat(invalidInBlock.read(), is(4));
+	}
+
 	@Test
 	public void asInputStreamSkip() throws Exception {
 		InputStream inputStream = iterable.asInputStream();
@@ -535,6 +535,38 @@ public class IntSortedSetTest {
 		assertThat(empty, is(emptyIterable()));
 	}
 
+	@Test
+	public void union() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(empty), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), containsInts(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void intersect() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.intersect(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), containsInts(-5, 0, 4));
+	}
+
+	@Test
+	public void difference() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsInts(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), containsInts(-4, -3, -2, -1, 1, 2, 3));
+	}
+
+	@Test
+	public void intersectionSize() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(10));
+		assertThat(set.intersectionSize(IntSortedSet.Base.create(-7, -5, 0, 4, 5)), is(3));
+	}
+
 	@Test
 	public void fuzz() {
 		int[] randomValues = new int[1000];
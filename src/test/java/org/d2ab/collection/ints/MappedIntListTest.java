@@ -0,0 +1,259 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.ints;
+
+import org.d2ab.iterator.ints.IntIterator;
+import org.d2ab.sequence.IntSequence;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.d2ab.test.IsIntIterableContainingInOrder.containsInts;
+import static org.d2ab.test.Tests.expecting;
+import static org.d2ab.test.Tests.twice;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class MappedIntListTest {
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final MappedIntList empty = MappedIntList.allocate(0);
+	private final MappedIntList list = MappedIntList.allocate(5);
+
+	{
+		list.addAllInts(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	public void allocate() {
+		twice(() -> assertThat(empty, is(emptyIterable())));
+		twice(() -> assertThat(list, containsInts(1, 2, 3, 4, 5)));
+		assertThat(empty.size(), is(0));
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(list.size(), is(5));
+		assertThat(list.isEmpty(), is(false));
+	}
+
+	@Test
+	public void growth() {
+		int capacity = empty.capacity();
+		for (int i = 0; i < capacity * 10; i++)
+			empty.addInt(i);
+
+		assertThat(empty.size(), is(capacity * 10));
+		assertThat(empty.capacity(), is(greaterThanOrEqualTo(capacity * 10)));
+		for (int i = 0; i < capacity * 10; i++)
+			assertThat(empty.getInt(i), is(i));
+	}
+
+	@Test
+	public void getAndSetInt() {
+		assertThat(list.getInt(2), is(3));
+		assertThat(list.setInt(2, 17), is(3));
+		assertThat(list.getInt(2), is(17));
+
+		expecting(IndexOutOfBoundsException.class, () -> list.getInt(5));
+		expecting(IndexOutOfBoundsException.class, () -> list.setInt(-1, 17));
+		expecting(IndexOutOfBoundsException.class, () -> empty.getInt(0));
+	}
+
+	@Test
+	public void addAndRemoveAt() {
+		list.addIntAt(0, 0);
+		list.addIntAt(3, 17);
+		list.addIntAt(7, 6);
+		assertThat(list, containsInts(0, 1, 2, 17, 3, 4, 5, 6));
+
+		assertThat(list.removeIntAt(3), is(17));
+		assertThat(list.removeIntAt(0), is(0));
+		assertThat(list.removeIntAt(5), is(6));
+		assertThat(list, containsInts(1, 2, 3, 4, 5));
+
+		expecting(IndexOutOfBoundsException.class, () -> list.addIntAt(6, 17));
+		expecting(IndexOutOfBoundsException.class, () -> list.removeIntAt(5));
+	}
+
+	@Test
+	public void removeAndContains() {
+		assertThat(list.containsInt(3), is(true));
+		assertThat(list.removeInt(3), is(true));
+		assertThat(list.removeInt(3), is(false));
+		assertThat(list.containsInt(3), is(false));
+		assertThat(list.removeIntsIf(x -> x % 2 == 0), is(true));
+		assertThat(list, containsInts(1, 5));
+	}
+
+	@Test
+	public void clear() {
+		list.clear();
+		assertThat(list, is(emptyIterable()));
+		assertThat(list.size(), is(0));
+
+		list.addInt(17);
+		assertThat(list, containsInts(17));
+	}
+
+	@Test
+	public void listIterator() {
+		IntListIterator listIterator = list.listIterator();
+		assertThat(listIterator.nextInt(), is(1));
+		listIterator.remove();
+		assertThat(listIterator.nextInt(), is(2));
+		listIterator.set(17);
+		listIterator.add(18);
+		assertThat(listIterator.previousInt(), is(18));
+		assertThat(list, containsInts(17, 18, 3, 4, 5));
+
+		IntIterator iterator = list.iterator();
+		list.addInt(6);
+		expecting(ConcurrentModificationException.class, iterator::nextInt);
+		expecting(NoSuchElementException.class, () -> empty.iterator().nextInt());
+	}
+
+	@Test
+	public void subList() {
+		IntList subList = list.subList(1, 4);
+		twice(() -> assertThat(subList, containsInts(2, 3, 4)));
+		assertThat(subList.size(), is(3));
+		assertThat(subList.getInt(1), is(3));
+
+		subList.removeIntAt(1);
+		assertThat(subList, containsInts(2, 4));
+		assertThat(list, containsInts(1, 2, 4, 5));
+
+		subList.addInt(17);
+		assertThat(subList, containsInts(2, 4, 17));
+		assertThat(list, containsInts(1, 2, 4, 17, 5));
+	}
+
+	@Test
+	public void bulkGetAndSet() {
+		int[] xs = new int[4];
+		list.getInts(1, xs, 1, 3);
+		assertArrayEquals(new int[]{0, 2, 3, 4}, xs);
+
+		list.setInts(2, new int[]{17, 18, 19}, 1, 2);
+		assertThat(list, containsInts(1, 2, 18, 19, 5));
+		assertArrayEquals(new int[]{1, 2, 18, 19, 5}, list.toIntArray());
+
+		expecting(IndexOutOfBoundsException.class, () -> list.getInts(3, xs, 0, 3));
+		expecting(IndexOutOfBoundsException.class, () -> list.setInts(-1, xs, 0, 1));
+	}
+
+	@Test
+	public void sequence() {
+		IntSequence sequence = list.sequence();
+		twice(() -> assertThat(sequence, containsInts(1, 2, 3, 4, 5)));
+		twice(() -> assertThat(sequence.batch(2), contains(containsInts(1, 2), containsInts(3, 4), containsInts(5))));
+		assertThat(sequence.sum(), is(15L));
+	}
+
+	@Test
+	public void equalsHashCode() {
+		IntList same = IntList.create(1, 2, 3, 4, 5);
+		assertThat(list, is(equalTo(same)));
+		assertThat(list.hashCode(), is(same.hashCode()));
+		assertThat(empty, is(equalTo(IntList.create())));
+	}
+
+	@Test
+	public void mapFile() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("ints");
+		try (MappedIntList mapped = MappedIntList.map(path)) {
+			assertThat(mapped, is(emptyIterable()));
+			for (int i = 0; i < 1000; i++)
+				mapped.addInt(i * 3);
+			mapped.removeIntAt(0);
+		}
+
+		try (MappedIntList reopened = MappedIntList.map(path)) {
+			assertThat(reopened.size(), is(999));
+			for (int i = 0; i < 999; i++)
+				assertThat(reopened.getInt(i), is((i + 1) * 3));
+
+			reopened.clear();
+			reopened.addAllInts(1, 2, 3);
+		}
+
+		try (MappedIntList reopened = MappedIntList.map(path)) {
+			assertThat(reopened, containsInts(1, 2, 3));
+		}
+	}
+
+	@Test
+	public void regions() throws IOException {
+		MappedIntList small = MappedIntList.allocate(0, 2);
+		IntList expected = IntList.create();
+		for (int i = 0; i < 100; i++) {
+			small.addInt(i);
+			expected.addInt(i);
+		}
+		for (int i = 0; i < 50; i += 3) {
+			small.addIntAt(i * 2, -i);
+			expected.addIntAt(i * 2, -i);
+			assertThat(small.removeIntAt(i + 1), is(expected.removeIntAt(i + 1)));
+		}
+		assertThat(small.capacity(), is(greaterThanOrEqualTo(100)));
+		assertArrayEquals(expected.toIntArray(), small.toIntArray());
+
+		int[] xs = new int[10];
+		small.getInts(1, xs, 0, 10);
+		assertArrayEquals(Arrays.copyOfRange(expected.toIntArray(), 1, 11), xs);
+
+		MappedIntList large = MappedIntList.allocate(0, 10);
+		for (int i = 0; i < 20000; i++)
+			large.addInt(i);
+		large.addIntAt(3, -1);
+		assertThat(large.removeIntAt(10), is(9));
+		assertThat(large.getInt(3), is(-1));
+		assertThat(large.getInt(19999), is(19999));
+		assertThat(large.size(), is(20000));
+
+		Path path = folder.getRoot().toPath().resolve("regions");
+		try (MappedIntList mapped = MappedIntList.map(path, 3)) {
+			mapped.addAllInts(small.toIntArray());
+			mapped.removeIntAt(5);
+			mapped.addIntAt(40, 17);
+		}
+		expected.removeIntAt(5);
+		expected.addIntAt(40, 17);
+
+		try (MappedIntList reopened = MappedIntList.map(path, 4)) {
+			assertArrayEquals(expected.toIntArray(), reopened.toIntArray());
+		}
+	}
+
+	@Test
+	public void mapInvalidFile() throws IOException {
+		Path tooShort = folder.getRoot().toPath().resolve("too-short");
+		Files.write(tooShort, new byte[]{1, 2, 3});
+		expecting(IOException.class, () -> MappedIntList.map(tooShort));
+
+		Path badSize = folder.getRoot().toPath().resolve("bad-size");
+		Files.write(badSize, new byte[]{100, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4});
+		expecting(IOException.class, () -> MappedIntList.map(badSize));
+	}
+}
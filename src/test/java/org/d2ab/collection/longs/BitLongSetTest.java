@@ -548,6 +548,95 @@ public class BitLongSetTest {
 		assertThat(set, is(emptyIterable()));
 	}
 
+	@Test
+	public void union() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(empty), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(new BitLongSet(-7, -5, 0, 4, 5)), containsLongs(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void intersect() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.intersect(new BitLongSet(-7, -5, 0, 4, 5)), containsLongs(-5, 0, 4));
+	}
+
+	@Test
+	public void difference() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(new BitLongSet(-7, -5, 0, 4, 5)), containsLongs(-4, -3, -2, -1, 1, 2, 3));
+	}
+
+	@Test
+	public void intersectionSize() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(10));
+		assertThat(set.intersectionSize(new BitLongSet(-7, -5, 0, 4, 5)), is(3));
+	}
+
+	@Test
+	public void unionWithOtherSortedSet() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(empty), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), containsLongs(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void intersectWithOtherSortedSet() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.intersect(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), containsLongs(-5, 0, 4));
+	}
+
+	@Test
+	public void differenceWithOtherSortedSet() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), containsLongs(-4, -3, -2, -1, 1, 2, 3));
+	}
+
+	@Test
+	public void intersectionSizeWithOtherSortedSet() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(10));
+		assertThat(set.intersectionSize(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), is(3));
+	}
+
+	@Test
+	public void bulkOperations() {
+		BitLongSet other = new BitLongSet(-7, -5, 0, 4, 5);
+
+		assertThat(set.containsAllLongs(other), is(false));
+		assertThat(set.containsAllLongs(new BitLongSet(-5, 0, 4)), is(true));
+
+		BitLongSet union = new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(union.addAllLongs(other), is(true));
+		assertThat(union.addAllLongs(other), is(false));
+		assertThat(union, containsLongs(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+
+		BitLongSet intersection = new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(intersection.retainAllLongs(other), is(true));
+		assertThat(intersection.retainAllLongs(other), is(false));
+		assertThat(intersection, containsLongs(-5, 0, 4));
+
+		BitLongSet difference = new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(difference.removeAllLongs(other), is(true));
+		assertThat(difference.removeAllLongs(other), is(false));
+		assertThat(difference, containsLongs(-4, -3, -2, -1, 1, 2, 3));
+
+		assertThat(other, containsLongs(-7, -5, 0, 4, 5));
+	}
+
 	@Test
 	public void fuzz() {
 		long[] randomValues = new long[1000];
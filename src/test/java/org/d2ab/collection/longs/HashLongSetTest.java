@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.longs;
+
+import org.d2ab.collection.Arrayz;
+import org.d2ab.iterator.longs.LongIterator;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.d2ab.test.IsLongIterableContainingInOrder.containsLongs;
+import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class HashLongSetTest {
+	private final HashLongSet empty = new HashLongSet();
+	private final HashLongSet set = new HashLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+
+	@Test
+	public void size() {
+		assertThat(empty.size(), is(0));
+		assertThat(set.size(), is(10));
+	}
+
+	@Test
+	public void iterator() {
+		assertThat(empty, is(emptyIterable()));
+		assertThat(set, is(equalTo(new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4))));
+
+		LongIterator iterator = empty.iterator();
+		assertThat(iterator.hasNext(), is(false));
+		expecting(NoSuchElementException.class, iterator::nextLong);
+	}
+
+	@Test
+	public void iteratorFailFast() {
+		LongIterator it1 = set.iterator();
+		set.addLong(17);
+		expecting(ConcurrentModificationException.class, it1::nextLong);
+
+		LongIterator it2 = set.iterator();
+		set.removeLong(17);
+		expecting(ConcurrentModificationException.class, it2::nextLong);
+	}
+
+	@Test
+	public void isEmpty() {
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(set.isEmpty(), is(false));
+	}
+
+	@Test
+	public void clear() {
+		empty.clear();
+		assertThat(empty.isEmpty(), is(true));
+
+		set.clear();
+		assertThat(set.isEmpty(), is(true));
+		assertThat(set.containsLong(0), is(false));
+	}
+
+	@Test
+	public void addLong() {
+		assertThat(empty.addLong(17), is(true));
+		assertThat(empty.addLong(17), is(false));
+		assertThat(empty, containsLongs(17));
+
+		assertThat(set.addLong(17), is(true));
+		assertThat(set.addLong(4), is(false));
+		assertThat(set, is(equalTo(new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17))));
+	}
+
+	@Test
+	public void containsLong() {
+		assertThat(empty.containsLong(17), is(false));
+
+		assertThat(set.containsLong(17), is(false));
+		for (int x = -5; x <= 4; x++)
+			assertThat(set.containsLong(x), is(true));
+	}
+
+	@Test
+	public void removeLong() {
+		assertThat(empty.removeLong(17), is(false));
+
+		assertThat(set.removeLong(17), is(false));
+		for (int x = -5; x <= 4; x++)
+			assertThat(set.removeLong(x), is(true));
+		assertThat(set.isEmpty(), is(true));
+		assertThat(set, is(emptyIterable()));
+	}
+
+	@Test
+	public void equalsHashCodeAgainstBitLongSet() {
+		LongSet larger = new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 17);
+		assertThat(set, is(not(equalTo(larger))));
+		assertThat(set.hashCode(), is(not(larger.hashCode())));
+
+		LongSet dissimilar = new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 5);
+		assertThat(set, is(not(equalTo(dissimilar))));
+		assertThat(set.hashCode(), is(not(dissimilar.hashCode())));
+
+		LongSet same = new BitLongSet(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+		assertThat(set, is(equalTo(same)));
+		assertThat(same, is(equalTo(set)));
+		assertThat(set.hashCode(), is(same.hashCode()));
+	}
+
+	@Test
+	public void iteratorRemoveAll() {
+		LongIterator iterator = set.iterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			long value = iterator.nextLong();
+			iterator.remove();
+			assertThat(set.containsLong(value), is(false));
+			count++;
+		}
+		assertThat(count, is(10));
+		assertThat(set, is(emptyIterable()));
+		expecting(IllegalStateException.class, iterator::remove);
+	}
+
+	@Test
+	public void isDense() {
+		assertThat(empty.isDense(), is(true));
+		assertThat(set.isDense(), is(true));
+		assertThat(new HashLongSet(Long.MIN_VALUE, Long.MAX_VALUE).isDense(), is(false));
+		assertThat(new HashLongSet(0, 1000).isDense(), is(false));
+	}
+
+	@Test
+	public void fuzz() {
+		long[] randomValues = new long[10000];
+		Random random = new Random();
+		for (int i = 0; i < randomValues.length; i++) {
+			long randomValue;
+			do
+				randomValue = random.nextLong();
+			while (Arrayz.contains(randomValues, randomValue));
+			randomValues[i] = randomValue;
+		}
+
+		// Adding
+		for (long randomValue : randomValues)
+			assertThat(empty.addLong(randomValue), is(true));
+		assertThat(empty.size(), is(randomValues.length));
+
+		for (long randomValue : randomValues)
+			assertThat(empty.addLong(randomValue), is(false));
+		assertThat(empty.size(), is(randomValues.length));
+
+		// Containment checks
+		assertThat(empty.containsAllLongs(randomValues), is(true));
+		assertThat(empty, is(equalTo(new BitLongSet(randomValues))));
+
+		// Removing every other value, leaving tombstones behind
+		for (int i = 0; i < randomValues.length; i += 2)
+			assertThat(empty.removeLong(randomValues[i]), is(true));
+		assertThat(empty.size(), is(randomValues.length / 2));
+
+		for (int i = 0; i < randomValues.length; i++)
+			assertThat(empty.containsLong(randomValues[i]), is(i % 2 == 1));
+
+		// Re-adding into the tombstones
+		for (int i = 0; i < randomValues.length; i += 2)
+			assertThat(empty.addLong(randomValues[i]), is(true));
+		assertThat(empty, is(equalTo(new BitLongSet(randomValues))));
+
+		for (long randomValue : randomValues)
+			assertThat(empty.removeLong(randomValue), is(true));
+		assertThat(empty.size(), is(0));
+		assertThat(empty, is(emptyIterable()));
+	}
+}
@@ -544,6 +544,38 @@ public class LongSortedSetTest {
 		assertThat(set, is(emptyIterable()));
 	}
 
+	@Test
+	public void union() {
+		assertThat(empty.union(empty), is(emptyIterable()));
+		assertThat(empty.union(set), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(empty), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.union(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), containsLongs(-7, -5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void intersect() {
+		assertThat(empty.intersect(set), is(emptyIterable()));
+		assertThat(set.intersect(empty), is(emptyIterable()));
+		assertThat(set.intersect(set), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.intersect(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), containsLongs(-5, 0, 4));
+	}
+
+	@Test
+	public void difference() {
+		assertThat(empty.difference(set), is(emptyIterable()));
+		assertThat(set.difference(empty), containsLongs(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4));
+		assertThat(set.difference(set), is(emptyIterable()));
+		assertThat(set.difference(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), containsLongs(-4, -3, -2, -1, 1, 2, 3));
+	}
+
+	@Test
+	public void intersectionSize() {
+		assertThat(empty.intersectionSize(set), is(0));
+		assertThat(set.intersectionSize(empty), is(0));
+		assertThat(set.intersectionSize(set), is(10));
+		assertThat(set.intersectionSize(LongSortedSet.Base.create(-7, -5, 0, 4, 5)), is(3));
+	}
+
 	@Test
 	public void fuzz() {
 		long[] randomValues = new long[1000];
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.collection.longs;
+
+import org.d2ab.iterator.longs.LongIterator;
+import org.d2ab.sequence.LongSequence;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.d2ab.test.IsLongIterableContainingInOrder.containsLongs;
+import static org.d2ab.test.Tests.expecting;
+import static org.d2ab.test.Tests.twice;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class MappedLongListTest {
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final MappedLongList empty = MappedLongList.allocate(0);
+	private final MappedLongList list = MappedLongList.allocate(5);
+
+	{
+		list.addAllLongs(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	public void allocate() {
+		twice(() -> assertThat(empty, is(emptyIterable())));
+		twice(() -> assertThat(list, containsLongs(1, 2, 3, 4, 5)));
+		assertThat(empty.size(), is(0));
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(list.size(), is(5));
+		assertThat(list.isEmpty(), is(false));
+	}
+
+	@Test
+	public void growth() {
+		int capacity = empty.capacity();
+		for (int i = 0; i < capacity * 10; i++)
+			empty.addLong(i);
+
+		assertThat(empty.size(), is(capacity * 10));
+		assertThat(empty.capacity(), is(greaterThanOrEqualTo(capacity * 10)));
+		for (int i = 0; i < capacity * 10; i++)
+			assertThat(empty.getLong(i), is((long) i));
+	}
+
+	@Test
+	public void getAndSetLong() {
+		assertThat(list.getLong(2), is(3L));
+		assertThat(list.setLong(2, 17), is(3L));
+		assertThat(list.getLong(2), is(17L));
+
+		expecting(IndexOutOfBoundsException.class, () -> list.getLong(5));
+		expecting(IndexOutOfBoundsException.class, () -> list.setLong(-1, 17));
+		expecting(IndexOutOfBoundsException.class, () -> empty.getLong(0));
+	}
+
+	@Test
+	public void addAndRemoveAt() {
+		list.addLongAt(0, 0);
+		list.addLongAt(3, 17);
+		list.addLongAt(7, 6);
+		assertThat(list, containsLongs(0, 1, 2, 17, 3, 4, 5, 6));
+
+		assertThat(list.removeLongAt(3), is(17L));
+		assertThat(list.removeLongAt(0), is(0L));
+		assertThat(list.removeLongAt(5), is(6L));
+		assertThat(list, containsLongs(1, 2, 3, 4, 5));
+
+		expecting(IndexOutOfBoundsException.class, () -> list.addLongAt(6, 17));
+		expecting(IndexOutOfBoundsException.class, () -> list.removeLongAt(5));
+	}
+
+	@Test
+	public void removeAndContains() {
+		assertThat(list.containsLong(3), is(true));
+		assertThat(list.removeLong(3), is(true));
+		assertThat(list.removeLong(3), is(false));
+		assertThat(list.containsLong(3), is(false));
+		assertThat(list.removeLongsIf(x -> x % 2 == 0), is(true));
+		assertThat(list, containsLongs(1, 5));
+	}
+
+	@Test
+	public void clear() {
+		list.clear();
+		assertThat(list, is(emptyIterable()));
+		assertThat(list.size(), is(0));
+
+		list.addLong(17);
+		assertThat(list, containsLongs(17));
+	}
+
+	@Test
+	public void listIterator() {
+		LongListIterator listIterator = list.listIterator();
+		assertThat(listIterator.nextLong(), is(1L));
+		listIterator.remove();
+		assertThat(listIterator.nextLong(), is(2L));
+		listIterator.set(17);
+		listIterator.add(18);
+		assertThat(listIterator.previousLong(), is(18L));
+		assertThat(list, containsLongs(17, 18, 3, 4, 5));
+
+		LongIterator iterator = list.iterator();
+		list.addLong(6);
+		expecting(ConcurrentModificationException.class, iterator::nextLong);
+		expecting(NoSuchElementException.class, () -> empty.iterator().nextLong());
+	}
+
+	@Test
+	public void subList() {
+		LongList subList = list.subList(1, 4);
+		twice(() -> assertThat(subList, containsLongs(2, 3, 4)));
+		assertThat(subList.size(), is(3));
+		assertThat(subList.getLong(1), is(3L));
+
+		subList.removeLongAt(1);
+		assertThat(subList, containsLongs(2, 4));
+		assertThat(list, containsLongs(1, 2, 4, 5));
+
+		subList.addLong(17);
+		assertThat(subList, containsLongs(2, 4, 17));
+		assertThat(list, containsLongs(1, 2, 4, 17, 5));
+	}
+
+	@Test
+	public void bulkGetAndSet() {
+		long[] xs = new long[4];
+		list.getLongs(1, xs, 1, 3);
+		assertArrayEquals(new long[]{0, 2, 3, 4}, xs);
+
+		list.setLongs(2, new long[]{17, 18, 19}, 1, 2);
+		assertThat(list, containsLongs(1, 2, 18, 19, 5));
+		assertArrayEquals(new long[]{1, 2, 18, 19, 5}, list.toLongArray());
+
+		expecting(IndexOutOfBoundsException.class, () -> list.getLongs(3, xs, 0, 3));
+		expecting(IndexOutOfBoundsException.class, () -> list.setLongs(-1, xs, 0, 1));
+	}
+
+	@Test
+	public void sequence() {
+		LongSequence sequence = list.sequence();
+		twice(() -> assertThat(sequence, containsLongs(1, 2, 3, 4, 5)));
+		twice(() -> assertThat(sequence.batch(2), contains(containsLongs(1, 2), containsLongs(3, 4), containsLongs(5))));
+		assertThat(sequence.sum(), is(15L));
+	}
+
+	@Test
+	public void equalsHashCode() {
+		LongList same = LongList.create(1, 2, 3, 4, 5);
+		assertThat(list, is(equalTo(same)));
+		assertThat(list.hashCode(), is(same.hashCode()));
+		assertThat(empty, is(equalTo(LongList.create())));
+	}
+
+	@Test
+	public void mapFile() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("longs");
+		try (MappedLongList mapped = MappedLongList.map(path)) {
+			assertThat(mapped, is(emptyIterable()));
+			for (int i = 0; i < 1000; i++)
+				mapped.addLong((long) i * 3);
+			mapped.removeLongAt(0);
+		}
+
+		try (MappedLongList reopened = MappedLongList.map(path)) {
+			assertThat(reopened.size(), is(999));
+			for (int i = 0; i < 999; i++)
+				assertThat(reopened.getLong(i), is((long) (i + 1) * 3));
+
+			reopened.clear();
+			reopened.addAllLongs(1, 2, 3);
+		}
+
+		try (MappedLongList reopened = MappedLongList.map(path)) {
+			assertThat(reopened, containsLongs(1, 2, 3));
+		}
+	}
+
+	@Test
+	public void regions() throws IOException {
+		MappedLongList small = MappedLongList.allocate(0, 2);
+		LongList expected = LongList.create();
+		for (int i = 0; i < 100; i++) {
+			small.addLong(i);
+			expected.addLong(i);
+		}
+		for (int i = 0; i < 50; i += 3) {
+			small.addLongAt(i * 2, -i);
+			expected.addLongAt(i * 2, -i);
+			assertThat(small.removeLongAt(i + 1), is(expected.removeLongAt(i + 1)));
+		}
+		assertThat(small.capacity(), is(greaterThanOrEqualTo(100)));
+		assertArrayEquals(expected.toLongArray(), small.toLongArray());
+
+		long[] xs = new long[10];
+		small.getLongs(1, xs, 0, 10);
+		assertArrayEquals(Arrays.copyOfRange(expected.toLongArray(), 1, 11), xs);
+
+		MappedLongList large = MappedLongList.allocate(0, 10);
+		for (int i = 0; i < 20000; i++)
+			large.addLong(i);
+		large.addLongAt(3, -1);
+		assertThat(large.removeLongAt(10), is(9L));
+		assertThat(large.getLong(3), is(-1L));
+		assertThat(large.getLong(19999), is(19999L));
+		assertThat(large.size(), is(20000));
+
+		Path path = folder.getRoot().toPath().resolve("regions");
+		try (MappedLongList mapped = MappedLongList.map(path, 3)) {
+			mapped.addAllLongs(small.toLongArray());
+			mapped.removeLongAt(5);
+			mapped.addLongAt(40, 17);
+		}
+		expected.removeLongAt(5);
+		expected.addLongAt(40, 17);
+
+		try (MappedLongList reopened = MappedLongList.map(path, 4)) {
+			assertArrayEquals(expected.toLongArray(), reopened.toLongArray());
+		}
+	}
+
+	@Test
+	public void mapInvalidFile() throws IOException {
+		Path tooShort = folder.getRoot().toPath().resolve("too-short");
+		Files.write(tooShort, new byte[]{1, 2, 3});
+		expecting(IOException.class, () -> MappedLongList.map(tooShort));
+
+		Path badSize = folder.getRoot().toPath().resolve("bad-size");
+		Files.write(badSize, new byte[]{100, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4});
+		expecting(IOException.class, () -> MappedLongList.map(badSize));
+	}
+}
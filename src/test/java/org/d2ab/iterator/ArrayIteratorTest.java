@@ -18,9 +18,12 @@ package org.d2ab.iterator;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.d2ab.test.Tests.expecting;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -41,4 +44,25 @@ public class ArrayIteratorTest {
 		assertThat(iterator.hasNext(), is(false));
 		expecting(NoSuchElementException.class, iterator::next);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void forEachRemaining() {
+		ArrayIterator<Integer> iterator = new ArrayIterator<>(1, 2, 3);
+		assertThat(iterator.next(), is(1));
+
+		List<Integer> remaining = new ArrayList<>();
+		iterator.forEachRemaining(remaining::add);
+		assertThat(remaining, contains(2, 3));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test
+	public void skip() {
+		ArrayIterator<Integer> iterator = new ArrayIterator<>(1, 2, 3, 4, 5);
+		assertThat(iterator.skip(2), is(2));
+		assertThat(iterator.next(), is(3));
+		assertThat(Iterators.skip(iterator, 17), is(2));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.skip(1), is(0));
+	}
+}
@@ -3,12 +3,14 @@ package org.d2ab.iterator.chars;
 import org.d2ab.function.CharConsumer;
 import org.junit.Test;
 
+import java.nio.CharBuffer;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.d2ab.test.Tests.expecting;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -46,6 +48,46 @@ public class CharIteratorTest {
 		assertThat(iterator.nextChar(), is('b'));
 	}
 
+	@Test
+	public void skipSteps() {
+		assertThat(empty.skip(3), is(0));
+		assertThat(empty.hasNext(), is(false));
+
+		assertThat(iterator.skip(2), is(2));
+		assertThat(iterator.nextChar(), is('c'));
+		assertThat(iterator.skip(0), is(0));
+		assertThat(iterator.skip(17), is(2));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.skip(1), is(0));
+
+		CharIterator csqIterator = new CharSequenceCharIterator("abcde");
+		assertThat(csqIterator.skip(3), is(3));
+		assertThat(csqIterator.nextChar(), is('d'));
+		assertThat(csqIterator.skip(17), is(1));
+		assertThat(csqIterator.hasNext(), is(false));
+	}
+
+	@Test
+	public void nextChars() {
+		char[] cs = new char[6];
+		assertThat(empty.nextChars(cs, 0, 6), is(0));
+
+		assertThat(iterator.nextChars(cs, 1, 2), is(2));
+		assertThat(iterator.nextChar(), is('c'));
+		assertThat(iterator.nextChars(cs, 3, 3), is(2));
+		assertThat(iterator.nextChars(cs, 0, 6), is(0));
+		assertArrayEquals(new char[]{'\0', 'a', 'b', 'd', 'e', '\0'}, cs);
+
+		for (CharSequence csq : new CharSequence[]{"xyz", new StringBuilder("xyz"), new StringBuffer("xyz"),
+		                                           CharBuffer.wrap("xyz")}) {
+			CharIterator iterator = new CharSequenceCharIterator(csq);
+			assertThat(iterator.nextChar(), is('x'));
+			assertThat(iterator.nextChars(cs, 4, 6), is(2));
+			assertThat(iterator.nextChars(cs, 0, 6), is(0));
+			assertArrayEquals(new char[]{'\0', 'a', 'b', 'd', 'y', 'z'}, cs);
+		}
+	}
+
 	@Test
 	public void forEachRemainingCharConsumer() {
 		empty.forEachRemaining((CharConsumer) x -> fail("should not get called"));
@@ -2,6 +2,7 @@ package org.d2ab.iterator.ints;
 
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntConsumer;
@@ -9,6 +10,7 @@ import java.util.function.IntConsumer;
 import static org.d2ab.test.Tests.expecting;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -46,6 +48,35 @@ public class IntIteratorTest {
 		assertThat(iterator.nextInt(), is(2));
 	}
 
+	@Test
+	public void skipSteps() {
+		assertThat(empty.skip(3), is(0));
+		assertThat(empty.hasNext(), is(false));
+
+		assertThat(iterator.skip(2), is(2));
+		assertThat(iterator.nextInt(), is(3));
+		assertThat(iterator.skip(0), is(0));
+		assertThat(iterator.skip(17), is(2));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.skip(1), is(0));
+	}
+
+	@Test
+	public void nextInts() {
+		int[] xs = new int[6];
+		assertThat(empty.nextInts(xs, 0, 6), is(0));
+
+		assertThat(iterator.nextInts(xs, 1, 2), is(2));
+		assertThat(iterator.nextInt(), is(3));
+		assertThat(iterator.nextInts(xs, 3, 3), is(2));
+		assertThat(iterator.nextInts(xs, 0, 6), is(0));
+		assertArrayEquals(new int[]{0, 1, 2, 4, 5, 0}, xs);
+
+		IntIterator delegating = IntIterator.from(Arrays.asList(1, 2, 3).iterator());
+		assertThat(delegating.nextInts(xs, 0, 6), is(3));
+		assertArrayEquals(new int[]{1, 2, 3, 4, 5, 0}, xs);
+	}
+
 	@Test
 	public void forEachRemainingIntConsumer() {
 		empty.forEachRemaining((IntConsumer) x -> fail("should not get called"));
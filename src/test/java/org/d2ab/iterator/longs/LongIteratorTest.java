@@ -46,6 +46,19 @@ public class LongIteratorTest {
 		assertThat(iterator.nextLong(), is(2L));
 	}
 
+	@Test
+	public void skipSteps() {
+		assertThat(empty.skip(3), is(0));
+		assertThat(empty.hasNext(), is(false));
+
+		assertThat(iterator.skip(2), is(2));
+		assertThat(iterator.nextLong(), is(3L));
+		assertThat(iterator.skip(0), is(0));
+		assertThat(iterator.skip(17), is(2));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.skip(1), is(0));
+	}
+
 	@Test
 	public void forEachRemainingLongConsumer() {
 		empty.forEachRemaining((LongConsumer) x -> fail("should not get called"));
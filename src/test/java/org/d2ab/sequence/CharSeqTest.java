@@ -201,6 +201,23 @@ public class CharSeqTest {
 		assertThat(seq, containsChars('a', 'b', 'c', 'd', 'e'));
 	}
 
+	@Test
+	public void readBuffered() throws IOException {
+		Reader reader = new StringReader("abcdefghijklmnopqrstuvwxyz");
+		assertThat((char) reader.read(), is('a'));
+		reader.mark(0);
+
+		CharSeq seq = CharSeq.read(reader, 4);
+		twice(() -> assertThat(seq.asString(), is("bcdefghijklmnopqrstuvwxyz")));
+		assertThat(seq.skip(10).first(), is(OptionalChar.of('l')));
+		assertThat(seq.size(), is(25));
+
+		CharSeq single = CharSeq.read(new StringReader("abc"), 1);
+		twice(() -> assertThat(single, containsChars('a', 'b', 'c')));
+
+		expecting(IllegalArgumentException.class, () -> CharSeq.read(reader, 0));
+	}
+
 	@Test
 	public void cachePrimitiveIteratorOfInt() {
 		CharSeq cached = CharSeq.cache(IntIterator.of('a', 'b', 'c', 'd', 'e'));
@@ -1363,6 +1380,57 @@ public class CharSeqTest {
 		assertThat(reversed, containsChars('d', 'c', 'b', 'a'));
 	}
 
+	@Test
+	public void sortedCollection() {
+		CharSeq sortedSet = CharSeq.from(CharSortedSet.create('c', 'a', 'b')).sorted();
+		twice(() -> assertThat(sortedSet, containsChars('a', 'b', 'c')));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedSet));
+
+		ArrayCharList list = ArrayCharList.create('a', 'b', 'c');
+		CharSeq sortedList = CharSeq.from(list).sorted();
+		twice(() -> assertThat(sortedList, containsChars('a', 'b', 'c')));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedList));
+
+		list.addChar('a');
+		twice(() -> assertThat(sortedList, containsChars('a', 'a', 'b', 'c')));
+		twice(() -> assertThat(list, containsChars('a', 'b', 'c', 'a')));
+
+		CharSeq sortedArray = CharSeq.of('a', 'b', 'c', 'd').sorted();
+		twice(() -> assertThat(sortedArray, containsChars('a', 'b', 'c', 'd')));
+		twice(() -> assertThat(CharSeq.of('d', 'a', 'c', 'b').sorted(), containsChars('a', 'b', 'c', 'd')));
+	}
+
+	@Test
+	public void sortedOnce() {
+		ArrayCharList list = ArrayCharList.create('d', 'b', 'c');
+		CharSeq sortedOnce = CharSeq.from(list).sortedOnce();
+		list.addChar('a');
+		twice(() -> assertThat(sortedOnce, containsChars('a', 'b', 'c', 'd')));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedOnce));
+
+		list.addChar('e');
+		twice(() -> assertThat(sortedOnce, containsChars('a', 'b', 'c', 'd')));
+		twice(() -> assertThat(CharSeq.from(list).sorted(), containsChars('a', 'b', 'c', 'd', 'e')));
+
+		CharSeq sortedOnceArray = CharSeq.of('e', 'b', 'd', 'c').sortedOnce();
+		twice(() -> assertThat(sortedOnceArray, containsChars('b', 'c', 'd', 'e')));
+	}
+
+	@Test
+	public void reverseCollection() {
+		ArrayCharList list = ArrayCharList.create('a', 'b', 'c');
+		CharSeq reversed = CharSeq.from(list).reverse();
+		twice(() -> assertThat(reversed, containsChars('c', 'b', 'a')));
+		expecting(NoSuchElementException.class, () -> CharSeq.from(ArrayCharList.create()).reverse().iterator().nextChar());
+		expecting(UnsupportedOperationException.class, () -> removeFirst(reversed));
+
+		list.addChar('d');
+		twice(() -> assertThat(reversed, containsChars('d', 'c', 'b', 'a')));
+
+		CharSeq reversedArray = CharSeq.of('a', 'b', 'c').reverse();
+		twice(() -> assertThat(reversedArray, containsChars('c', 'b', 'a')));
+	}
+
 	@Test
 	public void allChars() {
 		assertThat(CharSeq.all().limit(5), containsChars('\u0000', '\u0001', '\u0002', '\u0003', '\u0004'));
@@ -1453,6 +1521,43 @@ public class CharSeqTest {
 		twice(() -> assertThat(fiveBoxed, contains('b', 'c', 'd', 'e')));
 	}
 
+	@Test
+	public void memoize() {
+		AtomicInteger reads = new AtomicInteger();
+		CharSeq memoized = CharSeq.recurse('a', c -> (char) (c + 1)).peek(x -> reads.incrementAndGet()).memoize();
+		assertThat(reads.get(), is(0));
+
+		assertThat(memoized.limit(3), containsChars('a', 'b', 'c'));
+		assertThat(reads.get(), is(3));
+
+		assertThat(memoized.limit(5), containsChars('a', 'b', 'c', 'd', 'e'));
+		assertThat(reads.get(), is(5));
+
+		twice(() -> assertThat(memoized.limit(2), containsChars('a', 'b')));
+		assertThat(reads.get(), is(5));
+	}
+
+	@Test
+	public void memoizeBounded() {
+		expecting(IllegalArgumentException.class, () -> CharSeq.recurse('a', c -> (char) (c + 1)).memoize(0));
+
+		CharSeq memoized = CharSeq.recurse('a', c -> (char) (c + 1)).memoize(3);
+		CharIterator leader = memoized.iterator();
+		CharIterator follower = memoized.iterator();
+
+		assertThat(leader.nextChar(), is('a'));
+		assertThat(leader.nextChar(), is('b'));
+		assertThat(leader.nextChar(), is('c'));
+		assertThat(follower.nextChar(), is('a'));
+		assertThat(leader.nextChar(), is('d'));
+		assertThat(follower.nextChar(), is('b'));
+		assertThat(leader.nextChar(), is('e'));
+		assertThat(leader.nextChar(), is('f'));
+
+		expecting(IllegalStateException.class, follower::nextChar);
+		expecting(IllegalStateException.class, () -> memoized.iterator().nextChar());
+	}
+
 	@Test
 	public void repeat() {
 		CharSeq emptyRepeated = empty.repeat();
@@ -1774,6 +1879,37 @@ public class CharSeqTest {
 		                                containsChars('i'))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void windowView() {
+		Sequence<CharSeq> emptyWindowed = empty.windowView(3);
+		twice(() -> assertThat(emptyWindowed, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyWindowed.iterator().next());
+
+		Sequence<CharSeq> twoWindowed = ab.windowView(3);
+		twice(() -> assertThat(twoWindowed, contains(containsChars('a', 'b'))));
+
+		Sequence<CharSeq> fiveWindowed = abcde.windowView(3);
+		twice(() -> assertThat(fiveWindowed, contains(containsChars('a', 'b', 'c'), containsChars('b', 'c', 'd'), containsChars('c', 'd', 'e'))));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(fiveWindowed));
+		twice(() -> assertThat(fiveWindowed, contains(containsChars('a', 'b', 'c'), containsChars('b', 'c', 'd'), containsChars('c', 'd', 'e'))));
+
+		Sequence<CharSeq> nineWindowedSmallerStep = abcdefghi.windowView(3, 2);
+		twice(() -> assertThat(nineWindowedSmallerStep,
+		                       contains(containsChars('a', 'b', 'c'), containsChars('c', 'd', 'e'), containsChars('e', 'f', 'g'),
+		                                containsChars('g', 'h', 'i'))));
+
+		Sequence<CharSeq> nineWindowedLargerStep = abcdefghi.windowView(3, 4);
+		twice(() -> assertThat(nineWindowedLargerStep, contains(containsChars('a', 'b', 'c'), containsChars('e', 'f', 'g'), containsChars('i'))));
+
+		Iterator<CharSeq> iterator = fiveWindowed.iterator();
+		CharSeq first = iterator.next();
+		assertThat(first, containsChars('a', 'b', 'c'));
+		iterator.next();
+		assertThat(first, containsChars('b', 'c', 'd'));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void batch() {
@@ -1890,6 +2026,52 @@ public class CharSeqTest {
 		twice(() -> assertThat(abcdefghi, containsChars('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i')));
 	}
 
+	@Test
+	public void windowAndBatchLargerThanInput() {
+		assertThat(CharSeq.once(CharIterator.of('a', 'b', 'c')).batch(Integer.MAX_VALUE - 8),
+		           contains(containsChars('a', 'b', 'c')));
+		assertThat(CharSeq.once(CharIterator.of('a', 'b', 'c')).window(500_000_000),
+		           contains(containsChars('a', 'b', 'c')));
+
+		char[] array = new char[100];
+		for (int i = 0; i < array.length; i++)
+			array[i] = (char) ('a' + i);
+		CharSeq arraySequence = CharSeq.of(array);
+		CharSeq iterated = arraySequence::iterator;
+		for (int window : new int[]{17, 40, 150})
+			assertThat(iterated.window(window, 7).map(CharSeq::toList).toList(),
+			           is(arraySequence.window(window, 7).map(CharSeq::toList).toList()));
+	}
+
+	@Test
+	public void windowBatchAndSplitOverRandomAccessSources() {
+		char[] array = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i'};
+		char[] splitArray = {'c', 'a', 'c', 'c', 'b', 'c'};
+		CharSeq arraySequence = CharSeq.of(array);
+		CharSeq iterated = arraySequence::iterator;
+
+		for (CharSeq sequence : Arrays.asList(arraySequence, abcdefghi)) {
+			for (int window = 1; window <= 10; window++)
+				for (int step = 1; step <= 10; step++)
+					assertThat(sequence.window(window, step).map(CharSeq::toList).toList(),
+					           is(iterated.window(window, step).map(CharSeq::toList).toList()));
+
+			assertThat(sequence.batch((a, b) -> b == 'd' || b == 'h').map(CharSeq::toList).toList(),
+			           is(iterated.batch((a, b) -> b == 'd' || b == 'h').map(CharSeq::toList).toList()));
+			assertThat(sequence.split(x -> x == 'c' || x == 'f').map(CharSeq::toList).toList(),
+			           is(iterated.split(x -> x == 'c' || x == 'f').map(CharSeq::toList).toList()));
+		}
+
+		CharSeq splitSequence = CharSeq.of(splitArray);
+		CharSeq splitIterated = splitSequence::iterator;
+		assertThat(splitSequence.split(splitArray[0]).map(CharSeq::toList).toList(),
+		           is(splitIterated.split(splitArray[0]).map(CharSeq::toList).toList()));
+
+		Sequence<CharSeq> batches = arraySequence.batch(4);
+		array[4] = 'q';
+		twice(() -> assertThat(batches, contains(containsChars('a', 'b', 'c', 'd'), containsChars('q', 'f', 'g', 'h'), containsChars('i'))));
+	}
+
 	@Test
 	public void filterClear() {
 		List<Character> original = new ArrayList<>(Lists.of('a', 'b', 'c', 'd'));
@@ -18,15 +18,30 @@ package org.d2ab.sequence;
 
 import org.d2ab.collection.Iterables;
 import org.d2ab.collection.Lists;
+import org.d2ab.collection.SizedIterable;
 import org.d2ab.collection.doubles.*;
+import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.Iterators;
 import org.d2ab.iterator.doubles.DelegatingTransformingDoubleIterator;
 import org.d2ab.iterator.doubles.DoubleIterator;
+import org.junit.Rule;
 import org.junit.Test;
-
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
@@ -40,6 +55,9 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
 public class DoubleSequenceTest {
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
 	private final DoubleSequence empty = DoubleSequence.empty();
 
 	private final DoubleSequence _1 = DoubleSequence.from(DoubleList.create(1.0));
@@ -154,6 +172,74 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(sequence, is(emptyIterable())));
 	}
 
+	@Test
+	public void writeToAndReadChannel() throws IOException {
+		DoubleSequence doubles = DoubleSequence.steppingFrom(-1000, 0.25).limit(2000);
+		for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			doubles.writeTo(Channels.newChannel(output), order);
+
+			byte[] bytes = output.toByteArray();
+			assertThat(bytes.length, is(2000 * Double.BYTES));
+			assertThat(ByteBuffer.wrap(bytes).order(order).getDouble(Double.BYTES), is(-999.75));
+
+			DoubleSequence read = DoubleSequence.read(Channels.newChannel(new ByteArrayInputStream(bytes)), order);
+			assertThat(read, containsDoubles(doubles));
+			assertThat(read, is(emptyIterable()));
+		}
+	}
+
+	@Test
+	public void readSeekableChannel() throws IOException {
+		Path path = folder.newFile().toPath();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			_12345.writeTo(channel, ByteOrder.LITTLE_ENDIAN);
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			channel.position(Double.BYTES);
+			DoubleSequence sequence = DoubleSequence.read(channel, ByteOrder.LITTLE_ENDIAN);
+			twice(() -> assertThat(sequence, containsDoubles(2, 3, 4, 5)));
+		}
+	}
+
+	@Test
+	public void readTruncatedChannel() {
+		byte[] bytes = {63, -16, 0, 0, 0, 0, 0, 0, 2, 3};
+		DoubleIterator iterator =
+				DoubleSequence.read(Channels.newChannel(new ByteArrayInputStream(bytes)), ByteOrder.BIG_ENDIAN).iterator();
+
+		assertThat(iterator.nextDouble(), is(1.0));
+		expecting(NullPointerException.class, () -> iterator.forEachRemaining((DoubleConsumer) null));
+		expecting(IterationException.class, iterator::hasNext);
+	}
+
+	@Test
+	public void mapFile() throws IOException {
+		Path path = folder.newFile().toPath();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			DoubleSequence.steppingFrom(0, 0.5).limit(1000).writeTo(channel, ByteOrder.nativeOrder());
+		}
+
+		DoubleSequence mapped = DoubleSequence.mapFile(path, ByteOrder.nativeOrder());
+		assertThat(mapped.sizeType(), is(SizedIterable.SizeType.FIXED));
+		assertThat(mapped.size(), is(1000));
+		twice(() -> assertThat(mapped.toDoubleArray(), is(DoubleSequence.steppingFrom(0, 0.5).limit(1000).toDoubleArray())));
+		assertThat(mapped.statistics().getSum(), is(249750.0));
+
+		DoubleSequence regions = MappedDoubleSequence.map(path, ByteOrder.nativeOrder(), 3 * Double.BYTES);
+		twice(() -> assertThat(regions.toDoubleArray(), is(DoubleSequence.steppingFrom(0, 0.5).limit(1000).toDoubleArray())));
+		twice(() -> assertThat(regions.skip(997), containsDoubles(498.5, 499.0, 499.5)));
+
+		DoubleSequence emptyFile = DoubleSequence.mapFile(folder.newFile().toPath(), ByteOrder.nativeOrder());
+		twice(() -> assertThat(emptyFile, is(emptyIterable())));
+		assertThat(emptyFile.isEmpty(), is(true));
+
+		Path invalid = folder.newFile().toPath();
+		Files.write(invalid, new byte[]{1, 2, 3});
+		expecting(IOException.class, () -> DoubleSequence.mapFile(invalid, ByteOrder.nativeOrder()));
+	}
+
 	@Test
 	public void cachePrimitiveIteratorOfDouble() {
 		DoubleSequence cached = DoubleSequence.cache(DoubleIterator.of(1.0, 2.0, 3.0, 4.0, 5.0));
@@ -629,6 +715,19 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(_12345, containsDoubles(2, 3, 4, 5)));
 	}
 
+	@Test
+	public void includingArrayWithPrecision() {
+		DoubleSequence including = _123456789.including(new double[]{1.05, 2.95, 5.2, 17}, 0.1);
+		twice(() -> assertThat(including, containsDoubles(1, 3)));
+
+		DoubleSequence includingLarge = DoubleSequence.rangeOpen(0, 1000, 0.5, 0.01)
+		                                              .including(DoubleSequence.rangeOpen(0.001, 1000, 2, 0.01)
+		                                                                       .toDoubleArray(), 0.01);
+		twice(() -> assertThat(includingLarge.size(), is(500)));
+		twice(() -> assertThat(includingLarge.first(), is(OptionalDouble.of(0))));
+		twice(() -> assertThat(includingLarge.last(), is(OptionalDouble.of(998))));
+	}
+
 	@Test
 	public void excludingExactlyArray() {
 		DoubleSequence emptyExcluding = empty.excludingExactly(1, 3, 5, 17);
@@ -649,6 +748,17 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(_12345, containsDoubles(1, 3, 4, 5)));
 	}
 
+	@Test
+	public void includingAndExcludingExactlyZeroAndNaN() {
+		DoubleSequence sequence = DoubleSequence.of(0.0, -0.0, Double.NaN, 1.0);
+
+		DoubleSequence including = sequence.includingExactly(-0.0, Double.NaN);
+		twice(() -> assertThat(including.toDoubleArray(), is(new double[]{0.0, -0.0})));
+
+		DoubleSequence excluding = sequence.excludingExactly(0.0, Double.NaN);
+		twice(() -> assertThat(excluding.toDoubleArray(), is(new double[]{Double.NaN, 1.0})));
+	}
+
 	@Test
 	public void excludingArray() {
 		DoubleSequence emptyExcluding = empty.excluding(new double[]{1, 3, 5, 17}, 0);
@@ -669,6 +779,18 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(_12345, containsDoubles(1, 3, 4, 5)));
 	}
 
+	@Test
+	public void excludingArrayWithPrecision() {
+		DoubleSequence excluding = _123456789.excluding(new double[]{1.05, 2.95, 5.2, 17}, 0.1);
+		twice(() -> assertThat(excluding, containsDoubles(2, 4, 5, 6, 7, 8, 9)));
+
+		DoubleSequence excludingLarge = DoubleSequence.rangeOpen(0, 1000, 0.5, 0.01)
+		                                              .excluding(DoubleSequence.rangeOpen(0.001, 1000, 2, 0.01)
+		                                                                       .toDoubleArray(), 0.01);
+		twice(() -> assertThat(excludingLarge.size(), is(1500)));
+		twice(() -> assertThat(excludingLarge.first(), is(OptionalDouble.of(0.5))));
+	}
+
 	@Test
 	public void map() {
 		DoubleSequence emptyMapped = empty.map(l -> l + 1);
@@ -853,8 +975,18 @@ public class DoubleSequenceTest {
 	public void toSet() {
 		twice(() -> {
 			DoubleSet set = _12345.toSet();
+			assertThat(set, instanceOf(HashDoubleSet.class));
+			assertThat(set, is(equalTo(new RawDoubleSet(1, 2, 3, 4, 5))));
+		});
+	}
+
+	@Test
+	public void toSetDense() {
+		double[] adjacent = new double[]{1, Math.nextUp(1.0), Math.nextUp(Math.nextUp(1.0))};
+		twice(() -> {
+			DoubleSet set = DoubleSequence.of(adjacent).toSet();
 			assertThat(set, instanceOf(RawDoubleSet.class));
-			assertThat(set, containsDoubles(1, 2, 3, 4, 5));
+			assertThat(set, containsDoubles(adjacent));
 		});
 	}
 
@@ -1075,6 +1207,22 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(nineRandom, containsDoubles(6, 1, -7, 1, 2, 17, 5, 4)));
 	}
 
+	@Test
+	public void distinctLarge() {
+		double[] values = new Random(17).doubles(5000, 0, 100).toArray();
+
+		DoubleList expected = DoubleList.create();
+		for (double value : values)
+			if (!expected.containsDouble(value, 0.01))
+				expected.addDoubleExactly(value);
+
+		DoubleSequence distinct = DoubleSequence.of(values).distinct(0.01);
+		twice(() -> assertThat(distinct.toDoubleArray(), is(expected.toDoubleArray())));
+
+		DoubleSequence zeroPrecision = DoubleSequence.of(1, -0.0, 0.0, 1, 2, 1).distinct(0);
+		twice(() -> assertThat(zeroPrecision, containsDoubles(1, -0.0, 2)));
+	}
+
 	@Test
 	public void distinctExactly() {
 		DoubleSequence emptyDistinct = empty.distinctExactly();
@@ -1115,6 +1263,46 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(nineRandom, containsDoubles(6, 6, 1, -7, 1, 2, 17, 5, 4)));
 	}
 
+	@Test
+	public void top() {
+		DoubleSequence emptyTop = empty.top(3);
+		twice(() -> assertThat(emptyTop, emptyIterable()));
+		expecting(NoSuchElementException.class, () -> emptyTop.iterator().nextDouble());
+
+		twice(() -> assertThat(oneRandom.top(3), containsDoubles(17)));
+		twice(() -> assertThat(twoRandom.top(3), containsDoubles(32, 17)));
+
+		DoubleSequence nineTop = nineRandom.top(3);
+		twice(() -> assertThat(nineTop, containsDoubles(17, 6, 6)));
+		twice(() -> assertThat(nineRandom.top(0), emptyIterable()));
+		twice(() -> assertThat(nineRandom.top(20), containsDoubles(17, 6, 6, 5, 4, 2, 1, 1, -7)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineTop));
+		twice(() -> assertThat(nineRandom, containsDoubles(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.top(-1));
+	}
+
+	@Test
+	public void bottom() {
+		DoubleSequence emptyBottom = empty.bottom(3);
+		twice(() -> assertThat(emptyBottom, emptyIterable()));
+		expecting(NoSuchElementException.class, () -> emptyBottom.iterator().nextDouble());
+
+		twice(() -> assertThat(oneRandom.bottom(3), containsDoubles(17)));
+		twice(() -> assertThat(twoRandom.bottom(3), containsDoubles(17, 32)));
+
+		DoubleSequence nineBottom = nineRandom.bottom(3);
+		twice(() -> assertThat(nineBottom, containsDoubles(-7, 1, 1)));
+		twice(() -> assertThat(nineRandom.bottom(0), emptyIterable()));
+		twice(() -> assertThat(nineRandom.bottom(20), containsDoubles(-7, 1, 1, 2, 4, 5, 6, 6, 17)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineBottom));
+		twice(() -> assertThat(nineRandom, containsDoubles(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.bottom(-1));
+	}
+
 	@Test
 	public void sortedWithUpdates() {
 		List<Double> backing = new ArrayList<>(Lists.of(2.0, 3.0, 1.0));
@@ -1453,6 +1641,57 @@ public class DoubleSequenceTest {
 		assertThat(reversed, containsDoubles(4.0, 3.0, 2.0, 1.0));
 	}
 
+	@Test
+	public void sortedCollection() {
+		DoubleSequence sortedSet = DoubleSequence.from(DoubleSortedSet.create(3.0, 1.0, 2.0)).sorted();
+		twice(() -> assertThat(sortedSet, containsDoubles(1.0, 2.0, 3.0)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedSet));
+
+		ArrayDoubleList list = ArrayDoubleList.create(1.0, 2.0, 3.0);
+		DoubleSequence sortedList = DoubleSequence.from(list).sorted();
+		twice(() -> assertThat(sortedList, containsDoubles(1.0, 2.0, 3.0)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedList));
+
+		list.addDoubleExactly(1.0);
+		twice(() -> assertThat(sortedList, containsDoubles(1.0, 1.0, 2.0, 3.0)));
+		twice(() -> assertThat(list, containsDoubles(1.0, 2.0, 3.0, 1.0)));
+
+		DoubleSequence sortedArray = DoubleSequence.of(1.0, 2.0, 3.0, 4.0).sorted();
+		twice(() -> assertThat(sortedArray, containsDoubles(1.0, 2.0, 3.0, 4.0)));
+		twice(() -> assertThat(DoubleSequence.of(4.0, 1.0, 3.0, 2.0).sorted(), containsDoubles(1.0, 2.0, 3.0, 4.0)));
+	}
+
+	@Test
+	public void sortedOnce() {
+		ArrayDoubleList list = ArrayDoubleList.create(3.0, 1.0, 2.0);
+		DoubleSequence sortedOnce = DoubleSequence.from(list).sortedOnce();
+		list.addDoubleExactly(0.0);
+		twice(() -> assertThat(sortedOnce, containsDoubles(0.0, 1.0, 2.0, 3.0)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedOnce));
+
+		list.addDoubleExactly(4.0);
+		twice(() -> assertThat(sortedOnce, containsDoubles(0.0, 1.0, 2.0, 3.0)));
+		twice(() -> assertThat(DoubleSequence.from(list).sorted(), containsDoubles(0.0, 1.0, 2.0, 3.0, 4.0)));
+
+		DoubleSequence sortedOnceArray = DoubleSequence.of(4.0, 1.0, 3.0, 2.0).sortedOnce();
+		twice(() -> assertThat(sortedOnceArray, containsDoubles(1.0, 2.0, 3.0, 4.0)));
+	}
+
+	@Test
+	public void reverseCollection() {
+		ArrayDoubleList list = ArrayDoubleList.create(1.0, 2.0, 3.0);
+		DoubleSequence reversed = DoubleSequence.from(list).reverse();
+		twice(() -> assertThat(reversed, containsDoubles(3.0, 2.0, 1.0)));
+		expecting(NoSuchElementException.class, () -> DoubleSequence.from(ArrayDoubleList.create()).reverse().iterator().nextDouble());
+		expecting(UnsupportedOperationException.class, () -> removeFirst(reversed));
+
+		list.addDoubleExactly(4.0);
+		twice(() -> assertThat(reversed, containsDoubles(4.0, 3.0, 2.0, 1.0)));
+
+		DoubleSequence reversedArray = DoubleSequence.of(1.0, 2.0, 3.0).reverse();
+		twice(() -> assertThat(reversedArray, containsDoubles(3.0, 2.0, 1.0)));
+	}
+
 	@Test
 	public void steppingFrom() {
 		assertThat(DoubleSequence.steppingFrom(1, 0.5).limit(3), containsDoubles(1.0, 1.5, 2.0));
@@ -1633,6 +1872,43 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(fiveBoxed, contains(2.0, 3.0, 4.0, 5.0)));
 	}
 
+	@Test
+	public void memoize() {
+		AtomicInteger reads = new AtomicInteger();
+		DoubleSequence memoized = DoubleSequence.recurse(1, x -> x + 1).peek(x -> reads.incrementAndGet()).memoize();
+		assertThat(reads.get(), is(0));
+
+		assertThat(memoized.limit(3), containsDoubles(1.0, 2.0, 3.0));
+		assertThat(reads.get(), is(3));
+
+		assertThat(memoized.limit(5), containsDoubles(1.0, 2.0, 3.0, 4.0, 5.0));
+		assertThat(reads.get(), is(5));
+
+		twice(() -> assertThat(memoized.limit(2), containsDoubles(1.0, 2.0)));
+		assertThat(reads.get(), is(5));
+	}
+
+	@Test
+	public void memoizeBounded() {
+		expecting(IllegalArgumentException.class, () -> DoubleSequence.recurse(1, x -> x + 1).memoize(0));
+
+		DoubleSequence memoized = DoubleSequence.recurse(1, x -> x + 1).memoize(3);
+		DoubleIterator leader = memoized.iterator();
+		DoubleIterator follower = memoized.iterator();
+
+		assertThat(leader.nextDouble(), is(1.0));
+		assertThat(leader.nextDouble(), is(2.0));
+		assertThat(leader.nextDouble(), is(3.0));
+		assertThat(follower.nextDouble(), is(1.0));
+		assertThat(leader.nextDouble(), is(4.0));
+		assertThat(follower.nextDouble(), is(2.0));
+		assertThat(leader.nextDouble(), is(5.0));
+		assertThat(leader.nextDouble(), is(6.0));
+
+		expecting(IllegalStateException.class, follower::nextDouble);
+		expecting(IllegalStateException.class, () -> memoized.iterator().nextDouble());
+	}
+
 	@Test
 	public void repeat() {
 		DoubleSequence emptyRepeated = empty.repeat();
@@ -1950,6 +2226,142 @@ public class DoubleSequenceTest {
 		                       contains(containsDoubles(1, 2, 3), containsDoubles(5, 6, 7), containsDoubles(9))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void windowView() {
+		Sequence<DoubleSequence> emptyWindowed = empty.windowView(3);
+		twice(() -> assertThat(emptyWindowed, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyWindowed.iterator().next());
+
+		Sequence<DoubleSequence> twoWindowed = _12.windowView(3);
+		twice(() -> assertThat(twoWindowed, contains(containsDoubles(1.0, 2.0))));
+
+		Sequence<DoubleSequence> fiveWindowed = _12345.windowView(3);
+		twice(() -> assertThat(fiveWindowed, contains(containsDoubles(1.0, 2.0, 3.0), containsDoubles(2.0, 3.0, 4.0), containsDoubles(3.0, 4.0, 5.0))));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(fiveWindowed));
+		twice(() -> assertThat(fiveWindowed, contains(containsDoubles(1.0, 2.0, 3.0), containsDoubles(2.0, 3.0, 4.0), containsDoubles(3.0, 4.0, 5.0))));
+
+		Sequence<DoubleSequence> nineWindowedSmallerStep = _123456789.windowView(3, 2);
+		twice(() -> assertThat(nineWindowedSmallerStep,
+		                       contains(containsDoubles(1.0, 2.0, 3.0), containsDoubles(3.0, 4.0, 5.0), containsDoubles(5.0, 6.0, 7.0),
+		                                containsDoubles(7.0, 8.0, 9.0))));
+
+		Sequence<DoubleSequence> nineWindowedLargerStep = _123456789.windowView(3, 4);
+		twice(() -> assertThat(nineWindowedLargerStep, contains(containsDoubles(1.0, 2.0, 3.0), containsDoubles(5.0, 6.0, 7.0), containsDoubles(9.0))));
+
+		Iterator<DoubleSequence> iterator = fiveWindowed.iterator();
+		DoubleSequence first = iterator.next();
+		assertThat(first, containsDoubles(1.0, 2.0, 3.0));
+		iterator.next();
+		assertThat(first, containsDoubles(2.0, 3.0, 4.0));
+	}
+
+	@Test
+	public void slidingSum() {
+		DoubleSequence emptySums = empty.slidingSum(3);
+		twice(() -> assertThat(emptySums, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptySums.iterator().nextDouble());
+
+		twice(() -> assertThat(_12.slidingSum(3), containsDoubles(3.0)));
+		twice(() -> assertThat(_12345.slidingSum(3), containsDoubles(6.0, 9.0, 12.0)));
+		twice(() -> assertThat(_12345.slidingSum(1), containsDoubles(1.0, 2.0, 3.0, 4.0, 5.0)));
+		twice(() -> assertThat(nineRandom.slidingSum(3), containsDoubles(13.0, 0.0, -5.0, -4.0, 20.0, 24.0, 26.0)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingSum(0));
+	}
+
+	@Test
+	public void slidingMin() {
+		DoubleSequence emptyMins = empty.slidingMin(3);
+		twice(() -> assertThat(emptyMins, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyMins.iterator().nextDouble());
+
+		twice(() -> assertThat(_12.slidingMin(3), containsDoubles(1.0)));
+		twice(() -> assertThat(nineRandom.slidingMin(3), containsDoubles(1.0, -7.0, -7.0, -7.0, 1.0, 2.0, 4.0)));
+		twice(() -> assertThat(nineRandom.slidingMin(1), containsDoubles(6.0, 6.0, 1.0, -7.0, 1.0, 2.0, 17.0, 5.0, 4.0)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingMin(0));
+	}
+
+	@Test
+	public void slidingMax() {
+		DoubleSequence emptyMaxes = empty.slidingMax(3);
+		twice(() -> assertThat(emptyMaxes, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyMaxes.iterator().nextDouble());
+
+		twice(() -> assertThat(_12.slidingMax(3), containsDoubles(2.0)));
+		twice(() -> assertThat(nineRandom.slidingMax(3), containsDoubles(6.0, 6.0, 1.0, 2.0, 17.0, 17.0, 17.0)));
+		twice(() -> assertThat(nineRandom.slidingMax(9), containsDoubles(17.0)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingMax(0));
+	}
+
+	@Test
+	public void slidingAverage() {
+		DoubleSequence emptyAverages = empty.slidingAverage(3);
+		twice(() -> assertThat(emptyAverages, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyAverages.iterator().nextDouble());
+
+		twice(() -> assertThat(_12.slidingAverage(3), containsDoubles(1.5)));
+		twice(() -> assertThat(_12345.slidingAverage(2), containsDoubles(1.5, 2.5, 3.5, 4.5)));
+		twice(() -> assertThat(nineRandom.slidingAverage(3),
+		                       containsDoubles(13 / 3.0, 0, -5 / 3.0, -4 / 3.0, 20 / 3.0, 8, 26 / 3.0)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingAverage(0));
+	}
+
+	@Test
+	public void slidingVariance() {
+		DoubleSequence emptyVariances = empty.slidingVariance(3);
+		twice(() -> assertThat(emptyVariances, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyVariances.iterator().nextDouble());
+
+		twice(() -> assertThat(_12.slidingVariance(3), containsDoubles(0.25)));
+		twice(() -> assertThat(_12345.slidingVariance(3),
+		                       containsDoubles(closeTo(2 / 3.0, 1e-12), closeTo(2 / 3.0, 1e-12),
+		                                       closeTo(2 / 3.0, 1e-12))));
+		twice(() -> assertThat(nineRandom.slidingVariance(3),
+		                       containsDoubles(closeTo(50 / 9.0, 1e-12), closeTo(258 / 9.0, 1e-12),
+		                                       closeTo(128 / 9.0, 1e-12), closeTo(146 / 9.0, 1e-12),
+		                                       closeTo(482 / 9.0, 1e-12), closeTo(42, 1e-12),
+		                                       closeTo(314 / 9.0, 1e-12))));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingVariance(0));
+	}
+
+	@Test
+	public void slidingAggregatesWithNonFiniteValues() {
+		double inf = Double.POSITIVE_INFINITY;
+		DoubleSequence infinity = DoubleSequence.of(inf, 1, 1, 1, 1);
+		twice(() -> assertThat(infinity.slidingSum(2), containsDoubles(inf, 2, 2, 2)));
+		twice(() -> assertThat(infinity.slidingAverage(2), containsDoubles(inf, 1, 1, 1)));
+		twice(() -> assertThat(infinity.slidingVariance(2), containsDoubles(Double.NaN, 0, 0, 0)));
+
+		DoubleSequence mixed = DoubleSequence.of(1, inf, -inf, Double.NaN, 1, 2, 3);
+		twice(() -> assertThat(mixed.slidingSum(2),
+		                       containsDoubles(inf, Double.NaN, Double.NaN, Double.NaN, 3, 5)));
+		twice(() -> assertThat(mixed.slidingSum(3),
+		                       containsDoubles(Double.NaN, Double.NaN, Double.NaN, Double.NaN, 6)));
+	}
+
+	@Test
+	public void slidingAggregatesWithCancellation() {
+		DoubleSequence large = DoubleSequence.of(1e20, 1, 1, 1, 1);
+		twice(() -> assertThat(large.slidingSum(2), containsDoubles(1e20, 2, 2, 2)));
+		twice(() -> assertThat(large.slidingAverage(2), containsDoubles(5e19, 1, 1, 1)));
+		twice(() -> assertThat(large.slidingVariance(2),
+		                       containsDoubles(closeTo(2.5e39, 1e25), equalTo(0.0), equalTo(0.0), equalTo(0.0))));
+
+		DoubleSequence alternating = DoubleSequence.of(1e20, 1, 2, 1e20, 3, 4, 5, 6);
+		twice(() -> assertThat(alternating.slidingSum(2), containsDoubles(1e20, 3, 1e20, 1e20, 7, 9, 11)));
+		twice(() -> assertThat(alternating.slidingVariance(2).skip(4), containsDoubles(0.25, 0.25, 0.25)));
+
+		DoubleSequence offset = IntSequence.range(1, 1000).toDoubles().map(x -> 1e9 + x % 2);
+		twice(() -> assertThat(offset.slidingVariance(4).last().getAsDouble(), is(closeTo(0.25, 1e-6))));
+		twice(() -> assertThat(offset.slidingSum(4).last().getAsDouble(), is(4e9 + 2)));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void batch() {
@@ -2064,6 +2476,52 @@ public class DoubleSequenceTest {
 		twice(() -> assertThat(_123456789, containsDoubles(1, 2, 3, 4, 5, 6, 7, 8, 9)));
 	}
 
+	@Test
+	public void windowAndBatchLargerThanInput() {
+		assertThat(DoubleSequence.once(DoubleIterator.of(1, 2, 3)).batch(Integer.MAX_VALUE - 8),
+		           contains(containsDoubles(1, 2, 3)));
+		assertThat(DoubleSequence.once(DoubleIterator.of(1, 2, 3)).window(500_000_000),
+		           contains(containsDoubles(1, 2, 3)));
+
+		double[] array = new double[100];
+		for (int i = 0; i < array.length; i++)
+			array[i] = i + 1;
+		DoubleSequence arraySequence = DoubleSequence.of(array);
+		DoubleSequence iterated = arraySequence::iterator;
+		for (int window : new int[]{17, 40, 150})
+			assertThat(iterated.window(window, 7).map(DoubleSequence::toList).toList(),
+			           is(arraySequence.window(window, 7).map(DoubleSequence::toList).toList()));
+	}
+
+	@Test
+	public void windowBatchAndSplitOverRandomAccessSources() {
+		double[] array = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+		double[] splitArray = {3, 1, 3, 3, 2, 3};
+		DoubleSequence arraySequence = DoubleSequence.of(array);
+		DoubleSequence iterated = arraySequence::iterator;
+
+		for (DoubleSequence sequence : Arrays.asList(arraySequence, _123456789)) {
+			for (int window = 1; window <= 10; window++)
+				for (int step = 1; step <= 10; step++)
+					assertThat(sequence.window(window, step).map(DoubleSequence::toList).toList(),
+					           is(iterated.window(window, step).map(DoubleSequence::toList).toList()));
+
+			assertThat(sequence.batch((a, b) -> b % 4 == 0).map(DoubleSequence::toList).toList(),
+			           is(iterated.batch((a, b) -> b % 4 == 0).map(DoubleSequence::toList).toList()));
+			assertThat(sequence.split(x -> x % 3 == 0).map(DoubleSequence::toList).toList(),
+			           is(iterated.split(x -> x % 3 == 0).map(DoubleSequence::toList).toList()));
+		}
+
+		DoubleSequence splitSequence = DoubleSequence.of(splitArray);
+		DoubleSequence splitIterated = splitSequence::iterator;
+		assertThat(splitSequence.split(splitArray[0]).map(DoubleSequence::toList).toList(),
+		           is(splitIterated.split(splitArray[0]).map(DoubleSequence::toList).toList()));
+
+		Sequence<DoubleSequence> batches = arraySequence.batch(4);
+		array[4] = 17;
+		twice(() -> assertThat(batches, contains(containsDoubles(1, 2, 3, 4), containsDoubles(17, 6, 7, 8), containsDoubles(9))));
+	}
+
 	@Test
 	public void filterClear() {
 		List<Double> original = new ArrayList<>(Lists.of(1.0, 2.0, 3.0, 4.0));
@@ -18,6 +18,7 @@ package org.d2ab.sequence;
 
 import org.d2ab.collection.Iterables;
 import org.d2ab.collection.Lists;
+import org.d2ab.collection.SizedIterable;
 import org.d2ab.collection.ints.*;
 import org.d2ab.iterator.Iterators;
 import org.d2ab.iterator.ints.DelegatingTransformingIntIterator;
@@ -30,6 +31,7 @@ import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -191,6 +193,27 @@ public class IntSequenceTest {
 		assertThat(seq, containsInts(2, 3, 4, 5));
 	}
 
+	@Test
+	public void readBuffered() throws IOException {
+		byte[] bytes = new byte[1000];
+		for (int i = 0; i < bytes.length; i++)
+			bytes[i] = (byte) i;
+		InputStream inputStream = new ByteArrayInputStream(bytes);
+		assertThat(inputStream.read(), is(0));
+		inputStream.mark(0);
+
+		IntSequence seq = IntSequence.read(inputStream, 7);
+		assertThat(seq.size(), is(999));
+		twice(() -> assertThat(seq.toIntArray(), is(IntSequence.range(1, 999).map(x -> x & 0xFF).toIntArray())));
+		assertThat(seq.skip(250).first(), is(OptionalInt.of(251 & 0xFF)));
+		assertThat(seq.sum(), is(IntSequence.range(1, 999).map(x -> x & 0xFF).sum()));
+
+		IntSequence negatives = IntSequence.read(new ByteArrayInputStream(new byte[]{-1, -2, -3}), 2);
+		twice(() -> assertThat(negatives, containsInts(255, 254, 253)));
+
+		expecting(IllegalArgumentException.class, () -> IntSequence.read(inputStream, 0));
+	}
+
 	@Test
 	public void cachePrimitiveIteratorOfInt() {
 		IntSequence cached = IntSequence.cache(IntIterator.of(1, 2, 3, 4, 5));
@@ -280,6 +303,53 @@ public class IntSequenceTest {
 		});
 	}
 
+	@Test
+	public void forEachRemainingThroughStages() {
+		IntSequence sequence = IntSequence.of(1, 2, 3, 4, 5, 6, 7, 8, 9).map(x -> x * 2).filter(x -> x % 3 != 0)
+		                                  .limit(5);
+		twice(() -> {
+			IntIterator iterator = sequence.iterator();
+			assertThat(iterator.nextInt(), is(2));
+			assertThat(iterator.hasNext(), is(true));
+
+			IntList remaining = IntList.create();
+			iterator.forEachRemaining((IntConsumer) remaining::addInt);
+			assertThat(remaining, containsInts(4, 8, 10, 14));
+			assertThat(iterator.hasNext(), is(false));
+		});
+
+		twice(() -> assertThat(sequence.sum(), is(38L)));
+		twice(() -> assertThat(sequence.reduce(0, (a, b) -> a - b), is(-38)));
+		twice(() -> assertThat(sequence.average(), is(OptionalDouble.of(7.6))));
+		twice(() -> assertThat(sequence.collect(ArrayList::new, ArrayList::add), contains(2, 4, 8, 10, 14)));
+	}
+
+	@Test
+	public void spliterator() {
+		IntSequence array = IntSequence.of(1, 2, 3, 4, 5, 6, 7, 8);
+		twice(() -> {
+			Spliterator.OfInt spliterator = array.spliterator();
+			assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), is(true));
+			assertThat(spliterator.getExactSizeIfKnown(), is(8L));
+
+			Spliterator.OfInt prefix = spliterator.trySplit();
+			assertThat(prefix.getExactSizeIfKnown(), is(4L));
+			assertThat(spliterator.getExactSizeIfKnown(), is(4L));
+		});
+		twice(() -> assertThat(array.parallelIntStream().sum(), is(36)));
+
+		IntSequence offset = IntSequence.from(new int[]{1, 2, 3, 4, 5}, 1, 3);
+		twice(() -> assertThat(offset.spliterator().getExactSizeIfKnown(), is(3L)));
+		twice(() -> assertThat(offset.intStream().toArray(), is(new int[]{2, 3, 4})));
+
+		twice(() -> assertThat(_12345.spliterator().getExactSizeIfKnown(), is(5L)));
+		twice(() -> assertThat(_12345.parallelIntStream().toArray(), is(new int[]{1, 2, 3, 4, 5})));
+
+		IntSequence filtered = array.filter(x -> x % 2 == 0);
+		twice(() -> assertThat(filtered.spliterator().hasCharacteristics(Spliterator.SIZED), is(false)));
+		twice(() -> assertThat(filtered.intStream().toArray(), is(new int[]{2, 4, 6, 8})));
+	}
+
 	@Test
 	public void iterator() {
 		twice(() -> {
@@ -665,6 +735,19 @@ public class IntSequenceTest {
 		twice(() -> assertThat(_12345, containsInts(1, 3, 4, 5)));
 	}
 
+	@Test
+	public void includingAndExcludingLargeArray() {
+		int[] thirds = IntSequence.range(3, 99_999, 3).toIntArray();
+		IntSequence numbers = IntSequence.range(1, 100_000);
+
+		IntSequence including = numbers.including(thirds);
+		twice(() -> assertThat(including, containsInts(thirds)));
+
+		IntSequence excluding = numbers.excluding(thirds);
+		twice(() -> assertThat(excluding.size(), is(66_667)));
+		twice(() -> assertThat(excluding.all(x -> x % 3 != 0), is(true)));
+	}
+
 	@Test
 	public void map() {
 		IntSequence emptyMapped = empty.map(x -> x + 1);
@@ -853,6 +936,25 @@ public class IntSequenceTest {
 		});
 	}
 
+	@Test
+	public void toSetSparse() {
+		IntSequence sparse = IntSequence.of(1, 1000, 1000000);
+		twice(() -> {
+			IntSet set = sparse.toSet();
+			assertThat(set, instanceOf(HashIntSet.class));
+			assertThat(set, is(equalTo(new BitIntSet(1, 1000, 1000000))));
+		});
+	}
+
+	@Test
+	public void distinctSparseAndDense() {
+		IntSequence sparse = IntSequence.range(0, 2999).map(x -> x * 1000);
+		twice(() -> assertThat(sparse.append(sparse).distinct(), containsInts(sparse.toIntArray())));
+
+		IntSequence dense = IntSequence.range(0, 2999);
+		twice(() -> assertThat(dense.append(dense).distinct(), containsInts(dense.toIntArray())));
+	}
+
 	@Test
 	public void toSortedSet() {
 		twice(() -> {
@@ -1049,6 +1151,36 @@ public class IntSequenceTest {
 		twice(() -> assertThat(_123456789, containsInts(2, 3, 5, 6, 7, 8, 9)));
 	}
 
+	@Test
+	public void slicingAndSteppingArrays() {
+		int[] array = IntSequence.range(1, 10).toIntArray();
+		IntSequence sequence = IntSequence.from(array, 1, 8);
+		IntSequence iterated = sequence::iterator;
+
+		for (int n = 0; n <= 10; n++) {
+			assertThat(sequence.skip(n).toIntArray(), is(iterated.skip(n).toIntArray()));
+			assertThat(sequence.skipTail(n).toIntArray(), is(iterated.skipTail(n).toIntArray()));
+			assertThat(sequence.limit(n).toIntArray(), is(iterated.limit(n).toIntArray()));
+			assertThat(sequence.limitTail(n).toIntArray(), is(iterated.limitTail(n).toIntArray()));
+			assertThat(sequence.at(n), is(iterated.at(n)));
+			if (n > 0) {
+				IntSequence stepped = sequence.step(n);
+				assertThat(stepped.toIntArray(), is(iterated.step(n).toIntArray()));
+				assertThat(stepped.size(), is(iterated.step(n).size()));
+				assertThat(stepped.last(), is(iterated.step(n).last()));
+				for (int i = 0; i <= 8; i++)
+					assertThat(stepped.at(i), is(iterated.step(n).at(i)));
+			}
+		}
+
+		IntSequence sliced = sequence.skip(1).limitTail(5).skipTail(1);
+		assertThat(sliced.sizeType(), is(SizedIterable.SizeType.FIXED));
+		assertThat(sliced.size(), is(4));
+		assertThat(sliced.last(), is(OptionalInt.of(8)));
+		twice(() -> assertThat(sliced, containsInts(5, 6, 7, 8)));
+		expecting(IllegalArgumentException.class, () -> sequence.at(-1));
+	}
+
 	@Test
 	public void distinct() {
 		IntSequence emptyDistinct = empty.distinct();
@@ -1089,6 +1221,46 @@ public class IntSequenceTest {
 		twice(() -> assertThat(nineRandom, containsInts(6, 6, 1, -7, 1, 2, 17, 5, 4)));
 	}
 
+	@Test
+	public void top() {
+		IntSequence emptyTop = empty.top(3);
+		twice(() -> assertThat(emptyTop, emptyIterable()));
+		expecting(NoSuchElementException.class, () -> emptyTop.iterator().nextInt());
+
+		twice(() -> assertThat(oneRandom.top(3), containsInts(17)));
+		twice(() -> assertThat(twoRandom.top(3), containsInts(32, 17)));
+
+		IntSequence nineTop = nineRandom.top(3);
+		twice(() -> assertThat(nineTop, containsInts(17, 6, 6)));
+		twice(() -> assertThat(nineRandom.top(0), emptyIterable()));
+		twice(() -> assertThat(nineRandom.top(20), containsInts(17, 6, 6, 5, 4, 2, 1, 1, -7)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineTop));
+		twice(() -> assertThat(nineRandom, containsInts(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.top(-1));
+	}
+
+	@Test
+	public void bottom() {
+		IntSequence emptyBottom = empty.bottom(3);
+		twice(() -> assertThat(emptyBottom, emptyIterable()));
+		expecting(NoSuchElementException.class, () -> emptyBottom.iterator().nextInt());
+
+		twice(() -> assertThat(oneRandom.bottom(3), containsInts(17)));
+		twice(() -> assertThat(twoRandom.bottom(3), containsInts(17, 32)));
+
+		IntSequence nineBottom = nineRandom.bottom(3);
+		twice(() -> assertThat(nineBottom, containsInts(-7, 1, 1)));
+		twice(() -> assertThat(nineRandom.bottom(0), emptyIterable()));
+		twice(() -> assertThat(nineRandom.bottom(20), containsInts(-7, 1, 1, 2, 4, 5, 6, 6, 17)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineBottom));
+		twice(() -> assertThat(nineRandom, containsInts(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.bottom(-1));
+	}
+
 	@Test
 	public void sortedWithUpdates() {
 		List<Integer> backing = new ArrayList<>(Lists.of(2, 3, 1));
@@ -1432,6 +1604,57 @@ public class IntSequenceTest {
 		assertThat(reversed, containsInts(4, 3, 2, 1));
 	}
 
+	@Test
+	public void sortedCollection() {
+		IntSequence sortedSet = IntSequence.from(IntSortedSet.create(3, 1, 2)).sorted();
+		twice(() -> assertThat(sortedSet, containsInts(1, 2, 3)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedSet));
+
+		ArrayIntList list = ArrayIntList.create(1, 2, 3);
+		IntSequence sortedList = IntSequence.from(list).sorted();
+		twice(() -> assertThat(sortedList, containsInts(1, 2, 3)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedList));
+
+		list.addInt(1);
+		twice(() -> assertThat(sortedList, containsInts(1, 1, 2, 3)));
+		twice(() -> assertThat(list, containsInts(1, 2, 3, 1)));
+
+		IntSequence sortedArray = IntSequence.of(1, 2, 3, 4).sorted();
+		twice(() -> assertThat(sortedArray, containsInts(1, 2, 3, 4)));
+		twice(() -> assertThat(IntSequence.of(4, 1, 3, 2).sorted(), containsInts(1, 2, 3, 4)));
+	}
+
+	@Test
+	public void sortedOnce() {
+		ArrayIntList list = ArrayIntList.create(3, 1, 2);
+		IntSequence sortedOnce = IntSequence.from(list).sortedOnce();
+		list.addInt(0);
+		twice(() -> assertThat(sortedOnce, containsInts(0, 1, 2, 3)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedOnce));
+
+		list.addInt(4);
+		twice(() -> assertThat(sortedOnce, containsInts(0, 1, 2, 3)));
+		twice(() -> assertThat(IntSequence.from(list).sorted(), containsInts(0, 1, 2, 3, 4)));
+
+		IntSequence sortedOnceArray = IntSequence.of(4, 1, 3, 2).sortedOnce();
+		twice(() -> assertThat(sortedOnceArray, containsInts(1, 2, 3, 4)));
+	}
+
+	@Test
+	public void reverseCollection() {
+		ArrayIntList list = ArrayIntList.create(1, 2, 3);
+		IntSequence reversed = IntSequence.from(list).reverse();
+		twice(() -> assertThat(reversed, containsInts(3, 2, 1)));
+		expecting(NoSuchElementException.class, () -> IntSequence.from(ArrayIntList.create()).reverse().iterator().nextInt());
+		expecting(UnsupportedOperationException.class, () -> removeFirst(reversed));
+
+		list.addInt(4);
+		twice(() -> assertThat(reversed, containsInts(4, 3, 2, 1)));
+
+		IntSequence reversedArray = IntSequence.of(1, 2, 3).reverse();
+		twice(() -> assertThat(reversedArray, containsInts(3, 2, 1)));
+	}
+
 	@Test
 	public void positive() {
 		IntSequence positive = IntSequence.positive();
@@ -1710,6 +1933,43 @@ public class IntSequenceTest {
 		twice(() -> assertThat(fiveBoxed, contains(2, 3, 4, 5)));
 	}
 
+	@Test
+	public void memoize() {
+		AtomicInteger reads = new AtomicInteger();
+		IntSequence memoized = IntSequence.recurse(1, x -> x + 1).peek(x -> reads.incrementAndGet()).memoize();
+		assertThat(reads.get(), is(0));
+
+		assertThat(memoized.limit(3), containsInts(1, 2, 3));
+		assertThat(reads.get(), is(3));
+
+		assertThat(memoized.limit(5), containsInts(1, 2, 3, 4, 5));
+		assertThat(reads.get(), is(5));
+
+		twice(() -> assertThat(memoized.limit(2), containsInts(1, 2)));
+		assertThat(reads.get(), is(5));
+	}
+
+	@Test
+	public void memoizeBounded() {
+		expecting(IllegalArgumentException.class, () -> IntSequence.recurse(1, x -> x + 1).memoize(0));
+
+		IntSequence memoized = IntSequence.recurse(1, x -> x + 1).memoize(3);
+		IntIterator leader = memoized.iterator();
+		IntIterator follower = memoized.iterator();
+
+		assertThat(leader.nextInt(), is(1));
+		assertThat(leader.nextInt(), is(2));
+		assertThat(leader.nextInt(), is(3));
+		assertThat(follower.nextInt(), is(1));
+		assertThat(leader.nextInt(), is(4));
+		assertThat(follower.nextInt(), is(2));
+		assertThat(leader.nextInt(), is(5));
+		assertThat(leader.nextInt(), is(6));
+
+		expecting(IllegalStateException.class, follower::nextInt);
+		expecting(IllegalStateException.class, () -> memoized.iterator().nextInt());
+	}
+
 	@Test
 	public void repeat() {
 		IntSequence emptyRepeated = empty.repeat();
@@ -2024,6 +2284,94 @@ public class IntSequenceTest {
 		                       contains(containsInts(1, 2, 3), containsInts(5, 6, 7), containsInts(9))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void windowView() {
+		Sequence<IntSequence> emptyWindowed = empty.windowView(3);
+		twice(() -> assertThat(emptyWindowed, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyWindowed.iterator().next());
+
+		Sequence<IntSequence> twoWindowed = _12.windowView(3);
+		twice(() -> assertThat(twoWindowed, contains(containsInts(1, 2))));
+
+		Sequence<IntSequence> fiveWindowed = _12345.windowView(3);
+		twice(() -> assertThat(fiveWindowed, contains(containsInts(1, 2, 3), containsInts(2, 3, 4), containsInts(3, 4, 5))));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(fiveWindowed));
+		twice(() -> assertThat(fiveWindowed, contains(containsInts(1, 2, 3), containsInts(2, 3, 4), containsInts(3, 4, 5))));
+
+		Sequence<IntSequence> nineWindowedSmallerStep = _123456789.windowView(3, 2);
+		twice(() -> assertThat(nineWindowedSmallerStep,
+		                       contains(containsInts(1, 2, 3), containsInts(3, 4, 5), containsInts(5, 6, 7),
+		                                containsInts(7, 8, 9))));
+
+		Sequence<IntSequence> nineWindowedLargerStep = _123456789.windowView(3, 4);
+		twice(() -> assertThat(nineWindowedLargerStep, contains(containsInts(1, 2, 3), containsInts(5, 6, 7), containsInts(9))));
+
+		Iterator<IntSequence> iterator = fiveWindowed.iterator();
+		IntSequence first = iterator.next();
+		assertThat(first, containsInts(1, 2, 3));
+		iterator.next();
+		assertThat(first, containsInts(2, 3, 4));
+	}
+
+	@Test
+	public void slidingSum() {
+		LongSequence emptySums = empty.slidingSum(3);
+		twice(() -> assertThat(emptySums, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptySums.iterator().nextLong());
+
+		twice(() -> assertThat(_12.slidingSum(3), containsLongs(3)));
+		twice(() -> assertThat(_12345.slidingSum(3), containsLongs(6, 9, 12)));
+		twice(() -> assertThat(_12345.slidingSum(1), containsLongs(1, 2, 3, 4, 5)));
+		twice(() -> assertThat(nineRandom.slidingSum(3), containsLongs(13, 0, -5, -4, 20, 24, 26)));
+
+		twice(() -> assertThat(IntSequence.of(Integer.MAX_VALUE, Integer.MAX_VALUE, 1).slidingSum(2),
+		                       containsLongs(2L * Integer.MAX_VALUE, Integer.MAX_VALUE + 1L)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingSum(0));
+	}
+
+	@Test
+	public void slidingMin() {
+		IntSequence emptyMins = empty.slidingMin(3);
+		twice(() -> assertThat(emptyMins, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyMins.iterator().nextInt());
+
+		twice(() -> assertThat(_12.slidingMin(3), containsInts(1)));
+		twice(() -> assertThat(nineRandom.slidingMin(3), containsInts(1, -7, -7, -7, 1, 2, 4)));
+		twice(() -> assertThat(nineRandom.slidingMin(1), containsInts(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingMin(0));
+	}
+
+	@Test
+	public void slidingMax() {
+		IntSequence emptyMaxes = empty.slidingMax(3);
+		twice(() -> assertThat(emptyMaxes, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyMaxes.iterator().nextInt());
+
+		twice(() -> assertThat(_12.slidingMax(3), containsInts(2)));
+		twice(() -> assertThat(nineRandom.slidingMax(3), containsInts(6, 6, 1, 2, 17, 17, 17)));
+		twice(() -> assertThat(nineRandom.slidingMax(9), containsInts(17)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingMax(0));
+	}
+
+	@Test
+	public void slidingAverage() {
+		DoubleSequence emptyAverages = empty.slidingAverage(3);
+		twice(() -> assertThat(emptyAverages, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyAverages.iterator().nextDouble());
+
+		twice(() -> assertThat(_12.slidingAverage(3), containsDoubles(1.5)));
+		twice(() -> assertThat(_12345.slidingAverage(2), containsDoubles(1.5, 2.5, 3.5, 4.5)));
+		twice(() -> assertThat(nineRandom.slidingAverage(3),
+		                       containsDoubles(13 / 3.0, 0, -5 / 3.0, -4 / 3.0, 20 / 3.0, 8, 26 / 3.0)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingAverage(0));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void batch() {
@@ -2136,6 +2484,52 @@ public class IntSequenceTest {
 		twice(() -> assertThat(_123456789, containsInts(1, 2, 3, 4, 5, 6, 7, 8, 9)));
 	}
 
+	@Test
+	public void windowAndBatchLargerThanInput() {
+		assertThat(IntSequence.once(IntIterator.of(1, 2, 3)).batch(Integer.MAX_VALUE - 8),
+		           contains(containsInts(1, 2, 3)));
+		assertThat(IntSequence.once(IntIterator.of(1, 2, 3)).window(500_000_000),
+		           contains(containsInts(1, 2, 3)));
+
+		int[] array = new int[100];
+		for (int i = 0; i < array.length; i++)
+			array[i] = i + 1;
+		IntSequence arraySequence = IntSequence.of(array);
+		IntSequence iterated = arraySequence::iterator;
+		for (int window : new int[]{17, 40, 150})
+			assertThat(iterated.window(window, 7).map(IntSequence::toList).toList(),
+			           is(arraySequence.window(window, 7).map(IntSequence::toList).toList()));
+	}
+
+	@Test
+	public void windowBatchAndSplitOverRandomAccessSources() {
+		int[] array = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+		int[] splitArray = {3, 1, 3, 3, 2, 3};
+		IntSequence arraySequence = IntSequence.of(array);
+		IntSequence iterated = arraySequence::iterator;
+
+		for (IntSequence sequence : Arrays.asList(arraySequence, _123456789)) {
+			for (int window = 1; window <= 10; window++)
+				for (int step = 1; step <= 10; step++)
+					assertThat(sequence.window(window, step).map(IntSequence::toList).toList(),
+					           is(iterated.window(window, step).map(IntSequence::toList).toList()));
+
+			assertThat(sequence.batch((a, b) -> b % 4 == 0).map(IntSequence::toList).toList(),
+			           is(iterated.batch((a, b) -> b % 4 == 0).map(IntSequence::toList).toList()));
+			assertThat(sequence.split(x -> x % 3 == 0).map(IntSequence::toList).toList(),
+			           is(iterated.split(x -> x % 3 == 0).map(IntSequence::toList).toList()));
+		}
+
+		IntSequence splitSequence = IntSequence.of(splitArray);
+		IntSequence splitIterated = splitSequence::iterator;
+		assertThat(splitSequence.split(splitArray[0]).map(IntSequence::toList).toList(),
+		           is(splitIterated.split(splitArray[0]).map(IntSequence::toList).toList()));
+
+		Sequence<IntSequence> batches = arraySequence.batch(4);
+		array[4] = 17;
+		twice(() -> assertThat(batches, contains(containsInts(1, 2, 3, 4), containsInts(17, 6, 7, 8), containsInts(9))));
+	}
+
 	@Test
 	public void filterClear() {
 		List<Integer> original = new ArrayList<>(Lists.of(1, 2, 3, 4));
@@ -7,6 +7,7 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import static org.d2ab.test.Tests.*;
 import static org.hamcrest.Matchers.*;
@@ -469,4 +470,131 @@ public class ListSequenceTest {
 		assertThat(evenStrings.contains("3"), is(false));
 		assertThat(evenStrings.contains("18"), is(false));
 	}
+
+	@Test
+	public void windowBatchAndSplitViews() {
+		List<Integer> list = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+		Sequence<Integer> sequence = ListSequence.from(list);
+		Sequence<Integer> iterated = sequence::iterator;
+
+		for (int window = 1; window <= 10; window++)
+			for (int step = 1; step <= 10; step++) {
+				assertThat(sequence.window(window, step).map(Sequence::toList).toList(),
+				           is(iterated.window(window, step).map(Sequence::toList).toList()));
+				assertThat(sequence.window(window, step).size(), is(iterated.window(window, step).size()));
+			}
+
+		assertThat(sequence.batch((a, b) -> b % 4 == 0).map(Sequence::toList).toList(),
+		           is(iterated.batch((a, b) -> b % 4 == 0).map(Sequence::toList).toList()));
+		assertThat(sequence.split(x -> x % 3 == 0).map(Sequence::toList).toList(),
+		           is(iterated.split(x -> x % 3 == 0).map(Sequence::toList).toList()));
+
+		Sequence<Integer> splitSequence = ListSequence.from(Lists.of(3, 1, 3, 3, 2, 3));
+		Sequence<Integer> splitIterated = splitSequence::iterator;
+		assertThat(splitSequence.split(3).map(Sequence::toList).toList(),
+		           is(splitIterated.split(3).map(Sequence::toList).toList()));
+
+		Sequence<Sequence<Integer>> batches = sequence.batch(4);
+		list.set(4, 17);
+		twice(() -> assertThat(batches, contains(contains(1, 2, 3, 4), contains(17, 6, 7, 8), contains(9))));
+		expecting(UnsupportedOperationException.class, () -> batches.first().get().clear());
+	}
+
+	@Test
+	public void slicingAndSteppingViews() {
+		List<Integer> list = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+		Sequence<Integer> sequence = ListSequence.from(list);
+		Sequence<Integer> iterated = sequence::iterator;
+
+		for (int n = 0; n <= 10; n++) {
+			assertThat(sequence.skip(n).toList(), is(iterated.skip(n).toList()));
+			assertThat(sequence.skipTail(n).toList(), is(iterated.skipTail(n).toList()));
+			assertThat(sequence.limit(n).toList(), is(iterated.limit(n).toList()));
+			assertThat(sequence.limitTail(n).toList(), is(iterated.limitTail(n).toList()));
+			assertThat(sequence.skip(n).size(), is(iterated.skip(n).size()));
+			assertThat(sequence.limitTail(n).last(), is(iterated.limitTail(n).last()));
+			if (n > 0) {
+				assertThat(sequence.step(n).toList(), is(iterated.step(n).toList()));
+				assertThat(sequence.step(n).size(), is(iterated.step(n).size()));
+				assertThat(sequence.step(n).last(), is(iterated.step(n).last()));
+			}
+		}
+
+		Sequence<Integer> sliced = sequence.skip(2).limit(5).skipTail(1).limitTail(3);
+		twice(() -> assertThat(sliced, contains(4, 5, 6)));
+		assertThat(sliced.at(1), is(Optional.of(5)));
+		assertThat(sliced.at(3), is(Optional.empty()));
+		assertThat(sequence.step(3).skip(1).at(1), is(Optional.of(7)));
+
+		list.remove(0);
+		twice(() -> assertThat(sliced, contains(5, 6, 7)));
+	}
+
+	@Test
+	public void filterReflectsBackingList() {
+		List<Integer> list = new ArrayList<>(Lists.of(1, 2, 3, 4));
+		Sequence<Integer> evens = ListSequence.from(list).filter(x -> x % 2 == 0);
+		twice(() -> assertThat(evens, contains(2, 4)));
+
+		list.remove(0);
+		list.add(7);
+		twice(() -> assertThat(evens, contains(2, 4)));
+		assertThat(evens.contains(7), is(false));
+
+		list.set(0, 6);
+		twice(() -> assertThat(evens, contains(6, 4)));
+	}
+
+	@Test
+	public void indexedFilter() {
+		List<Integer> list = new ArrayList<>(Lists.of(1, 2, 3, 4));
+		Sequence<Integer> evens = ((ListSequence<Integer>) ListSequence.from(list)).indexedFilter(x -> x % 2 == 0);
+		twice(() -> assertThat(evens, contains(2, 4)));
+		assertThat(evens.at(1), is(Optional.of(4)));
+
+		list.remove((Integer) 2);
+		list.add(7);
+		twice(() -> assertThat(evens, contains(4)));
+
+		list.add(0, 6);
+		twice(() -> assertThat(evens, contains(6, 4)));
+
+		expecting(NullPointerException.class, () -> ((ListSequence<Integer>) sequence).indexedFilter(null));
+	}
+
+	@Test
+	public void slicingAndSteppingViewsBulkRemoval() {
+		List<Integer> limited = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7));
+		ListSequence.from(limited).limit(5).retainAll(Lists.of(1, 2));
+		assertThat(limited, contains(1, 2, 6, 7));
+
+		List<Integer> skipped = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7));
+		ListSequence.from(skipped).skip(2).limit(3).clear();
+		assertThat(skipped, contains(1, 2, 6, 7));
+
+		List<Integer> stepped = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7));
+		ListSequence.from(stepped).step(2).clear();
+		assertThat(stepped, contains(2, 4, 6));
+
+		List<Integer> steppedRetained = new ArrayList<>(Lists.of(1, 2, 3, 4, 5, 6, 7));
+		ListSequence.from(steppedRetained).step(2).retainAll(Lists.of(3, 7));
+		assertThat(steppedRetained, contains(2, 3, 4, 6, 7));
+	}
+
+	@Test
+	public void nestedSlicingAndSteppingViewsBulkRemoval() {
+		List<Integer> steppedTwice = new ArrayList<>(Lists.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		Sequence<Integer> steppedOnce = ListSequence.from(steppedTwice).step(3);
+		assertThat(steppedOnce.step(1), is(sameInstance(steppedOnce)));
+		steppedOnce.step(1).clear();
+		assertThat(steppedTwice, contains(1, 2, 4, 5, 7, 8));
+
+		List<Integer> steppedSkipped = new ArrayList<>(Lists.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		ListSequence.from(steppedSkipped).step(3).skip(1).removeIf(x -> true);
+		assertThat(steppedSkipped, contains(0, 1, 2, 4, 5, 7, 8));
+
+		List<Integer> skippedStepped = new ArrayList<>(Lists.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		ListSequence.from(skippedStepped).skip(1).limit(7).step(2).step(2).clear();
+		assertThat(skippedStepped, contains(0, 2, 3, 4, 6, 7, 8, 9));
+	}
 }
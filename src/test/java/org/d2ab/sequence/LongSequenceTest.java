@@ -18,16 +18,31 @@ package org.d2ab.sequence;
 
 import org.d2ab.collection.Iterables;
 import org.d2ab.collection.Lists;
+import org.d2ab.collection.SizedIterable;
 import org.d2ab.collection.longs.*;
+import org.d2ab.iterator.IterationException;
 import org.d2ab.iterator.Iterators;
 import org.d2ab.iterator.longs.DelegatingTransformingLongIterator;
 import org.d2ab.iterator.longs.LongIterator;
+import org.junit.Rule;
 import org.junit.Test;
-
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -42,6 +57,9 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
 public class LongSequenceTest {
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
 	private final LongSequence empty = LongSequence.empty();
 
 	private final LongSequence _1 = LongSequence.from(LongList.create(1));
@@ -161,6 +179,74 @@ public class LongSequenceTest {
 		twice(() -> assertThat(sequence, is(emptyIterable())));
 	}
 
+	@Test
+	public void writeToAndReadChannel() throws IOException {
+		LongSequence longs = LongSequence.rangeOpen(-1000, 1000).map(x -> x * 1_000_000_007L);
+		for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			longs.writeTo(Channels.newChannel(output), order);
+
+			byte[] bytes = output.toByteArray();
+			assertThat(bytes.length, is(2000 * Long.BYTES));
+			assertThat(ByteBuffer.wrap(bytes).order(order).getLong(Long.BYTES), is(-999 * 1_000_000_007L));
+
+			LongSequence read = LongSequence.read(Channels.newChannel(new ByteArrayInputStream(bytes)), order);
+			assertThat(read, containsLongs(longs));
+			assertThat(read, is(emptyIterable()));
+		}
+	}
+
+	@Test
+	public void readSeekableChannel() throws IOException {
+		Path path = folder.newFile().toPath();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			_12345.writeTo(channel, ByteOrder.LITTLE_ENDIAN);
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			channel.position(Long.BYTES);
+			LongSequence sequence = LongSequence.read(channel, ByteOrder.LITTLE_ENDIAN);
+			twice(() -> assertThat(sequence, containsLongs(2, 3, 4, 5)));
+		}
+	}
+
+	@Test
+	public void readTruncatedChannel() {
+		byte[] bytes = {0, 0, 0, 0, 0, 0, 0, 1, 2, 3};
+		LongIterator iterator =
+				LongSequence.read(Channels.newChannel(new ByteArrayInputStream(bytes)), ByteOrder.BIG_ENDIAN).iterator();
+
+		assertThat(iterator.nextLong(), is(1L));
+		expecting(NullPointerException.class, () -> iterator.forEachRemaining((LongConsumer) null));
+		expecting(IterationException.class, iterator::hasNext);
+	}
+
+	@Test
+	public void mapFile() throws IOException {
+		Path path = folder.newFile().toPath();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			LongSequence.rangeOpen(0, 1000).writeTo(channel, ByteOrder.nativeOrder());
+		}
+
+		LongSequence mapped = LongSequence.mapFile(path, ByteOrder.nativeOrder());
+		assertThat(mapped.sizeType(), is(SizedIterable.SizeType.FIXED));
+		assertThat(mapped.size(), is(1000));
+		twice(() -> assertThat(mapped.toLongArray(), is(LongSequence.rangeOpen(0, 1000).toLongArray())));
+		assertThat(mapped.statistics().getSum(), is(499500L));
+
+		LongSequence regions = MappedLongSequence.map(path, ByteOrder.nativeOrder(), 3 * Long.BYTES);
+		twice(() -> assertThat(regions.toLongArray(), is(LongSequence.rangeOpen(0, 1000).toLongArray())));
+		twice(() -> assertThat(regions.skip(997), containsLongs(997, 998, 999)));
+
+		LongSequence emptyFile = LongSequence.mapFile(folder.newFile().toPath(), ByteOrder.nativeOrder());
+		twice(() -> assertThat(emptyFile, is(emptyIterable())));
+		assertThat(emptyFile.isEmpty(), is(true));
+
+		Path invalid = folder.newFile().toPath();
+		Files.write(invalid, new byte[]{1, 2, 3});
+		expecting(IOException.class, () -> LongSequence.mapFile(invalid, ByteOrder.nativeOrder()));
+	}
+
 	@Test
 	public void cachePrimitiveIteratorOfLong() {
 		LongSequence cached = LongSequence.cache(LongIterator.of(1, 2, 3, 4, 5));
@@ -823,6 +909,25 @@ public class LongSequenceTest {
 		});
 	}
 
+	@Test
+	public void toSetSparse() {
+		LongSequence sparse = LongSequence.of(1, 1000, 1000000);
+		twice(() -> {
+			LongSet set = sparse.toSet();
+			assertThat(set, instanceOf(HashLongSet.class));
+			assertThat(set, is(equalTo(new BitLongSet(1, 1000, 1000000))));
+		});
+	}
+
+	@Test
+	public void distinctSparseAndDense() {
+		LongSequence sparse = LongSequence.range(0, 2999).map(x -> x * 1000);
+		twice(() -> assertThat(sparse.append(sparse).distinct(), containsLongs(sparse.toLongArray())));
+
+		LongSequence dense = LongSequence.range(0, 2999);
+		twice(() -> assertThat(dense.append(dense).distinct(), containsLongs(dense.toLongArray())));
+	}
+
 	@Test
 	public void toSortedSet() {
 		twice(() -> {
@@ -1059,6 +1164,46 @@ public class LongSequenceTest {
 		twice(() -> assertThat(nineRandom, containsLongs(6, 6, 1, -7, 1, 2, 17, 5, 4)));
 	}
 
+	@Test
+	public void top() {
+		LongSequence emptyTop = empty.top(3);
+		twice(() -> assertThat(emptyTop, emptyIterable()));
+		expecting(NoSuchElementException.class, () -> emptyTop.iterator().nextLong());
+
+		twice(() -> assertThat(oneRandom.top(3), containsLongs(17)));
+		twice(() -> assertThat(twoRandom.top(3), containsLongs(32, 17)));
+
+		LongSequence nineTop = nineRandom.top(3);
+		twice(() -> assertThat(nineTop, containsLongs(17, 6, 6)));
+		twice(() -> assertThat(nineRandom.top(0), emptyIterable()));
+		twice(() -> assertThat(nineRandom.top(20), containsLongs(17, 6, 6, 5, 4, 2, 1, 1, -7)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineTop));
+		twice(() -> assertThat(nineRandom, containsLongs(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.top(-1));
+	}
+
+	@Test
+	public void bottom() {
+		LongSequence emptyBottom = empty.bottom(3);
+		twice(() -> assertThat(emptyBottom, emptyIterable()));
+		expecting(NoSuchElementException.class, () -> emptyBottom.iterator().nextLong());
+
+		twice(() -> assertThat(oneRandom.bottom(3), containsLongs(17)));
+		twice(() -> assertThat(twoRandom.bottom(3), containsLongs(17, 32)));
+
+		LongSequence nineBottom = nineRandom.bottom(3);
+		twice(() -> assertThat(nineBottom, containsLongs(-7, 1, 1)));
+		twice(() -> assertThat(nineRandom.bottom(0), emptyIterable()));
+		twice(() -> assertThat(nineRandom.bottom(20), containsLongs(-7, 1, 1, 2, 4, 5, 6, 6, 17)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineBottom));
+		twice(() -> assertThat(nineRandom, containsLongs(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.bottom(-1));
+	}
+
 	@Test
 	public void sortedWithUpdates() {
 		List<Long> backing = new ArrayList<>(Lists.of(2L, 3L, 1L));
@@ -1393,6 +1538,57 @@ public class LongSequenceTest {
 		assertThat(reversed, containsLongs(4L, 3L, 2L, 1L));
 	}
 
+	@Test
+	public void sortedCollection() {
+		LongSequence sortedSet = LongSequence.from(LongSortedSet.create(3L, 1L, 2L)).sorted();
+		twice(() -> assertThat(sortedSet, containsLongs(1L, 2L, 3L)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedSet));
+
+		ArrayLongList list = ArrayLongList.create(1L, 2L, 3L);
+		LongSequence sortedList = LongSequence.from(list).sorted();
+		twice(() -> assertThat(sortedList, containsLongs(1L, 2L, 3L)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedList));
+
+		list.addLong(1L);
+		twice(() -> assertThat(sortedList, containsLongs(1L, 1L, 2L, 3L)));
+		twice(() -> assertThat(list, containsLongs(1L, 2L, 3L, 1L)));
+
+		LongSequence sortedArray = LongSequence.of(1L, 2L, 3L, 4L).sorted();
+		twice(() -> assertThat(sortedArray, containsLongs(1L, 2L, 3L, 4L)));
+		twice(() -> assertThat(LongSequence.of(4L, 1L, 3L, 2L).sorted(), containsLongs(1L, 2L, 3L, 4L)));
+	}
+
+	@Test
+	public void sortedOnce() {
+		ArrayLongList list = ArrayLongList.create(3L, 1L, 2L);
+		LongSequence sortedOnce = LongSequence.from(list).sortedOnce();
+		list.addLong(0L);
+		twice(() -> assertThat(sortedOnce, containsLongs(0L, 1L, 2L, 3L)));
+		expecting(UnsupportedOperationException.class, () -> removeFirst(sortedOnce));
+
+		list.addLong(4L);
+		twice(() -> assertThat(sortedOnce, containsLongs(0L, 1L, 2L, 3L)));
+		twice(() -> assertThat(LongSequence.from(list).sorted(), containsLongs(0L, 1L, 2L, 3L, 4L)));
+
+		LongSequence sortedOnceArray = LongSequence.of(4L, 1L, 3L, 2L).sortedOnce();
+		twice(() -> assertThat(sortedOnceArray, containsLongs(1L, 2L, 3L, 4L)));
+	}
+
+	@Test
+	public void reverseCollection() {
+		ArrayLongList list = ArrayLongList.create(1L, 2L, 3L);
+		LongSequence reversed = LongSequence.from(list).reverse();
+		twice(() -> assertThat(reversed, containsLongs(3L, 2L, 1L)));
+		expecting(NoSuchElementException.class, () -> LongSequence.from(ArrayLongList.create()).reverse().iterator().nextLong());
+		expecting(UnsupportedOperationException.class, () -> removeFirst(reversed));
+
+		list.addLong(4L);
+		twice(() -> assertThat(reversed, containsLongs(4L, 3L, 2L, 1L)));
+
+		LongSequence reversedArray = LongSequence.of(1L, 2L, 3L).reverse();
+		twice(() -> assertThat(reversedArray, containsLongs(3L, 2L, 1L)));
+	}
+
 	@Test
 	public void positive() {
 		LongSequence positive = LongSequence.positive();
@@ -1665,6 +1861,43 @@ public class LongSequenceTest {
 		twice(() -> assertThat(fiveBoxed, contains(2L, 3L, 4L, 5L)));
 	}
 
+	@Test
+	public void memoize() {
+		AtomicInteger reads = new AtomicInteger();
+		LongSequence memoized = LongSequence.recurse(1, x -> x + 1).peek(x -> reads.incrementAndGet()).memoize();
+		assertThat(reads.get(), is(0));
+
+		assertThat(memoized.limit(3), containsLongs(1L, 2L, 3L));
+		assertThat(reads.get(), is(3));
+
+		assertThat(memoized.limit(5), containsLongs(1L, 2L, 3L, 4L, 5L));
+		assertThat(reads.get(), is(5));
+
+		twice(() -> assertThat(memoized.limit(2), containsLongs(1L, 2L)));
+		assertThat(reads.get(), is(5));
+	}
+
+	@Test
+	public void memoizeBounded() {
+		expecting(IllegalArgumentException.class, () -> LongSequence.recurse(1, x -> x + 1).memoize(0));
+
+		LongSequence memoized = LongSequence.recurse(1, x -> x + 1).memoize(3);
+		LongIterator leader = memoized.iterator();
+		LongIterator follower = memoized.iterator();
+
+		assertThat(leader.nextLong(), is(1L));
+		assertThat(leader.nextLong(), is(2L));
+		assertThat(leader.nextLong(), is(3L));
+		assertThat(follower.nextLong(), is(1L));
+		assertThat(leader.nextLong(), is(4L));
+		assertThat(follower.nextLong(), is(2L));
+		assertThat(leader.nextLong(), is(5L));
+		assertThat(leader.nextLong(), is(6L));
+
+		expecting(IllegalStateException.class, follower::nextLong);
+		expecting(IllegalStateException.class, () -> memoized.iterator().nextLong());
+	}
+
 	@Test
 	public void repeat() {
 		LongSequence emptyRepeated = empty.repeat();
@@ -1979,6 +2212,91 @@ public class LongSequenceTest {
 		                       contains(containsLongs(1, 2, 3), containsLongs(5, 6, 7), containsLongs(9))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void windowView() {
+		Sequence<LongSequence> emptyWindowed = empty.windowView(3);
+		twice(() -> assertThat(emptyWindowed, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyWindowed.iterator().next());
+
+		Sequence<LongSequence> twoWindowed = _12.windowView(3);
+		twice(() -> assertThat(twoWindowed, contains(containsLongs(1, 2))));
+
+		Sequence<LongSequence> fiveWindowed = _12345.windowView(3);
+		twice(() -> assertThat(fiveWindowed, contains(containsLongs(1, 2, 3), containsLongs(2, 3, 4), containsLongs(3, 4, 5))));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(fiveWindowed));
+		twice(() -> assertThat(fiveWindowed, contains(containsLongs(1, 2, 3), containsLongs(2, 3, 4), containsLongs(3, 4, 5))));
+
+		Sequence<LongSequence> nineWindowedSmallerStep = _123456789.windowView(3, 2);
+		twice(() -> assertThat(nineWindowedSmallerStep,
+		                       contains(containsLongs(1, 2, 3), containsLongs(3, 4, 5), containsLongs(5, 6, 7),
+		                                containsLongs(7, 8, 9))));
+
+		Sequence<LongSequence> nineWindowedLargerStep = _123456789.windowView(3, 4);
+		twice(() -> assertThat(nineWindowedLargerStep, contains(containsLongs(1, 2, 3), containsLongs(5, 6, 7), containsLongs(9))));
+
+		Iterator<LongSequence> iterator = fiveWindowed.iterator();
+		LongSequence first = iterator.next();
+		assertThat(first, containsLongs(1, 2, 3));
+		iterator.next();
+		assertThat(first, containsLongs(2, 3, 4));
+	}
+
+	@Test
+	public void slidingSum() {
+		LongSequence emptySums = empty.slidingSum(3);
+		twice(() -> assertThat(emptySums, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptySums.iterator().nextLong());
+
+		twice(() -> assertThat(_12.slidingSum(3), containsLongs(3)));
+		twice(() -> assertThat(_12345.slidingSum(3), containsLongs(6, 9, 12)));
+		twice(() -> assertThat(_12345.slidingSum(1), containsLongs(1, 2, 3, 4, 5)));
+		twice(() -> assertThat(nineRandom.slidingSum(3), containsLongs(13, 0, -5, -4, 20, 24, 26)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingSum(0));
+	}
+
+	@Test
+	public void slidingMin() {
+		LongSequence emptyMins = empty.slidingMin(3);
+		twice(() -> assertThat(emptyMins, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyMins.iterator().nextLong());
+
+		twice(() -> assertThat(_12.slidingMin(3), containsLongs(1)));
+		twice(() -> assertThat(nineRandom.slidingMin(3), containsLongs(1, -7, -7, -7, 1, 2, 4)));
+		twice(() -> assertThat(nineRandom.slidingMin(1), containsLongs(6, 6, 1, -7, 1, 2, 17, 5, 4)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingMin(0));
+	}
+
+	@Test
+	public void slidingMax() {
+		LongSequence emptyMaxes = empty.slidingMax(3);
+		twice(() -> assertThat(emptyMaxes, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyMaxes.iterator().nextLong());
+
+		twice(() -> assertThat(_12.slidingMax(3), containsLongs(2)));
+		twice(() -> assertThat(nineRandom.slidingMax(3), containsLongs(6, 6, 1, 2, 17, 17, 17)));
+		twice(() -> assertThat(nineRandom.slidingMax(9), containsLongs(17)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingMax(0));
+	}
+
+	@Test
+	public void slidingAverage() {
+		DoubleSequence emptyAverages = empty.slidingAverage(3);
+		twice(() -> assertThat(emptyAverages, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyAverages.iterator().nextDouble());
+
+		twice(() -> assertThat(_12.slidingAverage(3), containsDoubles(1.5)));
+		twice(() -> assertThat(_12345.slidingAverage(2), containsDoubles(1.5, 2.5, 3.5, 4.5)));
+		twice(() -> assertThat(nineRandom.slidingAverage(3),
+		                       containsDoubles(13 / 3.0, 0, -5 / 3.0, -4 / 3.0, 20 / 3.0, 8, 26 / 3.0)));
+
+		expecting(IllegalArgumentException.class, () -> _12345.slidingAverage(0));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void batch() {
@@ -2091,6 +2409,52 @@ public class LongSequenceTest {
 		twice(() -> assertThat(_123456789, containsLongs(1, 2, 3, 4, 5, 6, 7, 8, 9)));
 	}
 
+	@Test
+	public void windowAndBatchLargerThanInput() {
+		assertThat(LongSequence.once(LongIterator.of(1, 2, 3)).batch(Integer.MAX_VALUE - 8),
+		           contains(containsLongs(1, 2, 3)));
+		assertThat(LongSequence.once(LongIterator.of(1, 2, 3)).window(500_000_000),
+		           contains(containsLongs(1, 2, 3)));
+
+		long[] array = new long[100];
+		for (int i = 0; i < array.length; i++)
+			array[i] = i + 1;
+		LongSequence arraySequence = LongSequence.of(array);
+		LongSequence iterated = arraySequence::iterator;
+		for (int window : new int[]{17, 40, 150})
+			assertThat(iterated.window(window, 7).map(LongSequence::toList).toList(),
+			           is(arraySequence.window(window, 7).map(LongSequence::toList).toList()));
+	}
+
+	@Test
+	public void windowBatchAndSplitOverRandomAccessSources() {
+		long[] array = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+		long[] splitArray = {3, 1, 3, 3, 2, 3};
+		LongSequence arraySequence = LongSequence.of(array);
+		LongSequence iterated = arraySequence::iterator;
+
+		for (LongSequence sequence : Arrays.asList(arraySequence, _123456789)) {
+			for (int window = 1; window <= 10; window++)
+				for (int step = 1; step <= 10; step++)
+					assertThat(sequence.window(window, step).map(LongSequence::toList).toList(),
+					           is(iterated.window(window, step).map(LongSequence::toList).toList()));
+
+			assertThat(sequence.batch((a, b) -> b % 4 == 0).map(LongSequence::toList).toList(),
+			           is(iterated.batch((a, b) -> b % 4 == 0).map(LongSequence::toList).toList()));
+			assertThat(sequence.split(x -> x % 3 == 0).map(LongSequence::toList).toList(),
+			           is(iterated.split(x -> x % 3 == 0).map(LongSequence::toList).toList()));
+		}
+
+		LongSequence splitSequence = LongSequence.of(splitArray);
+		LongSequence splitIterated = splitSequence::iterator;
+		assertThat(splitSequence.split(splitArray[0]).map(LongSequence::toList).toList(),
+		           is(splitIterated.split(splitArray[0]).map(LongSequence::toList).toList()));
+
+		Sequence<LongSequence> batches = arraySequence.batch(4);
+		array[4] = 17;
+		twice(() -> assertThat(batches, contains(containsLongs(1, 2, 3, 4), containsLongs(17, 6, 7, 8), containsLongs(9))));
+	}
+
 	@Test
 	public void filterClear() {
 		List<Long> original = new ArrayList<>(Lists.of(1L, 2L, 3L, 4L));
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 Daniel Skogquist Åborg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.d2ab.sequence;
+
+import org.d2ab.collection.Lists;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.d2ab.collection.SizedIterable.SizeType.AVAILABLE;
+import static org.d2ab.collection.SizedIterable.SizeType.UNAVAILABLE;
+import static org.d2ab.test.Tests.expecting;
+import static org.d2ab.test.Tests.twice;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ParallelSequenceTest {
+	private static final int SIZE = 100_000;
+
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+
+	private final List<Integer> list = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+	private final Sequence<Integer> parallel = Sequence.from(list).parallel(pool);
+
+	@After
+	public void shutdownPool() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void unsplittableSourcesAreSequential() {
+		Sequence<Integer> sequence = Sequence.of(1, 2, 3).filter(x -> x > 1);
+		assertThat(sequence.parallel(), is(sameInstance(sequence)));
+
+		Sequence<Integer> set = Sequence.from(new HashSet<>(Lists.of(1, 2, 3)));
+		assertThat(set.parallel(), is(sameInstance(set)));
+
+		Sequence<Integer> linked = Sequence.from(new LinkedList<>(Lists.of(1, 2, 3)));
+		assertThat(linked.parallel(), is(sameInstance(linked)));
+		twice(() -> assertThat(linked.parallel().reduce(Integer::sum), is(Optional.of(6))));
+	}
+
+	@Test
+	public void splittableSources() {
+		assertThat(Sequence.from(list).parallel(), is(instanceOf(ParallelSequence.class)));
+		assertThat(CollectionSequence.from(list).parallel(), is(instanceOf(ParallelSequence.class)));
+		assertThat(Sequence.from(list).map(x -> x * 2).parallel(), is(instanceOf(ParallelSequence.class)));
+		assertThat(Sequence.from(list).append(list).parallel(), is(instanceOf(ParallelSequence.class)));
+		assertThat(parallel.parallel(), is(sameInstance(parallel)));
+	}
+
+	@Test
+	public void iteration() {
+		Sequence<Integer> small = Sequence.from(Lists.of(1, 2, 3, 4, 5)).parallel().map(x -> x * 2).filter(x -> x > 4);
+		twice(() -> assertThat(small, contains(6, 8, 10)));
+	}
+
+	@Test
+	public void size() {
+		Sequence<Integer> mapped = parallel.map(x -> x + 1);
+		assertThat(mapped.sizeType(), is(AVAILABLE));
+		assertThat(mapped.size(), is(SIZE));
+		assertThat(mapped.isEmpty(), is(false));
+
+		Sequence<Integer> filtered = mapped.filter(x -> x % 2 == 0);
+		assertThat(filtered.sizeType(), is(UNAVAILABLE));
+		assertThat(filtered.size(), is(SIZE / 2));
+		assertThat(filtered.isEmpty(), is(false));
+	}
+
+	@Test
+	public void reduce() {
+		Sequence<Long> squares = parallel.map(x -> (long) x * x).filter(x -> x % 3 != 0);
+		long expected = IntStream.range(0, SIZE).mapToLong(x -> (long) x * x).filter(x -> x % 3 != 0).sum();
+
+		twice(() -> assertThat(squares.reduce(Long::sum), is(Optional.of(expected))));
+		twice(() -> assertThat(squares.reduce(0L, Long::sum), is(expected)));
+		twice(() -> assertThat(parallel.filter(x -> x < 0).reduce(Integer::sum), is(Optional.empty())));
+		twice(() -> assertThat(parallel.max(), is(Optional.of(SIZE - 1))));
+	}
+
+	@Test
+	public void collectPreservesOrder() {
+		Sequence<String> strings = parallel.filter(x -> x % 7 == 0).map(String::valueOf);
+		List<String> expected = IntStream.range(0, SIZE)
+		                                 .filter(x -> x % 7 == 0)
+		                                 .mapToObj(String::valueOf)
+		                                 .collect(Collectors.toList());
+
+		twice(() -> assertThat(strings.toList(), is(expected)));
+		twice(() -> assertThat(strings.collect(Collectors.toList()), is(expected)));
+		twice(() -> assertThat(strings.collect(Collectors.toCollection(LinkedList::new)), is(expected)));
+		twice(() -> assertThat(strings.toSet(), is(new HashSet<>(expected))));
+	}
+
+	@Test
+	public void groupBy() {
+		Map<Integer, List<Integer>> groups = parallel.groupBy(x -> x % 3);
+		assertThat(groups.keySet(), containsInAnyOrder(0, 1, 2));
+		assertThat(groups.get(1), is(IntStream.range(0, SIZE)
+		                                      .filter(x -> x % 3 == 1)
+		                                      .boxed()
+		                                      .collect(Collectors.toList())));
+
+		Map<Integer, Long> counts = parallel.groupBy(x -> x % 4, TreeMap::new, Collectors.counting());
+		assertThat(counts, is(instanceOf(TreeMap.class)));
+		assertThat(counts.values(), contains((long) SIZE / 4, (long) SIZE / 4, (long) SIZE / 4, (long) SIZE / 4));
+	}
+
+	@Test
+	public void evaluatesOnPool() {
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		parallel.map(x -> {
+			threads.add(Thread.currentThread());
+			return x;
+		}).reduce(Integer::sum);
+
+		assertThat(threads, is(not(empty())));
+		for (Thread thread : threads) {
+			assertThat(thread, is(instanceOf(ForkJoinWorkerThread.class)));
+			assertThat(((ForkJoinWorkerThread) thread).getPool(), is(sameInstance(pool)));
+		}
+	}
+
+	@Test
+	public void exceptionsPropagate() {
+		expecting(IllegalStateException.class, () -> parallel.map(x -> {
+			if (x == SIZE - 1)
+				throw new IllegalStateException();
+			return x;
+		}).toList());
+	}
+}
@@ -30,6 +30,7 @@ import org.junit.runners.Parameterized.Parameters;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -738,6 +739,25 @@ public class SequenceTest {
 		assertThat(index.get(), is(5));
 	}
 
+	@Test
+	public void forEachRemainingThroughStages() {
+		Sequence<Integer> sequence = _123456789.map(x -> x * 2).filter(x -> x % 3 != 0).limit(5);
+		twice(() -> {
+			Iterator<Integer> iterator = sequence.iterator();
+			assertThat(iterator.next(), is(2));
+			assertThat(iterator.hasNext(), is(true));
+
+			List<Integer> remaining = new ArrayList<>();
+			iterator.forEachRemaining(remaining::add);
+			assertThat(remaining, contains(4, 8, 10, 14));
+			assertThat(iterator.hasNext(), is(false));
+		});
+
+		twice(() -> assertThat(sequence.toList(), contains(2, 4, 8, 10, 14)));
+		twice(() -> assertThat(sequence.reduce(0, (a, b) -> a - b), is(-38)));
+		twice(() -> assertThat(sequence.max(), is(Optional.of(14))));
+	}
+
 	@Test
 	public void iterator() {
 		twice(() -> {
@@ -1271,6 +1291,30 @@ public class SequenceTest {
 		twice(() -> assertThat(_12345, containsSized(1, 3, 4, 5)));
 	}
 
+	@Test
+	public void includingAndExcludingLargeIterable() {
+		List<Integer> odd = IntSequence.range(1, 99_999, 2).box().toList();
+		Sequence<Integer> numbers = Sequence.range(1, 100_000);
+
+		Sequence<Integer> including = numbers.including(odd);
+		twice(() -> assertThat(including.size(), is(50_000)));
+		twice(() -> assertThat(including.all(x -> x % 2 == 1), is(true)));
+
+		Sequence<Integer> excluding = numbers.excluding(odd);
+		twice(() -> assertThat(excluding.size(), is(50_000)));
+		twice(() -> assertThat(excluding.all(x -> x % 2 == 0), is(true)));
+
+		odd.add(2);
+		twice(() -> assertThat(numbers.including(odd).size(), is(50_001)));
+		twice(() -> assertThat(numbers.excluding(odd).size(), is(49_999)));
+
+		Set<Integer> oddSet = new HashSet<>(IntSequence.range(1, 99_999, 2).box().toList());
+		Sequence<Integer> includingSet = numbers.including(oddSet);
+		twice(() -> assertThat(includingSet.size(), is(50_000)));
+		oddSet.add(2);
+		twice(() -> assertThat(includingSet.size(), is(50_001)));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void flatMapIterables() {
@@ -1564,6 +1608,43 @@ public class SequenceTest {
 		});
 	}
 
+	@Test
+	public void mapFilterPeekChain() {
+		List<String> events = new ArrayList<>();
+		Sequence<String> chain = _123456789.peek(x -> events.add("peek " + x))
+		                                   .map(x -> x * 10)
+		                                   .filterIndexed((x, i) -> i % 2 == 0)
+		                                   .mapIndexed((x, i) -> i + ":" + x)
+		                                   .filter(s -> !s.startsWith("1:"))
+		                                   .peekIndexed((s, i) -> events.add("peekIndexed " + i + " " + s))
+		                                   .map(s -> s + "!");
+		twice(() -> {
+			assertThat(chain, containsUnsized("0:10!", "2:50!", "3:70!", "4:90!"));
+
+			events.clear();
+			assertThat(chain.toList(), contains("0:10!", "2:50!", "3:70!", "4:90!"));
+			assertThat(events, contains("peek 1", "peekIndexed 0 0:10", "peek 2", "peek 3", "peek 4", "peek 5",
+			                            "peekIndexed 1 2:50", "peek 6", "peek 7", "peekIndexed 2 3:70", "peek 8",
+			                            "peek 9", "peekIndexed 3 4:90"));
+		});
+
+		events.clear();
+		Iterator<String> iterator = chain.iterator();
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(events, contains("peek 1"));
+		assertThat(iterator.next(), is("0:10!"));
+		assertThat(events, contains("peek 1", "peekIndexed 0 0:10"));
+
+		Sequence<Integer> mapped = sizePassThrough.map(x -> x * 2).peek(x -> {}).mapIndexed((x, i) -> x + i);
+		twice(() -> assertThat(mapped.size(), is(10)));
+		twice(() -> assertThat(mapped.isEmpty(), is(false)));
+
+		Sequence<Integer> filtered = _12345.map(x -> x * 2).filter(x -> x > 4).map(x -> x / 2);
+		assertThat(removeFirst(filtered), is(3));
+		twice(() -> assertThat(filtered, containsUnsized(4, 5)));
+		twice(() -> assertThat(_12345, containsSized(1, 2, 4, 5)));
+	}
+
 	@Test
 	public void mapBack() {
 		Sequence<Integer> emptyMappedBack = empty.mapBack((p, c) -> {
@@ -2901,6 +2982,37 @@ public class SequenceTest {
 		                       containsUnsized(containsSized(1, 2, 3), containsSized(5, 6, 7), containsSized(9))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void windowView() {
+		Sequence<Sequence<Integer>> emptyWindowed = empty.windowView(3);
+		twice(() -> assertThat(emptyWindowed, is(emptyIterable())));
+		expecting(NoSuchElementException.class, () -> emptyWindowed.iterator().next());
+
+		Sequence<Sequence<Integer>> twoWindowed = _12.windowView(3);
+		twice(() -> assertThat(twoWindowed, contains(contains(1, 2))));
+
+		Sequence<Sequence<Integer>> fiveWindowed = _12345.windowView(3);
+		twice(() -> assertThat(fiveWindowed, contains(containsSized(1, 2, 3), containsSized(2, 3, 4),
+		                                              containsSized(3, 4, 5))));
+		assertThat(fiveWindowed.size(), is(3));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(fiveWindowed));
+
+		Sequence<Sequence<Integer>> nineWindowedSmallerStep = _123456789.windowView(3, 2);
+		twice(() -> assertThat(nineWindowedSmallerStep,
+		                       contains(contains(1, 2, 3), contains(3, 4, 5), contains(5, 6, 7), contains(7, 8, 9))));
+
+		Sequence<Sequence<Integer>> nineWindowedLargerStep = _123456789.windowView(3, 4);
+		twice(() -> assertThat(nineWindowedLargerStep, contains(contains(1, 2, 3), contains(5, 6, 7), contains(9))));
+
+		Iterator<Sequence<Integer>> iterator = fiveWindowed.iterator();
+		Sequence<Integer> first = iterator.next();
+		assertThat(first, contains(1, 2, 3));
+		iterator.next();
+		assertThat(first, contains(2, 3, 4));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void batch() {
@@ -2939,6 +3051,21 @@ public class SequenceTest {
 		twice(() -> assertThat(emptySizePassThroughBatched.isEmpty(), is(true)));
 	}
 
+	@Test
+	public void windowAndBatchLargerThanInput() {
+		assertThat(Sequence.once(Lists.of(1, 2, 3).iterator()).batch(Integer.MAX_VALUE - 8),
+		           contains(contains(1, 2, 3)));
+		assertThat(Sequence.once(Lists.of(1, 2, 3).iterator()).window(500_000_000),
+		           contains(contains(1, 2, 3)));
+
+		List<Integer> list = Sequence.range(1, 100).toList();
+		Sequence<Integer> listSequence = Sequence.from(list);
+		Sequence<Integer> iterated = list::iterator;
+		for (int window : new int[]{17, 40, 150})
+			assertThat(iterated.window(window, 7).map(Sequence::toList).toList(),
+			           is(listSequence.window(window, 7).map(Sequence::toList).toList()));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void batchOnPredicate() {
@@ -3157,6 +3284,65 @@ public class SequenceTest {
 		assertThat(sizePassThroughSorted.isEmpty(), is(false));
 	}
 
+	@Test
+	public void top() {
+		Sequence<Integer> emptyTop = empty.top(3);
+		twice(() -> assertThat(emptyTop, emptySizedIterable()));
+		expecting(NoSuchElementException.class, () -> emptyTop.iterator().next());
+
+		twice(() -> assertThat(oneRandom.top(3), containsSized(17)));
+		twice(() -> assertThat(twoRandom.top(3), containsSized(32, 17)));
+
+		Sequence<Integer> nineTop = nineRandom.top(3);
+		twice(() -> assertThat(nineTop, containsSized(67, 67, 43)));
+		twice(() -> assertThat(nineRandom.top(0), is(emptyIterable())));
+		twice(() -> assertThat(nineRandom.top(9), contains(67, 67, 43, 24, 7, 5, 5, 5, 3)));
+		twice(() -> assertThat(nineRandom.top(20), contains(67, 67, 43, 24, 7, 5, 5, 5, 3)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineTop));
+		twice(() -> assertThat(nineRandom, containsSized(67, 5, 43, 3, 5, 7, 24, 5, 67)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.top(-1));
+	}
+
+	@Test
+	public void bottom() {
+		Sequence<Integer> emptyBottom = empty.bottom(3);
+		twice(() -> assertThat(emptyBottom, emptySizedIterable()));
+		expecting(NoSuchElementException.class, () -> emptyBottom.iterator().next());
+
+		twice(() -> assertThat(oneRandom.bottom(3), containsSized(17)));
+		twice(() -> assertThat(twoRandom.bottom(3), containsSized(17, 32)));
+
+		Sequence<Integer> nineBottom = nineRandom.bottom(3);
+		twice(() -> assertThat(nineBottom, containsSized(3, 5, 5)));
+		twice(() -> assertThat(nineRandom.bottom(0), is(emptyIterable())));
+		twice(() -> assertThat(nineRandom.bottom(20), contains(3, 5, 5, 5, 7, 24, 43, 67, 67)));
+
+		expecting(UnsupportedOperationException.class, () -> removeFirst(nineBottom));
+		twice(() -> assertThat(nineRandom, containsSized(67, 5, 43, 3, 5, 7, 24, 5, 67)));
+
+		expecting(IllegalArgumentException.class, () -> nineRandom.bottom(-1));
+	}
+
+	@Test
+	public void topAndBottomComparator() {
+		Sequence<String> strings = Sequence.of("bb", "a", "ccc", "d", "ee", "fff", "g");
+		twice(() -> assertThat(strings.bottom(4, Comparator.comparing(String::length)), contains("a", "d", "g", "bb")));
+		twice(() -> assertThat(strings.top(3, Comparator.comparing(String::length)), contains("ccc", "fff", "bb")));
+		twice(() -> assertThat(strings.top(2, reverseOrder()), contains("a", "bb")));
+
+		Random random = new Random(17);
+		List<Integer> numbers = Sequence.generate(() -> random.nextInt(1000)).limit(10000).toList();
+		assertThat(Sequence.from(numbers).top(100), contains(Sequence.from(numbers)
+		                                                              .sorted(reverseOrder())
+		                                                              .limit(100)
+		                                                              .toList()
+		                                                              .toArray()));
+		assertThat(Sequence.from(numbers).bottom(100),
+		           contains(Sequence.from(numbers).sorted().limit(100).toList().toArray()));
+	}
+
 	@Test
 	public void min() {
 		twice(() -> assertThat(empty.min(), is(Optional.empty())));
@@ -3280,6 +3466,20 @@ public class SequenceTest {
 		twice(() -> assertThat(_12345, containsSized(1, 2, 3, 4, 5)));
 	}
 
+	@Test
+	public void spliteratorSized() {
+		Sequence<Integer> mapped = _12345.map(x -> x * 2);
+		twice(() -> {
+			Spliterator<Integer> spliterator = mapped.spliterator();
+			assertThat(spliterator.hasCharacteristics(Spliterator.SIZED), is(true));
+			assertThat(spliterator.getExactSizeIfKnown(), is(5L));
+		});
+
+		twice(() -> assertThat(StreamSupport.stream(mapped.spliterator(), true).collect(Collectors.toList()),
+		                       contains(2, 4, 6, 8, 10)));
+		twice(() -> assertThat(mapped.stream().count(), is(5L)));
+	}
+
 	@Test
 	public void streamFromOnce() {
 		Sequence<Integer> empty = Sequence.once(Iterators.empty());
@@ -3897,6 +4097,89 @@ public class SequenceTest {
 		twice(() -> assertThat(doubleSequence.isEmpty(), is(false)));
 	}
 
+	@Test
+	public void memoize() {
+		AtomicInteger reads = new AtomicInteger();
+		Sequence<Integer> memoized = Sequence.recurse(1, x -> x + 1).peek(x -> reads.incrementAndGet()).memoize();
+		assertThat(reads.get(), is(0));
+
+		assertThat(memoized.limit(3), contains(1, 2, 3));
+		assertThat(reads.get(), is(3));
+
+		assertThat(memoized.limit(5), contains(1, 2, 3, 4, 5));
+		assertThat(reads.get(), is(5));
+
+		twice(() -> assertThat(memoized.limit(2), contains(1, 2)));
+		assertThat(reads.get(), is(5));
+	}
+
+	@Test
+	public void memoizeOnce() {
+		Sequence<Integer> memoized = Sequence.once(Iterators.of(1, 2, 3, 4, 5)).memoize();
+		twice(() -> assertThat(memoized, contains(1, 2, 3, 4, 5)));
+	}
+
+	@Test
+	public void memoizeInterleaved() {
+		Sequence<Integer> memoized = Sequence.once(Iterators.of(1, 2, 3)).memoize();
+		Iterator<Integer> first = memoized.iterator();
+		Iterator<Integer> second = memoized.iterator();
+
+		assertThat(first.next(), is(1));
+		assertThat(first.next(), is(2));
+		assertThat(second.next(), is(1));
+		assertThat(second.next(), is(2));
+		assertThat(second.next(), is(3));
+		assertThat(second.hasNext(), is(false));
+		assertThat(first.next(), is(3));
+		assertThat(first.hasNext(), is(false));
+		expecting(NoSuchElementException.class, first::next);
+	}
+
+	@Test
+	public void memoizeConcurrently() throws InterruptedException {
+		AtomicInteger reads = new AtomicInteger();
+		Sequence<Integer> memoized = Sequence.range(1, 10000).peek(x -> reads.incrementAndGet()).memoize();
+		List<Integer> expected = Sequence.range(1, 10000).toList();
+
+		Queue<List<Integer>> results = new ConcurrentLinkedQueue<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++)
+			threads.add(new Thread(() -> results.add(memoized.toList())));
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+
+		assertThat(results, contains(expected, expected, expected, expected, expected, expected, expected, expected));
+		assertThat(reads.get(), is(10000));
+	}
+
+	@Test
+	public void memoizeBounded() {
+		expecting(IllegalArgumentException.class, () -> Sequence.range(1, 10).memoize(0));
+
+		Sequence<Integer> memoized = Sequence.range(1, 10).memoize(3);
+		Iterator<Integer> leader = memoized.iterator();
+		Iterator<Integer> follower = memoized.iterator();
+
+		assertThat(leader.next(), is(1));
+		assertThat(leader.next(), is(2));
+		assertThat(leader.next(), is(3));
+		assertThat(follower.next(), is(1));
+		assertThat(leader.next(), is(4));
+		assertThat(follower.next(), is(2));
+		assertThat(leader.next(), is(5));
+		assertThat(leader.next(), is(6));
+
+		expecting(IllegalStateException.class, follower::next);
+		expecting(IllegalStateException.class, () -> memoized.iterator().next());
+
+		Sequence<Integer> large = Sequence.range(1, 100000).memoize(16);
+		assertThat(large.limit(3), contains(1, 2, 3));
+		assertThat(large.limit(16).last(), is(Optional.of(16)));
+	}
+
 	@Test
 	public void repeat() {
 		Sequence<Integer> emptyRepeated = empty.repeat();